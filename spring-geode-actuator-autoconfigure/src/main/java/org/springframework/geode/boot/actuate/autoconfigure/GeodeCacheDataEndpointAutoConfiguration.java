@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.geode.boot.actuate.data.GeodeCacheDataEndpoint;
+import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
+import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ExportResourceResolver;
+import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ImportResourceResolver;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} for the opt-in {@link GeodeCacheDataEndpoint}.
+ *
+ * On-demand export and import is enabled by setting {@literal spring.boot.data.gemfire.actuator.data.enabled}
+ * to {@literal true} and exposing the {@literal geodedata} endpoint.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.data.GeodeCacheDataEndpoint
+ * @since 1.4.0
+ */
+@Configuration
+@AutoConfigureAfter(ClientCacheAutoConfiguration.class)
+@ConditionalOnBean(GemFireCache.class)
+@ConditionalOnClass(CacheFactoryBean.class)
+@ConditionalOnProperty(name = GeodeCacheDataEndpointAutoConfiguration.DATA_ENABLED_PROPERTY, havingValue = "true")
+@ConditionalOnAvailableEndpoint(endpoint = GeodeCacheDataEndpoint.class)
+@SuppressWarnings("unused")
+public class GeodeCacheDataEndpointAutoConfiguration {
+
+	public static final String DATA_BYTES_PER_SECOND_PROPERTY = "spring.boot.data.gemfire.actuator.data.bytes-per-second";
+	public static final String DATA_ENABLED_PROPERTY = "spring.boot.data.gemfire.actuator.data.enabled";
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeCacheDataEndpoint geodeCacheDataEndpoint(GemFireCache gemfireCache, Environment environment,
+			ObjectProvider<ExportResourceResolver> exportResourceResolver,
+			ObjectProvider<ImportResourceResolver> importResourceResolver) {
+
+		long bytesPerSecond = environment.getProperty(DATA_BYTES_PER_SECOND_PROPERTY, Long.class,
+			GeodeCacheDataEndpoint.DEFAULT_BYTES_PER_SECOND);
+
+		GeodeCacheDataEndpoint endpoint = new GeodeCacheDataEndpoint(gemfireCache, bytesPerSecond);
+
+		exportResourceResolver.ifAvailable(endpoint::setExportResourceResolver);
+		importResourceResolver.ifAvailable(endpoint::setImportResourceResolver);
+
+		return endpoint;
+	}
+}
@@ -29,6 +29,7 @@ import org.springframework.data.gemfire.CacheFactoryBean;
 import org.springframework.geode.boot.actuate.autoconfigure.config.BaseGeodeHealthIndicatorConfiguration;
 import org.springframework.geode.boot.actuate.autoconfigure.config.ClientCacheHealthIndicatorConfiguration;
 import org.springframework.geode.boot.actuate.autoconfigure.config.PeerCacheHealthIndicatorConfiguration;
+import org.springframework.geode.boot.actuate.autoconfigure.config.ReactiveGeodeHealthIndicatorConfiguration;
 import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
 
 /**
@@ -46,6 +47,7 @@ import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
  * @see org.springframework.geode.boot.actuate.autoconfigure.config.BaseGeodeHealthIndicatorConfiguration
  * @see org.springframework.geode.boot.actuate.autoconfigure.config.ClientCacheHealthIndicatorConfiguration
  * @see org.springframework.geode.boot.actuate.autoconfigure.config.PeerCacheHealthIndicatorConfiguration
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.ReactiveGeodeHealthIndicatorConfiguration
  * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
  * @since 1.0.0
  */
@@ -58,6 +60,7 @@ import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
 	BaseGeodeHealthIndicatorConfiguration.class,
 	ClientCacheHealthIndicatorConfiguration.class,
 	PeerCacheHealthIndicatorConfiguration.class,
+	ReactiveGeodeHealthIndicatorConfiguration.class,
 })
 @SuppressWarnings("unused")
 public class GeodeHealthIndicatorAutoConfiguration {
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.geode.boot.actuate.hotspot.GeodeHotspotSampler;
+import org.springframework.geode.boot.actuate.hotspot.GeodeHotspotsEndpoint;
+import org.springframework.geode.boot.actuate.hotspot.RegionAccessSamplingAspect;
+import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} for the opt-in {@link GeodeHotspotSampler}
+ * and {@link GeodeHotspotsEndpoint}.
+ *
+ * Sampling is enabled by setting {@literal spring.boot.data.gemfire.actuator.hotspots.enabled} to {@literal true}
+ * and exposing the {@literal geodehotspots} endpoint. Reads of the {@link org.apache.geode.cache.Region} beans are
+ * sampled when AspectJ is on the classpath.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.hotspot.GeodeHotspotSampler
+ * @see org.springframework.geode.boot.actuate.hotspot.GeodeHotspotsEndpoint
+ * @see org.springframework.geode.boot.actuate.hotspot.RegionAccessSamplingAspect
+ * @since 1.4.0
+ */
+@Configuration
+@AutoConfigureAfter(ClientCacheAutoConfiguration.class)
+@ConditionalOnBean(GemFireCache.class)
+@ConditionalOnClass(CacheFactoryBean.class)
+@ConditionalOnProperty(name = GeodeHotspotsEndpointAutoConfiguration.HOTSPOTS_ENABLED_PROPERTY, havingValue = "true")
+@ConditionalOnAvailableEndpoint(endpoint = GeodeHotspotsEndpoint.class)
+@SuppressWarnings("unused")
+public class GeodeHotspotsEndpointAutoConfiguration {
+
+	public static final String HOTSPOTS_CAPACITY_PROPERTY = "spring.boot.data.gemfire.actuator.hotspots.capacity";
+	public static final String HOTSPOTS_ENABLED_PROPERTY = "spring.boot.data.gemfire.actuator.hotspots.enabled";
+	public static final String HOTSPOTS_REGIONS_PROPERTY = "spring.boot.data.gemfire.actuator.hotspots.regions";
+	public static final String HOTSPOTS_SAMPLE_RATE_PROPERTY = "spring.boot.data.gemfire.actuator.hotspots.sample-rate";
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeHotspotSampler geodeHotspotSampler(GemFireCache gemfireCache, Environment environment) {
+
+		int capacity = environment.getProperty(HOTSPOTS_CAPACITY_PROPERTY, Integer.class,
+			GeodeHotspotSampler.DEFAULT_CAPACITY);
+
+		double sampleRate = environment.getProperty(HOTSPOTS_SAMPLE_RATE_PROPERTY, Double.class,
+			GeodeHotspotSampler.DEFAULT_SAMPLE_RATE);
+
+		Set<String> regionNames = new HashSet<>(Arrays.asList(environment.getProperty(HOTSPOTS_REGIONS_PROPERTY,
+			String[].class, new String[0])));
+
+		return new GeodeHotspotSampler(gemfireCache, capacity, sampleRate, regionNames);
+	}
+
+	@Bean
+	@ConditionalOnClass(name = "org.aspectj.weaver.Advice")
+	RegionAccessSamplingAspect regionAccessSamplingAspect(GeodeHotspotSampler geodeHotspotSampler) {
+		return new RegionAccessSamplingAspect(geodeHotspotSampler);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeHotspotsEndpoint geodeHotspotsEndpoint(GeodeHotspotSampler geodeHotspotSampler) {
+		return new GeodeHotspotsEndpoint(geodeHotspotSampler);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.geode.boot.actuate.metrics.GeodeAsyncEventQueuesMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeCacheServersMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodePoolsMeterBinder;
+import org.springframework.geode.boot.actuate.metrics.GeodeRegionOperationsMetricsAspect;
+import org.springframework.geode.boot.actuate.metrics.GeodeRegionsMeterBinder;
+import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} for Apache Geode Micrometer
+ * {@link MeterBinder MeterBinders}.
+ *
+ * The {@link MeterBinder MeterBinders} are bound to every {@link MeterRegistry} by Spring Boot Actuator. Individual
+ * meters may be disabled with the {@literal management.metrics.enable.geode.*} properties.
+ *
+ * Timing of {@link org.apache.geode.cache.Region} data access operations is opt-in and enabled by setting
+ * {@literal spring.boot.data.gemfire.actuator.metrics.region.operations.enabled} to {@literal true}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeAsyncEventQueuesMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeCacheServersMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodePoolsMeterBinder
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeRegionOperationsMetricsAspect
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeRegionsMeterBinder
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @since 1.4.0
+ */
+@Configuration
+@AutoConfigureAfter(ClientCacheAutoConfiguration.class)
+@ConditionalOnBean(GemFireCache.class)
+@ConditionalOnClass({ CacheFactoryBean.class, MeterBinder.class })
+@SuppressWarnings("unused")
+public class GeodeMetricsAutoConfiguration {
+
+	public static final String REGION_OPERATIONS_METRICS_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.actuator.metrics.region.operations.enabled";
+
+	@Bean
+	GeodeAsyncEventQueuesMeterBinder asyncEventQueuesMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeAsyncEventQueuesMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	GeodeCacheServersMeterBinder cacheServersMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeCacheServersMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	GeodePoolsMeterBinder poolsMeterBinder(GemFireCache gemfireCache) {
+		return new GeodePoolsMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	GeodeRegionsMeterBinder regionsMeterBinder(GemFireCache gemfireCache) {
+		return new GeodeRegionsMeterBinder(gemfireCache);
+	}
+
+	@Bean
+	@ConditionalOnClass(name = "org.aspectj.weaver.Advice")
+	@ConditionalOnProperty(name = REGION_OPERATIONS_METRICS_ENABLED_PROPERTY, havingValue = "true")
+	GeodeRegionOperationsMetricsAspect regionOperationsMetricsAspect() {
+		return new GeodeRegionOperationsMetricsAspect();
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.geode.boot.actuate.query.GemfireTemplateQueryProfilingAspect;
+import org.springframework.geode.boot.actuate.query.GeodeQueriesEndpoint;
+import org.springframework.geode.boot.actuate.query.GeodeQueryProfiler;
+import org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration;
+import org.springframework.geode.boot.autoconfigure.RegionTemplateAutoConfiguration;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} for the opt-in {@link GeodeQueryProfiler}
+ * and {@link GeodeQueriesEndpoint}.
+ *
+ * Query profiling is enabled by setting {@literal spring.boot.data.gemfire.actuator.queries.enabled}
+ * to {@literal true} and exposing the {@literal geodequeries} endpoint. Queries executed through
+ * the {@link org.springframework.data.gemfire.GemfireTemplate} beans configured by
+ * {@link RegionTemplateAutoConfiguration} are timed when AspectJ is on the classpath.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.query.GemfireTemplateQueryProfilingAspect
+ * @see org.springframework.geode.boot.actuate.query.GeodeQueriesEndpoint
+ * @see org.springframework.geode.boot.actuate.query.GeodeQueryProfiler
+ * @since 1.4.0
+ */
+@Configuration
+@AutoConfigureAfter(ClientCacheAutoConfiguration.class)
+@ConditionalOnBean(GemFireCache.class)
+@ConditionalOnClass(CacheFactoryBean.class)
+@ConditionalOnProperty(name = GeodeQueriesEndpointAutoConfiguration.QUERIES_ENABLED_PROPERTY, havingValue = "true")
+@ConditionalOnAvailableEndpoint(endpoint = GeodeQueriesEndpoint.class)
+@SuppressWarnings("unused")
+public class GeodeQueriesEndpointAutoConfiguration {
+
+	public static final String QUERIES_CAPACITY_PROPERTY = "spring.boot.data.gemfire.actuator.queries.capacity";
+	public static final String QUERIES_ENABLED_PROPERTY = "spring.boot.data.gemfire.actuator.queries.enabled";
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeQueryProfiler geodeQueryProfiler(Environment environment) {
+
+		int capacity = environment.getProperty(QUERIES_CAPACITY_PROPERTY, Integer.class,
+			GeodeQueryProfiler.DEFAULT_CAPACITY);
+
+		return new GeodeQueryProfiler(capacity);
+	}
+
+	@Bean
+	@ConditionalOnClass(name = "org.aspectj.weaver.Advice")
+	GemfireTemplateQueryProfilingAspect gemfireTemplateQueryProfilingAspect(GeodeQueryProfiler geodeQueryProfiler) {
+		return new GemfireTemplateQueryProfilingAspect(geodeQueryProfiler);
+	}
+
+	@Bean
+	@ConditionalOnMissingBean
+	GeodeQueriesEndpoint geodeQueriesEndpoint(GemFireCache gemfireCache, GeodeQueryProfiler geodeQueryProfiler) {
+		return new GeodeQueriesEndpoint(gemfireCache, geodeQueryProfiler);
+	}
+}
@@ -15,6 +15,8 @@
  */
 package org.springframework.geode.boot.actuate.autoconfigure.config;
 
+import java.time.Duration;
+
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.client.ClientCache;
@@ -23,6 +25,7 @@ import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.geode.boot.actuate.GeodeCacheHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeDiskStoresHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeIndexesHealthIndicator;
@@ -40,6 +43,7 @@ import org.springframework.geode.boot.actuate.GeodeRegionsHealthIndicator;
  * @see org.springframework.context.ApplicationContext
  * @see org.springframework.context.annotation.Bean
  * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.core.env.Environment
  * @see org.springframework.geode.boot.actuate.GeodeCacheHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeDiskStoresHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeIndexesHealthIndicator
@@ -50,6 +54,9 @@ import org.springframework.geode.boot.actuate.GeodeRegionsHealthIndicator;
 @SuppressWarnings("unused")
 public class BaseGeodeHealthIndicatorConfiguration {
 
+	public static final String REGIONS_HEALTH_REFRESH_INTERVAL_PROPERTY =
+		"spring.boot.data.gemfire.actuator.health.regions.refresh-interval";
+
 	@Bean("GeodeCacheHealthIndicator")
 	GeodeCacheHealthIndicator cacheHealthIndicator(GemFireCache gemfireCache) {
 		return new GeodeCacheHealthIndicator(gemfireCache);
@@ -66,7 +73,11 @@ public class BaseGeodeHealthIndicatorConfiguration {
 	}
 
 	@Bean("GeodeRegionsHealthIndicator")
-	GeodeRegionsHealthIndicator regionsHealthIndicator(GemFireCache gemfireCache) {
-		return new GeodeRegionsHealthIndicator(gemfireCache);
+	GeodeRegionsHealthIndicator regionsHealthIndicator(GemFireCache gemfireCache, Environment environment) {
+
+		Duration refreshInterval =
+			environment.getProperty(REGIONS_HEALTH_REFRESH_INTERVAL_PROPERTY, Duration.class, Duration.ZERO);
+
+		return new GeodeRegionsHealthIndicator(gemfireCache, refreshInterval);
 	}
 }
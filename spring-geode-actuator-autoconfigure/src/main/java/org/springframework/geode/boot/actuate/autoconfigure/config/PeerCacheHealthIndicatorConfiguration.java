@@ -15,6 +15,7 @@
  */
 package org.springframework.geode.boot.actuate.autoconfigure.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.apache.geode.cache.Cache;
@@ -31,6 +32,7 @@ import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.data.gemfire.server.CacheServerFactoryBean;
 import org.springframework.data.gemfire.util.CacheUtils;
@@ -39,6 +41,7 @@ import org.springframework.geode.boot.actuate.GeodeCacheServersHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeGatewayReceiversHealthIndicator;
 import org.springframework.geode.boot.actuate.GeodeGatewaySendersHealthIndicator;
 import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+import org.springframework.geode.boot.actuate.health.support.WeightedServerLoadProbe;
 import org.springframework.geode.core.util.ObjectUtils;
 import org.springframework.lang.Nullable;
 
@@ -46,6 +49,9 @@ import org.springframework.lang.Nullable;
  * Spring {@link Configuration} class declaring Spring beans for Apache Geode peer {@link Cache}
  * {@link HealthIndicator HealthIndicators}.
  *
+ * When {@literal spring.boot.data.gemfire.actuator.cache.server.load-probe.weighted.enabled} is {@literal true},
+ * the {@link ServerLoadProbe} of each {@link CacheServer} is additionally wrapped in a {@link WeightedServerLoadProbe}.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.Cache
  * @see org.apache.geode.cache.GemFireCache
@@ -57,6 +63,7 @@ import org.springframework.lang.Nullable;
  * @see org.springframework.geode.boot.actuate.GeodeCacheServersHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeGatewayReceiversHealthIndicator
  * @see org.springframework.geode.boot.actuate.GeodeGatewaySendersHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.support.WeightedServerLoadProbe
  * @since 1.0.0
  */
 @Configuration
@@ -64,6 +71,10 @@ import org.springframework.lang.Nullable;
 @SuppressWarnings("unused")
 public class PeerCacheHealthIndicatorConfiguration {
 
+	private static final String LOAD_PROBE_PROPERTY_PREFIX = "spring.boot.data.gemfire.actuator.cache.server.load-probe.";
+
+	public static final String WEIGHTED_LOAD_PROBE_ENABLED_PROPERTY = LOAD_PROBE_PROPERTY_PREFIX + "weighted.enabled";
+
 	@Bean("GeodeAsyncEventQueuesHealthIndicator")
 	GeodeAsyncEventQueuesHealthIndicator asyncEventQueuesHealthIndicator(GemFireCache gemfireCache) {
 		return new GeodeAsyncEventQueuesHealthIndicator(gemfireCache);
@@ -85,7 +96,7 @@ public class PeerCacheHealthIndicatorConfiguration {
 	}
 
 	@Bean
-	BeanPostProcessor cacheServerLoadProbeWrappingBeanPostProcessor() {
+	BeanPostProcessor cacheServerLoadProbeWrappingBeanPostProcessor(Environment environment) {
 
 		return new BeanPostProcessor() {
 
@@ -118,19 +129,48 @@ public class PeerCacheHealthIndicatorConfiguration {
 						.filter(it -> !(it instanceof ActuatorServerLoadProbeWrapper))
 						.filter(it -> cacheServer.getLoadPollInterval() > 0)
 						.filter(it -> !cacheServer.isRunning())
-						.ifPresent(serverLoadProbe ->
-							cacheServer.setLoadProbe(new ActuatorServerLoadProbeWrapper(serverLoadProbe)));
+						.ifPresent(serverLoadProbe -> cacheServer.setLoadProbe(wrap(serverLoadProbe)));
 				}
 
 				return bean;
 			}
 
 			private ServerLoadProbe wrap(ServerLoadProbe serverLoadProbe) {
-				return new ActuatorServerLoadProbeWrapper(serverLoadProbe);
+				return new ActuatorServerLoadProbeWrapper(weigh(environment, serverLoadProbe));
 			}
 		};
 	}
 
+	static ServerLoadProbe weigh(Environment environment, ServerLoadProbe serverLoadProbe) {
+
+		return environment.getProperty(WEIGHTED_LOAD_PROBE_ENABLED_PROPERTY, Boolean.class, false)
+			? new WeightedServerLoadProbe(serverLoadProbe, CacheUtils::getCache, resolveWeights(environment))
+			: serverLoadProbe;
+	}
+
+	static WeightedServerLoadProbe.Weights resolveWeights(Environment environment) {
+
+		return new WeightedServerLoadProbe.Weights()
+			.withConnections(weight(environment, "connections",
+				WeightedServerLoadProbe.Weights.DEFAULT_CONNECTIONS_WEIGHT))
+			.withCpu(weight(environment, "cpu", WeightedServerLoadProbe.Weights.DEFAULT_CPU_WEIGHT))
+			.withHeap(weight(environment, "heap", WeightedServerLoadProbe.Weights.DEFAULT_HEAP_WEIGHT))
+			.withLatency(weight(environment, "latency", WeightedServerLoadProbe.Weights.DEFAULT_LATENCY_WEIGHT))
+			.withQueueDepth(weight(environment, "queue-depth",
+				WeightedServerLoadProbe.Weights.DEFAULT_QUEUE_DEPTH_WEIGHT))
+			.withLatencyThreshold(environment.getProperty(LOAD_PROBE_PROPERTY_PREFIX + "latency-threshold",
+				Duration.class, WeightedServerLoadProbe.Weights.DEFAULT_LATENCY_THRESHOLD))
+			.withPressureConnectionEquivalent(environment.getProperty(LOAD_PROBE_PROPERTY_PREFIX
+				+ "pressure-connection-equivalent", Double.class,
+				WeightedServerLoadProbe.Weights.DEFAULT_PRESSURE_CONNECTION_EQUIVALENT))
+			.withQueueDepthThreshold(environment.getProperty(LOAD_PROBE_PROPERTY_PREFIX + "queue-depth-threshold",
+				Long.class, WeightedServerLoadProbe.Weights.DEFAULT_QUEUE_DEPTH_THRESHOLD));
+	}
+
+	private static double weight(Environment environment, String name, double defaultWeight) {
+		return environment.getProperty(LOAD_PROBE_PROPERTY_PREFIX + "weights." + name, Double.class, defaultWeight);
+	}
+
 	public static final class PeerCacheCondition implements Condition {
 
 		@Override
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.actuate.health.HealthContributorNameFactory;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.ReactiveHealthContributorRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.ReactiveGeodeHealthIndicator;
+
+/**
+ * Spring {@link Configuration} class registering a non-blocking {@link ReactiveGeodeHealthIndicator} bean,
+ * with a per-indicator timeout, for each Apache Geode {@link HealthIndicator} bean.
+ *
+ * Each {@link ReactiveGeodeHealthIndicator} is a separate bean (e.g. {@literal GeodeDiskStoresHealthContributor})
+ * delegating to the Apache Geode {@link HealthIndicator} bean (e.g. {@literal GeodeDiskStoresHealthIndicator}),
+ * which remains injectable by type. Both beans resolve to the same health contributor name, under which
+ * the {@link ReactiveGeodeHealthIndicator} replaces the {@link HealthIndicator} in both
+ * the {@link HealthContributorRegistry} and the {@link ReactiveHealthContributorRegistry}.
+ *
+ * The timeout of each indicator is configured with
+ * {@literal spring.boot.data.gemfire.actuator.health.<indicator>.timeout}, for example
+ * {@literal spring.boot.data.gemfire.actuator.health.disk-stores.timeout}, and defaults to
+ * {@literal spring.boot.data.gemfire.actuator.health.timeout}.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor
+ * @see org.springframework.boot.actuate.health.HealthContributorRegistry
+ * @see org.springframework.boot.actuate.health.ReactiveHealthContributorRegistry
+ * @see org.springframework.boot.actuate.health.ReactiveHealthIndicator
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.ReactiveGeodeHealthIndicator
+ * @since 1.4.0
+ */
+@Configuration
+@ConditionalOnClass(name = "reactor.core.publisher.Mono")
+@ConditionalOnProperty(name = ReactiveGeodeHealthIndicatorConfiguration.REACTIVE_HEALTH_ENABLED_PROPERTY,
+	havingValue = "true")
+@SuppressWarnings("unused")
+public class ReactiveGeodeHealthIndicatorConfiguration {
+
+	public static final String HEALTH_INDICATOR_TIMEOUT_PROPERTY = "spring.boot.data.gemfire.actuator.health.%s.timeout";
+	public static final String HEALTH_TIMEOUT_PROPERTY = "spring.boot.data.gemfire.actuator.health.timeout";
+	public static final String REACTIVE_HEALTH_ENABLED_PROPERTY =
+		"spring.boot.data.gemfire.actuator.health.reactive.enabled";
+
+	private static final String GEODE_PREFIX = "Geode";
+	private static final String HEALTH_CONTRIBUTOR_SUFFIX = "HealthContributor";
+	private static final String HEALTH_INDICATOR_SUFFIX = "HealthIndicator";
+
+	@Bean
+	static BeanDefinitionRegistryPostProcessor reactiveGeodeHealthIndicatorRegistrar(Environment environment) {
+
+		return new BeanDefinitionRegistryPostProcessor() {
+
+			@Override
+			public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+
+				if (registry instanceof ListableBeanFactory) {
+
+					ListableBeanFactory beanFactory = (ListableBeanFactory) registry;
+
+					for (String healthIndicatorBeanName
+							: beanFactory.getBeanNamesForType(AbstractGeodeHealthIndicator.class, true, false)) {
+
+						String healthContributorBeanName = toHealthContributorBeanName(healthIndicatorBeanName);
+
+						if (!registry.containsBeanDefinition(healthContributorBeanName)) {
+							registry.registerBeanDefinition(healthContributorBeanName, BeanDefinitionBuilder
+								.genericBeanDefinition(ReactiveGeodeHealthIndicator.class, () ->
+									new ReactiveGeodeHealthIndicator(
+										beanFactory.getBean(healthIndicatorBeanName, HealthIndicator.class),
+										resolveTimeout(environment, healthIndicatorBeanName)))
+								.getBeanDefinition());
+						}
+					}
+				}
+			}
+
+			@Override
+			public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException { }
+		};
+	}
+
+	// Spring Boot registers the HealthIndicator and the ReactiveHealthIndicator under the same name in a different
+	// order in each registry, so (re-)register the ReactiveGeodeHealthIndicator once all registries are initialized.
+	@Bean
+	SmartInitializingSingleton reactiveGeodeHealthContributorRegistrar(ListableBeanFactory beanFactory,
+			ObjectProvider<HealthContributorRegistry> healthContributorRegistry,
+			ObjectProvider<ReactiveHealthContributorRegistry> reactiveHealthContributorRegistry) {
+
+		return () -> beanFactory.getBeansOfType(ReactiveGeodeHealthIndicator.class)
+			.forEach((beanName, healthIndicator) -> {
+
+				String name = HealthContributorNameFactory.INSTANCE.apply(beanName);
+
+				healthContributorRegistry.ifAvailable(registry -> {
+					registry.unregisterContributor(name);
+					registry.registerContributor(name, (HealthIndicator) () -> healthIndicator.health().block());
+				});
+
+				reactiveHealthContributorRegistry.ifAvailable(registry -> {
+					registry.unregisterContributor(name);
+					registry.registerContributor(name, healthIndicator);
+				});
+			});
+	}
+
+	/**
+	 * Converts a {@link HealthIndicator} bean name (e.g. {@literal GeodeDiskStoresHealthIndicator})
+	 * into the name of the {@link ReactiveGeodeHealthIndicator} bean (e.g.
+	 * {@literal GeodeDiskStoresHealthContributor}), which resolves to the same health contributor name.
+	 *
+	 * @param beanName {@link String} containing the name of the {@link HealthIndicator} bean.
+	 * @return the name of the {@link ReactiveGeodeHealthIndicator} bean.
+	 */
+	static String toHealthContributorBeanName(String beanName) {
+
+		String name = String.valueOf(beanName);
+
+		name = name.endsWith(HEALTH_INDICATOR_SUFFIX)
+			? name.substring(0, name.length() - HEALTH_INDICATOR_SUFFIX.length())
+			: name;
+
+		return name.concat(HEALTH_CONTRIBUTOR_SUFFIX);
+	}
+
+	static Duration resolveTimeout(Environment environment, String beanName) {
+
+		Duration defaultTimeout = environment.getProperty(HEALTH_TIMEOUT_PROPERTY, Duration.class,
+			ReactiveGeodeHealthIndicator.DEFAULT_TIMEOUT);
+
+		String timeoutProperty = String.format(HEALTH_INDICATOR_TIMEOUT_PROPERTY, toIndicatorKey(beanName));
+
+		return environment.getProperty(timeoutProperty, Duration.class, defaultTimeout);
+	}
+
+	/**
+	 * Converts a {@link HealthIndicator} bean name (e.g. {@literal GeodeDiskStoresHealthIndicator})
+	 * into the key (e.g. {@literal disk-stores}) used in the timeout property.
+	 *
+	 * @param beanName {@link String} containing the name of the {@link HealthIndicator} bean.
+	 * @return the key used to configure the timeout of the {@link HealthIndicator}.
+	 */
+	static String toIndicatorKey(String beanName) {
+
+		String key = String.valueOf(beanName);
+
+		key = key.startsWith(GEODE_PREFIX) ? key.substring(GEODE_PREFIX.length()) : key;
+		key = key.endsWith(HEALTH_INDICATOR_SUFFIX) ? key.substring(0, key.length() - HEALTH_INDICATOR_SUFFIX.length())
+			: key;
+
+		return key.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase();
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.server.ServerLoadProbe;
+
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.geode.boot.actuate.health.support.WeightedServerLoadProbe;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link PeerCacheHealthIndicatorConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.PeerCacheHealthIndicatorConfiguration
+ * @see org.springframework.geode.boot.actuate.health.support.WeightedServerLoadProbe
+ * @see org.springframework.mock.env.MockEnvironment
+ * @since 1.4.0
+ */
+public class PeerCacheHealthIndicatorConfigurationUnitTests {
+
+	private MockEnvironment newEnvironment() {
+
+		MockEnvironment environment = new MockEnvironment();
+
+		environment.setConversionService(new ApplicationConversionService());
+
+		return environment;
+	}
+
+	@Test
+	public void weighReturnsServerLoadProbeWhenWeightingIsDisabled() {
+
+		ServerLoadProbe mockServerLoadProbe = mock(ServerLoadProbe.class);
+
+		assertThat(PeerCacheHealthIndicatorConfiguration.weigh(newEnvironment(), mockServerLoadProbe))
+			.isSameAs(mockServerLoadProbe);
+	}
+
+	@Test
+	public void weighReturnsWeightedServerLoadProbeWhenWeightingIsEnabled() {
+
+		MockEnvironment environment = newEnvironment()
+			.withProperty(PeerCacheHealthIndicatorConfiguration.WEIGHTED_LOAD_PROBE_ENABLED_PROPERTY, "true");
+
+		assertThat(PeerCacheHealthIndicatorConfiguration.weigh(environment, mock(ServerLoadProbe.class)))
+			.isInstanceOf(WeightedServerLoadProbe.class);
+	}
+
+	@Test
+	public void resolveWeightsFromProperties() {
+
+		MockEnvironment environment = newEnvironment()
+			.withProperty("spring.boot.data.gemfire.actuator.cache.server.load-probe.weights.cpu", "2.0")
+			.withProperty("spring.boot.data.gemfire.actuator.cache.server.load-probe.weights.queue-depth", "0")
+			.withProperty("spring.boot.data.gemfire.actuator.cache.server.load-probe.latency-threshold", "25ms")
+			.withProperty("spring.boot.data.gemfire.actuator.cache.server.load-probe.pressure-connection-equivalent",
+				"20")
+			.withProperty("spring.boot.data.gemfire.actuator.cache.server.load-probe.queue-depth-threshold", "500");
+
+		WeightedServerLoadProbe.Weights weights = PeerCacheHealthIndicatorConfiguration.resolveWeights(environment);
+
+		assertThat(weights.getConnections()).isEqualTo(WeightedServerLoadProbe.Weights.DEFAULT_CONNECTIONS_WEIGHT);
+		assertThat(weights.getCpu()).isEqualTo(2.0d);
+		assertThat(weights.getHeap()).isEqualTo(WeightedServerLoadProbe.Weights.DEFAULT_HEAP_WEIGHT);
+		assertThat(weights.getLatency()).isEqualTo(WeightedServerLoadProbe.Weights.DEFAULT_LATENCY_WEIGHT);
+		assertThat(weights.getQueueDepth()).isZero();
+		assertThat(weights.getLatencyThreshold()).isEqualTo(Duration.ofMillis(25));
+		assertThat(weights.getPressureConnectionEquivalent()).isEqualTo(20.0d);
+		assertThat(weights.getQueueDepthThreshold()).isEqualTo(500L);
+	}
+}
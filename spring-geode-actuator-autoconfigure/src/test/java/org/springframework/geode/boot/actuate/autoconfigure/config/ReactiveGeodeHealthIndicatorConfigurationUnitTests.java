@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.autoconfigure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.actuate.health.DefaultHealthContributorRegistry;
+import org.springframework.boot.actuate.health.DefaultReactiveHealthContributorRegistry;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.ReactiveHealthContributorRegistry;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.geode.boot.actuate.GeodeCacheHealthIndicator;
+import org.springframework.geode.boot.actuate.health.ReactiveGeodeHealthIndicator;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link ReactiveGeodeHealthIndicatorConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.beans.factory.support.DefaultListableBeanFactory
+ * @see org.springframework.boot.actuate.health.HealthContributorRegistry
+ * @see org.springframework.boot.actuate.health.ReactiveHealthContributorRegistry
+ * @see org.springframework.geode.boot.actuate.autoconfigure.config.ReactiveGeodeHealthIndicatorConfiguration
+ * @see org.springframework.geode.boot.actuate.health.ReactiveGeodeHealthIndicator
+ * @see org.springframework.mock.env.MockEnvironment
+ * @since 1.4.0
+ */
+public class ReactiveGeodeHealthIndicatorConfigurationUnitTests {
+
+	// Spring Boot configures the Environment with an ApplicationConversionService supporting Duration properties.
+	private MockEnvironment newEnvironment() {
+
+		MockEnvironment environment = new MockEnvironment();
+
+		environment.setConversionService(new ApplicationConversionService());
+
+		return environment;
+	}
+
+	@Test
+	public void toIndicatorKeyIsCorrect() {
+
+		assertThat(ReactiveGeodeHealthIndicatorConfiguration.toIndicatorKey("GeodeCacheHealthIndicator"))
+			.isEqualTo("cache");
+		assertThat(ReactiveGeodeHealthIndicatorConfiguration.toIndicatorKey("GeodeDiskStoresHealthIndicator"))
+			.isEqualTo("disk-stores");
+		assertThat(ReactiveGeodeHealthIndicatorConfiguration.toIndicatorKey("GeodeAsyncEventQueuesHealthIndicator"))
+			.isEqualTo("async-event-queues");
+	}
+
+	@Test
+	public void resolveTimeoutPrefersIndicatorTimeout() {
+
+		MockEnvironment environment = newEnvironment()
+			.withProperty(ReactiveGeodeHealthIndicatorConfiguration.HEALTH_TIMEOUT_PROPERTY, "2s")
+			.withProperty("spring.boot.data.gemfire.actuator.health.disk-stores.timeout", "500ms");
+
+		assertThat(ReactiveGeodeHealthIndicatorConfiguration.resolveTimeout(environment,
+			"GeodeDiskStoresHealthIndicator")).isEqualTo(Duration.ofMillis(500));
+		assertThat(ReactiveGeodeHealthIndicatorConfiguration.resolveTimeout(environment,
+			"GeodeRegionsHealthIndicator")).isEqualTo(Duration.ofSeconds(2));
+		assertThat(ReactiveGeodeHealthIndicatorConfiguration.resolveTimeout(newEnvironment(),
+			"GeodeRegionsHealthIndicator")).isEqualTo(ReactiveGeodeHealthIndicator.DEFAULT_TIMEOUT);
+	}
+
+	@Test
+	public void toHealthContributorBeanNameIsCorrect() {
+
+		assertThat(ReactiveGeodeHealthIndicatorConfiguration
+			.toHealthContributorBeanName("GeodeCacheServersHealthIndicator"))
+			.isEqualTo("GeodeCacheServersHealthContributor");
+		assertThat(ReactiveGeodeHealthIndicatorConfiguration.toHealthContributorBeanName("GeodeCache"))
+			.isEqualTo("GeodeCacheHealthContributor");
+	}
+
+	@Test
+	public void registersReactiveHealthIndicatorBeanDelegatingToGeodeHealthIndicatorBean() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		GemFireCache mockCache = mock(GemFireCache.class);
+
+		beanFactory.registerBeanDefinition("GeodeCacheHealthIndicator", BeanDefinitionBuilder
+			.genericBeanDefinition(GeodeCacheHealthIndicator.class, () -> new GeodeCacheHealthIndicator(mockCache))
+			.getBeanDefinition());
+
+		beanFactory.registerBeanDefinition("TestHealthIndicator", BeanDefinitionBuilder
+			.genericBeanDefinition(HealthIndicator.class, () -> mock(HealthIndicator.class))
+			.getBeanDefinition());
+
+		ReactiveGeodeHealthIndicatorConfiguration.reactiveGeodeHealthIndicatorRegistrar(newEnvironment()
+			.withProperty("spring.boot.data.gemfire.actuator.health.cache.timeout", "250ms"))
+				.postProcessBeanDefinitionRegistry(beanFactory);
+
+		assertThat(beanFactory.getBeanNamesForType(ReactiveGeodeHealthIndicator.class))
+			.containsExactly("GeodeCacheHealthContributor");
+
+		GeodeCacheHealthIndicator healthIndicator = beanFactory.getBean(GeodeCacheHealthIndicator.class);
+
+		ReactiveGeodeHealthIndicator reactiveHealthIndicator =
+			beanFactory.getBean("GeodeCacheHealthContributor", ReactiveGeodeHealthIndicator.class);
+
+		assertThat(beanFactory.getBean("GeodeCacheHealthIndicator")).isSameAs(healthIndicator);
+		assertThat(reactiveHealthIndicator.getDelegate()).isSameAs(healthIndicator);
+		assertThat(reactiveHealthIndicator.getTimeout()).isEqualTo(Duration.ofMillis(250));
+	}
+
+	@Test
+	public void reactiveHealthIndicatorReplacesGeodeHealthIndicatorInRegistries() {
+
+		HealthIndicator mockHealthIndicator = mock(HealthIndicator.class);
+
+		doReturn(Health.up().build()).when(mockHealthIndicator).health();
+
+		ReactiveGeodeHealthIndicator reactiveHealthIndicator =
+			new ReactiveGeodeHealthIndicator(mockHealthIndicator, Duration.ofSeconds(1));
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerSingleton("GeodeCacheHealthContributor", reactiveHealthIndicator);
+
+		HealthContributorRegistry healthContributorRegistry = new DefaultHealthContributorRegistry();
+		ReactiveHealthContributorRegistry reactiveHealthContributorRegistry =
+			new DefaultReactiveHealthContributorRegistry();
+
+		healthContributorRegistry.registerContributor("GeodeCache", mockHealthIndicator);
+
+		beanFactory.registerSingleton("healthContributorRegistry", healthContributorRegistry);
+		beanFactory.registerSingleton("reactiveHealthContributorRegistry", reactiveHealthContributorRegistry);
+
+		new ReactiveGeodeHealthIndicatorConfiguration()
+			.reactiveGeodeHealthContributorRegistrar(beanFactory,
+				beanFactory.getBeanProvider(HealthContributorRegistry.class),
+				beanFactory.getBeanProvider(ReactiveHealthContributorRegistry.class))
+			.afterSingletonsInstantiated();
+
+		assertThat(reactiveHealthContributorRegistry.getContributor("GeodeCache")).isSameAs(reactiveHealthIndicator);
+		assertThat(healthContributorRegistry.getContributor("GeodeCache"))
+			.isInstanceOf(HealthIndicator.class)
+			.isNotSameAs(mockHealthIndicator);
+		assertThat(((HealthIndicator) healthContributorRegistry.getContributor("GeodeCache")).health().getStatus())
+			.isEqualTo(Status.UP);
+
+		verify(mockHealthIndicator).health();
+	}
+}
@@ -15,10 +15,14 @@
  */
 package org.springframework.geode.boot.actuate;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -31,26 +35,44 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.internal.cache.LocalDataSet;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator;
+import org.springframework.geode.boot.actuate.health.support.PartitionRegionStatistics;
 import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver;
+import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver.PartitionRegionCacheStatistics;
 import org.springframework.util.StringUtils;
 
 /**
  * The {@link GeodeRegionsHealthIndicator} class is a Spring Boot {@link HealthIndicator} providing details about
  * the health of the {@link GemFireCache} {@link Region Regions}.
  *
+ * When configured with a {@link #getRefreshInterval() refresh interval}, the {@link Region} details are recomputed
+ * in the background on the given interval and health checks are served from the latest, immutable snapshot.
+ * This avoids recomputing statistics for every local bucket of every PARTITION {@link Region} each time
+ * the health endpoint is probed.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.GemFireCache
  * @see org.apache.geode.cache.Region
  * @see org.springframework.boot.actuate.health.Health
  * @see org.springframework.boot.actuate.health.HealthIndicator
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
  * @see org.springframework.geode.boot.actuate.health.AbstractGeodeHealthIndicator
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
-public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
+public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator
+		implements DisposableBean, InitializingBean {
+
+	private final Duration refreshInterval;
+
+	private volatile Health snapshot;
+
+	private ScheduledExecutorService snapshotExecutor;
 
 	private final BiConsumer<Region<?, ?>, Health.Builder> gemfireRegionHealthIndicatorConsumers = withRegionDetails()
 		.andThen(withPartitionRegionDetails())
@@ -64,6 +86,7 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 	 */
 	public GeodeRegionsHealthIndicator() {
 		super("Regions health check failed");
+		this.refreshInterval = Duration.ZERO;
 	}
 
 	/**
@@ -75,7 +98,108 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 	 * @see org.apache.geode.cache.GemFireCache
 	 */
 	public GeodeRegionsHealthIndicator(GemFireCache gemfireCache) {
+		this(gemfireCache, Duration.ZERO);
+	}
+
+	/**
+	 * Constructs an instance of the {@link GeodeRegionsHealthIndicator} initialized with a reference to
+	 * the {@link GemFireCache} instance and the {@link Duration interval} on which the health details
+	 * are refreshed in the background.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect health information.
+	 * @param refreshInterval {@link Duration} between background refreshes of the health details;
+	 * {@literal null}, zero or a negative {@link Duration} computes the health details on every health check.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 * @see java.time.Duration
+	 */
+	public GeodeRegionsHealthIndicator(GemFireCache gemfireCache, Duration refreshInterval) {
 		super(gemfireCache);
+		this.refreshInterval = refreshInterval != null ? refreshInterval : Duration.ZERO;
+	}
+
+	/**
+	 * Returns the {@link Duration interval} on which the health details are refreshed in the background.
+	 *
+	 * @return the {@link Duration interval} on which the health details are refreshed in the background.
+	 * @see java.time.Duration
+	 */
+	public Duration getRefreshInterval() {
+		return this.refreshInterval;
+	}
+
+	/**
+	 * Determines whether health checks are served from a snapshot refreshed in the background.
+	 *
+	 * @return a boolean value indicating whether health checks are served from a snapshot.
+	 * @see #getRefreshInterval()
+	 */
+	protected boolean isSnapshotEnabled() {
+		return !(getRefreshInterval().isZero() || getRefreshInterval().isNegative());
+	}
+
+	/**
+	 * Schedules the background refresh of the health details snapshot when enabled.
+	 *
+	 * @see #refreshSnapshot()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		if (isSnapshotEnabled() && getGemFireCache().isPresent()) {
+
+			long refreshIntervalInMilliseconds = getRefreshInterval().toMillis();
+
+			this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+				Thread snapshotThread = new Thread(runnable, "GeodeRegionsHealthSnapshotThread");
+
+				snapshotThread.setDaemon(true);
+
+				return snapshotThread;
+			});
+
+			this.snapshotExecutor.scheduleWithFixedDelay(this::refreshSnapshot, 0L,
+				refreshIntervalInMilliseconds, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Stops refreshing the health details snapshot.
+	 */
+	@Override
+	public void destroy() {
+
+		if (this.snapshotExecutor != null) {
+			this.snapshotExecutor.shutdownNow();
+			this.snapshotExecutor = null;
+		}
+	}
+
+	/**
+	 * Recomputes the health details and replaces the current snapshot.
+	 *
+	 * If computing the health details fails, the snapshot records a {@literal DOWN} status with the error.
+	 *
+	 * @return the new snapshot.
+	 * @see org.springframework.boot.actuate.health.Health
+	 */
+	protected Health refreshSnapshot() {
+
+		Health.Builder builder = new Health.Builder();
+
+		try {
+			doRegionsHealthCheck(builder);
+		}
+		catch (Exception cause) {
+			builder.down(cause);
+		}
+
+		Health snapshot = builder.build();
+
+		this.snapshot = snapshot;
+
+		return snapshot;
 	}
 
 	/**
@@ -95,6 +219,18 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 	@Override
 	protected void doHealthCheck(Health.Builder builder) {
 
+		Health snapshot = isSnapshotEnabled() ? this.snapshot : null;
+
+		if (snapshot != null) {
+			builder.status(snapshot.getStatus()).withDetails(snapshot.getDetails());
+		}
+		else {
+			doRegionsHealthCheck(builder);
+		}
+	}
+
+	private void doRegionsHealthCheck(Health.Builder builder) {
+
 		if (getGemFireCache().isPresent()) {
 
 			Set<Region<?, ?>> rootRegions = getGemFireCache()
@@ -232,16 +368,45 @@ public class GeodeRegionsHealthIndicator extends AbstractGeodeHealthIndicator {
 				.filter(this::isNotLocalDataSet)
 				.filter(this::isStatisticsEnabled)
 				.map(RegionStatisticsResolver::resolve)
-				.ifPresent(cacheStatistics -> builder
-					.withDetail(cacheRegionStatisticsKey(regionName, "cache-statistics-type"), nullSafeClassName(cacheStatistics.getClass()))
-					.withDetail(cacheRegionStatisticsKey(regionName, "hit-count"), cacheStatistics.getHitCount())
-					.withDetail(cacheRegionStatisticsKey(regionName, "hit-ratio"), cacheStatistics.getHitRatio())
-					.withDetail(cacheRegionStatisticsKey(regionName, "last-accessed-time"), cacheStatistics.getLastAccessedTime())
-					.withDetail(cacheRegionStatisticsKey(regionName, "last-modified-time"), cacheStatistics.getLastModifiedTime())
-					.withDetail(cacheRegionStatisticsKey(regionName, "miss-count"), cacheStatistics.getMissCount()));
+				.ifPresent(cacheStatistics -> {
+
+					builder.withDetail(cacheRegionStatisticsKey(regionName, "cache-statistics-type"), nullSafeClassName(cacheStatistics.getClass()))
+						.withDetail(cacheRegionStatisticsKey(regionName, "hit-count"), cacheStatistics.getHitCount())
+						.withDetail(cacheRegionStatisticsKey(regionName, "hit-ratio"), cacheStatistics.getHitRatio())
+						.withDetail(cacheRegionStatisticsKey(regionName, "last-accessed-time"), cacheStatistics.getLastAccessedTime())
+						.withDetail(cacheRegionStatisticsKey(regionName, "last-modified-time"), cacheStatistics.getLastModifiedTime())
+						.withDetail(cacheRegionStatisticsKey(regionName, "miss-count"), cacheStatistics.getMissCount());
+
+					if (cacheStatistics instanceof PartitionRegionCacheStatistics) {
+						withPartitionRegionStatisticsDetails(regionName,
+							((PartitionRegionCacheStatistics) cacheStatistics).getStatistics(), builder);
+					}
+				});
 		};
 	}
 
+	private void withPartitionRegionStatisticsDetails(String regionName, PartitionRegionStatistics statistics,
+			Health.Builder builder) {
+
+		builder.withDetail(cacheRegionStatisticsKey(regionName, "bucket-count"), statistics.getBucketCount())
+			.withDetail(cacheRegionStatisticsKey(regionName, "primary-bucket-count"), statistics.getPrimaryBucketCount())
+			.withDetail(cacheRegionStatisticsKey(regionName, "secondary-bucket-count"), statistics.getSecondaryBucketCount())
+			.withDetail(cacheRegionStatisticsKey(regionName, "primary-entry-count"), statistics.getPrimaryEntryCount())
+			.withDetail(cacheRegionStatisticsKey(regionName, "secondary-entry-count"), statistics.getSecondaryEntryCount());
+
+		withDistributionDetails(cacheRegionStatisticsKey(regionName, "bucket.entries"), statistics.getBucketEntries(), builder);
+		withDistributionDetails(cacheRegionStatisticsKey(regionName, "bucket.hits"), statistics.getBucketHits(), builder);
+	}
+
+	private void withDistributionDetails(String keyPrefix, PartitionRegionStatistics.Distribution distribution,
+			Health.Builder builder) {
+
+		builder.withDetail(String.format("%s.min", keyPrefix), distribution.getMin())
+			.withDetail(String.format("%s.max", keyPrefix), distribution.getMax())
+			.withDetail(String.format("%s.mean", keyPrefix), distribution.getMean())
+			.withDetail(String.format("%s.stddev", keyPrefix), distribution.getStandardDeviation());
+	}
+
 	private boolean isLocalDataSet(Region<?, ?> region) {
 		return region instanceof LocalDataSet;
 	}
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.data;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link CacheDataTransfer} class tracks the progress of an on-demand export or import of cache data
+ * for a set of {@link Region Regions} and limits the rate at which the data is written or read.
+ *
+ * The I/O throughput is limited by {@link #throttle(long) throttling} each chunk of data written to or read from
+ * a {@link org.springframework.core.io.Resource}, sleeping as long as necessary to keep the average throughput since
+ * the start of the transfer at or below the configured {@link #getBytesPerSecond() bytes per second}.
+ * A {@link #cancel() cancelled} transfer stops at the next chunk of data or the next {@link Region}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.data.GeodeCacheDataEndpoint
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class CacheDataTransfer {
+
+	protected static final long MAX_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final AtomicLong bytesTransferred = new AtomicLong(0L);
+	private final AtomicLong regionsCompleted = new AtomicLong(0L);
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.QUEUED);
+
+	private final CountDownLatch completion = new CountDownLatch(1);
+
+	private final List<String> regionPaths;
+
+	private final long bytesPerSecond;
+
+	private volatile long startNanos;
+
+	private volatile Instant endTime;
+	private volatile Instant startTime;
+
+	private final Operation operation;
+
+	private volatile String currentRegionPath;
+	private volatile String failure;
+
+	private final String id;
+
+	/**
+	 * Constructs a new instance of {@link CacheDataTransfer}.
+	 *
+	 * @param id {@link String} identifying the transfer.
+	 * @param operation {@link Operation} performed by the transfer.
+	 * @param regionPaths {@link List} of {@link Region#getFullPath() paths} of the {@link Region Regions}
+	 * to transfer.
+	 * @param bytesPerSecond maximum I/O throughput in bytes per second; {@literal 0} or less for unlimited.
+	 * @throws IllegalArgumentException if the {@link String ID} or {@link Operation} is {@literal null}.
+	 */
+	public CacheDataTransfer(@NonNull String id, @NonNull Operation operation, @Nullable List<String> regionPaths,
+			long bytesPerSecond) {
+
+		Assert.hasText(id, "ID is required");
+		Assert.notNull(operation, "Operation is required");
+
+		this.id = id;
+		this.operation = operation;
+		this.regionPaths = regionPaths != null
+			? Collections.unmodifiableList(new ArrayList<>(regionPaths))
+			: Collections.emptyList();
+		this.bytesPerSecond = Math.max(0L, bytesPerSecond);
+	}
+
+	public long getBytesPerSecond() {
+		return this.bytesPerSecond;
+	}
+
+	public long getBytesTransferred() {
+		return this.bytesTransferred.get();
+	}
+
+	public @Nullable String getCurrentRegionPath() {
+		return this.currentRegionPath;
+	}
+
+	public @Nullable Instant getEndTime() {
+		return this.endTime;
+	}
+
+	public @Nullable String getFailure() {
+		return this.failure;
+	}
+
+	public @NonNull String getId() {
+		return this.id;
+	}
+
+	public @NonNull Operation getOperation() {
+		return this.operation;
+	}
+
+	public @NonNull List<String> getRegionPaths() {
+		return this.regionPaths;
+	}
+
+	public long getRegionsCompleted() {
+		return this.regionsCompleted.get();
+	}
+
+	public @Nullable Instant getStartTime() {
+		return this.startTime;
+	}
+
+	public @NonNull State getState() {
+		return this.state.get();
+	}
+
+	/**
+	 * Determines whether this transfer has been {@link #cancel() cancelled}.
+	 *
+	 * @return a boolean value indicating whether this transfer has been {@link #cancel() cancelled}.
+	 */
+	public boolean isCancelled() {
+		return State.CANCELLED.equals(getState());
+	}
+
+	/**
+	 * Determines whether this transfer has finished, successfully or not.
+	 *
+	 * @return a boolean value indicating whether this transfer has finished.
+	 */
+	public boolean isDone() {
+		return getState().isDone();
+	}
+
+	/**
+	 * Cancels this transfer unless it has already {@link #isDone() finished}.
+	 *
+	 * A queued transfer is cancelled immediately. A running transfer stops at the next chunk of data
+	 * or the next {@link Region}.
+	 *
+	 * @return a boolean value indicating whether this transfer was cancelled.
+	 */
+	public boolean cancel() {
+
+		State currentState = getState();
+
+		while (!currentState.isDone()) {
+
+			if (this.state.compareAndSet(currentState, State.CANCELLED)) {
+
+				if (State.QUEUED.equals(currentState)) {
+					complete();
+				}
+
+				return true;
+			}
+
+			currentState = getState();
+		}
+
+		return false;
+	}
+
+	/**
+	 * Waits for this transfer to finish.
+	 *
+	 * @param timeout {@link Duration} to wait.
+	 * @return a boolean value indicating whether this transfer finished before the {@link Duration timeout} elapsed.
+	 * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+	 */
+	public boolean awaitCompletion(@NonNull Duration timeout) throws InterruptedException {
+		return this.completion.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	boolean start() {
+
+		if (this.state.compareAndSet(State.QUEUED, State.RUNNING)) {
+			this.startNanos = System.nanoTime();
+			this.startTime = Instant.now();
+			return true;
+		}
+
+		return false;
+	}
+
+	void beginRegion(@NonNull Region<?, ?> region) {
+		checkNotCancelled();
+		this.currentRegionPath = region.getFullPath();
+	}
+
+	void endRegion() {
+		this.regionsCompleted.incrementAndGet();
+		this.currentRegionPath = null;
+	}
+
+	void succeed() {
+
+		if (this.state.compareAndSet(State.RUNNING, State.COMPLETED)) {
+			complete();
+		}
+	}
+
+	void fail(@NonNull Throwable cause) {
+
+		this.failure = String.valueOf(cause.getMessage());
+
+		if (this.state.compareAndSet(State.RUNNING, State.FAILED)) {
+			complete();
+		}
+	}
+
+	void stop() {
+
+		if (isCancelled()) {
+			complete();
+		}
+	}
+
+	private void complete() {
+		this.currentRegionPath = null;
+		this.endTime = Instant.now();
+		this.completion.countDown();
+	}
+
+	/**
+	 * Accounts for the given number of bytes written or read and blocks the calling {@link Thread} as long as
+	 * necessary to keep the average throughput at or below the configured {@link #getBytesPerSecond() limit}.
+	 *
+	 * @param bytes number of bytes written or read.
+	 * @throws CancellationException if this transfer was {@link #cancel() cancelled}.
+	 */
+	public void throttle(long bytes) {
+
+		checkNotCancelled();
+
+		long transferred = this.bytesTransferred.addAndGet(Math.max(0L, bytes));
+
+		long bytesPerSecond = getBytesPerSecond();
+
+		if (bytesPerSecond > 0) {
+
+			long expectedElapsedNanos = (long) (transferred * (double) TimeUnit.SECONDS.toNanos(1) / bytesPerSecond);
+
+			long sleepNanos = expectedElapsedNanos - (System.nanoTime() - this.startNanos);
+
+			while (sleepNanos > 0) {
+
+				sleep(Math.min(sleepNanos, MAX_SLEEP_NANOS));
+				checkNotCancelled();
+				sleepNanos = expectedElapsedNanos - (System.nanoTime() - this.startNanos);
+			}
+		}
+	}
+
+	private void checkNotCancelled() {
+
+		if (isCancelled()) {
+			throw new CancellationException(String.format("Cache data %1$s [%2$s] was cancelled",
+				getOperation().toString(), getId()));
+		}
+	}
+
+	private void sleep(long nanos) {
+
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			cancel();
+			checkNotCancelled();
+		}
+	}
+
+	/**
+	 * Describes the progress of this transfer.
+	 *
+	 * @return a {@link Map} describing the progress of this transfer.
+	 */
+	public @NonNull Map<String, Object> describe() {
+
+		Map<String, Object> details = new LinkedHashMap<>();
+
+		Instant startTime = getStartTime();
+		Instant endTime = getEndTime();
+
+		details.put("id", getId());
+		details.put("operation", getOperation().toString());
+		details.put("state", getState().name());
+		details.put("regions", getRegionPaths());
+		details.put("regionsCompleted", getRegionsCompleted());
+		details.put("currentRegion", getCurrentRegionPath());
+		details.put("bytesTransferred", getBytesTransferred());
+		details.put("bytesPerSecondLimit", getBytesPerSecond());
+		details.put("startTime", startTime);
+		details.put("endTime", endTime);
+
+		if (startTime != null) {
+
+			Duration elapsed = Duration.between(startTime, endTime != null ? endTime : Instant.now());
+
+			details.put("elapsedMillis", elapsed.toMillis());
+			details.put("bytesPerSecond", elapsed.isZero() ? 0L
+				: (long) (getBytesTransferred() / (elapsed.toNanos() / (double) TimeUnit.SECONDS.toNanos(1))));
+		}
+
+		details.put("failure", getFailure());
+
+		return details;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[id = %2$s, state = %3$s]", getOperation(), getId(), getState());
+	}
+
+	/**
+	 * Enumeration of cache data transfer operations.
+	 */
+	public enum Operation {
+
+		EXPORT, IMPORT;
+
+		public static @Nullable Operation from(@Nullable String name) {
+
+			for (Operation operation : values()) {
+				if (operation.name().equalsIgnoreCase(String.valueOf(name).trim())) {
+					return operation;
+				}
+			}
+
+			return null;
+		}
+
+		@Override
+		public String toString() {
+			return name().toLowerCase();
+		}
+	}
+
+	/**
+	 * Enumeration of the states of a {@link CacheDataTransfer}.
+	 */
+	public enum State {
+
+		QUEUED, RUNNING, COMPLETED, CANCELLED, FAILED;
+
+		public boolean isDone() {
+			return this == COMPLETED || this == CANCELLED || this == FAILED;
+		}
+	}
+}
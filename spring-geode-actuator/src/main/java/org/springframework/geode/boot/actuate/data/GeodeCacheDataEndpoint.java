@@ -0,0 +1,564 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.data;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.geode.core.io.ResourceReadException;
+import org.springframework.geode.core.io.ResourceReader;
+import org.springframework.geode.core.io.ResourceWriter;
+import org.springframework.geode.core.io.support.ByteArrayResourceReader;
+import org.springframework.geode.core.io.support.FileResourceWriter;
+import org.springframework.geode.data.CacheDataImporterExporter;
+import org.springframework.geode.data.json.JsonCacheDataImporterExporter;
+import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ExportResourceResolver;
+import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ImportResourceResolver;
+import org.springframework.geode.util.CacheUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring Boot Actuator {@link Endpoint} exporting or importing cache data for a chosen set of {@link Region Regions}
+ * on-demand, at runtime.
+ *
+ * Each export or import runs as a {@link CacheDataTransfer} in the background, one at a time, using a dedicated
+ * {@link JsonCacheDataImporterExporter} configured with the same {@link Resource} locations as the
+ * {@link CacheDataImporterExporter} applied at startup and shutdown. The progress of each transfer can be queried,
+ * the I/O throughput is limited so that the transfer does not starve production traffic and a transfer can be
+ * cancelled.
+ *
+ * Data is exported from a live {@link Region} entry by entry and therefore is not a point-in-time snapshot
+ * when the {@link Region} is being concurrently modified.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @see org.springframework.geode.boot.actuate.data.CacheDataTransfer
+ * @see org.springframework.geode.data.json.JsonCacheDataImporterExporter
+ * @since 1.4.0
+ */
+@Endpoint(id = GeodeCacheDataEndpoint.ID)
+@SuppressWarnings("unused")
+public class GeodeCacheDataEndpoint implements ApplicationContextAware, DisposableBean {
+
+	public static final String ID = "geodedata";
+
+	public static final long DEFAULT_BYTES_PER_SECOND = 10L * 1024L * 1024L;
+
+	protected static final int MAX_TRANSFER_HISTORY = 20;
+
+	private ApplicationContext applicationContext;
+
+	private final ExecutorService executorService;
+
+	private ExportResourceResolver exportResourceResolver;
+
+	private final GemFireCache gemfireCache;
+
+	private ImportResourceResolver importResourceResolver;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final long defaultBytesPerSecond;
+
+	private final Map<String, CacheDataTransfer> transfers = new LinkedHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link GeodeCacheDataEndpoint} initialized with the {@link GemFireCache}
+	 * and the default I/O throughput limit.
+	 *
+	 * @param gemfireCache {@link GemFireCache} containing the {@link Region Regions} to export or import.
+	 * @param defaultBytesPerSecond default maximum I/O throughput in bytes per second; {@literal 0} for unlimited.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeCacheDataEndpoint(@NonNull GemFireCache gemfireCache, long defaultBytesPerSecond) {
+
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+
+		this.gemfireCache = gemfireCache;
+		this.defaultBytesPerSecond = Math.max(0L, defaultBytesPerSecond);
+		this.executorService = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "geode-cache-data-transfer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@Override
+	public void setApplicationContext(@Nullable ApplicationContext applicationContext) {
+		this.applicationContext = applicationContext;
+	}
+
+	protected @Nullable ApplicationContext getApplicationContext() {
+		return this.applicationContext;
+	}
+
+	public long getDefaultBytesPerSecond() {
+		return this.defaultBytesPerSecond;
+	}
+
+	public void setExportResourceResolver(@Nullable ExportResourceResolver exportResourceResolver) {
+		this.exportResourceResolver = exportResourceResolver;
+	}
+
+	protected @Nullable ExportResourceResolver getExportResourceResolver() {
+		return this.exportResourceResolver;
+	}
+
+	protected @NonNull GemFireCache getGemFireCache() {
+		return this.gemfireCache;
+	}
+
+	public void setImportResourceResolver(@Nullable ImportResourceResolver importResourceResolver) {
+		this.importResourceResolver = importResourceResolver;
+	}
+
+	protected @Nullable ImportResourceResolver getImportResourceResolver() {
+		return this.importResourceResolver;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	@ReadOperation
+	public Map<String, Object> transfers() {
+
+		List<Map<String, Object>> transfers;
+
+		synchronized (this.transfers) {
+			transfers = this.transfers.values().stream()
+				.map(CacheDataTransfer::describe)
+				.collect(Collectors.toList());
+		}
+
+		Map<String, Object> details = new LinkedHashMap<>();
+
+		details.put("defaultBytesPerSecondLimit", getDefaultBytesPerSecond());
+		details.put("transfers", transfers);
+
+		return details;
+	}
+
+	@ReadOperation
+	public @Nullable Map<String, Object> transfer(@Selector String id) {
+
+		CacheDataTransfer transfer = getTransfer(id);
+
+		return transfer != null ? transfer.describe() : null;
+	}
+
+	/**
+	 * Starts an export or import of the given {@link Region Regions} in the background.
+	 *
+	 * @param operation {@link String} containing the operation to perform, either {@literal export}
+	 * or {@literal import}.
+	 * @param regions comma-delimited {@link String} of {@link Region} names or paths; all root {@link Region Regions}
+	 * if {@literal null} or empty.
+	 * @param bytesPerSecond maximum I/O throughput in bytes per second; the default limit if {@literal null}
+	 * and unlimited if {@literal 0}.
+	 * @return a {@link Map} describing the progress of the started {@link CacheDataTransfer}.
+	 * @throws InvalidEndpointRequestException if the operation is unknown or a {@link Region} does not exist.
+	 */
+	@WriteOperation
+	public Map<String, Object> start(@Selector String operation, @Nullable String regions,
+			@Nullable Long bytesPerSecond) {
+
+		CacheDataTransfer.Operation resolvedOperation = CacheDataTransfer.Operation.from(operation);
+
+		if (resolvedOperation == null) {
+			throw new InvalidEndpointRequestException(String.format("Operation [%s] is not supported", operation),
+				"Operation must be either 'export' or 'import'");
+		}
+
+		List<Region<?, ?>> resolvedRegions = resolveRegions(regions);
+
+		CacheDataTransfer transfer = new CacheDataTransfer(UUID.randomUUID().toString(), resolvedOperation,
+			resolvedRegions.stream().map(Region::getFullPath).collect(Collectors.toList()),
+			bytesPerSecond != null ? bytesPerSecond : getDefaultBytesPerSecond());
+
+		register(transfer);
+
+		this.executorService.execute(() -> run(transfer, resolvedRegions));
+
+		return transfer.describe();
+	}
+
+	@DeleteOperation
+	public @Nullable Map<String, Object> cancel(@Selector String id) {
+
+		CacheDataTransfer transfer = getTransfer(id);
+
+		if (transfer != null) {
+			transfer.cancel();
+			return transfer.describe();
+		}
+
+		return null;
+	}
+
+	protected @Nullable CacheDataTransfer getTransfer(@Nullable String id) {
+
+		synchronized (this.transfers) {
+			return this.transfers.get(id);
+		}
+	}
+
+	private void register(CacheDataTransfer transfer) {
+
+		synchronized (this.transfers) {
+
+			this.transfers.put(transfer.getId(), transfer);
+
+			List<String> finishedTransferIds = this.transfers.values().stream()
+				.filter(CacheDataTransfer::isDone)
+				.map(CacheDataTransfer::getId)
+				.collect(Collectors.toList());
+
+			for (int index = 0, overflow = this.transfers.size() - MAX_TRANSFER_HISTORY;
+					index < finishedTransferIds.size() && index < overflow; index++) {
+
+				this.transfers.remove(finishedTransferIds.get(index));
+			}
+		}
+	}
+
+	private List<Region<?, ?>> resolveRegions(@Nullable String regions) {
+
+		if (!StringUtils.hasText(regions)) {
+			return getGemFireCache().rootRegions().stream()
+				.filter(Objects::nonNull)
+				.sorted(Comparator.comparing(Region::getFullPath))
+				.collect(Collectors.toList());
+		}
+
+		List<Region<?, ?>> resolvedRegions = new ArrayList<>();
+
+		Arrays.stream(StringUtils.commaDelimitedListToStringArray(regions))
+			.map(String::trim)
+			.filter(StringUtils::hasText)
+			.forEach(regionNameOrPath -> {
+
+				Region<?, ?> region = getGemFireCache().getRegion(regionNameOrPath);
+
+				if (region == null) {
+					throw new InvalidEndpointRequestException(
+						String.format("Region [%s] not found", regionNameOrPath), "Region does not exist");
+				}
+
+				resolvedRegions.add(region);
+			});
+
+		return resolvedRegions;
+	}
+
+	/**
+	 * Runs the {@link CacheDataTransfer}, exporting or importing each {@link Region} in turn.
+	 *
+	 * @param transfer {@link CacheDataTransfer} to run.
+	 * @param regions {@link List} of {@link Region Regions} to export or import.
+	 */
+	@SuppressWarnings("rawtypes")
+	protected void run(@NonNull CacheDataTransfer transfer, @NonNull List<Region<?, ?>> regions) {
+
+		if (transfer.start()) {
+			try {
+
+				JsonCacheDataImporterExporter importerExporter = newCacheDataImporterExporter(transfer);
+
+				for (Region region : regions) {
+
+					transfer.beginRegion(region);
+
+					if (CacheDataTransfer.Operation.EXPORT.equals(transfer.getOperation())) {
+						importerExporter.doExportFrom(region);
+					}
+					else {
+						importerExporter.doImportInto(region);
+					}
+
+					transfer.endRegion();
+				}
+
+				transfer.succeed();
+			}
+			catch (CancellationException cause) {
+				getLogger().info("Cache data {} [{}] was cancelled", transfer.getOperation(), transfer.getId());
+			}
+			catch (Throwable cause) {
+				getLogger().warn(String.format("Cache data %1$s [%2$s] failed", transfer.getOperation(),
+					transfer.getId()), cause);
+				transfer.fail(cause);
+			}
+			finally {
+				transfer.stop();
+			}
+		}
+	}
+
+	/**
+	 * Constructs and initializes a new {@link JsonCacheDataImporterExporter} whose {@link Resource} I/O is throttled
+	 * and cancelled by the given {@link CacheDataTransfer}.
+	 *
+	 * {@literal Parallel export} is disabled for the returned {@link JsonCacheDataImporterExporter}, so that
+	 * the {@link Region Regions} are exported by this member, through the throttled {@link ResourceWriter}, and
+	 * the per-request {@link JsonCacheDataImporterExporter} is not registered as the cluster-wide
+	 * {@link JsonCacheDataImporterExporter.ParallelExportFunction}.
+	 *
+	 * @param transfer {@link CacheDataTransfer} throttling the {@link Resource} I/O.
+	 * @return a new, initialized {@link JsonCacheDataImporterExporter}.
+	 * @see org.springframework.geode.data.json.JsonCacheDataImporterExporter
+	 */
+	protected @NonNull JsonCacheDataImporterExporter newCacheDataImporterExporter(@NonNull CacheDataTransfer transfer) {
+
+		JsonCacheDataImporterExporter importerExporter = new EndpointCacheDataImporterExporter(transfer);
+
+		ApplicationContext applicationContext = getApplicationContext();
+
+		if (applicationContext != null) {
+			importerExporter.setApplicationContext(applicationContext);
+			importerExporter.setEnvironment(applicationContext.getEnvironment());
+			importerExporter.setResourceLoader(applicationContext);
+		}
+
+		importerExporter.setExportResourceResolver(getExportResourceResolver());
+		importerExporter.setImportResourceResolver(getImportResourceResolver());
+		importerExporter.setResourceReader(newResourceReader(transfer));
+		importerExporter.setResourceWriter(newResourceWriter(transfer));
+		importerExporter.afterPropertiesSet();
+
+		return importerExporter;
+	}
+
+	protected @NonNull ResourceReader newResourceReader(@NonNull CacheDataTransfer transfer) {
+
+		return new ByteArrayResourceReader() {
+
+			@Override
+			protected @NonNull byte[] doRead(@NonNull InputStream resourceInputStream) throws IOException {
+				return super.doRead(new ThrottledInputStream(resourceInputStream, transfer));
+			}
+		};
+	}
+
+	protected @NonNull ResourceWriter newResourceWriter(@NonNull CacheDataTransfer transfer) {
+
+		return new FileResourceWriter() {
+
+			@Override
+			protected @NonNull OutputStream decorate(@Nullable OutputStream outputStream) {
+				return new ThrottledOutputStream(super.decorate(outputStream), transfer);
+			}
+		};
+	}
+
+	@Override
+	public void destroy() {
+
+		synchronized (this.transfers) {
+			this.transfers.values().forEach(CacheDataTransfer::cancel);
+		}
+
+		this.executorService.shutdownNow();
+	}
+
+	/**
+	 * {@link JsonCacheDataImporterExporter} used by a single {@link CacheDataTransfer}, which never exports
+	 * in parallel nor registers the {@link JsonCacheDataImporterExporter.ParallelExportFunction}.
+	 *
+	 * {@link Region} data is streamed to and from the {@link Resource} one entry at a time, rather than held in memory
+	 * as a single {@link String JSON} document, so that the {@link CacheDataTransfer} is throttled and can be
+	 * cancelled for each chunk of {@link Region} data.
+	 */
+	static class EndpointCacheDataImporterExporter extends JsonCacheDataImporterExporter {
+
+		private final CacheDataTransfer transfer;
+
+		private final ObjectMapper objectMapper = new ObjectMapper();
+
+		EndpointCacheDataImporterExporter(@NonNull CacheDataTransfer transfer) {
+
+			Assert.notNull(transfer, "CacheDataTransfer must not be null");
+
+			this.transfer = transfer;
+		}
+
+		@Override
+		protected boolean isParallelExportEnabled(@Nullable Environment environment) {
+			return false;
+		}
+
+		@NonNull @Override
+		@SuppressWarnings("rawtypes")
+		public Region doExportFrom(@NonNull Region region) {
+
+			Assert.notNull(region, "Region must not be null");
+
+			getExportResourceResolver()
+				.resolve(region)
+				.ifPresent(resource -> {
+
+					int valueCount = writeJson(resource,
+						CollectionUtils.nullSafeCollection(CacheUtils.collectValues(region)));
+
+					getLogger().debug("Saved [{}] value(s) as JSON from Region [{}]", valueCount, region.getName());
+				});
+
+			return region;
+		}
+
+		@NonNull @Override
+		@SuppressWarnings("rawtypes")
+		public Region doImportInto(@NonNull Region region) {
+
+			Assert.notNull(region, "Region must not be null");
+
+			getImportResourceResolver()
+				.resolve(region)
+				.ifPresent(resource -> importFrom(region, resource));
+
+			return region;
+		}
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		private void importFrom(Region region, Resource resource) {
+
+			try (InputStream in = new ThrottledInputStream(resource.getInputStream(), this.transfer);
+				 JsonParser parser = this.objectMapper.getFactory().createParser(in)) {
+
+				JsonToken token = parser.nextToken();
+
+				if (JsonToken.START_OBJECT.equals(token)) {
+					importShards(region, resource, this.objectMapper.writeValueAsBytes(parser.readValueAsTree()));
+				}
+				else if (JsonToken.START_ARRAY.equals(token)) {
+					for (token = parser.nextToken(); token != null && !JsonToken.END_ARRAY.equals(token);
+							token = parser.nextToken()) {
+
+						JsonNode object = parser.readValueAsTree();
+
+						for (PdxInstance pdxInstance : getJsonToPdxArrayConverter().convert(object.toString())) {
+							region.put(resolveKey(pdxInstance), resolveValue(pdxInstance));
+						}
+					}
+				}
+			}
+			catch (IOException cause) {
+				throw new ResourceReadException(String.format("Failed to read from Resource [%s]",
+					resource.getDescription()), cause);
+			}
+		}
+	}
+
+	static class ThrottledInputStream extends FilterInputStream {
+
+		private final CacheDataTransfer transfer;
+
+		ThrottledInputStream(InputStream in, CacheDataTransfer transfer) {
+			super(in);
+			this.transfer = transfer;
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			int value = super.read();
+
+			if (value != -1) {
+				this.transfer.throttle(1);
+			}
+
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+
+			int bytesRead = super.read(buffer, offset, length);
+
+			if (bytesRead > 0) {
+				this.transfer.throttle(bytesRead);
+			}
+
+			return bytesRead;
+		}
+	}
+
+	static class ThrottledOutputStream extends FilterOutputStream {
+
+		private final CacheDataTransfer transfer;
+
+		ThrottledOutputStream(OutputStream out, CacheDataTransfer transfer) {
+			super(out);
+			this.transfer = transfer;
+		}
+
+		@Override
+		public void write(int value) throws IOException {
+			this.transfer.throttle(1);
+			this.out.write(value);
+		}
+
+		@Override
+		public void write(byte[] buffer, int offset, int length) throws IOException {
+			this.transfer.throttle(length);
+			this.out.write(buffer, offset, length);
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The {@link ReactiveGeodeHealthIndicator} class is a non-blocking {@link ReactiveHealthIndicator} adapting
+ * a blocking Apache Geode {@link HealthIndicator} and bounding the time spent waiting on the health check.
+ *
+ * The health check of the {@link HealthIndicator delegate} is performed on a {@link Scheduler} dedicated to
+ * blocking tasks. When the health check does not complete within the configured {@link #getTimeout() timeout},
+ * the last known {@link Health} is returned with the {@literal stale} detail set to {@literal true},
+ * or {@link Health#unknown() unknown} {@link Health} if the health check has never completed.
+ *
+ * At most one health check is in-flight at any time. Health requests arriving while a health check is still running
+ * wait on the same health check rather than starting another, so a stuck health check does not exhaust threads.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @see org.springframework.boot.actuate.health.HealthIndicator
+ * @see org.springframework.boot.actuate.health.ReactiveHealthIndicator
+ * @see reactor.core.publisher.Mono
+ * @see reactor.core.scheduler.Scheduler
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class ReactiveGeodeHealthIndicator implements DisposableBean, ReactiveHealthIndicator {
+
+	public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+	protected static final String STALE_DETAIL = "stale";
+	protected static final String TIMEOUT_DETAIL = "timeout";
+
+	private final AtomicReference<CompletableFuture<Health>> inFlightHealthCheck = new AtomicReference<>();
+
+	private final Duration timeout;
+
+	private final HealthIndicator delegate;
+
+	private volatile Health lastKnownHealth;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGeodeHealthIndicator} adapting the given {@link HealthIndicator}
+	 * with the given {@link Duration timeout}.
+	 *
+	 * @param delegate blocking {@link HealthIndicator} to adapt.
+	 * @param timeout {@link Duration} to wait for the health check to complete.
+	 * @throws IllegalArgumentException if the {@link HealthIndicator} is {@literal null} or the {@link Duration}
+	 * is {@literal null}, zero or negative.
+	 * @see org.springframework.boot.actuate.health.HealthIndicator
+	 * @see java.time.Duration
+	 */
+	public ReactiveGeodeHealthIndicator(HealthIndicator delegate, Duration timeout) {
+		this(delegate, timeout, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGeodeHealthIndicator} adapting the given {@link HealthIndicator}
+	 * with the given {@link Duration timeout} and performing health checks on the given {@link Scheduler}.
+	 *
+	 * @param delegate blocking {@link HealthIndicator} to adapt.
+	 * @param timeout {@link Duration} to wait for the health check to complete.
+	 * @param scheduler {@link Scheduler} on which the blocking health check is performed.
+	 * @throws IllegalArgumentException if the {@link HealthIndicator} or {@link Scheduler} are {@literal null}
+	 * or the {@link Duration} is {@literal null}, zero or negative.
+	 * @see org.springframework.boot.actuate.health.HealthIndicator
+	 * @see reactor.core.scheduler.Scheduler
+	 * @see java.time.Duration
+	 */
+	public ReactiveGeodeHealthIndicator(HealthIndicator delegate, Duration timeout, Scheduler scheduler) {
+
+		Assert.notNull(delegate, "HealthIndicator must not be null");
+		Assert.isTrue(timeout != null && !timeout.isZero() && !timeout.isNegative(),
+			String.format("Timeout [%s] must be greater than 0", timeout));
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.delegate = delegate;
+		this.timeout = timeout;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Returns the adapted, blocking {@link HealthIndicator}.
+	 *
+	 * @return the adapted, blocking {@link HealthIndicator}.
+	 * @see org.springframework.boot.actuate.health.HealthIndicator
+	 */
+	public HealthIndicator getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Returns the last {@link Health} computed by the {@link #getDelegate() delegate}, if any.
+	 *
+	 * @return the last known {@link Health}; may be {@literal null}.
+	 * @see org.springframework.boot.actuate.health.Health
+	 */
+	protected Health getLastKnownHealth() {
+		return this.lastKnownHealth;
+	}
+
+	/**
+	 * Returns the {@link Duration} to wait for the health check to complete.
+	 *
+	 * @return the {@link Duration} to wait for the health check to complete.
+	 * @see java.time.Duration
+	 */
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	@Override
+	public Mono<Health> health() {
+
+		// Each request waits on a dependent stage so that a timeout does not cancel the shared health check.
+		return Mono.fromFuture(resolveHealthCheck().thenApply(Function.identity()))
+			.timeout(getTimeout())
+			.onErrorResume(TimeoutException.class, cause -> Mono.just(staleHealth()))
+			.onErrorResume(cause -> Mono.just(Health.down(cause).build()));
+	}
+
+	private CompletableFuture<Health> resolveHealthCheck() {
+
+		CompletableFuture<Health> healthCheck = this.inFlightHealthCheck.get();
+
+		if (healthCheck == null) {
+
+			CompletableFuture<Health> newHealthCheck = new CompletableFuture<>();
+
+			if (this.inFlightHealthCheck.compareAndSet(null, newHealthCheck)) {
+				healthCheck = newHealthCheck;
+				scheduleHealthCheck(newHealthCheck);
+			}
+			else {
+				healthCheck = this.inFlightHealthCheck.get();
+				healthCheck = healthCheck != null ? healthCheck : resolveHealthCheck();
+			}
+		}
+
+		return healthCheck;
+	}
+
+	private void scheduleHealthCheck(CompletableFuture<Health> healthCheck) {
+
+		try {
+			this.scheduler.schedule(() -> performHealthCheck(healthCheck));
+		}
+		catch (RuntimeException cause) {
+			this.inFlightHealthCheck.compareAndSet(healthCheck, null);
+			healthCheck.completeExceptionally(cause);
+		}
+	}
+
+	private void performHealthCheck(CompletableFuture<Health> healthCheck) {
+
+		try {
+
+			Health health = getDelegate().health();
+
+			this.lastKnownHealth = health;
+			this.inFlightHealthCheck.compareAndSet(healthCheck, null);
+			healthCheck.complete(health);
+		}
+		catch (Throwable cause) {
+			this.inFlightHealthCheck.compareAndSet(healthCheck, null);
+			healthCheck.completeExceptionally(cause);
+		}
+	}
+
+	private Health staleHealth() {
+
+		Health lastKnownHealth = getLastKnownHealth();
+
+		Health.Builder builder = lastKnownHealth != null
+			? Health.status(lastKnownHealth.getStatus()).withDetails(lastKnownHealth.getDetails())
+			: Health.unknown();
+
+		return builder
+			.withDetail(STALE_DETAIL, true)
+			.withDetail(TIMEOUT_DETAIL, getTimeout().toMillis())
+			.build();
+	}
+
+	@Override
+	public void destroy() throws Exception {
+
+		if (getDelegate() instanceof DisposableBean) {
+			((DisposableBean) getDelegate()).destroy();
+		}
+	}
+}
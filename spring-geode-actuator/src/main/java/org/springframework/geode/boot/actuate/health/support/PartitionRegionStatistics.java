@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+/**
+ * The {@link PartitionRegionStatistics} class aggregates the statistics of the buckets of
+ * a {@link PartitionedRegion PARTITION Region}.
+ *
+ * Hit and miss counts are summed across buckets and the hit ratio is computed from the totals. The distribution
+ * of entries and hits across buckets (minimum, maximum, mean and standard deviation) exposes bucket skew,
+ * and buckets are counted separately as primary or secondary (redundant) copies.
+ *
+ * Instances are {@link Serializable} and can be {@link #merge(PartitionRegionStatistics) merged}, so that
+ * the statistics computed by each member hosting the Region can be combined into cluster-wide statistics.
+ *
+ * @author John Blum
+ * @see java.io.Serializable
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.internal.cache.BucketRegion
+ * @see org.apache.geode.internal.cache.PartitionedRegion
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class PartitionRegionStatistics implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private int primaryBucketCount;
+	private int secondaryBucketCount;
+
+	private long hitCount;
+	private long lastAccessedTime;
+	private long lastModifiedTime;
+	private long missCount;
+	private long primaryEntryCount;
+	private long secondaryEntryCount;
+
+	private final Distribution bucketEntries = new Distribution();
+	private final Distribution bucketHits = new Distribution();
+
+	/**
+	 * Factory method used to compute the {@link PartitionRegionStatistics} of the buckets hosted by this member
+	 * for the given {@link PartitionedRegion}.
+	 *
+	 * @param region {@link PartitionedRegion} for which to compute the statistics.
+	 * @return the {@link PartitionRegionStatistics} of the local buckets; empty if this member does not
+	 * host any data for the Region.
+	 * @see org.apache.geode.internal.cache.PartitionedRegion
+	 */
+	public static PartitionRegionStatistics from(PartitionedRegion region) {
+
+		return from(Optional.ofNullable(region)
+			.map(PartitionedRegion::getDataStore)
+			.map(PartitionedRegionDataStore::getAllLocalBucketRegions)
+			.orElseGet(Collections::emptySet));
+	}
+
+	/**
+	 * Factory method used to compute the {@link PartitionRegionStatistics} of the given buckets.
+	 *
+	 * @param buckets {@link Iterable} of {@link BucketRegion BucketRegions}.
+	 * @return the {@link PartitionRegionStatistics} of the given buckets.
+	 * @see org.apache.geode.internal.cache.BucketRegion
+	 */
+	public static PartitionRegionStatistics from(Iterable<BucketRegion> buckets) {
+
+		PartitionRegionStatistics statistics = new PartitionRegionStatistics();
+
+		if (buckets != null) {
+			for (BucketRegion bucket : buckets) {
+				if (bucket != null) {
+
+					boolean primary = bucket.getBucketAdvisor() != null && bucket.getBucketAdvisor().isPrimary();
+
+					statistics.add(primary, bucket.size(), bucket.getStatistics());
+				}
+			}
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Adds the statistics of a single bucket.
+	 *
+	 * @param primary boolean value indicating whether the bucket is the primary copy.
+	 * @param entryCount number of entries in the bucket.
+	 * @param bucketStatistics {@link CacheStatistics} of the bucket; may be {@literal null}.
+	 */
+	protected void add(boolean primary, long entryCount, CacheStatistics bucketStatistics) {
+
+		long bucketHitCount = 0L;
+
+		if (bucketStatistics != null) {
+			bucketHitCount = bucketStatistics.getHitCount();
+			this.hitCount += bucketHitCount;
+			this.missCount += bucketStatistics.getMissCount();
+			this.lastAccessedTime = Math.max(this.lastAccessedTime, bucketStatistics.getLastAccessedTime());
+			this.lastModifiedTime = Math.max(this.lastModifiedTime, bucketStatistics.getLastModifiedTime());
+		}
+
+		if (primary) {
+			this.primaryBucketCount++;
+			this.primaryEntryCount += entryCount;
+		}
+		else {
+			this.secondaryBucketCount++;
+			this.secondaryEntryCount += entryCount;
+		}
+
+		this.bucketEntries.add(entryCount);
+		this.bucketHits.add(bucketHitCount);
+	}
+
+	/**
+	 * Merges the given {@link PartitionRegionStatistics}, computed for the same Region by a different member,
+	 * into this {@link PartitionRegionStatistics}.
+	 *
+	 * @param statistics {@link PartitionRegionStatistics} to merge.
+	 * @return this {@link PartitionRegionStatistics}.
+	 */
+	public PartitionRegionStatistics merge(PartitionRegionStatistics statistics) {
+
+		if (statistics != null) {
+			this.primaryBucketCount += statistics.primaryBucketCount;
+			this.secondaryBucketCount += statistics.secondaryBucketCount;
+			this.hitCount += statistics.hitCount;
+			this.missCount += statistics.missCount;
+			this.lastAccessedTime = Math.max(this.lastAccessedTime, statistics.lastAccessedTime);
+			this.lastModifiedTime = Math.max(this.lastModifiedTime, statistics.lastModifiedTime);
+			this.primaryEntryCount += statistics.primaryEntryCount;
+			this.secondaryEntryCount += statistics.secondaryEntryCount;
+			this.bucketEntries.merge(statistics.bucketEntries);
+			this.bucketHits.merge(statistics.bucketHits);
+		}
+
+		return this;
+	}
+
+	public int getBucketCount() {
+		return getPrimaryBucketCount() + getSecondaryBucketCount();
+	}
+
+	public Distribution getBucketEntries() {
+		return this.bucketEntries;
+	}
+
+	public Distribution getBucketHits() {
+		return this.bucketHits;
+	}
+
+	public long getHitCount() {
+		return this.hitCount;
+	}
+
+	/**
+	 * Returns the ratio of hits to the total number of gets (hits and misses) across all buckets.
+	 *
+	 * @return the ratio of hits to the total number of gets; {@literal 0.0} if there were no gets.
+	 */
+	public float getHitRatio() {
+
+		long getCount = getHitCount() + getMissCount();
+
+		return getCount > 0L ? (float) getHitCount() / getCount : 0.0f;
+	}
+
+	public long getLastAccessedTime() {
+		return this.lastAccessedTime;
+	}
+
+	public long getLastModifiedTime() {
+		return this.lastModifiedTime;
+	}
+
+	public long getMissCount() {
+		return this.missCount;
+	}
+
+	public int getPrimaryBucketCount() {
+		return this.primaryBucketCount;
+	}
+
+	public long getPrimaryEntryCount() {
+		return this.primaryEntryCount;
+	}
+
+	public int getSecondaryBucketCount() {
+		return this.secondaryBucketCount;
+	}
+
+	public long getSecondaryEntryCount() {
+		return this.secondaryEntryCount;
+	}
+
+	/**
+	 * The {@link Distribution} class summarizes the distribution of a value across buckets.
+	 */
+	public static class Distribution implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private long count;
+		private long max = Long.MIN_VALUE;
+		private long min = Long.MAX_VALUE;
+
+		private double sum;
+		private double sumOfSquares;
+
+		protected void add(long value) {
+			this.count++;
+			this.max = Math.max(this.max, value);
+			this.min = Math.min(this.min, value);
+			this.sum += value;
+			this.sumOfSquares += (double) value * value;
+		}
+
+		protected void merge(Distribution distribution) {
+			this.count += distribution.count;
+			this.max = Math.max(this.max, distribution.max);
+			this.min = Math.min(this.min, distribution.min);
+			this.sum += distribution.sum;
+			this.sumOfSquares += distribution.sumOfSquares;
+		}
+
+		public long getCount() {
+			return this.count;
+		}
+
+		public long getMax() {
+			return this.count > 0L ? this.max : 0L;
+		}
+
+		public double getMean() {
+			return this.count > 0L ? this.sum / this.count : 0.0d;
+		}
+
+		public long getMin() {
+			return this.count > 0L ? this.min : 0L;
+		}
+
+		/**
+		 * Returns the population standard deviation of the values.
+		 *
+		 * @return the population standard deviation of the values.
+		 */
+		public double getStandardDeviation() {
+
+			double mean = getMean();
+
+			return this.count > 0L ? Math.sqrt(Math.max(0.0d, this.sumOfSquares / this.count - mean * mean)) : 0.0d;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ min = %1$d, max = %2$d, mean = %3$.2f, stddev = %4$.2f }",
+				getMin(), getMax(), getMean(), getStandardDeviation());
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.internal.cache.PartitionedRegion;
+
+/**
+ * The {@link PartitionRegionStatisticsFunction} class is an Apache Geode {@link Function} computing
+ * the {@link PartitionRegionStatistics} of the buckets hosted by the executing member for the PARTITION
+ * {@link Region} identified by the {@link String path} passed as the Function argument.
+ *
+ * Members that do not host the {@link Region} return empty {@link PartitionRegionStatistics}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatistics
+ * @see org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver#resolveClusterWide(Region)
+ * @since 1.4.0
+ */
+public class PartitionRegionStatisticsFunction implements Function<Object> {
+
+	public static final String ID = PartitionRegionStatisticsFunction.class.getName();
+
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object> context) {
+
+		Object regionPath = context.getArguments();
+
+		Region<?, ?> region = regionPath != null ? context.getCache().getRegion(regionPath.toString()) : null;
+
+		PartitionRegionStatistics statistics = region instanceof PartitionedRegion
+			? PartitionRegionStatistics.from((PartitionedRegion) region)
+			: new PartitionRegionStatistics();
+
+		context.getResultSender().lastResult(statistics);
+	}
+}
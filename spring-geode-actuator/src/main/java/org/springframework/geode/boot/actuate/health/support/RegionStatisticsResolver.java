@@ -15,18 +15,13 @@
  */
 package org.springframework.geode.boot.actuate.health.support;
 
-import java.util.Collections;
-import java.util.Optional;
-import java.util.Set;
-
 import org.apache.geode.cache.CacheStatistics;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.StatisticsDisabledException;
+import org.apache.geode.cache.execute.FunctionService;
 import org.apache.geode.cache.partition.PartitionRegionHelper;
-import org.apache.geode.internal.cache.BucketRegion;
 import org.apache.geode.internal.cache.PartitionedRegion;
-import org.apache.geode.internal.cache.PartitionedRegionDataStore;
 
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.util.Assert;
@@ -42,6 +37,7 @@ import org.springframework.util.Assert;
  * @see org.apache.geode.cache.partition.PartitionRegionHelper
  * @see org.apache.geode.internal.cache.BucketRegion
  * @see org.apache.geode.internal.cache.PartitionedRegion
+ * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatistics
  * @since 1.0.0
  */
 @SuppressWarnings("unused")
@@ -56,65 +52,68 @@ public class RegionStatisticsResolver {
 			: null;
 	}
 
-	protected static class PartitionRegionCacheStatistics implements CacheStatistics {
-
-		private final PartitionedRegion partitionRegion;
-
-		private float hitRatio = 0.0f;
-
-		private long hitCount = 0L;
-		private long lastAccessedTime = 0L;
-		private long lastModifiedTime = 0L;
-		private long missCount = 0L;
-
-		protected PartitionRegionCacheStatistics(Region<?, ?> region) {
-
-			Assert.isInstanceOf(PartitionedRegion.class, region, () ->
-				String.format("Region [%1$s] must be of type [%2$s]", RegionUtils.toRegionPath(region),
-					PartitionedRegion.class.getName()));
-
-			this.partitionRegion = computeStatistics((PartitionedRegion) region);
+	/**
+	 * Resolves the {@link PartitionRegionStatistics} of the given PARTITION {@link Region} across all members
+	 * of the cluster hosting the {@link Region} by executing the {@link PartitionRegionStatisticsFunction}
+	 * on all peer members.
+	 *
+	 * @param region PARTITION {@link Region} for which to resolve the statistics.
+	 * @return the cluster-wide {@link PartitionRegionStatistics} for the given {@link Region}.
+	 * @throws IllegalArgumentException if the {@link Region} is not a PARTITION {@link Region}.
+	 * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatisticsFunction
+	 * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatistics
+	 */
+	public static PartitionRegionStatistics resolveClusterWide(Region<?, ?> region) {
+
+		assertPartitionRegion(region);
+
+		Object results = FunctionService.onMembers()
+			.setArguments(region.getFullPath())
+			.execute(new PartitionRegionStatisticsFunction())
+			.getResult();
+
+		PartitionRegionStatistics statistics = new PartitionRegionStatistics();
+
+		if (results instanceof Iterable) {
+			for (Object result : (Iterable<?>) results) {
+				if (result instanceof PartitionRegionStatistics) {
+					statistics.merge((PartitionRegionStatistics) result);
+				}
+			}
 		}
 
-		protected PartitionedRegion computeStatistics(PartitionedRegion region) {
+		return statistics;
+	}
 
-			float totalHitRatio = 0.0f;
+	private static void assertPartitionRegion(Region<?, ?> region) {
 
-			int totalCount = 0;
+		Assert.isInstanceOf(PartitionedRegion.class, region, () ->
+			String.format("Region [%1$s] must be of type [%2$s]", RegionUtils.toRegionPath(region),
+				PartitionedRegion.class.getName()));
+	}
 
-			long totalHitCount = 0L;
-			long maxLastAccessedTime = 0L;
-			long maxLastModifiedTime = 0L;
-			long totalMissCount = 0L;
+	/**
+	 * {@link CacheStatistics} for a PARTITION {@link Region} aggregated from the statistics of the buckets
+	 * hosted by this member.
+	 *
+	 * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatistics
+	 */
+	public static class PartitionRegionCacheStatistics implements CacheStatistics {
 
-			Set<BucketRegion> bucketRegions = Optional.of(region)
-				.map(PartitionedRegion::getDataStore)
-				.map(PartitionedRegionDataStore::getAllLocalBucketRegions)
-				.orElseGet(Collections::emptySet);
+		private final PartitionedRegion partitionRegion;
 
-			for (BucketRegion bucket : bucketRegions) {
+		private volatile PartitionRegionStatistics statistics = new PartitionRegionStatistics();
 
-				CacheStatistics bucketStatistics = bucket.getStatistics();
+		protected PartitionRegionCacheStatistics(Region<?, ?> region) {
 
-				if (bucketStatistics != null) {
+			assertPartitionRegion(region);
 
-					totalCount++;
+			this.partitionRegion = computeStatistics((PartitionedRegion) region);
+		}
 
-					totalHitCount += bucketStatistics.getHitCount();
-					totalHitRatio += bucketStatistics.getHitRatio();
-					maxLastAccessedTime = Math.max(maxLastAccessedTime, bucketStatistics.getLastAccessedTime());
-					maxLastModifiedTime = Math.max(maxLastModifiedTime, bucketStatistics.getLastModifiedTime());
-					totalMissCount += bucketStatistics.getMissCount();
-				}
-			}
+		protected PartitionedRegion computeStatistics(PartitionedRegion region) {
 
-			if (totalCount > 0) {
-				this.hitCount = totalHitCount / totalCount;
-				this.hitRatio = totalHitRatio / totalCount;
-				this.lastAccessedTime = maxLastAccessedTime;
-				this.lastModifiedTime = maxLastModifiedTime;
-				this.missCount = totalMissCount / totalCount;
-			}
+			this.statistics = PartitionRegionStatistics.from(region);
 
 			return region;
 		}
@@ -123,39 +122,44 @@ public class RegionStatisticsResolver {
 			return this.partitionRegion;
 		}
 
+		/**
+		 * Returns the {@link PartitionRegionStatistics} aggregated from the buckets hosted by this member,
+		 * including bucket skew and primary and secondary bucket counts.
+		 *
+		 * @return the {@link PartitionRegionStatistics} aggregated from the local buckets.
+		 */
+		public PartitionRegionStatistics getStatistics() {
+			return this.statistics;
+		}
+
 		@Override
 		public long getHitCount() throws StatisticsDisabledException {
-			return this.hitCount;
+			return getStatistics().getHitCount();
 		}
 
 		@Override
 		public float getHitRatio() throws StatisticsDisabledException {
-			return this.hitRatio;
+			return getStatistics().getHitRatio();
 		}
 
 		@Override
 		public long getLastAccessedTime() throws StatisticsDisabledException {
-			return this.lastAccessedTime;
+			return getStatistics().getLastAccessedTime();
 		}
 
 		@Override
 		public long getLastModifiedTime() {
-			return this.lastModifiedTime;
+			return getStatistics().getLastModifiedTime();
 		}
 
 		@Override
 		public long getMissCount() throws StatisticsDisabledException {
-			return this.missCount;
+			return getStatistics().getMissCount();
 		}
 
 		@Override
 		public void resetCounts() throws StatisticsDisabledException {
-
-			this.hitCount = 0L;
-			this.hitRatio = 0.0f;
-			this.lastAccessedTime = 0L;
-			this.lastModifiedTime = 0L;
-			this.missCount = 0L;
+			this.statistics = new PartitionRegionStatistics();
 		}
 	}
 }
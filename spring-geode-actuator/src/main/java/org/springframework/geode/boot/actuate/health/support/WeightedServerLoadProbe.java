@@ -0,0 +1,438 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerLoadProbe;
+import org.apache.geode.cache.server.ServerMetrics;
+import org.apache.geode.cache.wan.GatewaySender;
+import org.apache.geode.internal.cache.CachePerfStats;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.wan.AbstractGatewaySender;
+import org.apache.geode.internal.cache.wan.GatewaySenderStats;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link WeightedServerLoadProbe} class is an implementation of Apache Geode's {@link ServerLoadProbe} interface
+ * weighting the connection load computed by a {@link ServerLoadProbe delegate} with the pressure on the server.
+ *
+ * The pressure is the weighted sum of the CPU utilization of this process, heap utilization, the depth of the
+ * {@link AsyncEventQueue AsyncEventQueues} and {@link GatewaySender GatewaySenders} relative to a threshold,
+ * and the mean latency of cache gets and puts since the last poll relative to a threshold. Each component is
+ * a value between {@literal 0.0} and {@literal 1.0}.
+ *
+ * The pressure is converted to the scale of the connection load before it is added to the connection load reported
+ * to the Locator, by multiplying it with the load per connection and the
+ * {@link Weights#getPressureConnectionEquivalent() connection equivalent} of a pressure of {@literal 1.0}. Therefore,
+ * a server under pressure reports the load of a server with that many more connections, and the Locator steers new
+ * client connections away from busy servers without losing connection balancing between load polls.
+ *
+ * The load per connection and the subscription connection load of the {@link ServerLoadProbe delegate}
+ * are reported unchanged, other than scaling the load per connection by the connection load weight.
+ *
+ * Cache get and put latencies are only recorded by Apache Geode when {@literal enable-time-statistics} is enabled.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.server.ServerLoad
+ * @see org.apache.geode.cache.server.ServerLoadProbe
+ * @see org.apache.geode.cache.server.ServerMetrics
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class WeightedServerLoadProbe implements ServerLoadProbe {
+
+	protected static final String EVENT_QUEUE_SIZE_STATISTIC_NAME = "eventQueueSize";
+	protected static final String GET_TIME_STATISTIC_NAME = "getTime";
+	protected static final String GETS_STATISTIC_NAME = "gets";
+	protected static final String PUT_TIME_STATISTIC_NAME = "putTime";
+	protected static final String PUTS_STATISTIC_NAME = "puts";
+
+	private final ServerLoadProbe delegate;
+
+	private final Supplier<Cache> cacheSupplier;
+
+	private final Weights weights;
+
+	private long lastOperationCount = -1L;
+	private long lastOperationTime = -1L;
+
+	/**
+	 * Constructs a new instance of {@link WeightedServerLoadProbe} initialized with the given {@link ServerLoadProbe}
+	 * used to compute the connection load, a {@link Supplier} of the {@link Cache} used to measure queue depth and
+	 * operation latency, and the {@link Weights} applied to each component of the load.
+	 *
+	 * @param delegate {@link ServerLoadProbe} used to compute the connection load.
+	 * @param cacheSupplier {@link Supplier} of the peer {@link Cache}; the {@link Supplier} may return {@literal null}.
+	 * @param weights {@link Weights} applied to each component of the load.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 * @see org.apache.geode.cache.server.ServerLoadProbe
+	 * @see Weights
+	 */
+	public WeightedServerLoadProbe(ServerLoadProbe delegate, Supplier<Cache> cacheSupplier, Weights weights) {
+
+		Assert.notNull(delegate, "ServerLoadProbe is required");
+		Assert.notNull(cacheSupplier, "Cache Supplier is required");
+		Assert.notNull(weights, "Weights are required");
+
+		this.delegate = delegate;
+		this.cacheSupplier = cacheSupplier;
+		this.weights = weights;
+	}
+
+	/**
+	 * Returns the {@link ServerLoadProbe} used to compute the connection load.
+	 *
+	 * @return the {@link ServerLoadProbe} used to compute the connection load.
+	 * @see org.apache.geode.cache.server.ServerLoadProbe
+	 */
+	protected ServerLoadProbe getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Returns the {@link Weights} applied to each component of the load.
+	 *
+	 * @return the {@link Weights} applied to each component of the load.
+	 * @see Weights
+	 */
+	public Weights getWeights() {
+		return this.weights;
+	}
+
+	/**
+	 * Resolves the peer {@link Cache} used to measure queue depth and operation latency.
+	 *
+	 * @return an {@link Optional} peer {@link Cache}.
+	 * @see org.apache.geode.cache.Cache
+	 */
+	protected Optional<Cache> resolveCache() {
+		return Optional.ofNullable(this.cacheSupplier.get());
+	}
+
+	@Override
+	public ServerLoad getLoad(ServerMetrics metrics) {
+
+		ServerLoad load = getDelegate().getLoad(metrics);
+
+		Weights weights = getWeights();
+
+		float pressure = (float) (weights.getCpu() * resolveCpuUtilization()
+			+ weights.getHeap() * resolveHeapUtilization()
+			+ weights.getQueueDepth() * resolveQueueDepthUtilization()
+			+ weights.getLatency() * resolveLatencyUtilization());
+
+		float connectionWeight = (float) weights.getConnections();
+		float loadPerConnection = connectionWeight * load.getLoadPerConnection();
+		float pressureLoad = pressure * loadPerConnection * (float) weights.getPressureConnectionEquivalent();
+
+		return new ServerLoad(connectionWeight * load.getConnectionLoad() + pressureLoad,
+			loadPerConnection,
+			load.getSubscriptionConnectionLoad(),
+			load.getLoadPerSubscriptionConnection());
+	}
+
+	/**
+	 * Resolves the CPU utilization of this process (JVM) across all available processors.
+	 *
+	 * The host-wide system load average is not used since it includes the load of other processes on the host.
+	 *
+	 * @return the CPU utilization between {@literal 0.0} and {@literal 1.0}; {@literal 0.0} if unavailable.
+	 * @see com.sun.management.OperatingSystemMXBean#getProcessCpuLoad()
+	 */
+	protected double resolveCpuUtilization() {
+
+		OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+
+		if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean) {
+
+			double processCpuLoad = ((com.sun.management.OperatingSystemMXBean) operatingSystem).getProcessCpuLoad();
+
+			return processCpuLoad < 0.0d ? 0.0d : clamp(processCpuLoad);
+		}
+
+		return 0.0d;
+	}
+
+	/**
+	 * Resolves the heap utilization as the used heap divided by the maximum heap.
+	 *
+	 * @return the heap utilization between {@literal 0.0} and {@literal 1.0}; {@literal 0.0} if unavailable.
+	 * @see java.lang.management.MemoryMXBean#getHeapMemoryUsage()
+	 */
+	protected double resolveHeapUtilization() {
+
+		MemoryUsage heapMemoryUsage = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+		long maximum = heapMemoryUsage.getMax() > 0 ? heapMemoryUsage.getMax() : heapMemoryUsage.getCommitted();
+
+		return maximum > 0 ? clamp((double) heapMemoryUsage.getUsed() / maximum) : 0.0d;
+	}
+
+	/**
+	 * Resolves the depth of all {@link AsyncEventQueue AsyncEventQueues} and {@link GatewaySender GatewaySenders}
+	 * relative to the {@link Weights#getQueueDepthThreshold() queue depth threshold}.
+	 *
+	 * @return the queue depth utilization between {@literal 0.0} and {@literal 1.0}.
+	 */
+	protected double resolveQueueDepthUtilization() {
+
+		long queueDepth = resolveCache()
+			.map(cache -> sumAsyncEventQueueSizes(cache) + sumGatewaySenderQueueSizes(cache))
+			.orElse(0L);
+
+		return clamp((double) queueDepth / getWeights().getQueueDepthThreshold());
+	}
+
+	private long sumAsyncEventQueueSizes(Cache cache) {
+
+		return nullSafeCollection(cache.getAsyncEventQueues()).stream()
+			.filter(Objects::nonNull)
+			.mapToLong(AsyncEventQueue::size)
+			.sum();
+	}
+
+	private long sumGatewaySenderQueueSizes(Cache cache) {
+
+		return nullSafeCollection(cache.getGatewaySenders()).stream()
+			.filter(AbstractGatewaySender.class::isInstance)
+			.map(AbstractGatewaySender.class::cast)
+			.map(AbstractGatewaySender::getStatistics)
+			.filter(Objects::nonNull)
+			.map(GatewaySenderStats::getStats)
+			.mapToLong(statistics -> statistic(statistics, EVENT_QUEUE_SIZE_STATISTIC_NAME))
+			.sum();
+	}
+
+	/**
+	 * Resolves the mean latency of cache gets and puts since the last poll relative to
+	 * the {@link Weights#getLatencyThreshold() latency threshold}.
+	 *
+	 * @return the latency utilization between {@literal 0.0} and {@literal 1.0}; {@literal 0.0} if no operations
+	 * were performed since the last poll or latencies are not recorded.
+	 */
+	protected synchronized double resolveLatencyUtilization() {
+
+		Optional<Statistics> cachePerfStatistics = resolveCache()
+			.filter(InternalCache.class::isInstance)
+			.map(InternalCache.class::cast)
+			.map(InternalCache::getCachePerfStats)
+			.map(CachePerfStats::getStats);
+
+		if (!cachePerfStatistics.isPresent()) {
+			return 0.0d;
+		}
+
+		Statistics statistics = cachePerfStatistics.get();
+
+		long operationCount = statistic(statistics, GETS_STATISTIC_NAME) + statistic(statistics, PUTS_STATISTIC_NAME);
+
+		long operationTime = statistic(statistics, GET_TIME_STATISTIC_NAME)
+			+ statistic(statistics, PUT_TIME_STATISTIC_NAME);
+
+		long operationCountDelta = operationCount - this.lastOperationCount;
+		long operationTimeDelta = operationTime - this.lastOperationTime;
+
+		boolean firstPoll = this.lastOperationCount < 0;
+
+		this.lastOperationCount = operationCount;
+		this.lastOperationTime = operationTime;
+
+		if (firstPoll || operationCountDelta <= 0 || operationTimeDelta <= 0) {
+			return 0.0d;
+		}
+
+		double meanLatencyInNanoseconds = (double) operationTimeDelta / operationCountDelta;
+
+		return clamp(meanLatencyInNanoseconds / getWeights().getLatencyThreshold().toNanos());
+	}
+
+	// Statistics are looked up by name since their numeric type varies across Apache Geode versions.
+	private long statistic(Statistics statistics, String name) {
+
+		try {
+			Number value = statistics.get(name);
+			return value != null ? value.longValue() : 0L;
+		}
+		catch (RuntimeException ignore) {
+			return 0L;
+		}
+	}
+
+	private static double clamp(double value) {
+		return Double.isNaN(value) ? 0.0d : Math.min(1.0d, Math.max(0.0d, value));
+	}
+
+	private static <T> Collection<T> nullSafeCollection(@Nullable Collection<T> collection) {
+		return collection != null ? collection : Collections.emptySet();
+	}
+
+	@Override
+	public void open() {
+		getDelegate().open();
+	}
+
+	@Override
+	public void close() {
+		getDelegate().close();
+	}
+
+	/**
+	 * The {@link Weights} class holds the weight applied to each component of the load computed by
+	 * the {@link WeightedServerLoadProbe} along with the thresholds at which the queue depth and latency
+	 * components reach their maximum.
+	 *
+	 * A weight of {@literal 0.0} disables the component.
+	 *
+	 * The {@link #getPressureConnectionEquivalent() pressure connection equivalent} is the number of connections
+	 * a pressure of {@literal 1.0} is equivalent to.
+	 */
+	public static class Weights {
+
+		public static final double DEFAULT_CONNECTIONS_WEIGHT = 1.0d;
+		public static final double DEFAULT_CPU_WEIGHT = 1.0d;
+		public static final double DEFAULT_HEAP_WEIGHT = 0.5d;
+		public static final double DEFAULT_LATENCY_WEIGHT = 0.5d;
+		public static final double DEFAULT_PRESSURE_CONNECTION_EQUIVALENT = 50.0d;
+		public static final double DEFAULT_QUEUE_DEPTH_WEIGHT = 0.5d;
+
+		public static final long DEFAULT_QUEUE_DEPTH_THRESHOLD = 10000L;
+
+		public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofMillis(10);
+
+		private double connections = DEFAULT_CONNECTIONS_WEIGHT;
+		private double cpu = DEFAULT_CPU_WEIGHT;
+		private double heap = DEFAULT_HEAP_WEIGHT;
+		private double latency = DEFAULT_LATENCY_WEIGHT;
+		private double pressureConnectionEquivalent = DEFAULT_PRESSURE_CONNECTION_EQUIVALENT;
+		private double queueDepth = DEFAULT_QUEUE_DEPTH_WEIGHT;
+
+		private long queueDepthThreshold = DEFAULT_QUEUE_DEPTH_THRESHOLD;
+
+		private Duration latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+
+		public double getConnections() {
+			return this.connections;
+		}
+
+		public double getCpu() {
+			return this.cpu;
+		}
+
+		public double getHeap() {
+			return this.heap;
+		}
+
+		public double getLatency() {
+			return this.latency;
+		}
+
+		public Duration getLatencyThreshold() {
+			return this.latencyThreshold;
+		}
+
+		public double getPressureConnectionEquivalent() {
+			return this.pressureConnectionEquivalent;
+		}
+
+		public double getQueueDepth() {
+			return this.queueDepth;
+		}
+
+		public long getQueueDepthThreshold() {
+			return this.queueDepthThreshold;
+		}
+
+		public Weights withConnections(double connections) {
+			this.connections = requireNonNegative(connections, "Connections");
+			return this;
+		}
+
+		public Weights withCpu(double cpu) {
+			this.cpu = requireNonNegative(cpu, "CPU");
+			return this;
+		}
+
+		public Weights withHeap(double heap) {
+			this.heap = requireNonNegative(heap, "Heap");
+			return this;
+		}
+
+		public Weights withLatency(double latency) {
+			this.latency = requireNonNegative(latency, "Latency");
+			return this;
+		}
+
+		public Weights withLatencyThreshold(Duration latencyThreshold) {
+
+			Assert.isTrue(latencyThreshold != null && !latencyThreshold.isZero() && !latencyThreshold.isNegative(),
+				String.format("Latency threshold [%s] must be greater than 0", latencyThreshold));
+
+			this.latencyThreshold = latencyThreshold;
+
+			return this;
+		}
+
+		public Weights withPressureConnectionEquivalent(double pressureConnectionEquivalent) {
+			this.pressureConnectionEquivalent = requireNonNegative(pressureConnectionEquivalent,
+				"Pressure connection equivalent");
+			return this;
+		}
+
+		public Weights withQueueDepth(double queueDepth) {
+			this.queueDepth = requireNonNegative(queueDepth, "Queue depth");
+			return this;
+		}
+
+		public Weights withQueueDepthThreshold(long queueDepthThreshold) {
+
+			Assert.isTrue(queueDepthThreshold > 0,
+				String.format("Queue depth threshold [%d] must be greater than 0", queueDepthThreshold));
+
+			this.queueDepthThreshold = queueDepthThreshold;
+
+			return this;
+		}
+
+		private static double requireNonNegative(double weight, String name) {
+
+			Assert.isTrue(weight >= 0.0d && !Double.isNaN(weight),
+				String.format("%s weight [%s] must be greater than or equal to 0", name, weight));
+
+			return weight;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("{ connections = %s, cpu = %s, heap = %s, latency = %s, queueDepth = %s }",
+				getConnections(), getCpu(), getHeap(), getLatency(), getQueueDepth());
+		}
+	}
+}
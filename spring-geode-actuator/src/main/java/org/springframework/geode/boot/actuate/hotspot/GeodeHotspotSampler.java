@@ -0,0 +1,230 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotspot;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.cache.LocalDataSet;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link GeodeHotspotSampler} class attaches a {@link RegionHotspotSampler} to each (selected)
+ * {@link Region} in the {@link GemFireCache} in order to detect hot keys and hot buckets.
+ *
+ * {@link RegionHotspotSampler RegionHotspotSamplers} are attached when the Spring
+ * {@link org.springframework.context.ApplicationContext} is refreshed, after all {@link Region} beans
+ * have been created, and detached when this bean is destroyed.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.context.event.ContextRefreshedEvent
+ * @see org.springframework.geode.boot.actuate.hotspot.RegionHotspotSampler
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class GeodeHotspotSampler implements ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+	public static final int DEFAULT_CAPACITY = 100;
+
+	public static final double DEFAULT_SAMPLE_RATE = 0.1d;
+
+	private final int capacity;
+
+	private final double sampleRate;
+
+	private final ConcurrentMap<String, RegionHotspotSampler> samplers = new ConcurrentHashMap<>();
+
+	private final GemFireCache gemfireCache;
+
+	private final Set<String> regionNames;
+
+	/**
+	 * Constructs a new instance of {@link GeodeHotspotSampler} sampling all {@link Region Regions}
+	 * with the {@link #DEFAULT_CAPACITY default capacity} and {@link #DEFAULT_SAMPLE_RATE default sample rate}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeHotspotSampler(GemFireCache gemfireCache) {
+		this(gemfireCache, DEFAULT_CAPACITY, DEFAULT_SAMPLE_RATE, Collections.emptySet());
+	}
+
+	/**
+	 * Constructs a new instance of {@link GeodeHotspotSampler}.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache}.
+	 * @param capacity maximum number of keys tracked per {@link Region}.
+	 * @param sampleRate fraction of operations to record.
+	 * @param regionNames {@link Set} of {@link Region} names or paths to sample; all {@link Region Regions}
+	 * are sampled if empty.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}, or the {@code capacity}
+	 * or {@code sampleRate} are invalid.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeHotspotSampler(GemFireCache gemfireCache, int capacity, double sampleRate, Set<String> regionNames) {
+
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+		Assert.isTrue(capacity > 0, String.format("Capacity [%d] must be greater than 0", capacity));
+		Assert.isTrue(sampleRate > 0.0d && sampleRate <= 1.0d,
+			String.format("Sample rate [%s] must be greater than 0.0 and less than or equal to 1.0", sampleRate));
+
+		this.gemfireCache = gemfireCache;
+		this.capacity = capacity;
+		this.sampleRate = sampleRate;
+		this.regionNames = new HashSet<>(nullSafeSet(regionNames));
+	}
+
+	protected GemFireCache getGemFireCache() {
+		return this.gemfireCache;
+	}
+
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	public double getSampleRate() {
+		return this.sampleRate;
+	}
+
+	/**
+	 * Returns the {@link RegionHotspotSampler} for the {@link Region} with the given name or path, if any.
+	 *
+	 * @param regionNameOrPath {@link String} containing the name or path of the {@link Region}.
+	 * @return the {@link RegionHotspotSampler} for the {@link Region}, if sampled.
+	 */
+	public Optional<RegionHotspotSampler> getSampler(String regionNameOrPath) {
+
+		return Optional.ofNullable(regionNameOrPath)
+			.map(it -> it.startsWith(Region.SEPARATOR) ? it : Region.SEPARATOR + it)
+			.map(this.samplers::get);
+	}
+
+	/**
+	 * Returns all {@link RegionHotspotSampler RegionHotspotSamplers} keyed and ordered by {@link Region} path.
+	 *
+	 * @return all {@link RegionHotspotSampler RegionHotspotSamplers}.
+	 */
+	public Map<String, RegionHotspotSampler> getSamplers() {
+		return Collections.unmodifiableMap(new TreeMap<>(this.samplers));
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		attach();
+	}
+
+	/**
+	 * Attaches a {@link RegionHotspotSampler} to each selected {@link Region} not already sampled.
+	 */
+	public void attach() {
+
+		nullSafeSet(getGemFireCache().rootRegions()).stream()
+			.filter(Objects::nonNull)
+			.flatMap(region -> Stream.concat(Stream.of(region), nullSafeSet(region.subregions(true)).stream()))
+			.filter(Objects::nonNull)
+			.filter(region -> !(region instanceof LocalDataSet))
+			.filter(this::isSelected)
+			.filter(region -> !this.samplers.containsKey(region.getFullPath()))
+			.forEach(this::attach);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void attach(Region<?, ?> region) {
+
+		RegionHotspotSampler sampler = newRegionHotspotSampler(region);
+
+		if (this.samplers.putIfAbsent(region.getFullPath(), sampler) == null) {
+			((Region<Object, Object>) region).getAttributesMutator().addCacheListener(sampler);
+		}
+	}
+
+	protected RegionHotspotSampler newRegionHotspotSampler(Region<?, ?> region) {
+		return new RegionHotspotSampler(region.getFullPath(), getCapacity(), getSampleRate());
+	}
+
+	private boolean isSelected(Region<?, ?> region) {
+
+		return this.regionNames.isEmpty()
+			|| this.regionNames.contains(region.getName())
+			|| this.regionNames.contains(region.getFullPath());
+	}
+
+	/**
+	 * Records an access (read) of the given key in the given {@link Region} if the {@link Region} is sampled.
+	 *
+	 * @param region {@link Region} in which the key was accessed.
+	 * @param key key that was accessed.
+	 */
+	public void recordAccess(Region<?, ?> region, Object key) {
+
+		if (region != null) {
+
+			RegionHotspotSampler sampler = this.samplers.get(region.getFullPath());
+
+			if (sampler != null) {
+				sampler.recordAccess(region, key);
+			}
+		}
+	}
+
+	/**
+	 * Resets all {@link RegionHotspotSampler RegionHotspotSamplers}.
+	 */
+	public void reset() {
+		this.samplers.values().forEach(RegionHotspotSampler::reset);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void destroy() {
+
+		Collection<RegionHotspotSampler> samplers = this.samplers.values();
+
+		for (RegionHotspotSampler sampler : samplers) {
+
+			Region<Object, Object> region = getGemFireCache().isClosed() ? null
+				: (Region<Object, Object>) getGemFireCache().getRegion(sampler.getRegionPath());
+
+			if (region != null && !region.isDestroyed()) {
+				region.getAttributesMutator().removeCacheListener(sampler);
+			}
+		}
+
+		this.samplers.clear();
+	}
+}
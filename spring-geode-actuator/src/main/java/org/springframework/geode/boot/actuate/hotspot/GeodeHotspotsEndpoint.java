@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotspot;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring Boot Actuator {@link Endpoint} reporting the hottest keys and buckets of each sampled {@link Region}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @see org.springframework.geode.boot.actuate.hotspot.GeodeHotspotSampler
+ * @see org.springframework.geode.boot.actuate.hotspot.RegionHotspotSampler
+ * @since 1.4.0
+ */
+@Endpoint(id = GeodeHotspotsEndpoint.ID)
+@SuppressWarnings("unused")
+public class GeodeHotspotsEndpoint {
+
+	public static final String ID = "geodehotspots";
+
+	protected static final int DEFAULT_LIMIT = 10;
+
+	private final GeodeHotspotSampler sampler;
+
+	/**
+	 * Constructs a new instance of {@link GeodeHotspotsEndpoint} initialized with the {@link GeodeHotspotSampler}.
+	 *
+	 * @param sampler {@link GeodeHotspotSampler} used to report hot keys and buckets.
+	 * @throws IllegalArgumentException if {@link GeodeHotspotSampler} is {@literal null}.
+	 * @see org.springframework.geode.boot.actuate.hotspot.GeodeHotspotSampler
+	 */
+	public GeodeHotspotsEndpoint(GeodeHotspotSampler sampler) {
+
+		Assert.notNull(sampler, "GeodeHotspotSampler must not be null");
+
+		this.sampler = sampler;
+	}
+
+	protected GeodeHotspotSampler getSampler() {
+		return this.sampler;
+	}
+
+	@ReadOperation
+	public Map<String, Object> hotspots(@Nullable Integer limit) {
+
+		int resolvedLimit = resolveLimit(limit);
+
+		Map<String, Object> regions = new LinkedHashMap<>();
+
+		getSampler().getSamplers().forEach((regionPath, regionSampler) ->
+			regions.put(regionPath, describe(regionSampler, resolvedLimit)));
+
+		Map<String, Object> hotspots = new LinkedHashMap<>();
+
+		hotspots.put("sample-rate", getSampler().getSampleRate());
+		hotspots.put("regions", regions);
+
+		return hotspots;
+	}
+
+	@ReadOperation
+	public Map<String, Object> regionHotspots(@Selector String region, @Nullable Integer limit) {
+
+		return getSampler().getSampler(region)
+			.map(regionSampler -> describe(regionSampler, resolveLimit(limit)))
+			.orElse(null);
+	}
+
+	@DeleteOperation
+	public void reset() {
+		getSampler().reset();
+	}
+
+	protected Map<String, Object> describe(RegionHotspotSampler regionSampler, int limit) {
+
+		Map<String, Object> description = new LinkedHashMap<>();
+
+		description.put("sample-rate", regionSampler.getSampleRate());
+		description.put("sampling-since", regionSampler.getStartTime());
+		description.put("sampled-accesses", regionSampler.getAccessedKeys().getTotal());
+		description.put("sampled-modifications", regionSampler.getModifiedKeys().getTotal());
+		description.put("accessed-keys", describe(regionSampler.getAccessedKeys().top(limit)));
+		description.put("modified-keys", describe(regionSampler.getModifiedKeys().top(limit)));
+		description.put("buckets", regionSampler.topBuckets(limit).stream()
+			.map(this::describe)
+			.collect(Collectors.toList()));
+
+		return description;
+	}
+
+	private List<Map<String, Object>> describe(List<SpaceSavingSketch.Estimate<Object>> estimates) {
+
+		return estimates.stream()
+			.map(estimate -> {
+
+				Map<String, Object> description = new LinkedHashMap<>();
+
+				description.put("key", String.valueOf(estimate.getItem()));
+				description.put("count", estimate.getCount());
+				description.put("error", estimate.getError());
+
+				return description;
+			})
+			.collect(Collectors.toList());
+	}
+
+	private Map<String, Object> describe(RegionHotspotSampler.BucketActivity bucketActivity) {
+
+		Map<String, Object> description = new LinkedHashMap<>();
+
+		description.put("bucket-id", bucketActivity.getBucketId());
+		description.put("operations", bucketActivity.getOperations());
+		description.put("operations-per-second", bucketActivity.getOperationsPerSecond());
+
+		return description;
+	}
+
+	private int resolveLimit(Integer limit) {
+		return limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+	}
+}
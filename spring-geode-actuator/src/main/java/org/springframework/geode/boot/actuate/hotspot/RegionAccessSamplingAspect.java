@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotspot;
+
+import java.util.Collection;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.util.Assert;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+
+/**
+ * A Spring, AspectJ {@link Aspect} recording the keys read with {@link Region#get(Object)} and
+ * {@link Region#getAll(Collection)} in the {@link GeodeHotspotSampler}.
+ *
+ * Apache Geode does not notify {@link org.apache.geode.cache.CacheListener CacheListeners} of reads, so reads are
+ * sampled by advising the {@link Region} beans. A key is recorded after the read completes, whether the read
+ * succeeded or not, and only if the {@link Region} is sampled.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.aspectj.lang.annotation.Around
+ * @see org.aspectj.lang.annotation.Aspect
+ * @see org.springframework.geode.boot.actuate.hotspot.GeodeHotspotSampler
+ * @since 1.4.0
+ */
+@Aspect
+@SuppressWarnings("unused")
+public class RegionAccessSamplingAspect {
+
+	private final GeodeHotspotSampler sampler;
+
+	/**
+	 * Constructs a new instance of {@link RegionAccessSamplingAspect} initialized with
+	 * the {@link GeodeHotspotSampler} used to record {@link Region} reads.
+	 *
+	 * @param sampler {@link GeodeHotspotSampler} used to record {@link Region} reads.
+	 * @throws IllegalArgumentException if {@link GeodeHotspotSampler} is {@literal null}.
+	 */
+	public RegionAccessSamplingAspect(GeodeHotspotSampler sampler) {
+
+		Assert.notNull(sampler, "GeodeHotspotSampler must not be null");
+
+		this.sampler = sampler;
+	}
+
+	protected GeodeHotspotSampler getSampler() {
+		return this.sampler;
+	}
+
+	@Pointcut("target(org.apache.geode.cache.Region)")
+	private void regionPointcut() { }
+
+	@Pointcut("execution(* org.apache.geode.cache.Region.get(..))")
+	private void regionGetPointcut() { }
+
+	@Pointcut("execution(* org.apache.geode.cache.Region.getAll(..))")
+	private void regionGetAllPointcut() { }
+
+	@Around("regionPointcut() && regionGetPointcut()")
+	public Object regionGetAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+
+		try {
+			return joinPoint.proceed();
+		}
+		finally {
+
+			Object[] args = joinPoint.getArgs();
+
+			if (args != null && args.length > 0) {
+				getSampler().recordAccess(resolveRegion(joinPoint), args[0]);
+			}
+		}
+	}
+
+	@Around("regionPointcut() && regionGetAllPointcut()")
+	public Object regionGetAllAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+
+		try {
+			return joinPoint.proceed();
+		}
+		finally {
+
+			Object[] args = joinPoint.getArgs();
+
+			if (args != null && args.length > 0 && args[0] instanceof Collection) {
+
+				Region<?, ?> region = resolveRegion(joinPoint);
+
+				for (Object key : (Collection<?>) args[0]) {
+					getSampler().recordAccess(region, key);
+				}
+			}
+		}
+	}
+
+	private Region<?, ?> resolveRegion(ProceedingJoinPoint joinPoint) {
+
+		Object target = joinPoint.getTarget();
+
+		return target instanceof Region ? (Region<?, ?>) target : null;
+	}
+}
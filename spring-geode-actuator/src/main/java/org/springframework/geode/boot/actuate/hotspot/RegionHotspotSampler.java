@@ -0,0 +1,264 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotspot;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionHelper;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link RegionHotspotSampler} class is an Apache Geode {@link CacheListener} sampling the keys accessed
+ * and modified in a single {@link Region} into bounded {@link SpaceSavingSketch heavy-hitters sketches}
+ * and, for a {@link PartitionedRegion PARTITION Region}, counting the sampled operations per bucket.
+ *
+ * Modifications are recorded from {@link EntryEvent EntryEvents} delivered to this {@link CacheListener}.
+ * Apache Geode does not notify {@link CacheListener CacheListeners} of reads, therefore accesses are only recorded
+ * when {@link #recordAccess(Region, Object)} is called, for instance by Region instrumentation.
+ *
+ * Only a fraction of the operations, determined by the {@link #getSampleRate() sample rate}, is recorded.
+ * Reported counts are sampled counts; divide by the sample rate to estimate the actual number of operations.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.geode.boot.actuate.hotspot.SpaceSavingSketch
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class RegionHotspotSampler extends CacheListenerAdapter<Object, Object> {
+
+	protected static final int INVALID_BUCKET_ID = -1;
+
+	private final double sampleRate;
+
+	private final ConcurrentMap<Integer, LongAdder> bucketOperations = new ConcurrentHashMap<>();
+
+	private volatile long startTime = System.currentTimeMillis();
+
+	private final SpaceSavingSketch<Object> accessedKeys;
+	private final SpaceSavingSketch<Object> modifiedKeys;
+
+	private final String regionPath;
+
+	/**
+	 * Constructs a new instance of {@link RegionHotspotSampler} for the {@link Region} with the given path.
+	 *
+	 * @param regionPath {@link String} containing the {@link Region#getFullPath() full path} of the {@link Region}.
+	 * @param capacity maximum number of keys tracked for both accesses and modifications.
+	 * @param sampleRate fraction of operations to record, between {@literal 0.0} (exclusive)
+	 * and {@literal 1.0} (inclusive).
+	 * @throws IllegalArgumentException if the {@code regionPath} is not specified, the {@code capacity}
+	 * is less than {@literal 1} or the {@code sampleRate} is not within range.
+	 */
+	public RegionHotspotSampler(String regionPath, int capacity, double sampleRate) {
+
+		Assert.hasText(regionPath, "Region path must be specified");
+		Assert.isTrue(sampleRate > 0.0d && sampleRate <= 1.0d,
+			String.format("Sample rate [%s] must be greater than 0.0 and less than or equal to 1.0", sampleRate));
+
+		this.regionPath = regionPath;
+		this.sampleRate = sampleRate;
+		this.accessedKeys = new SpaceSavingSketch<>(capacity);
+		this.modifiedKeys = new SpaceSavingSketch<>(capacity);
+	}
+
+	public SpaceSavingSketch<Object> getAccessedKeys() {
+		return this.accessedKeys;
+	}
+
+	public SpaceSavingSketch<Object> getModifiedKeys() {
+		return this.modifiedKeys;
+	}
+
+	public String getRegionPath() {
+		return this.regionPath;
+	}
+
+	public double getSampleRate() {
+		return this.sampleRate;
+	}
+
+	/**
+	 * Returns the time, in milliseconds since the epoch, when sampling started or was last {@link #reset()}.
+	 *
+	 * @return the time when sampling started.
+	 */
+	public long getStartTime() {
+		return this.startTime;
+	}
+
+	@Override
+	public void afterCreate(EntryEvent<Object, Object> event) {
+		recordModification(event);
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<Object, Object> event) {
+		recordModification(event);
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<Object, Object> event) {
+		recordModification(event);
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<Object, Object> event) {
+		recordModification(event);
+	}
+
+	private void recordModification(EntryEvent<Object, Object> event) {
+
+		if (event != null && sample()) {
+			getModifiedKeys().offer(event.getKey());
+			recordBucketOperation(event.getRegion(), event.getKey());
+		}
+	}
+
+	/**
+	 * Records an access (read) of the given key in the given {@link Region}, subject to sampling.
+	 *
+	 * @param region {@link Region} in which the key was accessed.
+	 * @param key key that was accessed.
+	 */
+	public void recordAccess(Region<?, ?> region, Object key) {
+
+		if (key != null && sample()) {
+			getAccessedKeys().offer(key);
+			recordBucketOperation(region, key);
+		}
+	}
+
+	private void recordBucketOperation(Region<?, ?> region, Object key) {
+
+		int bucketId = resolveBucketId(region, key);
+
+		if (bucketId != INVALID_BUCKET_ID) {
+			this.bucketOperations.computeIfAbsent(bucketId, id -> new LongAdder()).increment();
+		}
+	}
+
+	/**
+	 * Resolves the ID of the bucket in which the given key is stored.
+	 *
+	 * @param region {@link Region} containing the key.
+	 * @param key key to evaluate.
+	 * @return the ID of the bucket in which the key is stored or {@link #INVALID_BUCKET_ID}
+	 * if the {@link Region} is not a {@link PartitionedRegion PARTITION Region}.
+	 */
+	protected int resolveBucketId(Region<?, ?> region, Object key) {
+
+		if (region instanceof PartitionedRegion) {
+			try {
+				return PartitionedRegionHelper.getHashKey((PartitionedRegion) region, null, key, null, null);
+			}
+			catch (RuntimeException ignore) {
+				// A custom PartitionResolver may require a value or callback argument; skip the bucket.
+			}
+		}
+
+		return INVALID_BUCKET_ID;
+	}
+
+	/**
+	 * Returns the sampled activity of the busiest buckets, in descending order of operations.
+	 *
+	 * @param limit maximum number of buckets to return.
+	 * @return a {@link List} of {@link BucketActivity} for the busiest buckets.
+	 * @see BucketActivity
+	 */
+	public List<BucketActivity> topBuckets(int limit) {
+
+		double elapsedSeconds = Math.max(System.currentTimeMillis() - getStartTime(), 1L) / 1000.0d;
+
+		return this.bucketOperations.entrySet().stream()
+			.map(entry -> new BucketActivity(entry.getKey(), entry.getValue().sum(), elapsedSeconds))
+			.sorted(Comparator.comparingLong(BucketActivity::getOperations).reversed())
+			.limit(Math.max(limit, 0))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Clears all sampled keys and bucket operations and restarts the sampling window.
+	 */
+	public void reset() {
+
+		getAccessedKeys().reset();
+		getModifiedKeys().reset();
+		this.bucketOperations.clear();
+		this.startTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Determines whether the current operation should be recorded.
+	 *
+	 * @return a boolean value indicating whether the current operation should be recorded.
+	 */
+	protected boolean sample() {
+		return this.sampleRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < this.sampleRate;
+	}
+
+	/**
+	 * The {@link BucketActivity} class is the number of sampled operations on a bucket
+	 * of a {@link PartitionedRegion PARTITION Region}.
+	 */
+	public static final class BucketActivity {
+
+		private final int bucketId;
+
+		private final long operations;
+
+		private final double operationsPerSecond;
+
+		BucketActivity(int bucketId, long operations, double elapsedSeconds) {
+			this.bucketId = bucketId;
+			this.operations = operations;
+			this.operationsPerSecond = operations / elapsedSeconds;
+		}
+
+		public int getBucketId() {
+			return this.bucketId;
+		}
+
+		public long getOperations() {
+			return this.operations;
+		}
+
+		public double getOperationsPerSecond() {
+			return this.operationsPerSecond;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Bucket [%1$d] = %2$d (%3$.2f/s)", getBucketId(), getOperations(),
+				getOperationsPerSecond());
+		}
+	}
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotspot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link SpaceSavingSketch} class is a bounded, heavy-hitters summary of a stream of items implementing
+ * the Space-Saving algorithm (Metwally, Agrawal and El Abbadi).
+ *
+ * At most {@link #getCapacity() capacity} items are tracked. When a new item is offered and the sketch is full,
+ * the item with the lowest count is evicted and the new item inherits its count, which is recorded as the maximum
+ * over-estimation {@link Estimate#getError() error} of the new item. Any item occurring more often than
+ * {@literal total / capacity} times is guaranteed to be tracked.
+ *
+ * Memory is bounded by the capacity and evicted counters are reused, so recording an item does not allocate once
+ * the sketch is full. The counters are kept in a binary min-heap ordered by count, so recording an item takes
+ * {@literal O(log capacity)} time. All operations are synchronized.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the items being counted.
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class SpaceSavingSketch<T> {
+
+	private final int capacity;
+
+	private long total;
+
+	private final Counter<T>[] heap;
+
+	private final Map<T, Counter<T>> counters;
+
+	/**
+	 * Constructs a new instance of {@link SpaceSavingSketch} tracking at most the given number of items.
+	 *
+	 * @param capacity maximum number of items tracked by this sketch.
+	 * @throws IllegalArgumentException if {@code capacity} is less than {@literal 1}.
+	 */
+	public SpaceSavingSketch(int capacity) {
+
+		Assert.isTrue(capacity > 0, String.format("Capacity [%d] must be greater than 0", capacity));
+
+		this.capacity = capacity;
+		this.counters = new HashMap<>(capacity * 4 / 3 + 1);
+		this.heap = newHeap(capacity);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Counter<T>[] newHeap(int capacity) {
+		return (Counter<T>[]) new Counter[capacity];
+	}
+
+	/**
+	 * Returns the maximum number of items tracked by this sketch.
+	 *
+	 * @return the maximum number of items tracked by this sketch.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns the total number of occurrences offered to this sketch since it was created or last {@link #reset()}.
+	 *
+	 * @return the total number of occurrences offered to this sketch.
+	 */
+	public synchronized long getTotal() {
+		return this.total;
+	}
+
+	/**
+	 * Records a single occurrence of the given item.
+	 *
+	 * @param item item to record; {@literal null} items are ignored.
+	 */
+	public void offer(T item) {
+		offer(item, 1L);
+	}
+
+	/**
+	 * Records the given number of occurrences of the given item.
+	 *
+	 * @param item item to record; {@literal null} items are ignored.
+	 * @param occurrences number of occurrences of the item.
+	 */
+	public synchronized void offer(T item, long occurrences) {
+
+		if (item != null && occurrences > 0L) {
+
+			this.total += occurrences;
+
+			Counter<T> counter = this.counters.get(item);
+
+			if (counter != null) {
+				counter.count += occurrences;
+				siftDown(counter.index);
+			}
+			else if (this.counters.size() < this.capacity) {
+
+				counter = new Counter<>(item, occurrences);
+				counter.index = this.counters.size();
+
+				this.heap[counter.index] = counter;
+				this.counters.put(item, counter);
+
+				siftUp(counter.index);
+			}
+			else {
+
+				// The root of the min-heap is the counter with the lowest count.
+				counter = this.heap[0];
+
+				this.counters.remove(counter.item);
+
+				counter.error = counter.count;
+				counter.count += occurrences;
+				counter.item = item;
+
+				this.counters.put(item, counter);
+
+				siftDown(0);
+			}
+		}
+	}
+
+	private void siftUp(int index) {
+
+		Counter<T> counter = this.heap[index];
+
+		while (index > 0) {
+
+			int parentIndex = (index - 1) >>> 1;
+
+			Counter<T> parent = this.heap[parentIndex];
+
+			if (parent.count <= counter.count) {
+				break;
+			}
+
+			place(parent, index);
+			index = parentIndex;
+		}
+
+		place(counter, index);
+	}
+
+	private void siftDown(int index) {
+
+		int size = this.counters.size();
+
+		Counter<T> counter = this.heap[index];
+
+		while (true) {
+
+			int childIndex = 2 * index + 1;
+
+			if (childIndex >= size) {
+				break;
+			}
+
+			if (childIndex + 1 < size && this.heap[childIndex + 1].count < this.heap[childIndex].count) {
+				childIndex++;
+			}
+
+			Counter<T> child = this.heap[childIndex];
+
+			if (counter.count <= child.count) {
+				break;
+			}
+
+			place(child, index);
+			index = childIndex;
+		}
+
+		place(counter, index);
+	}
+
+	private void place(Counter<T> counter, int index) {
+		this.heap[index] = counter;
+		counter.index = index;
+	}
+
+	/**
+	 * Returns the estimated counts of the most frequently occurring items, in descending order of count.
+	 *
+	 * @param limit maximum number of items to return.
+	 * @return a {@link List} of {@link Estimate Estimates} for the most frequently occurring items.
+	 * @see Estimate
+	 */
+	public List<Estimate<T>> top(int limit) {
+
+		List<Counter<T>> snapshot;
+
+		synchronized (this) {
+			snapshot = new ArrayList<>(this.counters.size());
+
+			for (Counter<T> counter : this.counters.values()) {
+				snapshot.add(new Counter<>(counter));
+			}
+		}
+
+		return snapshot.stream()
+			.sorted(Comparator.comparingLong((Counter<T> counter) -> counter.count).reversed())
+			.limit(Math.max(limit, 0))
+			.map(counter -> new Estimate<>(counter.item, counter.count, counter.error))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Clears all tracked items and the {@link #getTotal() total}.
+	 */
+	public synchronized void reset() {
+		Arrays.fill(this.heap, null);
+		this.counters.clear();
+		this.total = 0L;
+	}
+
+	private static final class Counter<T> {
+
+		private T item;
+
+		private int index;
+
+		private long count;
+		private long error;
+
+		private Counter(T item, long count) {
+			this.item = item;
+			this.count = count;
+		}
+
+		private Counter(Counter<T> counter) {
+			this.item = counter.item;
+			this.count = counter.count;
+			this.error = counter.error;
+		}
+	}
+
+	/**
+	 * The {@link Estimate} class is the estimated number of occurrences of an item.
+	 *
+	 * @param <T> {@link Class type} of the item.
+	 */
+	public static final class Estimate<T> {
+
+		private final T item;
+
+		private final long count;
+		private final long error;
+
+		Estimate(T item, long count, long error) {
+			this.item = item;
+			this.count = count;
+			this.error = error;
+		}
+
+		/**
+		 * Returns the item.
+		 *
+		 * @return the item.
+		 */
+		public T getItem() {
+			return this.item;
+		}
+
+		/**
+		 * Returns the estimated number of occurrences, which may over-estimate, but never under-estimate,
+		 * the actual number of occurrences.
+		 *
+		 * @return the estimated number of occurrences.
+		 */
+		public long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * Returns the maximum amount by which {@link #getCount()} over-estimates the actual number of occurrences.
+		 *
+		 * @return the maximum over-estimation of {@link #getCount()}.
+		 */
+		public long getError() {
+			return this.error;
+		}
+
+		/**
+		 * Returns the number of occurrences guaranteed to have been recorded for the item.
+		 *
+		 * @return the guaranteed number of occurrences.
+		 */
+		public long getGuaranteedCount() {
+			return getCount() - getError();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s = %2$d (+/- %3$d)", getItem(), getCount(), getError());
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link AbstractGeodeMeterBinder} class is an abstract base class encapsulating functionality common to all
+ * Apache Geode Micrometer {@link MeterBinder MeterBinders}.
+ *
+ * Meters are registered when the {@link MeterRegistry} is bound and again when the Spring
+ * {@link org.springframework.context.ApplicationContext} is refreshed, so that Apache Geode objects created after
+ * the {@link MeterRegistry} (for example, {@link org.apache.geode.cache.Region Regions} declared as beans)
+ * are also measured. Registering a meter more than once is a no-op. All meter values are read lazily,
+ * when the {@link MeterRegistry} is scraped or published.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.context.event.ContextRefreshedEvent
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public abstract class AbstractGeodeMeterBinder implements ApplicationListener<ContextRefreshedEvent>, MeterBinder {
+
+	private final GemFireCache gemfireCache;
+
+	private volatile MeterRegistry meterRegistry;
+
+	/**
+	 * Constructs an instance of the {@link AbstractGeodeMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public AbstractGeodeMeterBinder(GemFireCache gemfireCache) {
+
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+
+		this.gemfireCache = gemfireCache;
+	}
+
+	/**
+	 * Returns a reference to the {@link GemFireCache} instance.
+	 *
+	 * @return a reference to the {@link GemFireCache} instance.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	protected Optional<GemFireCache> getGemFireCache() {
+		return Optional.ofNullable(this.gemfireCache);
+	}
+
+	/**
+	 * Returns the {@link MeterRegistry} to which this {@link MeterBinder} has been bound, if any.
+	 *
+	 * @return the bound {@link MeterRegistry}, if any.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	protected Optional<MeterRegistry> getMeterRegistry() {
+		return Optional.ofNullable(this.meterRegistry);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null");
+
+		this.meterRegistry = registry;
+
+		doBindTo(registry);
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		getMeterRegistry().ifPresent(this::doBindTo);
+	}
+
+	/**
+	 * Registers meters for the Apache Geode objects currently known to the {@link GemFireCache}
+	 * with the given {@link MeterRegistry}.
+	 *
+	 * This method may be called more than once and must therefore be idempotent.
+	 *
+	 * @param registry {@link MeterRegistry} with which to register the meters.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	protected abstract void doBindTo(MeterRegistry registry);
+
+	/**
+	 * Returns the value computed by the given {@link MetricFunction} or {@link Double#NaN} if the value
+	 * is no longer available, for instance because the Apache Geode object has been closed or destroyed.
+	 *
+	 * @param metricFunction {@link MetricFunction} used to compute the value.
+	 * @return the computed value or {@link Double#NaN}.
+	 */
+	protected double nanIfUnavailable(MetricFunction metricFunction) {
+
+		try {
+			return metricFunction.compute();
+		}
+		catch (RuntimeException ignore) {
+			return Double.NaN;
+		}
+	}
+
+	@FunctionalInterface
+	protected interface MetricFunction {
+		double compute();
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.internal.AsyncEventQueueImpl;
+import org.apache.geode.internal.cache.wan.AbstractGatewaySender;
+import org.apache.geode.internal.cache.wan.GatewaySenderStats;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.geode.cache.AsyncInlineCachingRegionConfigurer;
+import org.springframework.geode.cache.RepositoryAsyncEventListener;
+import org.springframework.geode.cache.RepositoryAsyncEventListener.EventProcessingStatistics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeAsyncEventQueuesMeterBinder} class is a Micrometer {@link MeterBinder} measuring the size,
+ * throughput and batch dispatch latency of the configured {@link AsyncEventQueue AsyncEventQueues}.
+ *
+ * {@link AsyncEventQueue AsyncEventQueues} with a registered {@link RepositoryAsyncEventListener} are additionally
+ * measured for the age of the oldest queued event, the latency of Spring Data Repository data access operations
+ * and the number of failed batches and events.
+ *
+ * Meters are tagged by the {@link AsyncInlineCachingRegionConfigurer#resolveStableAsyncEventQueueName(String) stable}
+ * {@link AsyncEventQueue} name, which does not contain the random {@link java.util.UUID} of the generated
+ * {@link AsyncEventQueue#getId() ID}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.springframework.geode.cache.AsyncInlineCachingRegionConfigurer
+ * @see org.springframework.geode.cache.RepositoryAsyncEventListener
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class GeodeAsyncEventQueuesMeterBinder extends AbstractGeodeMeterBinder {
+
+	protected static final String BATCH_DISTRIBUTION_TIME_STATISTIC_NAME = "batchDistributionTime";
+	protected static final String BATCHES_DISTRIBUTED_STATISTIC_NAME = "batchesDistributed";
+	protected static final String EVENTS_DISTRIBUTED_STATISTIC_NAME = "eventsDistributed";
+
+	protected static final String QUEUE_BATCH_DISPATCH_METER_NAME = "geode.async-event-queue.batch.dispatch";
+	protected static final String QUEUE_BATCHES_FAILED_METER_NAME = "geode.async-event-queue.batches.failed";
+	protected static final String QUEUE_EVENTS_DISPATCHED_METER_NAME = "geode.async-event-queue.events.dispatched";
+	protected static final String QUEUE_EVENTS_FAILED_METER_NAME = "geode.async-event-queue.events.failed";
+	protected static final String QUEUE_OLDEST_EVENT_AGE_METER_NAME = "geode.async-event-queue.oldest-event.age";
+	protected static final String QUEUE_REPOSITORY_OPERATIONS_METER_NAME = "geode.async-event-queue.repository.operations";
+	protected static final String QUEUE_SIZE_METER_NAME = "geode.async-event-queue.size";
+
+	/**
+	 * Constructs an instance of the {@link GeodeAsyncEventQueuesMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeAsyncEventQueuesMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(MeterRegistry registry) {
+
+		if (getGemFireCache().filter(CacheUtils::isPeer).isPresent()) {
+
+			getGemFireCache()
+				.map(Cache.class::cast)
+				.map(Cache::getAsyncEventQueues)
+				.orElseGet(Collections::emptySet)
+				.stream()
+				.filter(Objects::nonNull)
+				.forEach(asyncEventQueue -> bindAsyncEventQueue(asyncEventQueue, registry));
+		}
+	}
+
+	private void bindAsyncEventQueue(AsyncEventQueue asyncEventQueue, MeterRegistry registry) {
+
+		Tags tags = Tags.of("queue",
+			String.valueOf(AsyncInlineCachingRegionConfigurer.resolveStableAsyncEventQueueName(asyncEventQueue.getId())));
+
+		Gauge.builder(QUEUE_SIZE_METER_NAME, asyncEventQueue, it -> nanIfUnavailable(it::size))
+			.tags(tags)
+			.description("Number of events in the AsyncEventQueue")
+			.register(registry);
+
+		resolveStatistics(asyncEventQueue).ifPresent(statistics -> {
+
+			FunctionCounter.builder(QUEUE_EVENTS_DISPATCHED_METER_NAME, statistics,
+					it -> statistic(it, EVENTS_DISTRIBUTED_STATISTIC_NAME).doubleValue())
+				.tags(tags)
+				.description("Number of events dispatched to the AsyncEventListener")
+				.register(registry);
+
+			FunctionTimer.builder(QUEUE_BATCH_DISPATCH_METER_NAME, statistics,
+					it -> statistic(it, BATCHES_DISTRIBUTED_STATISTIC_NAME).longValue(),
+					it -> statistic(it, BATCH_DISTRIBUTION_TIME_STATISTIC_NAME).doubleValue(),
+					TimeUnit.NANOSECONDS)
+				.tags(tags)
+				.description("Time spent dispatching batches of events to the AsyncEventListener")
+				.register(registry);
+		});
+
+		resolveEventProcessingStatistics(asyncEventQueue).ifPresent(statistics -> {
+
+			TimeGauge.builder(QUEUE_OLDEST_EVENT_AGE_METER_NAME, asyncEventQueue, TimeUnit.MILLISECONDS,
+					it -> oldestEventAge(it, statistics))
+				.tags(tags)
+				.description("Age of the oldest event in the AsyncEventQueue")
+				.register(registry);
+
+			FunctionTimer.builder(QUEUE_REPOSITORY_OPERATIONS_METER_NAME, statistics,
+					EventProcessingStatistics::getRepositoryOperations,
+					EventProcessingStatistics::getRepositoryOperationTime,
+					TimeUnit.NANOSECONDS)
+				.tags(tags)
+				.description("Time spent in Repository data access operations processing events")
+				.register(registry);
+
+			FunctionCounter.builder(QUEUE_BATCHES_FAILED_METER_NAME, statistics,
+					EventProcessingStatistics::getBatchesFailed)
+				.tags(tags)
+				.description("Number of batches that failed to be processed by the AsyncEventListener")
+				.register(registry);
+
+			FunctionCounter.builder(QUEUE_EVENTS_FAILED_METER_NAME, statistics,
+					EventProcessingStatistics::getEventsFailed)
+				.tags(tags)
+				.description("Number of events that failed to be processed by the AsyncEventListener")
+				.register(registry);
+		});
+	}
+
+	/**
+	 * Resolves the {@link EventProcessingStatistics} of the {@link RepositoryAsyncEventListener} registered with
+	 * the given {@link AsyncEventQueue}.
+	 *
+	 * @param asyncEventQueue {@link AsyncEventQueue} for which to resolve the {@link EventProcessingStatistics}.
+	 * @return the {@link EventProcessingStatistics} of the {@link RepositoryAsyncEventListener}, if registered.
+	 * @see org.springframework.geode.cache.RepositoryAsyncEventListener#getStatistics()
+	 */
+	protected Optional<EventProcessingStatistics> resolveEventProcessingStatistics(AsyncEventQueue asyncEventQueue) {
+
+		return Optional.ofNullable(asyncEventQueue)
+			.map(AsyncEventQueue::getAsyncEventListener)
+			.filter(RepositoryAsyncEventListener.class::isInstance)
+			.map(RepositoryAsyncEventListener.class::cast)
+			.map(RepositoryAsyncEventListener::getStatistics);
+	}
+
+	/**
+	 * Approximates the age of the oldest event in the {@link AsyncEventQueue} from the oldest event in the last batch
+	 * delivered to the {@link RepositoryAsyncEventListener}, which was at the head of the queue when the batch was
+	 * dispatched. Failed batches are redelivered, so the age keeps growing while the listener is failing.
+	 */
+	private double oldestEventAge(AsyncEventQueue asyncEventQueue, EventProcessingStatistics statistics) {
+
+		double size = nanIfUnavailable(asyncEventQueue::size);
+
+		if (size == 0.0d) {
+			return 0.0d;
+		}
+
+		long oldestEventCreationTime = statistics.getOldestEventCreationTime();
+
+		return Double.isNaN(size) || oldestEventCreationTime == EventProcessingStatistics.UNKNOWN_CREATION_TIME
+			? Double.NaN
+			: Math.max(0L, currentTimeMillis() - oldestEventCreationTime);
+	}
+
+	/**
+	 * Returns the current time in milliseconds.
+	 *
+	 * @return the current time in milliseconds.
+	 * @see System#currentTimeMillis()
+	 */
+	protected long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	/**
+	 * Resolves the {@link Statistics} of the {@link org.apache.geode.cache.wan.GatewaySender} backing
+	 * the given {@link AsyncEventQueue}.
+	 *
+	 * @param asyncEventQueue {@link AsyncEventQueue} for which to resolve the {@link Statistics}.
+	 * @return the {@link Statistics} of the given {@link AsyncEventQueue}, if available.
+	 * @see org.apache.geode.Statistics
+	 */
+	protected Optional<Statistics> resolveStatistics(AsyncEventQueue asyncEventQueue) {
+
+		return Optional.ofNullable(asyncEventQueue)
+			.filter(AsyncEventQueueImpl.class::isInstance)
+			.map(AsyncEventQueueImpl.class::cast)
+			.map(AsyncEventQueueImpl::getSender)
+			.filter(AbstractGatewaySender.class::isInstance)
+			.map(AbstractGatewaySender.class::cast)
+			.map(AbstractGatewaySender::getStatistics)
+			.map(GatewaySenderStats::getStats);
+	}
+
+	// Statistics are looked up by name since their numeric type varies across Apache Geode versions.
+	private Number statistic(Statistics statistics, String name) {
+
+		try {
+			Number value = statistics.get(name);
+			return value != null ? value : 0;
+		}
+		catch (RuntimeException ignore) {
+			return Double.NaN;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerMetrics;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeCacheServersMeterBinder} class is a Micrometer {@link MeterBinder} measuring the client connections
+ * and load of the configured {@link CacheServer CacheServers}, tagged by {@link CacheServer#getPort() port}.
+ *
+ * Connection counts and load are captured by the {@link ActuatorServerLoadProbeWrapper} when Apache Geode polls
+ * the {@link org.apache.geode.cache.server.ServerLoadProbe} and are therefore only available for
+ * {@link CacheServer CacheServers} with a load poll interval.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.server.CacheServer
+ * @see org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class GeodeCacheServersMeterBinder extends AbstractGeodeMeterBinder {
+
+	protected static final String CACHE_SERVER_CLIENTS_METER_NAME = "geode.cache.server.clients";
+	protected static final String CACHE_SERVER_CONNECTION_LOAD_METER_NAME = "geode.cache.server.load.connection";
+	protected static final String CACHE_SERVER_CONNECTIONS_METER_NAME = "geode.cache.server.connections";
+	protected static final String CACHE_SERVER_MAX_CONNECTIONS_METER_NAME = "geode.cache.server.connections.max";
+	protected static final String CACHE_SERVER_SUBSCRIPTION_CONNECTION_LOAD_METER_NAME =
+		"geode.cache.server.load.subscription-connection";
+	protected static final String CACHE_SERVER_SUBSCRIPTION_CONNECTIONS_METER_NAME =
+		"geode.cache.server.subscription-connections";
+
+	/**
+	 * Constructs an instance of the {@link GeodeCacheServersMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeCacheServersMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(MeterRegistry registry) {
+
+		if (getGemFireCache().filter(CacheUtils::isPeer).isPresent()) {
+
+			getGemFireCache()
+				.map(Cache.class::cast)
+				.map(Cache::getCacheServers)
+				.orElseGet(Collections::emptyList)
+				.stream()
+				.filter(Objects::nonNull)
+				.forEach(cacheServer -> bindCacheServer(cacheServer, registry));
+		}
+	}
+
+	private void bindCacheServer(CacheServer cacheServer, MeterRegistry registry) {
+
+		Tags tags = Tags.of("port", String.valueOf(cacheServer.getPort()));
+
+		Gauge.builder(CACHE_SERVER_CLIENTS_METER_NAME, cacheServer,
+				it -> serverMetric(it, ServerMetrics::getClientCount))
+			.tags(tags)
+			.description("Number of clients connected to the CacheServer")
+			.register(registry);
+
+		Gauge.builder(CACHE_SERVER_CONNECTIONS_METER_NAME, cacheServer,
+				it -> serverMetric(it, ServerMetrics::getConnectionCount))
+			.tags(tags)
+			.description("Number of client connections open to the CacheServer")
+			.register(registry);
+
+		Gauge.builder(CACHE_SERVER_MAX_CONNECTIONS_METER_NAME, cacheServer, CacheServer::getMaxConnections)
+			.tags(tags)
+			.description("Maximum number of client connections allowed by the CacheServer")
+			.register(registry);
+
+		Gauge.builder(CACHE_SERVER_SUBSCRIPTION_CONNECTIONS_METER_NAME, cacheServer,
+				it -> serverMetric(it, ServerMetrics::getSubscriptionConnectionCount))
+			.tags(tags)
+			.description("Number of client subscription connections open to the CacheServer")
+			.register(registry);
+
+		Gauge.builder(CACHE_SERVER_CONNECTION_LOAD_METER_NAME, cacheServer,
+				it -> serverLoad(it, ServerLoad::getConnectionLoad))
+			.tags(tags)
+			.description("Load on the CacheServer due to client connections")
+			.register(registry);
+
+		Gauge.builder(CACHE_SERVER_SUBSCRIPTION_CONNECTION_LOAD_METER_NAME, cacheServer,
+				it -> serverLoad(it, ServerLoad::getSubscriptionConnectionLoad))
+			.tags(tags)
+			.description("Load on the CacheServer due to client subscription connections")
+			.register(registry);
+	}
+
+	private Optional<ActuatorServerLoadProbeWrapper> resolveServerLoadProbe(CacheServer cacheServer) {
+
+		return Optional.ofNullable(cacheServer.getLoadProbe())
+			.filter(ActuatorServerLoadProbeWrapper.class::isInstance)
+			.map(ActuatorServerLoadProbeWrapper.class::cast);
+	}
+
+	private double serverLoad(CacheServer cacheServer, Function<ServerLoad, Number> function) {
+
+		return resolveServerLoadProbe(cacheServer)
+			.flatMap(ActuatorServerLoadProbeWrapper::getCurrentServerLoad)
+			.map(function)
+			.map(Number::doubleValue)
+			.orElse(Double.NaN);
+	}
+
+	private double serverMetric(CacheServer cacheServer, Function<ServerMetrics, Number> function) {
+
+		return resolveServerLoadProbe(cacheServer)
+			.flatMap(ActuatorServerLoadProbeWrapper::getCurrentServerMetrics)
+			.map(function)
+			.map(Number::doubleValue)
+			.orElse(Double.NaN);
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.client.internal.PoolImpl;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodePoolsMeterBinder} class is a Micrometer {@link MeterBinder} measuring the connections
+ * and subscription queue of the configured Apache Geode client {@link Pool Pools}, tagged by {@link Pool#getName()}.
+ *
+ * The subscription queue (pending event count) is only measured for durable clients.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.apache.geode.cache.client.PoolManager
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class GeodePoolsMeterBinder extends AbstractGeodeMeterBinder {
+
+	protected static final String POOL_CONNECTIONS_METER_NAME = "geode.pool.connections";
+	protected static final String POOL_MAX_CONNECTIONS_METER_NAME = "geode.pool.connections.max";
+	protected static final String POOL_MIN_CONNECTIONS_METER_NAME = "geode.pool.connections.min";
+	protected static final String POOL_PENDING_EVENTS_METER_NAME = "geode.pool.subscription.pending-events";
+
+	/**
+	 * Constructs an instance of the {@link GeodePoolsMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodePoolsMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(MeterRegistry registry) {
+
+		if (getGemFireCache().filter(CacheUtils::isClient).isPresent()) {
+
+			boolean durable = getGemFireCache()
+				.map(ClientCache.class::cast)
+				.filter(CacheUtils::isDurable)
+				.isPresent();
+
+			nullSafeMap(findAllPools()).values().stream()
+				.filter(Objects::nonNull)
+				.forEach(pool -> bindPool(pool, durable, registry));
+		}
+	}
+
+	private void bindPool(Pool pool, boolean durable, MeterRegistry registry) {
+
+		Tags tags = Tags.of("pool", pool.getName());
+
+		if (pool instanceof PoolImpl) {
+			Gauge.builder(POOL_CONNECTIONS_METER_NAME, (PoolImpl) pool,
+					it -> nanIfUnavailable(it::getConnectionCount))
+				.tags(tags)
+				.description("Number of connections currently open in the Pool")
+				.register(registry);
+		}
+
+		Gauge.builder(POOL_MAX_CONNECTIONS_METER_NAME, pool, Pool::getMaxConnections)
+			.tags(tags)
+			.description("Maximum number of connections the Pool may open")
+			.register(registry);
+
+		Gauge.builder(POOL_MIN_CONNECTIONS_METER_NAME, pool, Pool::getMinConnections)
+			.tags(tags)
+			.description("Minimum number of connections the Pool keeps open")
+			.register(registry);
+
+		if (durable && pool.getSubscriptionEnabled()) {
+			Gauge.builder(POOL_PENDING_EVENTS_METER_NAME, pool, it -> nanIfUnavailable(it::getPendingEventCount))
+				.tags(tags)
+				.description("Number of events queued on the servers for this durable client")
+				.register(registry);
+		}
+	}
+
+	Map<String, Pool> findAllPools() {
+		return PoolManager.getAll();
+	}
+}
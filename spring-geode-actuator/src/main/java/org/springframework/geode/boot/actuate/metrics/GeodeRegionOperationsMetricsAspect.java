@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.util.Assert;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * A Spring, AspectJ {@link Aspect} and Micrometer {@link MeterBinder} timing Apache Geode cache {@link Region}
+ * data access operations.
+ *
+ * Latencies are recorded in the {@literal geode.region.operations} {@link Timer}, tagged by {@link Region}
+ * {@link Region#getFullPath() path} and {@link Operation}. {@link Timer Timers} are registered once per
+ * {@link Region} and {@link Operation}, on first use, and cached, so recording a latency only requires a
+ * map lookup and two calls to {@link System#nanoTime()}. Percentiles and histograms are configured with
+ * the {@literal management.metrics.distribution.*.geode.region.operations} properties.
+ *
+ * Operations are not recorded until this {@link MeterBinder} has been bound to a {@link MeterRegistry}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.aspectj.lang.annotation.Around
+ * @see org.aspectj.lang.annotation.Aspect
+ * @see io.micrometer.core.instrument.Timer
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @since 1.4.0
+ */
+@Aspect
+@SuppressWarnings("unused")
+public class GeodeRegionOperationsMetricsAspect implements MeterBinder {
+
+	protected static final String REGION_OPERATIONS_METER_NAME = "geode.region.operations";
+
+	private final ConcurrentMap<String, Timer[]> regionTimers = new ConcurrentHashMap<>();
+
+	private volatile MeterRegistry meterRegistry;
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null");
+
+		this.meterRegistry = registry;
+		this.regionTimers.clear();
+	}
+
+	@Pointcut("target(org.apache.geode.cache.Region)")
+	private void regionPointcut() { }
+
+	@Pointcut("execution(* org.apache.geode.cache.Region.get(..))")
+	private void regionGetPointcut() { }
+
+	@Pointcut("execution(* org.apache.geode.cache.Region.getAll(..))")
+	private void regionGetAllPointcut() { }
+
+	@Pointcut("execution(* org.apache.geode.cache.Region.put(..))")
+	private void regionPutPointcut() { }
+
+	@Pointcut("execution(* org.apache.geode.cache.Region.putAll(..))")
+	private void regionPutAllPointcut() { }
+
+	@Pointcut("execution(* org.apache.geode.cache.Region.query(..))")
+	private void regionQueryPointcut() { }
+
+	@Pointcut("execution(* org.apache.geode.cache.Region.remove(..))")
+	private void regionRemovePointcut() { }
+
+	@Around("regionPointcut() && regionGetPointcut()")
+	public Object regionGetAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(joinPoint, Operation.GET);
+	}
+
+	@Around("regionPointcut() && regionGetAllPointcut()")
+	public Object regionGetAllAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(joinPoint, Operation.GET_ALL);
+	}
+
+	@Around("regionPointcut() && regionPutPointcut()")
+	public Object regionPutAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(joinPoint, Operation.PUT);
+	}
+
+	@Around("regionPointcut() && regionPutAllPointcut()")
+	public Object regionPutAllAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(joinPoint, Operation.PUT_ALL);
+	}
+
+	@Around("regionPointcut() && regionQueryPointcut()")
+	public Object regionQueryAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(joinPoint, Operation.QUERY);
+	}
+
+	@Around("regionPointcut() && regionRemovePointcut()")
+	public Object regionRemoveAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(joinPoint, Operation.REMOVE);
+	}
+
+	private Object record(ProceedingJoinPoint joinPoint, Operation operation) throws Throwable {
+
+		Timer timer = resolveTimer(joinPoint.getTarget(), operation);
+
+		if (timer == null) {
+			return joinPoint.proceed();
+		}
+
+		long startTime = System.nanoTime();
+
+		try {
+			return joinPoint.proceed();
+		}
+		finally {
+			timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private Timer resolveTimer(Object target, Operation operation) {
+
+		MeterRegistry registry = this.meterRegistry;
+
+		if (registry != null && target instanceof Region) {
+
+			String regionPath = ((Region<?, ?>) target).getFullPath();
+
+			Timer[] timers = this.regionTimers.get(regionPath);
+
+			if (timers == null) {
+				timers = this.regionTimers.computeIfAbsent(regionPath, path -> newTimers(path, registry));
+			}
+
+			return timers[operation.ordinal()];
+		}
+
+		return null;
+	}
+
+	private Timer[] newTimers(String regionPath, MeterRegistry registry) {
+
+		Operation[] operations = Operation.values();
+
+		Timer[] timers = new Timer[operations.length];
+
+		for (Operation operation : operations) {
+			timers[operation.ordinal()] = Timer.builder(REGION_OPERATIONS_METER_NAME)
+				.tag("region", regionPath)
+				.tag("operation", operation.getTagValue())
+				.description("Latency of Region data access operations")
+				.register(registry);
+		}
+
+		return timers;
+	}
+
+	/**
+	 * Enumeration of the timed {@link Region} operations.
+	 */
+	public enum Operation {
+
+		GET("get"),
+		GET_ALL("getAll"),
+		PUT("put"),
+		PUT_ALL("putAll"),
+		QUERY("query"),
+		REMOVE("remove");
+
+		private final String tagValue;
+
+		Operation(String tagValue) {
+			this.tagValue = tagValue;
+		}
+
+		public String getTagValue() {
+			return this.tagValue;
+		}
+	}
+}
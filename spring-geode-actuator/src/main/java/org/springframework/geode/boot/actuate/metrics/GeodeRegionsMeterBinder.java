@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.internal.cache.LocalDataSet;
+
+import org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link GeodeRegionsMeterBinder} class is a Micrometer {@link MeterBinder} measuring the size
+ * and hit/miss counts of the {@link GemFireCache} {@link Region Regions}, tagged by {@link Region#getFullPath()}.
+ *
+ * The size of a {@link PartitionRegionHelper#isPartitionedRegion(Region) PARTITION} {@link Region} is the number of
+ * primary entries hosted by this member, so that the sizes reported by all members add up to the size of the Region.
+ * Hit/miss counts are only measured for {@link Region Regions} with statistics enabled.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.health.support.RegionStatisticsResolver
+ * @see org.springframework.geode.boot.actuate.metrics.AbstractGeodeMeterBinder
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class GeodeRegionsMeterBinder extends AbstractGeodeMeterBinder {
+
+	protected static final String REGION_GETS_METER_NAME = "geode.region.gets";
+	protected static final String REGION_SIZE_METER_NAME = "geode.region.size";
+
+	/**
+	 * Constructs an instance of the {@link GeodeRegionsMeterBinder} initialized with a reference to
+	 * the {@link GemFireCache} instance.
+	 *
+	 * @param gemfireCache reference to the {@link GemFireCache} instance used to collect metrics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} is {@literal null}.
+	 * @see org.apache.geode.cache.GemFireCache
+	 */
+	public GeodeRegionsMeterBinder(GemFireCache gemfireCache) {
+		super(gemfireCache);
+	}
+
+	@Override
+	protected void doBindTo(MeterRegistry registry) {
+
+		getGemFireCache()
+			.map(GemFireCache::rootRegions)
+			.orElseGet(Collections::emptySet)
+			.stream()
+			.filter(Objects::nonNull)
+			.flatMap(region -> Stream.concat(Stream.of(region), nullSafeSet(region.subregions(true)).stream()))
+			.filter(Objects::nonNull)
+			.filter(region -> !(region instanceof LocalDataSet))
+			.forEach(region -> bindRegion(region, registry));
+	}
+
+	private void bindRegion(Region<?, ?> region, MeterRegistry registry) {
+
+		Tags tags = Tags.of("region", region.getFullPath());
+
+		Gauge.builder(REGION_SIZE_METER_NAME, region, it -> nanIfUnavailable(() -> regionSize(it)))
+			.tags(tags)
+			.description("Number of entries in the Region hosted by this member")
+			.register(registry);
+
+		if (isStatisticsEnabled(region)) {
+
+			FunctionCounter.builder(REGION_GETS_METER_NAME, region,
+					it -> nanIfUnavailable(() -> cacheStatistic(it, CacheStatistics::getHitCount)))
+				.tags(tags)
+				.tag("result", "hit")
+				.description("Number of Region gets that found a value")
+				.register(registry);
+
+			FunctionCounter.builder(REGION_GETS_METER_NAME, region,
+					it -> nanIfUnavailable(() -> cacheStatistic(it, CacheStatistics::getMissCount)))
+				.tags(tags)
+				.tag("result", "miss")
+				.description("Number of Region gets that did not find a value")
+				.register(registry);
+		}
+	}
+
+	private double cacheStatistic(Region<?, ?> region, ToLongFunction<CacheStatistics> statistic) {
+		return statistic.applyAsLong(RegionStatisticsResolver.resolve(region));
+	}
+
+	private double regionSize(Region<?, ?> region) {
+
+		return PartitionRegionHelper.isPartitionedRegion(region)
+			? PartitionRegionHelper.getLocalPrimaryData(region).size()
+			: region.size();
+	}
+
+	private boolean isStatisticsEnabled(Region<?, ?> region) {
+		return region.getAttributes() != null && region.getAttributes().getStatisticsEnabled();
+	}
+}
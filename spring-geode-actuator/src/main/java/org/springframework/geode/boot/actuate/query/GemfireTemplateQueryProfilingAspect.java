@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.query;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+
+/**
+ * A Spring, AspectJ {@link Aspect} timing the OQL queries executed through {@link GemfireTemplate} beans,
+ * including the {@link GemfireTemplate} beans auto-configured for each {@link Region}, and recording
+ * the executions with the {@link GeodeQueryProfiler}.
+ *
+ * @author John Blum
+ * @see org.aspectj.lang.annotation.Around
+ * @see org.aspectj.lang.annotation.Aspect
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.geode.boot.actuate.query.GeodeQueryProfiler
+ * @since 1.4.0
+ */
+@Aspect
+@SuppressWarnings("unused")
+public class GemfireTemplateQueryProfilingAspect {
+
+	private final GeodeQueryProfiler queryProfiler;
+
+	/**
+	 * Constructs a new instance of {@link GemfireTemplateQueryProfilingAspect} initialized with
+	 * the {@link GeodeQueryProfiler}.
+	 *
+	 * @param queryProfiler {@link GeodeQueryProfiler} used to record query executions.
+	 * @throws IllegalArgumentException if {@link GeodeQueryProfiler} is {@literal null}.
+	 */
+	public GemfireTemplateQueryProfilingAspect(GeodeQueryProfiler queryProfiler) {
+
+		Assert.notNull(queryProfiler, "GeodeQueryProfiler must not be null");
+
+		this.queryProfiler = queryProfiler;
+	}
+
+	protected GeodeQueryProfiler getQueryProfiler() {
+		return this.queryProfiler;
+	}
+
+	@Pointcut("target(org.springframework.data.gemfire.GemfireTemplate)")
+	private void gemfireTemplatePointcut() { }
+
+	@Pointcut("execution(* org.springframework.data.gemfire.GemfireTemplate.find(..))"
+		+ " || execution(* org.springframework.data.gemfire.GemfireTemplate.findUnique(..))")
+	private void gemfireTemplateFindPointcut() { }
+
+	@Pointcut("execution(* org.springframework.data.gemfire.GemfireTemplate.query(String))")
+	private void gemfireTemplateQueryPointcut() { }
+
+	@Around("gemfireTemplatePointcut() && gemfireTemplateFindPointcut()")
+	public Object gemfireTemplateFindAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+		return profile(joinPoint, resolveQueryString(joinPoint.getArgs()));
+	}
+
+	@Around("gemfireTemplatePointcut() && gemfireTemplateQueryPointcut()")
+	public Object gemfireTemplateQueryAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+
+		String predicate = resolveQueryString(joinPoint.getArgs());
+
+		Region<?, ?> region = joinPoint.getTarget() instanceof GemfireTemplate
+			? ((GemfireTemplate) joinPoint.getTarget()).getRegion()
+			: null;
+
+		return profile(joinPoint, region != null && predicate != null
+			? toRegionQueryString(region, predicate)
+			: predicate);
+	}
+
+	private Object profile(ProceedingJoinPoint joinPoint, @Nullable String queryString) throws Throwable {
+
+		if (queryString == null) {
+			return joinPoint.proceed();
+		}
+
+		getQueryProfiler().begin(queryString);
+
+		try {
+			return joinPoint.proceed();
+		}
+		finally {
+			getQueryProfiler().end();
+		}
+	}
+
+	private @Nullable String resolveQueryString(@Nullable Object[] arguments) {
+
+		return arguments != null && arguments.length > 0 && arguments[0] instanceof String
+			? (String) arguments[0]
+			: null;
+	}
+
+	/**
+	 * Converts a query predicate passed to {@link Region#query(String)} into the full OQL query evaluated by
+	 * Apache Geode so that executions of the predicate are tracked under the same query string on all members.
+	 *
+	 * @param region {@link Region} being queried.
+	 * @param predicate {@link String} containing the query predicate.
+	 * @return the full OQL query.
+	 */
+	static String toRegionQueryString(Region<?, ?> region, String predicate) {
+		return String.format("select * from %1$s this where %2$s", region.getFullPath(), predicate);
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.query;
+
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeCollection;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexStatistics;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring Boot Actuator {@link Endpoint} reporting the slowest and unindexed OQL queries recorded by
+ * the {@link GeodeQueryProfiler} along with the {@link Index Indexes} that have never been used.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.query.Index
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @see org.springframework.geode.boot.actuate.query.GeodeQueryProfiler
+ * @see org.springframework.geode.boot.actuate.query.QueryStatistics
+ * @since 1.4.0
+ */
+@Endpoint(id = GeodeQueriesEndpoint.ID)
+@SuppressWarnings("unused")
+public class GeodeQueriesEndpoint {
+
+	public static final String ID = "geodequeries";
+
+	protected static final int DEFAULT_LIMIT = 10;
+
+	private final GemFireCache gemfireCache;
+
+	private final GeodeQueryProfiler queryProfiler;
+
+	/**
+	 * Constructs a new instance of {@link GeodeQueriesEndpoint} initialized with the {@link GemFireCache}
+	 * and {@link GeodeQueryProfiler}.
+	 *
+	 * @param gemfireCache {@link GemFireCache} containing the {@link Index Indexes}.
+	 * @param queryProfiler {@link GeodeQueryProfiler} used to report query statistics.
+	 * @throws IllegalArgumentException if {@link GemFireCache} or {@link GeodeQueryProfiler} is {@literal null}.
+	 */
+	public GeodeQueriesEndpoint(GemFireCache gemfireCache, GeodeQueryProfiler queryProfiler) {
+
+		Assert.notNull(gemfireCache, "GemFireCache must not be null");
+		Assert.notNull(queryProfiler, "GeodeQueryProfiler must not be null");
+
+		this.gemfireCache = gemfireCache;
+		this.queryProfiler = queryProfiler;
+	}
+
+	protected GemFireCache getGemFireCache() {
+		return this.gemfireCache;
+	}
+
+	protected GeodeQueryProfiler getQueryProfiler() {
+		return this.queryProfiler;
+	}
+
+	@ReadOperation
+	public Map<String, Object> queries(@Nullable Integer limit) {
+
+		int resolvedLimit = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+
+		Map<String, Object> queries = new LinkedHashMap<>();
+
+		queries.put("tracked-queries", getQueryProfiler().getQueryStatistics().size());
+		queries.put("untracked-executions", getQueryProfiler().getUntrackedExecutions());
+
+		queries.put("slowest", describe(getQueryProfiler().top(statistics -> true,
+			Comparator.comparingDouble(QueryStatistics::getMeanTimeMillis).reversed(), resolvedLimit)));
+
+		queries.put("unindexed", describe(getQueryProfiler().top(QueryStatistics::isUnindexed,
+			Comparator.comparingLong(QueryStatistics::getTotalTimeNanos).reversed(), resolvedLimit)));
+
+		queries.put("unused-indexes", resolveIndexes().stream()
+			.filter(this::isUnused)
+			.map(this::describe)
+			.collect(Collectors.toList()));
+
+		return queries;
+	}
+
+	@DeleteOperation
+	public void reset() {
+		getQueryProfiler().reset();
+	}
+
+	protected Collection<Index> resolveIndexes() {
+
+		try {
+
+			GemFireCache cache = getGemFireCache();
+
+			QueryService queryService = cache instanceof ClientCache
+				? ((ClientCache) cache).getLocalQueryService()
+				: cache.getQueryService();
+
+			return nullSafeCollection(queryService.getIndexes()).stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		}
+		catch (RuntimeException ignore) {
+			return Collections.emptyList();
+		}
+	}
+
+	private boolean isUnused(Index index) {
+
+		IndexStatistics statistics = index.getStatistics();
+
+		return statistics != null && statistics.getTotalUses() == 0;
+	}
+
+	private List<Map<String, Object>> describe(List<QueryStatistics> queryStatistics) {
+		return queryStatistics.stream().map(this::describe).collect(Collectors.toList());
+	}
+
+	protected Map<String, Object> describe(QueryStatistics statistics) {
+
+		Map<String, Object> description = new LinkedHashMap<>();
+
+		description.put("query", statistics.getQueryString());
+		description.put("executions", statistics.getExecutions());
+		description.put("mean-time-millis", statistics.getMeanTimeMillis());
+		description.put("max-time-millis", statistics.getMaxTime(TimeUnit.MILLISECONDS));
+		description.put("total-time-millis", TimeUnit.NANOSECONDS.toMillis(statistics.getTotalTimeNanos()));
+		description.put("latency-histogram", describeLatencyHistogram(statistics.getLatencyHistogram()));
+		description.put("observed-executions", statistics.getObservedExecutions());
+		description.put("unindexed-executions", statistics.getUnindexedExecutions());
+		description.put("indexes-used", statistics.getIndexesUsed());
+		description.put("last-executed", statistics.getLastExecutionTime());
+
+		return description;
+	}
+
+	private Map<String, Long> describeLatencyHistogram(long[] latencyHistogram) {
+
+		Map<String, Long> description = new LinkedHashMap<>();
+
+		long[] bounds = QueryStatistics.LATENCY_BUCKET_BOUNDS_MILLIS;
+
+		for (int index = 0; index < latencyHistogram.length; index++) {
+
+			String bucket = index < bounds.length
+				? String.format("<%dms", bounds[index])
+				: String.format(">=%dms", bounds[bounds.length - 1]);
+
+			description.put(bucket, latencyHistogram[index]);
+		}
+
+		return description;
+	}
+
+	private Map<String, Object> describe(Index index) {
+
+		Map<String, Object> description = new LinkedHashMap<>();
+
+		description.put("name", index.getName());
+		description.put("region", index.getRegion() != null ? index.getRegion().getFullPath() : null);
+		description.put("indexed-expression", index.getIndexedExpression());
+		description.put("from-clause", index.getFromClause());
+
+		return description;
+	}
+}
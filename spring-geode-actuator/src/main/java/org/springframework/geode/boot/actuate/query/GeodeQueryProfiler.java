@@ -0,0 +1,332 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.internal.QueryObserver;
+import org.apache.geode.cache.query.internal.QueryObserverAdapter;
+import org.apache.geode.cache.query.internal.QueryObserverHolder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link GeodeQueryProfiler} class records per-query-string {@link QueryStatistics} for OQL queries executed
+ * through a {@link org.springframework.data.gemfire.GemfireTemplate} or evaluated by this member.
+ *
+ * Queries evaluated by this member are observed with an Apache Geode {@link QueryObserver}, which reports
+ * the {@link Index Indexes} looked up during evaluation. Queries executed through
+ * a {@link org.springframework.data.gemfire.GemfireTemplate} are timed by
+ * the {@link GemfireTemplateQueryProfilingAspect}, including queries a {@link org.apache.geode.cache.client.ClientCache}
+ * sends to the servers, whose {@link Index} usage is not known on the client.
+ *
+ * The number of distinct query strings tracked is bounded by the {@link #getCapacity() capacity}. Executions
+ * of query strings beyond the capacity are only counted as {@link #getUntrackedExecutions() untracked}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Index
+ * @see org.apache.geode.cache.query.Query
+ * @see org.apache.geode.cache.query.internal.QueryObserver
+ * @see org.apache.geode.cache.query.internal.QueryObserverHolder
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.geode.boot.actuate.query.QueryStatistics
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class GeodeQueryProfiler implements InitializingBean, DisposableBean {
+
+	public static final int DEFAULT_CAPACITY = 500;
+
+	private final int capacity;
+
+	private final ConcurrentMap<String, QueryStatistics> queryStatistics = new ConcurrentHashMap<>();
+
+	private final LongAdder untrackedExecutions = new LongAdder();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ProfilingQueryObserver queryObserver = new ProfilingQueryObserver();
+
+	private final ThreadLocal<Execution> currentExecution = new ThreadLocal<>();
+
+	/**
+	 * Constructs a new instance of {@link GeodeQueryProfiler} tracking up to the {@link #DEFAULT_CAPACITY default}
+	 * number of distinct query strings.
+	 */
+	public GeodeQueryProfiler() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link GeodeQueryProfiler} tracking up to the given number of distinct
+	 * query strings.
+	 *
+	 * @param capacity maximum number of distinct query strings tracked.
+	 * @throws IllegalArgumentException if {@code capacity} is less than {@literal 1}.
+	 */
+	public GeodeQueryProfiler(int capacity) {
+
+		Assert.isTrue(capacity > 0, String.format("Capacity [%d] must be greater than 0", capacity));
+
+		this.capacity = capacity;
+	}
+
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	protected @NonNull QueryObserver getQueryObserver() {
+		return this.queryObserver;
+	}
+
+	public @NonNull Collection<QueryStatistics> getQueryStatistics() {
+		return new ArrayList<>(this.queryStatistics.values());
+	}
+
+	public long getUntrackedExecutions() {
+		return this.untrackedExecutions.sum();
+	}
+
+	/**
+	 * Installs the {@link QueryObserver} unless an application or Apache Geode itself already installed one.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		if (QueryObserverHolder.hasObserver()) {
+			getLogger().warn("A QueryObserver [{}] is already installed; Index usage will not be profiled",
+				QueryObserverHolder.getInstance());
+		}
+		else {
+			QueryObserverHolder.setInstance(getQueryObserver());
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		if (QueryObserverHolder.getInstance() == getQueryObserver()) {
+			QueryObserverHolder.reset();
+		}
+	}
+
+	/**
+	 * Clears all recorded {@link QueryStatistics}.
+	 */
+	public void reset() {
+		this.queryStatistics.clear();
+		this.untrackedExecutions.reset();
+	}
+
+	/**
+	 * Returns the {@link QueryStatistics} matching the {@link Predicate} ordered by the {@link Comparator}.
+	 *
+	 * @param filter {@link Predicate} used to select {@link QueryStatistics}.
+	 * @param order {@link Comparator} used to order the {@link QueryStatistics}.
+	 * @param limit maximum number of {@link QueryStatistics} returned.
+	 * @return a {@link List} of at most {@code limit} {@link QueryStatistics}.
+	 */
+	public @NonNull List<QueryStatistics> top(@NonNull Predicate<QueryStatistics> filter,
+			@NonNull Comparator<QueryStatistics> order, int limit) {
+
+		return this.queryStatistics.values().stream()
+			.filter(filter)
+			.sorted(order)
+			.limit(Math.max(0, limit))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Begins timing the execution of a query issued through a {@link org.springframework.data.gemfire.GemfireTemplate}
+	 * on the current {@link Thread}.
+	 *
+	 * Any {@link Index Indexes} observed while the query is evaluated by this member are attributed to the query.
+	 *
+	 * @param queryString {@link String} containing the OQL query.
+	 * @see #end()
+	 */
+	public void begin(@NonNull String queryString) {
+		push(queryString, true);
+	}
+
+	/**
+	 * Ends timing the current query execution on the current {@link Thread} begun with {@link #begin(String)}
+	 * and records its {@link QueryStatistics}.
+	 */
+	public void end() {
+
+		Execution execution = this.currentExecution.get();
+
+		if (execution != null && execution.template) {
+			pop(execution);
+		}
+	}
+
+	private void push(String queryString, boolean template) {
+		this.currentExecution.set(new Execution(this.currentExecution.get(), queryString, template));
+	}
+
+	private void pop(Execution execution) {
+
+		if (execution.parent != null) {
+			this.currentExecution.set(execution.parent);
+		}
+		else {
+			this.currentExecution.remove();
+		}
+
+		record(execution.queryString, System.nanoTime() - execution.startNanos,
+			execution.observed ? execution.indexesUsed : null);
+	}
+
+	/**
+	 * Records an execution of the query.
+	 *
+	 * @param queryString {@link String} containing the OQL query.
+	 * @param timeNanos execution time in nanoseconds.
+	 * @param indexesUsed {@link Collection} of names of the {@link Index Indexes} used; {@literal null}
+	 * if index usage was not observed.
+	 */
+	protected void record(@Nullable String queryString, long timeNanos, @Nullable Collection<String> indexesUsed) {
+
+		if (StringUtils.hasText(queryString)) {
+
+			QueryStatistics statistics = this.queryStatistics.get(queryString);
+
+			if (statistics == null && this.queryStatistics.size() < getCapacity()) {
+				statistics = this.queryStatistics.computeIfAbsent(queryString, QueryStatistics::new);
+			}
+
+			if (statistics != null) {
+				statistics.record(timeNanos, indexesUsed);
+			}
+			else {
+				this.untrackedExecutions.increment();
+			}
+		}
+	}
+
+	private static class Execution {
+
+		private boolean observed;
+
+		private final boolean template;
+
+		private final Execution parent;
+
+		private int observerDepth;
+
+		private final long startNanos = System.nanoTime();
+
+		private final Set<String> indexesUsed = new HashSet<>();
+
+		private final String queryString;
+
+		private Execution(Execution parent, String queryString, boolean template) {
+			this.parent = parent;
+			this.queryString = queryString;
+			this.template = template;
+		}
+	}
+
+	/**
+	 * Apache Geode {@link QueryObserver} recording the {@link Index Indexes} looked up while evaluating a query.
+	 *
+	 * A query evaluated once per bucket set, or while a {@link org.springframework.data.gemfire.GemfireTemplate}
+	 * query is being timed, is recorded as a single execution.
+	 */
+	class ProfilingQueryObserver extends QueryObserverAdapter {
+
+		@Override
+		public void startQuery(Query query) {
+
+			String queryString = query != null ? query.getQueryString() : null;
+
+			Execution execution = currentExecution.get();
+
+			if (execution != null && (execution.template || execution.queryString.equals(queryString))) {
+				execution.observed = true;
+				execution.observerDepth++;
+			}
+			else if (StringUtils.hasText(queryString)) {
+				push(queryString, false);
+				currentExecution.get().observed = true;
+			}
+		}
+
+		@Override
+		public void beforeIndexLookup(Index index, int operator, Object key) {
+			indexUsed(index);
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public void beforeIndexLookup(Index index, int lowerBoundOperator, Object lowerBoundKey,
+				int upperBoundOperator, Object upperBoundKey, Set notEqualKeys) {
+
+			indexUsed(index);
+		}
+
+		private void indexUsed(Index index) {
+
+			Execution execution = currentExecution.get();
+
+			if (execution != null && index != null) {
+				execution.indexesUsed.add(index.getName());
+			}
+		}
+
+		@Override
+		public void endQuery() {
+
+			Execution execution = currentExecution.get();
+
+			if (execution != null) {
+				if (execution.observerDepth > 0) {
+					execution.observerDepth--;
+				}
+				else if (!execution.template) {
+					pop(execution);
+				}
+			}
+		}
+	}
+}
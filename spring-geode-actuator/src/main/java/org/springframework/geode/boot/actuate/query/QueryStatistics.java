@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link QueryStatistics} class records the executions of a single OQL query string, including a latency
+ * histogram and the names of the {@link org.apache.geode.cache.query.Index Indexes} used to evaluate the query.
+ *
+ * Index usage is only known for executions observed on the member evaluating the query. Executions of queries
+ * sent by a {@link org.apache.geode.cache.client.ClientCache} to the servers are timed, but their index usage
+ * is unknown on the client.
+ *
+ * @author John Blum
+ * @see org.springframework.geode.boot.actuate.query.GeodeQueryProfiler
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class QueryStatistics {
+
+	/**
+	 * Upper bounds, in milliseconds, of the latency histogram buckets; the last bucket is unbounded.
+	 */
+	protected static final long[] LATENCY_BUCKET_BOUNDS_MILLIS = { 1L, 5L, 10L, 50L, 100L, 500L, 1000L, 5000L };
+
+	private final AtomicLong maxTimeNanos = new AtomicLong(0L);
+
+	private volatile Instant lastExecutionTime;
+
+	private final LongAdder executions = new LongAdder();
+	private final LongAdder observedExecutions = new LongAdder();
+	private final LongAdder totalTimeNanos = new LongAdder();
+	private final LongAdder unindexedExecutions = new LongAdder();
+
+	private final LongAdder[] latencyHistogram = newLatencyHistogram();
+
+	private final Set<String> indexesUsed = ConcurrentHashMap.newKeySet();
+
+	private final String queryString;
+
+	private static LongAdder[] newLatencyHistogram() {
+
+		LongAdder[] latencyHistogram = new LongAdder[LATENCY_BUCKET_BOUNDS_MILLIS.length + 1];
+
+		for (int index = 0; index < latencyHistogram.length; index++) {
+			latencyHistogram[index] = new LongAdder();
+		}
+
+		return latencyHistogram;
+	}
+
+	/**
+	 * Constructs a new instance of {@link QueryStatistics} for the given OQL query string.
+	 *
+	 * @param queryString {@link String} containing the OQL query.
+	 * @throws IllegalArgumentException if the query {@link String} is {@literal null} or empty.
+	 */
+	public QueryStatistics(@NonNull String queryString) {
+
+		Assert.hasText(queryString, "Query is required");
+
+		this.queryString = queryString;
+	}
+
+	public long getExecutions() {
+		return this.executions.sum();
+	}
+
+	/**
+	 * Returns the names of all {@link org.apache.geode.cache.query.Index Indexes} used by observed executions.
+	 *
+	 * @return a sorted {@link Set} of {@link org.apache.geode.cache.query.Index} names.
+	 */
+	public @NonNull Set<String> getIndexesUsed() {
+		return Collections.unmodifiableSet(new TreeSet<>(this.indexesUsed));
+	}
+
+	public @Nullable Instant getLastExecutionTime() {
+		return this.lastExecutionTime;
+	}
+
+	/**
+	 * Returns the number of executions in each latency histogram bucket.
+	 *
+	 * @return an array with the number of executions in each latency histogram bucket.
+	 * @see #LATENCY_BUCKET_BOUNDS_MILLIS
+	 */
+	public long[] getLatencyHistogram() {
+
+		long[] latencyHistogram = new long[this.latencyHistogram.length];
+
+		for (int index = 0; index < latencyHistogram.length; index++) {
+			latencyHistogram[index] = this.latencyHistogram[index].sum();
+		}
+
+		return latencyHistogram;
+	}
+
+	public long getMaxTime(@NonNull TimeUnit timeUnit) {
+		return timeUnit.convert(this.maxTimeNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	public double getMeanTimeMillis() {
+
+		long executions = getExecutions();
+
+		return executions > 0 ? getTotalTimeNanos() / (double) executions / TimeUnit.MILLISECONDS.toNanos(1) : 0.0d;
+	}
+
+	public long getObservedExecutions() {
+		return this.observedExecutions.sum();
+	}
+
+	public @NonNull String getQueryString() {
+		return this.queryString;
+	}
+
+	public long getTotalTimeNanos() {
+		return this.totalTimeNanos.sum();
+	}
+
+	/**
+	 * Returns the number of observed executions that did not use any {@link org.apache.geode.cache.query.Index}.
+	 *
+	 * @return the number of unindexed executions.
+	 */
+	public long getUnindexedExecutions() {
+		return this.unindexedExecutions.sum();
+	}
+
+	/**
+	 * Determines whether any observed execution of the query did not use an
+	 * {@link org.apache.geode.cache.query.Index}.
+	 *
+	 * @return a boolean value indicating whether the query was executed without an
+	 * {@link org.apache.geode.cache.query.Index}.
+	 */
+	public boolean isUnindexed() {
+		return getUnindexedExecutions() > 0;
+	}
+
+	/**
+	 * Records an execution of the query.
+	 *
+	 * @param timeNanos execution time in nanoseconds.
+	 * @param indexesUsed {@link Collection} of names of the {@link org.apache.geode.cache.query.Index Indexes}
+	 * used; {@literal null} if index usage was not observed.
+	 */
+	void record(long timeNanos, @Nullable Collection<String> indexesUsed) {
+
+		long resolvedTimeNanos = Math.max(0L, timeNanos);
+
+		this.executions.increment();
+		this.totalTimeNanos.add(resolvedTimeNanos);
+		this.maxTimeNanos.accumulateAndGet(resolvedTimeNanos, Math::max);
+		this.latencyHistogram[resolveLatencyBucket(resolvedTimeNanos)].increment();
+		this.lastExecutionTime = Instant.now();
+
+		if (indexesUsed != null) {
+
+			this.observedExecutions.increment();
+
+			if (indexesUsed.isEmpty()) {
+				this.unindexedExecutions.increment();
+			}
+			else {
+				this.indexesUsed.addAll(indexesUsed);
+			}
+		}
+	}
+
+	static int resolveLatencyBucket(long timeNanos) {
+
+		long timeMillis = TimeUnit.NANOSECONDS.toMillis(timeNanos);
+
+		int bucket = 0;
+
+		while (bucket < LATENCY_BUCKET_BOUNDS_MILLIS.length && timeMillis >= LATENCY_BUCKET_BOUNDS_MILLIS[bucket]) {
+			bucket++;
+		}
+
+		return bucket;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s[query = %2$s, executions = %3$d]", getClass().getSimpleName(), getQueryString(),
+			getExecutions());
+	}
+}
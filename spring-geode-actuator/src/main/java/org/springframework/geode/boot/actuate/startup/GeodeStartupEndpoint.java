@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.startup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationContext;
+import org.springframework.geode.context.startup.GeodeStartupReport;
+import org.springframework.geode.context.startup.GeodeStartupSteps;
+import org.springframework.util.Assert;
+
+/**
+ * Spring Boot Actuator {@link Endpoint} reporting the time spent in each Apache Geode startup step, such as
+ * cluster detection, cache, {@link org.apache.geode.cache.client.Pool} and {@link org.apache.geode.cache.Region}
+ * creation, data import and Continuous Query registration.
+ *
+ * The startup steps are only recorded when the {@link org.springframework.boot.SpringApplication} is configured
+ * with a {@link BufferingApplicationStartup}. The buffered timeline is not drained by this {@link Endpoint}.
+ *
+ * @author John Blum
+ * @see org.springframework.boot.actuate.endpoint.annotation.Endpoint
+ * @see org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup
+ * @see org.springframework.context.ApplicationContext
+ * @see org.springframework.geode.context.startup.GeodeStartupReport
+ * @see org.springframework.geode.context.startup.GeodeStartupSteps
+ * @since 1.4.0
+ */
+@Endpoint(id = GeodeStartupEndpoint.ID)
+@SuppressWarnings("unused")
+public class GeodeStartupEndpoint {
+
+	public static final String ID = "geodestartup";
+
+	private final ApplicationContext applicationContext;
+
+	/**
+	 * Constructs a new instance of {@link GeodeStartupEndpoint} initialized with the Spring {@link ApplicationContext}
+	 * used to resolve the {@link org.springframework.core.metrics.ApplicationStartup}.
+	 *
+	 * @param applicationContext Spring {@link ApplicationContext} recording the startup steps.
+	 * @throws IllegalArgumentException if {@link ApplicationContext} is {@literal null}.
+	 */
+	public GeodeStartupEndpoint(ApplicationContext applicationContext) {
+
+		Assert.notNull(applicationContext, "ApplicationContext must not be null");
+
+		this.applicationContext = applicationContext;
+	}
+
+	protected ApplicationContext getApplicationContext() {
+		return this.applicationContext;
+	}
+
+	@ReadOperation
+	public Map<String, Object> startup() {
+
+		GeodeStartupReport report =
+			GeodeStartupReport.from(GeodeStartupSteps.resolveApplicationStartup(getApplicationContext()));
+
+		Map<String, Object> startup = new LinkedHashMap<>();
+
+		startup.put("recorded", report != null);
+
+		if (report != null) {
+			startup.putAll(report.toMap());
+		}
+
+		return startup;
+	}
+}
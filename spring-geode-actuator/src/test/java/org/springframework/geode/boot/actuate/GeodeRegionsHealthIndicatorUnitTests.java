@@ -22,6 +22,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Currency;
 import java.util.Map;
@@ -221,4 +222,68 @@ public class GeodeRegionsHealthIndicatorUnitTests {
 		assertThat(health.getDetails()).isEmpty();
 		assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
 	}
+
+	@Test
+	public void healthCheckIsServedFromSnapshotWhenRefreshIntervalIsConfigured() {
+
+		Region<?, ?> mockRegion = CacheMockObjects.mockRegion("MockRegion", DataPolicy.REPLICATE);
+
+		Set<Region<?, ?>> mockRegions = asSet(mockRegion);
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(mockRegions);
+
+		GeodeRegionsHealthIndicator healthIndicator =
+			new GeodeRegionsHealthIndicator(this.mockGemFireCache, Duration.ofMinutes(5));
+
+		assertThat(healthIndicator.getRefreshInterval()).isEqualTo(Duration.ofMinutes(5));
+
+		Health snapshot = healthIndicator.refreshSnapshot();
+
+		assertThat(snapshot.getStatus()).isEqualTo(Status.UP);
+		assertThat(snapshot.getDetails()).containsEntry("geode.cache.regions.count", 1L);
+
+		for (int count = 0; count < 3; count++) {
+
+			Health.Builder builder = new Health.Builder();
+
+			healthIndicator.doHealthCheck(builder);
+
+			Health health = builder.build();
+
+			assertThat(health.getStatus()).isEqualTo(Status.UP);
+			assertThat(health.getDetails()).isEqualTo(snapshot.getDetails());
+		}
+
+		verify(this.mockGemFireCache, times(1)).rootRegions();
+	}
+
+	@Test
+	public void snapshotRecordsFailure() {
+
+		RuntimeException cause = new RuntimeException("TEST");
+
+		when(this.mockGemFireCache.rootRegions()).thenThrow(cause);
+
+		GeodeRegionsHealthIndicator healthIndicator =
+			new GeodeRegionsHealthIndicator(this.mockGemFireCache, Duration.ofSeconds(30));
+
+		Health snapshot = healthIndicator.refreshSnapshot();
+
+		assertThat(snapshot.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(snapshot.getDetails()).containsEntry("error", RuntimeException.class.getName() + ": TEST");
+	}
+
+	@Test
+	public void healthCheckIsComputedOnDemandWhenRefreshIntervalIsNotConfigured() {
+
+		GeodeRegionsHealthIndicator healthIndicator = new GeodeRegionsHealthIndicator(this.mockGemFireCache, null);
+
+		assertThat(healthIndicator.getRefreshInterval()).isEqualTo(Duration.ZERO);
+		assertThat(healthIndicator.isSnapshotEnabled()).isFalse();
+
+		healthIndicator.refreshSnapshot();
+		healthIndicator.doHealthCheck(new Health.Builder());
+
+		verify(this.mockGemFireCache, times(2)).rootRegions();
+	}
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit Tests for {@link CacheDataTransfer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.data.CacheDataTransfer
+ * @since 1.4.0
+ */
+public class CacheDataTransferUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNoIdThrowsIllegalArgumentException() {
+		new CacheDataTransfer("  ", CacheDataTransfer.Operation.EXPORT, null, 0L);
+	}
+
+	@Test
+	public void operationFromName() {
+
+		assertThat(CacheDataTransfer.Operation.from("export")).isEqualTo(CacheDataTransfer.Operation.EXPORT);
+		assertThat(CacheDataTransfer.Operation.from(" IMPORT ")).isEqualTo(CacheDataTransfer.Operation.IMPORT);
+		assertThat(CacheDataTransfer.Operation.from("backup")).isNull();
+		assertThat(CacheDataTransfer.Operation.from(null)).isNull();
+	}
+
+	@Test
+	public void throttleLimitsThroughput() {
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.EXPORT, null, 1000L);
+
+		assertThat(transfer.start()).isTrue();
+
+		long startNanos = System.nanoTime();
+
+		transfer.throttle(100L);
+		transfer.throttle(100L);
+
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+		assertThat(transfer.getBytesTransferred()).isEqualTo(200L);
+		assertThat(elapsedMillis).isGreaterThanOrEqualTo(150L);
+	}
+
+	@Test
+	public void throttleIsUnlimitedWithNoBytesPerSecond() {
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.IMPORT, null, 0L);
+
+		assertThat(transfer.start()).isTrue();
+
+		long startNanos = System.nanoTime();
+
+		transfer.throttle(Integer.MAX_VALUE);
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(1000L);
+		assertThat(transfer.getBytesTransferred()).isEqualTo(Integer.MAX_VALUE);
+	}
+
+	@Test
+	public void cancelQueuedTransferCompletesImmediately() throws InterruptedException {
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.EXPORT, null, 0L);
+
+		assertThat(transfer.cancel()).isTrue();
+		assertThat(transfer.isCancelled()).isTrue();
+		assertThat(transfer.isDone()).isTrue();
+		assertThat(transfer.awaitCompletion(Duration.ZERO)).isTrue();
+		assertThat(transfer.start()).isFalse();
+	}
+
+	@Test
+	public void cancelRunningTransferStopsThrottle() throws InterruptedException {
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.EXPORT, null, 1L);
+
+		assertThat(transfer.start()).isTrue();
+		assertThat(transfer.cancel()).isTrue();
+		assertThat(transfer.awaitCompletion(Duration.ZERO)).isFalse();
+
+		try {
+			transfer.throttle(1024L);
+		}
+		catch (CancellationException expected) {
+
+			transfer.stop();
+
+			assertThat(transfer.getState()).isEqualTo(CacheDataTransfer.State.CANCELLED);
+			assertThat(transfer.awaitCompletion(Duration.ZERO)).isTrue();
+			assertThat(transfer.cancel()).isFalse();
+
+			return;
+		}
+
+		throw new AssertionError("Expected CancellationException");
+	}
+
+	@Test
+	public void failedTransferRecordsFailure() throws InterruptedException {
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.IMPORT, null, 0L);
+
+		assertThat(transfer.start()).isTrue();
+
+		transfer.fail(new IllegalStateException("TEST"));
+
+		assertThat(transfer.getState()).isEqualTo(CacheDataTransfer.State.FAILED);
+		assertThat(transfer.getFailure()).isEqualTo("TEST");
+		assertThat(transfer.awaitCompletion(Duration.ZERO)).isTrue();
+	}
+
+	@Test
+	public void describeReportsProgress() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Books");
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.EXPORT,
+			Arrays.asList("/Authors", "/Books"), 2048L);
+
+		assertThat(transfer.describe())
+			.containsEntry("state", "QUEUED")
+			.doesNotContainKey("elapsedMillis");
+
+		transfer.start();
+		transfer.beginRegion(mockRegion);
+		transfer.endRegion();
+		transfer.beginRegion(mockRegion);
+		transfer.throttle(0L);
+
+		Map<String, Object> details = transfer.describe();
+
+		assertThat(details).containsEntry("id", "1");
+		assertThat(details).containsEntry("operation", "export");
+		assertThat(details).containsEntry("state", "RUNNING");
+		assertThat(details).containsEntry("regions", Arrays.asList("/Authors", "/Books"));
+		assertThat(details).containsEntry("regionsCompleted", 1L);
+		assertThat(details).containsEntry("currentRegion", "/Books");
+		assertThat(details).containsEntry("bytesPerSecondLimit", 2048L);
+		assertThat(details).containsKeys("startTime", "elapsedMillis", "bytesPerSecond");
+
+		transfer.endRegion();
+		transfer.succeed();
+
+		assertThat(transfer.describe())
+			.containsEntry("state", "COMPLETED")
+			.containsEntry("regionsCompleted", 2L)
+			.containsEntry("currentRegion", null);
+	}
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.geode.data.json.JsonCacheDataImporterExporter;
+import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
+
+/**
+ * Unit Tests for {@link GeodeCacheDataEndpoint}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.data.GeodeCacheDataEndpoint
+ * @since 1.4.0
+ */
+public class GeodeCacheDataEndpointUnitTests {
+
+	private GemFireCache mockCache;
+
+	private JsonCacheDataImporterExporter mockImporterExporter;
+
+	private GeodeCacheDataEndpoint endpoint;
+
+	private Region<?, ?> mockRegionOne;
+	private Region<?, ?> mockRegionTwo;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockCache = mock(GemFireCache.class);
+		this.mockImporterExporter = mock(JsonCacheDataImporterExporter.class);
+		this.mockRegionOne = mockRegion("Authors");
+		this.mockRegionTwo = mockRegion("Books");
+
+		when(this.mockCache.getRegion("Authors")).thenReturn((Region<Object, Object>) this.mockRegionOne);
+		when(this.mockCache.getRegion("/Books")).thenReturn((Region<Object, Object>) this.mockRegionTwo);
+		when(this.mockCache.rootRegions())
+			.thenReturn(new HashSet<>(Arrays.asList(this.mockRegionTwo, this.mockRegionOne)));
+
+		this.endpoint = new GeodeCacheDataEndpoint(this.mockCache, 0L) {
+
+			@Override
+			protected JsonCacheDataImporterExporter newCacheDataImporterExporter(CacheDataTransfer transfer) {
+				return mockImporterExporter;
+			}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		this.endpoint.destroy();
+	}
+
+	private Region<?, ?> mockRegion(String name) {
+
+		Region<?, ?> mockRegion = mock(Region.class, name);
+
+		when(mockRegion.getName()).thenReturn(name);
+		when(mockRegion.getFullPath()).thenReturn(Region.SEPARATOR + name);
+
+		return mockRegion;
+	}
+
+	private CacheDataTransfer awaitTransfer(Map<String, Object> details) throws InterruptedException {
+
+		CacheDataTransfer transfer = this.endpoint.getTransfer(String.valueOf(details.get("id")));
+
+		assertThat(transfer).isNotNull();
+		assertThat(transfer.awaitCompletion(Duration.ofSeconds(5))).isTrue();
+
+		return transfer;
+	}
+
+	private File newTempFile() throws IOException {
+
+		File file = File.createTempFile("geode-cache-data-", ".json");
+
+		file.deleteOnExit();
+
+		return file;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullCacheThrowsIllegalArgumentException() {
+		new GeodeCacheDataEndpoint(null, 0L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void exportsGivenRegions() throws InterruptedException {
+
+		Map<String, Object> details = this.endpoint.start("export", "Authors, /Books", 1024L);
+
+		assertThat(details).containsEntry("operation", "export");
+		assertThat(details).containsEntry("regions", Arrays.asList("/Authors", "/Books"));
+		assertThat(details).containsEntry("bytesPerSecondLimit", 1024L);
+
+		CacheDataTransfer transfer = awaitTransfer(details);
+
+		assertThat(transfer.getState()).isEqualTo(CacheDataTransfer.State.COMPLETED);
+		assertThat(transfer.getRegionsCompleted()).isEqualTo(2L);
+
+		verify(this.mockImporterExporter).doExportFrom(this.mockRegionOne);
+		verify(this.mockImporterExporter).doExportFrom(this.mockRegionTwo);
+		verify(this.mockImporterExporter, never()).doImportInto(any(Region.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void importsAllRootRegionsByDefault() throws InterruptedException {
+
+		Map<String, Object> details = this.endpoint.start("import", null, null);
+
+		assertThat(details).containsEntry("regions", Arrays.asList("/Authors", "/Books"));
+		assertThat(details).containsEntry("bytesPerSecondLimit", 0L);
+
+		assertThat(awaitTransfer(details).getState()).isEqualTo(CacheDataTransfer.State.COMPLETED);
+
+		verify(this.mockImporterExporter).doImportInto(this.mockRegionOne);
+		verify(this.mockImporterExporter).doImportInto(this.mockRegionTwo);
+		verify(this.mockImporterExporter, never()).doExportFrom(any(Region.class));
+	}
+
+	@Test(expected = InvalidEndpointRequestException.class)
+	public void startWithUnknownOperationThrowsInvalidEndpointRequestException() {
+		this.endpoint.start("backup", null, null);
+	}
+
+	@Test(expected = InvalidEndpointRequestException.class)
+	public void startWithUnknownRegionThrowsInvalidEndpointRequestException() {
+		this.endpoint.start("export", "Authors, Customers", null);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void failedTransferIsReported() throws InterruptedException {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockImporterExporter).doExportFrom(any(Region.class));
+
+		CacheDataTransfer transfer = awaitTransfer(this.endpoint.start("export", "Authors", null));
+
+		assertThat(transfer.getState()).isEqualTo(CacheDataTransfer.State.FAILED);
+		assertThat(this.endpoint.transfer(transfer.getId())).containsEntry("failure", "TEST");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cancelStopsRunningTransfer() throws InterruptedException {
+
+		CountDownLatch cancelled = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+			running.countDown();
+			cancelled.await(5, TimeUnit.SECONDS);
+			return invocation.getArgument(0);
+		}).when(this.mockImporterExporter).doExportFrom(any(Region.class));
+
+		Map<String, Object> details = this.endpoint.start("export", "Authors, /Books", null);
+
+		assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.endpoint.cancel(String.valueOf(details.get("id")))).containsEntry("state", "CANCELLED");
+
+		cancelled.countDown();
+
+		CacheDataTransfer transfer = awaitTransfer(details);
+
+		assertThat(transfer.getState()).isEqualTo(CacheDataTransfer.State.CANCELLED);
+		assertThat(transfer.getRegionsCompleted()).isEqualTo(1L);
+
+		verify(this.mockImporterExporter).doExportFrom(this.mockRegionOne);
+		verify(this.mockImporterExporter, never()).doExportFrom(this.mockRegionTwo);
+	}
+
+	@Test
+	public void cancelAndTransferReturnNullForUnknownTransfer() {
+
+		assertThat(this.endpoint.transfer("nonExistingTransfer")).isNull();
+		assertThat(this.endpoint.cancel("nonExistingTransfer")).isNull();
+	}
+
+	@Test
+	public void transferHistoryIsBounded() throws InterruptedException {
+
+		for (int count = 0; count < GeodeCacheDataEndpoint.MAX_TRANSFER_HISTORY + 5; count++) {
+			awaitTransfer(this.endpoint.start("export", "Authors", null));
+		}
+
+		assertThat((List<?>) this.endpoint.transfers().get("transfers"))
+			.hasSize(GeodeCacheDataEndpoint.MAX_TRANSFER_HISTORY);
+	}
+
+	@Test
+	public void newCacheDataImporterExporterDisablesParallelExport() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		when(mockEnvironment.getProperty(any(String.class), eq(Boolean.class), any(Boolean.class)))
+			.thenReturn(true);
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.EXPORT, null, 0L);
+
+		GeodeCacheDataEndpoint endpoint = new GeodeCacheDataEndpoint(this.mockCache, 0L);
+
+		try {
+
+			JsonCacheDataImporterExporter importerExporter = endpoint.newCacheDataImporterExporter(transfer);
+
+			assertThat(importerExporter).isInstanceOf(GeodeCacheDataEndpoint.EndpointCacheDataImporterExporter.class);
+			assertThat(((GeodeCacheDataEndpoint.EndpointCacheDataImporterExporter) importerExporter)
+				.isParallelExportEnabled(mockEnvironment)).isFalse();
+		}
+		finally {
+			endpoint.destroy();
+		}
+	}
+
+	@Test
+	public void exportStreamsRegionValuesThroughThrottledResourceWriter() throws IOException {
+
+		File file = newTempFile();
+
+		Region<?, ?> mockRegion = mockRegion("Customers");
+
+		doReturn(Arrays.asList(new Customer("Jon Doe"), new Customer("Jane Doe"))).when(mockRegion).values();
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.EXPORT, null, 0L);
+
+		GeodeCacheDataEndpoint endpoint = new GeodeCacheDataEndpoint(this.mockCache, 0L);
+
+		try {
+
+			endpoint.setExportResourceResolver(region -> Optional.of(new FileSystemResource(file)));
+
+			transfer.start();
+
+			assertThat(endpoint.newCacheDataImporterExporter(transfer).doExportFrom(mockRegion)).isSameAs(mockRegion);
+
+			String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+			assertThat(json).contains("Jon Doe", "Jane Doe");
+			assertThat(transfer.getBytesTransferred()).isEqualTo(file.length());
+		}
+		finally {
+			endpoint.destroy();
+		}
+	}
+
+	@Test
+	public void cancelledExportStopsWhileStreamingRegionValues() throws IOException {
+
+		File file = newTempFile();
+
+		Region<?, ?> mockRegion = mockRegion("Customers");
+
+		doReturn(Collections.singletonList(new Customer("Jon Doe"))).when(mockRegion).values();
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.EXPORT, null, 0L);
+
+		GeodeCacheDataEndpoint endpoint = new GeodeCacheDataEndpoint(this.mockCache, 0L);
+
+		try {
+
+			endpoint.setExportResourceResolver(region -> Optional.of(new FileSystemResource(file)));
+
+			JsonCacheDataImporterExporter importerExporter = endpoint.newCacheDataImporterExporter(transfer);
+
+			transfer.start();
+			transfer.cancel();
+
+			assertThatExceptionOfType(CancellationException.class)
+				.isThrownBy(() -> importerExporter.doExportFrom(mockRegion));
+
+			assertThat(transfer.getBytesTransferred()).isZero();
+		}
+		finally {
+			endpoint.destroy();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void importStreamsJsonObjectsIntoRegionOneAtATime() throws IOException {
+
+		File file = newTempFile();
+
+		Files.write(file.toPath(), "[{ \"name\": \"Jon Doe\" }, { \"name\": \"Jane Doe\" }]"
+			.getBytes(StandardCharsets.UTF_8));
+
+		Region<Object, Object> mockRegion = (Region<Object, Object>) mockRegion("Customers");
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.IMPORT, null, 0L);
+
+		List<String> convertedJson = new ArrayList<>();
+
+		JsonToPdxArrayConverter converter = json -> {
+
+			convertedJson.add(json);
+
+			PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+			doReturn(json).when(mockPdxInstance).getField(eq("json"));
+
+			return new PdxInstance[] { mockPdxInstance };
+		};
+
+		JsonCacheDataImporterExporter importerExporter =
+			new GeodeCacheDataEndpoint.EndpointCacheDataImporterExporter(transfer) {
+
+				@Override
+				protected JsonToPdxArrayConverter getJsonToPdxArrayConverter() {
+					return converter;
+				}
+
+				@Override
+				protected Object resolveKey(PdxInstance pdxInstance) {
+					return pdxInstance.getField("json");
+				}
+			};
+
+		importerExporter.setImportResourceResolver(region -> Optional.of(new FileSystemResource(file)));
+
+		transfer.start();
+
+		assertThat(importerExporter.doImportInto(mockRegion)).isSameAs(mockRegion);
+
+		assertThat(convertedJson).containsExactly("{\"name\":\"Jon Doe\"}", "{\"name\":\"Jane Doe\"}");
+		assertThat(transfer.getBytesTransferred()).isEqualTo(file.length());
+
+		verify(mockRegion).put(eq("{\"name\":\"Jon Doe\"}"), any(PdxInstance.class));
+		verify(mockRegion).put(eq("{\"name\":\"Jane Doe\"}"), any(PdxInstance.class));
+	}
+
+	@Test
+	public void throttledStreamsAccountForBytesTransferred() throws IOException {
+
+		CacheDataTransfer transfer = new CacheDataTransfer("1", CacheDataTransfer.Operation.EXPORT, null, 0L);
+
+		transfer.start();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try (OutputStream throttledOut = new GeodeCacheDataEndpoint.ThrottledOutputStream(out, transfer)) {
+			throttledOut.write("TEST".getBytes());
+			throttledOut.write('!');
+		}
+
+		assertThat(out.toString()).isEqualTo("TEST!");
+		assertThat(transfer.getBytesTransferred()).isEqualTo(5L);
+
+		try (InputStream throttledIn = new GeodeCacheDataEndpoint
+				.ThrottledInputStream(new ByteArrayInputStream(out.toByteArray()), transfer)) {
+
+			assertThat(throttledIn.read()).isEqualTo('T');
+			assertThat(throttledIn.read(new byte[16], 0, 16)).isEqualTo(4);
+			assertThat(throttledIn.read()).isEqualTo(-1);
+		}
+
+		assertThat(transfer.getBytesTransferred()).isEqualTo(10L);
+	}
+
+	public static class Customer {
+
+		private final String name;
+
+		Customer(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+}
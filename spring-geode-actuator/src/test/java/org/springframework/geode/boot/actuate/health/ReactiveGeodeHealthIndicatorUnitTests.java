@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit Tests for {@link ReactiveGeodeHealthIndicator}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.boot.actuate.health.HealthIndicator
+ * @see org.springframework.geode.boot.actuate.health.ReactiveGeodeHealthIndicator
+ * @see reactor.test.StepVerifier
+ * @since 1.4.0
+ */
+public class ReactiveGeodeHealthIndicatorUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroTimeoutThrowsIllegalArgumentException() {
+		new ReactiveGeodeHealthIndicator(mock(HealthIndicator.class), Duration.ZERO);
+	}
+
+	@Test
+	public void healthReturnsDelegateHealth() {
+
+		HealthIndicator mockHealthIndicator = mock(HealthIndicator.class);
+
+		when(mockHealthIndicator.health()).thenReturn(Health.up().withDetail("geode.cache.name", "Test").build());
+
+		ReactiveGeodeHealthIndicator healthIndicator =
+			new ReactiveGeodeHealthIndicator(mockHealthIndicator, Duration.ofSeconds(5), Schedulers.immediate());
+
+		StepVerifier.create(healthIndicator.health())
+			.assertNext(health -> {
+				assertThat(health.getStatus()).isEqualTo(Status.UP);
+				assertThat(health.getDetails()).containsEntry("geode.cache.name", "Test");
+				assertThat(health.getDetails()).doesNotContainKey("stale");
+			})
+			.verifyComplete();
+	}
+
+	@Test
+	public void healthIsDownWhenDelegateThrowsException() {
+
+		HealthIndicator mockHealthIndicator = mock(HealthIndicator.class);
+
+		when(mockHealthIndicator.health()).thenThrow(new IllegalStateException("TEST"));
+
+		ReactiveGeodeHealthIndicator healthIndicator =
+			new ReactiveGeodeHealthIndicator(mockHealthIndicator, Duration.ofSeconds(5), Schedulers.immediate());
+
+		StepVerifier.create(healthIndicator.health())
+			.assertNext(health -> assertThat(health.getStatus()).isEqualTo(Status.DOWN))
+			.verifyComplete();
+	}
+
+	@Test
+	public void healthReturnsStaleLastKnownHealthOnTimeout() {
+
+		AtomicInteger healthCheckCount = new AtomicInteger(0);
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		HealthIndicator healthIndicator = () -> {
+
+			if (healthCheckCount.incrementAndGet() > 1) {
+				try {
+					latch.await(10, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				}
+			}
+
+			return Health.up().withDetail("geode.cache.name", "Test").build();
+		};
+
+		ReactiveGeodeHealthIndicator reactiveHealthIndicator =
+			new ReactiveGeodeHealthIndicator(healthIndicator, Duration.ofMillis(100), Schedulers.boundedElastic());
+
+		StepVerifier.create(reactiveHealthIndicator.health())
+			.assertNext(health -> assertThat(health.getDetails()).doesNotContainKey("stale"))
+			.verifyComplete();
+
+		try {
+			StepVerifier.create(reactiveHealthIndicator.health())
+				.assertNext(health -> {
+					assertThat(health.getStatus()).isEqualTo(Status.UP);
+					assertThat(health.getDetails()).containsEntry("geode.cache.name", "Test");
+					assertThat(health.getDetails()).containsEntry("stale", true);
+					assertThat(health.getDetails()).containsEntry("timeout", 100L);
+				})
+				.verifyComplete();
+
+			// The stuck health check is shared rather than repeated.
+			StepVerifier.create(reactiveHealthIndicator.health())
+				.assertNext(health -> assertThat(health.getDetails()).containsEntry("stale", true))
+				.verifyComplete();
+
+			assertThat(healthCheckCount.get()).isEqualTo(2);
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	public void healthIsUnknownAndStaleWhenNoHealthCheckHasCompleted() {
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		HealthIndicator healthIndicator = () -> {
+			try {
+				latch.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+
+			return Health.up().build();
+		};
+
+		ReactiveGeodeHealthIndicator reactiveHealthIndicator =
+			new ReactiveGeodeHealthIndicator(healthIndicator, Duration.ofMillis(50), Schedulers.boundedElastic());
+
+		try {
+			StepVerifier.create(reactiveHealthIndicator.health())
+				.assertNext(health -> {
+					assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+					assertThat(health.getDetails()).containsEntry("stale", true);
+				})
+				.verifyComplete();
+		}
+		finally {
+			latch.countDown();
+		}
+	}
+
+	@Test
+	public void destroyDestroysDisposableDelegate() throws Exception {
+
+		HealthIndicator mockHealthIndicator =
+			mock(HealthIndicator.class, withSettings().extraInterfaces(DisposableBean.class));
+
+		new ReactiveGeodeHealthIndicator(mockHealthIndicator, Duration.ofSeconds(1)).destroy();
+
+		verify((DisposableBean) mockHealthIndicator, times(1)).destroy();
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.internal.cache.BucketAdvisor;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+
+/**
+ * Unit Tests for {@link PartitionRegionStatistics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.internal.cache.BucketRegion
+ * @see org.springframework.geode.boot.actuate.health.support.PartitionRegionStatistics
+ * @since 1.4.0
+ */
+public class PartitionRegionStatisticsUnitTests {
+
+	private BucketRegion mockBucket(boolean primary, int size, long hits, long misses, long accessed, long modified) {
+
+		BucketAdvisor mockBucketAdvisor = mock(BucketAdvisor.class);
+
+		BucketRegion mockBucket = mock(BucketRegion.class);
+
+		CacheStatistics mockCacheStatistics = mock(CacheStatistics.class);
+
+		when(mockBucketAdvisor.isPrimary()).thenReturn(primary);
+		when(mockBucket.getBucketAdvisor()).thenReturn(mockBucketAdvisor);
+		when(mockBucket.size()).thenReturn(size);
+		when(mockBucket.getStatistics()).thenReturn(mockCacheStatistics);
+		when(mockCacheStatistics.getHitCount()).thenReturn(hits);
+		when(mockCacheStatistics.getMissCount()).thenReturn(misses);
+		when(mockCacheStatistics.getLastAccessedTime()).thenReturn(accessed);
+		when(mockCacheStatistics.getLastModifiedTime()).thenReturn(modified);
+
+		return mockBucket;
+	}
+
+	@Test
+	public void sumsCountsAcrossBuckets() {
+
+		PartitionRegionStatistics statistics = PartitionRegionStatistics.from(Arrays.asList(
+			mockBucket(true, 10, 90, 10, 100L, 50L),
+			mockBucket(true, 30, 10, 90, 300L, 25L),
+			mockBucket(false, 20, 0, 0, 200L, 75L)
+		));
+
+		assertThat(statistics.getHitCount()).isEqualTo(100L);
+		assertThat(statistics.getMissCount()).isEqualTo(100L);
+		assertThat(statistics.getLastAccessedTime()).isEqualTo(300L);
+		assertThat(statistics.getLastModifiedTime()).isEqualTo(75L);
+		assertThat(statistics.getBucketCount()).isEqualTo(3);
+		assertThat(statistics.getPrimaryBucketCount()).isEqualTo(2);
+		assertThat(statistics.getSecondaryBucketCount()).isEqualTo(1);
+		assertThat(statistics.getPrimaryEntryCount()).isEqualTo(40L);
+		assertThat(statistics.getSecondaryEntryCount()).isEqualTo(20L);
+	}
+
+	@Test
+	public void computesHitRatioFromTotals() {
+
+		// Averaging the per-bucket hit ratios would report 0.5 here.
+		PartitionRegionStatistics statistics = PartitionRegionStatistics.from(Arrays.asList(
+			mockBucket(true, 1, 99, 0, 0L, 0L),
+			mockBucket(true, 1, 0, 1, 0L, 0L),
+			mockBucket(true, 1, 0, 0, 0L, 0L)
+		));
+
+		assertThat(statistics.getHitRatio()).isEqualTo(0.99f);
+	}
+
+	@Test
+	public void hitRatioIsZeroWithoutGets() {
+		assertThat(new PartitionRegionStatistics().getHitRatio()).isZero();
+	}
+
+	@Test
+	public void computesBucketSkew() {
+
+		PartitionRegionStatistics statistics = PartitionRegionStatistics.from(Arrays.asList(
+			mockBucket(true, 2, 1, 0, 0L, 0L),
+			mockBucket(true, 4, 1, 0, 0L, 0L),
+			mockBucket(true, 4, 1, 0, 0L, 0L),
+			mockBucket(true, 4, 1, 0, 0L, 0L),
+			mockBucket(true, 5, 1, 0, 0L, 0L),
+			mockBucket(true, 5, 1, 0, 0L, 0L),
+			mockBucket(true, 7, 1, 0, 0L, 0L),
+			mockBucket(true, 9, 13, 0, 0L, 0L)
+		));
+
+		PartitionRegionStatistics.Distribution bucketEntries = statistics.getBucketEntries();
+
+		assertThat(bucketEntries.getCount()).isEqualTo(8L);
+		assertThat(bucketEntries.getMin()).isEqualTo(2L);
+		assertThat(bucketEntries.getMax()).isEqualTo(9L);
+		assertThat(bucketEntries.getMean()).isEqualTo(5.0d);
+		assertThat(bucketEntries.getStandardDeviation()).isCloseTo(2.0d, within(0.0001d));
+
+		PartitionRegionStatistics.Distribution bucketHits = statistics.getBucketHits();
+
+		assertThat(bucketHits.getMin()).isEqualTo(1L);
+		assertThat(bucketHits.getMax()).isEqualTo(13L);
+		assertThat(bucketHits.getMean()).isEqualTo(2.5d);
+	}
+
+	@Test
+	public void emptyDistributionIsZero() {
+
+		PartitionRegionStatistics.Distribution distribution = new PartitionRegionStatistics().getBucketEntries();
+
+		assertThat(distribution.getCount()).isZero();
+		assertThat(distribution.getMin()).isZero();
+		assertThat(distribution.getMax()).isZero();
+		assertThat(distribution.getMean()).isZero();
+		assertThat(distribution.getStandardDeviation()).isZero();
+	}
+
+	@Test
+	public void mergesStatisticsFromMultipleMembers() {
+
+		PartitionRegionStatistics memberOne = PartitionRegionStatistics.from(Arrays.asList(
+			mockBucket(true, 10, 8, 2, 100L, 10L),
+			mockBucket(false, 20, 0, 0, 0L, 20L)
+		));
+
+		PartitionRegionStatistics memberTwo = PartitionRegionStatistics.from(Arrays.asList(
+			mockBucket(true, 20, 2, 8, 200L, 5L),
+			mockBucket(false, 10, 0, 0, 0L, 0L)
+		));
+
+		PartitionRegionStatistics clusterWide = new PartitionRegionStatistics().merge(memberOne).merge(memberTwo);
+
+		assertThat(clusterWide.getHitCount()).isEqualTo(10L);
+		assertThat(clusterWide.getMissCount()).isEqualTo(10L);
+		assertThat(clusterWide.getHitRatio()).isEqualTo(0.5f);
+		assertThat(clusterWide.getLastAccessedTime()).isEqualTo(200L);
+		assertThat(clusterWide.getLastModifiedTime()).isEqualTo(20L);
+		assertThat(clusterWide.getPrimaryBucketCount()).isEqualTo(2);
+		assertThat(clusterWide.getSecondaryBucketCount()).isEqualTo(2);
+		assertThat(clusterWide.getPrimaryEntryCount()).isEqualTo(30L);
+		assertThat(clusterWide.getSecondaryEntryCount()).isEqualTo(30L);
+		assertThat(clusterWide.getBucketEntries().getMin()).isEqualTo(10L);
+		assertThat(clusterWide.getBucketEntries().getMax()).isEqualTo(20L);
+		assertThat(clusterWide.getBucketEntries().getCount()).isEqualTo(4L);
+	}
+
+	@Test
+	public void fromNullRegionIsEmpty() {
+
+		PartitionRegionStatistics statistics = PartitionRegionStatistics.from((PartitionedRegion) null);
+
+		assertThat(statistics.getBucketCount()).isZero();
+		assertThat(statistics.getHitCount()).isZero();
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.health.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerLoadProbe;
+import org.apache.geode.cache.server.ServerMetrics;
+import org.apache.geode.internal.cache.CachePerfStats;
+import org.apache.geode.internal.cache.InternalCache;
+
+/**
+ * Unit Tests for {@link WeightedServerLoadProbe}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.server.ServerLoadProbe
+ * @see org.springframework.geode.boot.actuate.health.support.WeightedServerLoadProbe
+ * @since 1.4.0
+ */
+public class WeightedServerLoadProbeUnitTests {
+
+	private static final float OFFSET = 0.0001f;
+
+	private ServerLoadProbe mockServerLoadProbe(ServerLoad serverLoad) {
+
+		ServerLoadProbe mockServerLoadProbe = mock(ServerLoadProbe.class);
+
+		when(mockServerLoadProbe.getLoad(any())).thenReturn(serverLoad);
+
+		return mockServerLoadProbe;
+	}
+
+	private WeightedServerLoadProbe newProbe(ServerLoadProbe delegate, Cache cache,
+			WeightedServerLoadProbe.Weights weights, double cpu, double heap) {
+
+		return new WeightedServerLoadProbe(delegate, () -> cache, weights) {
+
+			@Override
+			protected double resolveCpuUtilization() {
+				return cpu;
+			}
+
+			@Override
+			protected double resolveHeapUtilization() {
+				return heap;
+			}
+		};
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullServerLoadProbeThrowsIllegalArgumentException() {
+		new WeightedServerLoadProbe(null, () -> null, new WeightedServerLoadProbe.Weights());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeWeightThrowsIllegalArgumentException() {
+		new WeightedServerLoadProbe.Weights().withCpu(-1.0d);
+	}
+
+	@Test
+	public void addsWeightedPressureScaledToConnectionLoad() {
+
+		ServerLoadProbe delegate = mockServerLoadProbe(new ServerLoad(0.25f, 0.01f, 4.0f, 1.0f));
+
+		WeightedServerLoadProbe.Weights weights = new WeightedServerLoadProbe.Weights()
+			.withConnections(2.0d)
+			.withCpu(1.0d)
+			.withHeap(0.5d)
+			.withLatency(0.0d)
+			.withPressureConnectionEquivalent(10.0d)
+			.withQueueDepth(0.0d);
+
+		ServerLoad load = newProbe(delegate, null, weights, 0.8d, 0.4d).getLoad(mock(ServerMetrics.class));
+
+		// A pressure of 1.0 (0.8 + 0.5 * 0.4) is the load of 10 connections (10 * 0.02).
+		assertThat(load.getConnectionLoad()).isCloseTo(2.0f * 0.25f + (0.8f + 0.5f * 0.4f) * 0.02f * 10.0f,
+			within(OFFSET));
+		assertThat(load.getLoadPerConnection()).isCloseTo(0.02f, within(OFFSET));
+		assertThat(load.getSubscriptionConnectionLoad()).isEqualTo(4.0f);
+		assertThat(load.getLoadPerSubscriptionConnection()).isEqualTo(1.0f);
+	}
+
+	@Test
+	public void hotServerReportsHigherLoadThanIdleServerWithMoreConnections() {
+
+		WeightedServerLoadProbe.Weights weights = new WeightedServerLoadProbe.Weights();
+
+		ServerLoad hotServerLoad = newProbe(mockServerLoadProbe(new ServerLoad(0.1f, 0.01f, 0.0f, 1.0f)),
+			null, weights, 0.9d, 0.5d).getLoad(mock(ServerMetrics.class));
+
+		ServerLoad idleServerLoad = newProbe(mockServerLoadProbe(new ServerLoad(0.3f, 0.01f, 0.0f, 1.0f)),
+			null, weights, 0.1d, 0.5d).getLoad(mock(ServerMetrics.class));
+
+		assertThat(hotServerLoad.getConnectionLoad()).isGreaterThan(idleServerLoad.getConnectionLoad());
+	}
+
+	@Test
+	public void smallPressureDifferenceDoesNotOutweighManyConnections() {
+
+		float loadPerConnection = 1.0f / 800.0f;
+
+		WeightedServerLoadProbe.Weights weights = new WeightedServerLoadProbe.Weights();
+
+		ServerLoad emptyServerLoad = newProbe(mockServerLoadProbe(new ServerLoad(0.0f, loadPerConnection, 0.0f, 1.0f)),
+			null, weights, 0.2d, 0.0d).getLoad(mock(ServerMetrics.class));
+
+		ServerLoad busyServerLoad = newProbe(mockServerLoadProbe(new ServerLoad(80 * loadPerConnection,
+			loadPerConnection, 0.0f, 1.0f)), null, weights, 0.1d, 0.0d).getLoad(mock(ServerMetrics.class));
+
+		assertThat(emptyServerLoad.getConnectionLoad()).isLessThan(busyServerLoad.getConnectionLoad());
+	}
+
+	@Test
+	public void queueDepthIsRelativeToThreshold() {
+
+		AsyncEventQueue mockAsyncEventQueueOne = mock(AsyncEventQueue.class);
+		AsyncEventQueue mockAsyncEventQueueTwo = mock(AsyncEventQueue.class);
+
+		Cache mockCache = mock(Cache.class);
+
+		when(mockAsyncEventQueueOne.size()).thenReturn(100);
+		when(mockAsyncEventQueueTwo.size()).thenReturn(150);
+		when(mockCache.getAsyncEventQueues()).thenReturn(asSet(mockAsyncEventQueueOne, mockAsyncEventQueueTwo));
+
+		WeightedServerLoadProbe probe = newProbe(mock(ServerLoadProbe.class), mockCache,
+			new WeightedServerLoadProbe.Weights().withQueueDepthThreshold(1000L), 0.0d, 0.0d);
+
+		assertThat(probe.resolveQueueDepthUtilization()).isEqualTo(0.25d);
+
+		when(mockAsyncEventQueueTwo.size()).thenReturn(5000);
+
+		assertThat(probe.resolveQueueDepthUtilization()).isEqualTo(1.0d);
+	}
+
+	@Test
+	public void latencyIsMeasuredSinceLastPoll() {
+
+		InternalCache mockCache = mock(InternalCache.class);
+
+		CachePerfStats mockCachePerfStats = mock(CachePerfStats.class);
+
+		Statistics mockStatistics = mock(Statistics.class);
+
+		when(mockCache.getCachePerfStats()).thenReturn(mockCachePerfStats);
+		when(mockCachePerfStats.getStats()).thenReturn(mockStatistics);
+		when(mockStatistics.get("gets")).thenReturn(100L, 200L);
+		when(mockStatistics.get("puts")).thenReturn(0L, 100L);
+		when(mockStatistics.get("getTime")).thenReturn(0L, Duration.ofMillis(500).toNanos());
+		when(mockStatistics.get("putTime")).thenReturn(0L, Duration.ofMillis(500).toNanos());
+
+		WeightedServerLoadProbe probe = newProbe(mock(ServerLoadProbe.class), mockCache,
+			new WeightedServerLoadProbe.Weights().withLatencyThreshold(Duration.ofMillis(10)), 0.0d, 0.0d);
+
+		// The first poll establishes the baseline.
+		assertThat(probe.resolveLatencyUtilization()).isZero();
+
+		// 200 operations in 1 second, or 5 ms on average.
+		assertThat(probe.resolveLatencyUtilization()).isCloseTo(0.5d, within(0.0001d));
+	}
+
+	@Test
+	public void openAndCloseDelegate() {
+
+		ServerLoadProbe mockServerLoadProbe = mock(ServerLoadProbe.class);
+
+		WeightedServerLoadProbe probe =
+			new WeightedServerLoadProbe(mockServerLoadProbe, () -> null, new WeightedServerLoadProbe.Weights());
+
+		probe.open();
+		probe.close();
+
+		verify(mockServerLoadProbe, times(1)).open();
+		verify(mockServerLoadProbe, times(1)).close();
+	}
+}
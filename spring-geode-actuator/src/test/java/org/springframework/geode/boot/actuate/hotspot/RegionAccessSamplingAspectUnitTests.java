@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotspot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+
+/**
+ * Unit Tests for {@link RegionAccessSamplingAspect}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.aspectj.lang.ProceedingJoinPoint
+ * @see org.springframework.geode.boot.actuate.hotspot.RegionAccessSamplingAspect
+ * @since 1.4.0
+ */
+public class RegionAccessSamplingAspectUnitTests {
+
+	private final GeodeHotspotSampler mockSampler = mock(GeodeHotspotSampler.class);
+
+	private final Region<?, ?> mockRegion = mock(Region.class);
+
+	private final RegionAccessSamplingAspect aspect = new RegionAccessSamplingAspect(this.mockSampler);
+
+	private ProceedingJoinPoint mockJoinPoint(Object... args) {
+
+		ProceedingJoinPoint mockJoinPoint = mock(ProceedingJoinPoint.class);
+
+		when(mockJoinPoint.getTarget()).thenReturn(this.mockRegion);
+		when(mockJoinPoint.getArgs()).thenReturn(args);
+
+		return mockJoinPoint;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullSamplerThrowsIllegalArgumentException() {
+		new RegionAccessSamplingAspect(null);
+	}
+
+	@Test
+	public void recordsKeyReadWithGet() throws Throwable {
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("key");
+
+		doReturn("value").when(mockJoinPoint).proceed();
+
+		assertThat(this.aspect.regionGetAdvice(mockJoinPoint)).isEqualTo("value");
+
+		verify(this.mockSampler).recordAccess(this.mockRegion, "key");
+	}
+
+	@Test
+	public void recordsEachKeyReadWithGetAll() throws Throwable {
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint(Arrays.asList("one", "two"));
+
+		doReturn(null).when(mockJoinPoint).proceed();
+
+		this.aspect.regionGetAllAdvice(mockJoinPoint);
+
+		verify(this.mockSampler).recordAccess(this.mockRegion, "one");
+		verify(this.mockSampler).recordAccess(this.mockRegion, "two");
+	}
+
+	@Test
+	public void recordsKeyWhenGetFails() throws Throwable {
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("key");
+
+		doThrow(new IllegalStateException("TEST")).when(mockJoinPoint).proceed();
+
+		assertThatThrownBy(() -> this.aspect.regionGetAdvice(mockJoinPoint))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("TEST");
+
+		verify(this.mockSampler).recordAccess(this.mockRegion, "key");
+	}
+}
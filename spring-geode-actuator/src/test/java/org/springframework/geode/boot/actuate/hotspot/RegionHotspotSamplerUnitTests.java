@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotspot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+
+/**
+ * Unit Tests for {@link RegionHotspotSampler}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.EntryEvent
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.hotspot.RegionHotspotSampler
+ * @since 1.4.0
+ */
+public class RegionHotspotSamplerUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private EntryEvent<Object, Object> mockEntryEvent(Region<?, ?> region, Object key) {
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn(key);
+		when(mockEntryEvent.getRegion()).thenReturn((Region<Object, Object>) region);
+
+		return mockEntryEvent;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidSampleRateThrowsIllegalArgumentException() {
+		new RegionHotspotSampler("/Example", 10, 0.0d);
+	}
+
+	@Test
+	public void recordsModifiedAndAccessedKeys() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		RegionHotspotSampler sampler = new RegionHotspotSampler("/Example", 10, 1.0d);
+
+		sampler.afterCreate(mockEntryEvent(mockRegion, "one"));
+		sampler.afterUpdate(mockEntryEvent(mockRegion, "one"));
+		sampler.afterUpdate(mockEntryEvent(mockRegion, "one"));
+		sampler.afterDestroy(mockEntryEvent(mockRegion, "two"));
+		sampler.recordAccess(mockRegion, "three");
+		sampler.recordAccess(mockRegion, null);
+
+		assertThat(sampler.getModifiedKeys().top(1)).extracting(SpaceSavingSketch.Estimate::getItem)
+			.containsExactly("one");
+		assertThat(sampler.getModifiedKeys().getTotal()).isEqualTo(4L);
+		assertThat(sampler.getAccessedKeys().top(10)).extracting(SpaceSavingSketch.Estimate::getItem)
+			.containsExactly("three");
+		assertThat(sampler.topBuckets(10)).isEmpty();
+	}
+
+	@Test
+	public void countsOperationsPerBucket() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		RegionHotspotSampler sampler = new RegionHotspotSampler("/Example", 10, 1.0d) {
+
+			@Override
+			protected int resolveBucketId(Region<?, ?> region, Object key) {
+				return key.hashCode() % 2;
+			}
+		};
+
+		for (int key = 0; key < 10; key++) {
+			sampler.afterUpdate(mockEntryEvent(mockRegion, key % 5 == 0 ? 0 : key));
+		}
+
+		List<RegionHotspotSampler.BucketActivity> buckets = sampler.topBuckets(10);
+
+		assertThat(buckets).extracting(RegionHotspotSampler.BucketActivity::getBucketId).containsExactly(0, 1);
+		assertThat(buckets).extracting(RegionHotspotSampler.BucketActivity::getOperations).containsExactly(6L, 4L);
+		assertThat(buckets.get(0).getOperationsPerSecond()).isPositive();
+		assertThat(sampler.topBuckets(1)).hasSize(1);
+	}
+
+	@Test
+	public void resetClearsSamples() {
+
+		RegionHotspotSampler sampler = new RegionHotspotSampler("/Example", 10, 1.0d) {
+
+			@Override
+			protected int resolveBucketId(Region<?, ?> region, Object key) {
+				return 1;
+			}
+		};
+
+		long startTime = sampler.getStartTime();
+
+		sampler.recordAccess(mock(Region.class), "key");
+		sampler.reset();
+
+		assertThat(sampler.getAccessedKeys().getTotal()).isZero();
+		assertThat(sampler.topBuckets(10)).isEmpty();
+		assertThat(sampler.getStartTime()).isGreaterThanOrEqualTo(startTime);
+	}
+}
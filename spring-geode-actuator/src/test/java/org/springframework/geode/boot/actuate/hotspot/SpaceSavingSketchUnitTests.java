@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.hotspot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link SpaceSavingSketch}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.actuate.hotspot.SpaceSavingSketch
+ * @since 1.4.0
+ */
+public class SpaceSavingSketchUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidCapacityThrowsIllegalArgumentException() {
+		new SpaceSavingSketch<>(0);
+	}
+
+	@Test
+	public void countsAreExactWithinCapacity() {
+
+		SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(3);
+
+		sketch.offer("a");
+		sketch.offer("b");
+		sketch.offer("a");
+		sketch.offer("c", 5L);
+		sketch.offer(null);
+
+		List<SpaceSavingSketch.Estimate<String>> top = sketch.top(10);
+
+		assertThat(top).extracting(SpaceSavingSketch.Estimate::getItem).containsExactly("c", "a", "b");
+		assertThat(top).extracting(SpaceSavingSketch.Estimate::getCount).containsExactly(5L, 2L, 1L);
+		assertThat(top).extracting(SpaceSavingSketch.Estimate::getError).containsOnly(0L);
+		assertThat(sketch.getTotal()).isEqualTo(8L);
+	}
+
+	@Test
+	public void retainsHeavyHittersBeyondCapacity() {
+
+		SpaceSavingSketch<Integer> sketch = new SpaceSavingSketch<>(8);
+
+		for (int index = 0; index < 1000; index++) {
+			sketch.offer(7);
+			sketch.offer(index % 3 == 0 ? 42 : 1000 + index);
+		}
+
+		List<SpaceSavingSketch.Estimate<Integer>> top = sketch.top(2);
+
+		assertThat(top).extracting(SpaceSavingSketch.Estimate::getItem).containsExactly(7, 42);
+		assertThat(top.get(0).getGuaranteedCount()).isEqualTo(1000L);
+		assertThat(top.get(1).getCount()).isGreaterThanOrEqualTo(334L);
+		assertThat(sketch.top(10)).hasSize(8);
+		assertThat(sketch.getTotal()).isEqualTo(2000L);
+	}
+
+	@Test
+	public void evictedItemInheritsMinimumCountAsError() {
+
+		SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+
+		sketch.offer("a", 3L);
+		sketch.offer("b", 1L);
+		sketch.offer("c");
+
+		List<SpaceSavingSketch.Estimate<String>> top = sketch.top(2);
+
+		assertThat(top).extracting(SpaceSavingSketch.Estimate::getItem).containsExactly("a", "c");
+		assertThat(top.get(1).getCount()).isEqualTo(2L);
+		assertThat(top.get(1).getError()).isEqualTo(1L);
+		assertThat(top.get(1).getGuaranteedCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void evictsItemWithLowestCountAfterIncrements() {
+
+		SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(3);
+
+		sketch.offer("c");
+		sketch.offer("b", 3L);
+		sketch.offer("a", 5L);
+		sketch.offer("d");
+		sketch.offer("e");
+
+		List<SpaceSavingSketch.Estimate<String>> top = sketch.top(10);
+
+		assertThat(top).extracting(SpaceSavingSketch.Estimate::getItem).containsExactlyInAnyOrder("a", "b", "e");
+		assertThat(top.get(0).getItem()).isEqualTo("a");
+		assertThat(top.stream().filter(estimate -> "e".equals(estimate.getItem())).findFirst())
+			.hasValueSatisfying(estimate -> {
+				assertThat(estimate.getCount()).isEqualTo(3L);
+				assertThat(estimate.getError()).isEqualTo(2L);
+			});
+	}
+
+	@Test
+	public void countsSumToTotalWhenFull() {
+
+		SpaceSavingSketch<Integer> sketch = new SpaceSavingSketch<>(16);
+
+		Random random = new Random(42L);
+
+		for (int count = 0; count < 10000; count++) {
+			sketch.offer(random.nextInt(200), 1L + random.nextInt(3));
+		}
+
+		List<SpaceSavingSketch.Estimate<Integer>> top = sketch.top(16);
+
+		assertThat(top).hasSize(16);
+		assertThat(top.stream().mapToLong(SpaceSavingSketch.Estimate::getCount).sum()).isEqualTo(sketch.getTotal());
+		assertThat(top).allSatisfy(estimate -> assertThat(estimate.getGuaranteedCount()).isPositive());
+	}
+
+	@Test
+	public void resetClearsItemsAndTotal() {
+
+		SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(2);
+
+		sketch.offer("a");
+		sketch.reset();
+
+		assertThat(sketch.top(10)).isEmpty();
+		assertThat(sketch.getTotal()).isZero();
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.internal.AsyncEventQueueImpl;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.internal.cache.wan.AbstractGatewaySender;
+import org.apache.geode.internal.cache.wan.GatewaySenderStats;
+
+import org.springframework.geode.cache.RepositoryAsyncEventListener;
+import org.springframework.geode.cache.RepositoryAsyncEventListener.EventProcessingStatistics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeAsyncEventQueuesMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeAsyncEventQueuesMeterBinder
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @since 1.4.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GeodeAsyncEventQueuesMeterBinderUnitTests {
+
+	@Mock
+	private Cache mockCache;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	public void bindsQueueSizeAndBatchDispatchStatistics() {
+
+		AsyncEventQueueImpl mockAsyncEventQueue = mock(AsyncEventQueueImpl.class);
+
+		AbstractGatewaySender mockGatewaySender = mock(AbstractGatewaySender.class);
+
+		GatewaySenderStats mockGatewaySenderStats = mock(GatewaySenderStats.class);
+
+		Statistics mockStatistics = mock(Statistics.class);
+
+		when(mockAsyncEventQueue.getId()).thenReturn("MockQueue");
+		when(mockAsyncEventQueue.size()).thenReturn(128);
+		when(mockAsyncEventQueue.getSender()).thenReturn(mockGatewaySender);
+		when(mockGatewaySender.getStatistics()).thenReturn(mockGatewaySenderStats);
+		when(mockGatewaySenderStats.getStats()).thenReturn(mockStatistics);
+		when(mockStatistics.get("eventsDistributed")).thenReturn(1000);
+		when(mockStatistics.get("batchesDistributed")).thenReturn(10);
+		when(mockStatistics.get("batchDistributionTime")).thenReturn(TimeUnit.MILLISECONDS.toNanos(50));
+		when(this.mockCache.getAsyncEventQueues()).thenReturn(asSet(mockAsyncEventQueue));
+
+		new GeodeAsyncEventQueuesMeterBinder(this.mockCache).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.async-event-queue.size").tag("queue", "MockQueue")
+			.gauge().value()).isEqualTo(128.0d);
+		assertThat(this.meterRegistry.get("geode.async-event-queue.events.dispatched").tag("queue", "MockQueue")
+			.functionCounter().count()).isEqualTo(1000.0d);
+
+		FunctionTimer batchDispatch =
+			this.meterRegistry.get("geode.async-event-queue.batch.dispatch").tag("queue", "MockQueue").functionTimer();
+
+		assertThat(batchDispatch.count()).isEqualTo(10.0d);
+		assertThat(batchDispatch.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(50.0d);
+		assertThat(batchDispatch.mean(TimeUnit.MILLISECONDS)).isEqualTo(5.0d);
+	}
+
+	@Test
+	public void bindsRepositoryAsyncEventListenerStatisticsWithStableQueueTag() {
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		RepositoryAsyncEventListener<?, ?> mockListener = mock(RepositoryAsyncEventListener.class);
+
+		EventProcessingStatistics mockStatistics = mock(EventProcessingStatistics.class);
+
+		when(mockAsyncEventQueue.getId()).thenReturn("Books-AEQ:0f8fad5b-d9cb-469f-a165-70867728950e");
+		when(mockAsyncEventQueue.getAsyncEventListener()).thenReturn(mockListener);
+		when(mockAsyncEventQueue.size()).thenReturn(16);
+		when(mockListener.getStatistics()).thenReturn(mockStatistics);
+		when(mockStatistics.getOldestEventCreationTime()).thenReturn(1000L);
+		when(mockStatistics.getRepositoryOperations()).thenReturn(4L);
+		when(mockStatistics.getRepositoryOperationTime()).thenReturn(TimeUnit.MILLISECONDS.toNanos(20));
+		when(mockStatistics.getBatchesFailed()).thenReturn(2L);
+		when(mockStatistics.getEventsFailed()).thenReturn(3L);
+		when(this.mockCache.getAsyncEventQueues()).thenReturn(asSet(mockAsyncEventQueue));
+
+		GeodeAsyncEventQueuesMeterBinder meterBinder = new GeodeAsyncEventQueuesMeterBinder(this.mockCache) {
+
+			@Override
+			protected long currentTimeMillis() {
+				return 6000L;
+			}
+		};
+
+		meterBinder.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.async-event-queue.size").tag("queue", "Books-AEQ")
+			.gauge().value()).isEqualTo(16.0d);
+		assertThat(this.meterRegistry.get("geode.async-event-queue.oldest-event.age").tag("queue", "Books-AEQ")
+			.timeGauge().value(TimeUnit.SECONDS)).isEqualTo(5.0d);
+		assertThat(this.meterRegistry.get("geode.async-event-queue.batches.failed").tag("queue", "Books-AEQ")
+			.functionCounter().count()).isEqualTo(2.0d);
+		assertThat(this.meterRegistry.get("geode.async-event-queue.events.failed").tag("queue", "Books-AEQ")
+			.functionCounter().count()).isEqualTo(3.0d);
+
+		FunctionTimer repositoryOperations = this.meterRegistry.get("geode.async-event-queue.repository.operations")
+			.tag("queue", "Books-AEQ").functionTimer();
+
+		assertThat(repositoryOperations.count()).isEqualTo(4.0d);
+		assertThat(repositoryOperations.mean(TimeUnit.MILLISECONDS)).isEqualTo(5.0d);
+	}
+
+	@Test
+	public void oldestEventAgeIsZeroWhenQueueIsEmpty() {
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		RepositoryAsyncEventListener<?, ?> mockListener = mock(RepositoryAsyncEventListener.class);
+
+		when(mockAsyncEventQueue.getId()).thenReturn("MockQueue");
+		when(mockAsyncEventQueue.getAsyncEventListener()).thenReturn(mockListener);
+		when(mockAsyncEventQueue.size()).thenReturn(0);
+		when(mockListener.getStatistics()).thenReturn(mock(EventProcessingStatistics.class));
+		when(this.mockCache.getAsyncEventQueues()).thenReturn(asSet(mockAsyncEventQueue));
+
+		new GeodeAsyncEventQueuesMeterBinder(this.mockCache).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.async-event-queue.oldest-event.age").tag("queue", "MockQueue")
+			.timeGauge().value(TimeUnit.MILLISECONDS)).isZero();
+	}
+
+	@Test
+	public void bindsOnlyQueueSizeWhenStatisticsAreUnavailable() {
+
+		AsyncEventQueue mockAsyncEventQueue = mock(AsyncEventQueue.class);
+
+		when(mockAsyncEventQueue.getId()).thenReturn("MockQueue");
+		when(this.mockCache.getAsyncEventQueues()).thenReturn(asSet(mockAsyncEventQueue));
+
+		new GeodeAsyncEventQueuesMeterBinder(this.mockCache).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.find("geode.async-event-queue.size").gauge()).isNotNull();
+		assertThat(this.meterRegistry.find("geode.async-event-queue.batch.dispatch").functionTimer()).isNull();
+		assertThat(this.meterRegistry.find("geode.async-event-queue.oldest-event.age").timeGauge()).isNull();
+	}
+
+	@Test
+	public void bindsNothingForClientCache() {
+
+		new GeodeAsyncEventQueuesMeterBinder(mock(ClientCache.class)).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.getMeters()).isEmpty();
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.server.CacheServer;
+import org.apache.geode.cache.server.ServerLoad;
+import org.apache.geode.cache.server.ServerLoadProbe;
+import org.apache.geode.cache.server.ServerMetrics;
+
+import org.springframework.geode.boot.actuate.health.support.ActuatorServerLoadProbeWrapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeCacheServersMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.server.CacheServer
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeCacheServersMeterBinder
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @since 1.4.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GeodeCacheServersMeterBinderUnitTests {
+
+	@Mock
+	private Cache mockCache;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private CacheServer mockCacheServer(ServerLoadProbe serverLoadProbe) {
+
+		CacheServer mockCacheServer = mock(CacheServer.class);
+
+		when(mockCacheServer.getPort()).thenReturn(40404);
+		when(mockCacheServer.getLoadProbe()).thenReturn(serverLoadProbe);
+
+		when(this.mockCache.getCacheServers()).thenReturn(Collections.singletonList(mockCacheServer));
+
+		return mockCacheServer;
+	}
+
+	@Test
+	public void bindsClientConnectionsAndLoad() {
+
+		ServerLoadProbe mockServerLoadProbe = mock(ServerLoadProbe.class);
+
+		ServerMetrics mockServerMetrics = mock(ServerMetrics.class);
+
+		ActuatorServerLoadProbeWrapper serverLoadProbe = new ActuatorServerLoadProbeWrapper(mockServerLoadProbe);
+
+		when(mockServerLoadProbe.getLoad(mockServerMetrics))
+			.thenReturn(new ServerLoad(0.5f, 0.01f, 0.25f, 0.02f));
+		when(mockServerMetrics.getClientCount()).thenReturn(8);
+		when(mockServerMetrics.getConnectionCount()).thenReturn(50);
+		when(mockServerMetrics.getSubscriptionConnectionCount()).thenReturn(4);
+
+		CacheServer mockCacheServer = mockCacheServer(serverLoadProbe);
+
+		when(mockCacheServer.getMaxConnections()).thenReturn(800);
+
+		new GeodeCacheServersMeterBinder(this.mockCache).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.cache.server.clients").tag("port", "40404").gauge().value())
+			.isNaN();
+
+		serverLoadProbe.getLoad(mockServerMetrics);
+
+		assertThat(this.meterRegistry.get("geode.cache.server.clients").tag("port", "40404").gauge().value())
+			.isEqualTo(8.0d);
+		assertThat(this.meterRegistry.get("geode.cache.server.connections").gauge().value()).isEqualTo(50.0d);
+		assertThat(this.meterRegistry.get("geode.cache.server.connections.max").gauge().value()).isEqualTo(800.0d);
+		assertThat(this.meterRegistry.get("geode.cache.server.subscription-connections").gauge().value())
+			.isEqualTo(4.0d);
+		assertThat(this.meterRegistry.get("geode.cache.server.load.connection").gauge().value()).isEqualTo(0.5d);
+		assertThat(this.meterRegistry.get("geode.cache.server.load.subscription-connection").gauge().value())
+			.isEqualTo(0.25d);
+	}
+
+	@Test
+	public void connectionsAreNaNWithoutActuatorServerLoadProbeWrapper() {
+
+		mockCacheServer(mock(ServerLoadProbe.class));
+
+		new GeodeCacheServersMeterBinder(this.mockCache).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.cache.server.connections").gauge().value()).isNaN();
+		assertThat(this.meterRegistry.get("geode.cache.server.load.connection").gauge().value()).isNaN();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.internal.PoolImpl;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.springframework.data.gemfire.util.CacheUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodePoolsMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.springframework.geode.boot.actuate.metrics.GeodePoolsMeterBinder
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @since 1.4.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GeodePoolsMeterBinderUnitTests {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private ClientCache mockDurableClient(ClientCache mockClientCache) {
+
+		Properties gemfireProperties = new Properties();
+
+		gemfireProperties.setProperty(CacheUtils.DURABLE_CLIENT_ID_PROPERTY_NAME, "test-durable-client");
+
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+
+		when(mockDistributedSystem.isConnected()).thenReturn(true);
+		when(mockDistributedSystem.getProperties()).thenReturn(gemfireProperties);
+		when(mockClientCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+
+		return mockClientCache;
+	}
+
+	private GeodePoolsMeterBinder newPoolsMeterBinder(ClientCache clientCache, Pool pool) {
+
+		GeodePoolsMeterBinder poolsMeterBinder = spy(new GeodePoolsMeterBinder(clientCache));
+
+		doReturn(Collections.singletonMap(pool.getName(), pool)).when(poolsMeterBinder).findAllPools();
+
+		return poolsMeterBinder;
+	}
+
+	@Test
+	public void bindsPoolConnectionsAndNotPendingEventsWhenSubscriptionIsDisabled() {
+
+		PoolImpl mockPool = mock(PoolImpl.class);
+
+		when(mockPool.getName()).thenReturn("MockPool");
+		when(mockPool.getConnectionCount()).thenReturn(4);
+		when(mockPool.getMaxConnections()).thenReturn(50);
+		when(mockPool.getMinConnections()).thenReturn(1);
+
+		newPoolsMeterBinder(mockDurableClient(mock(ClientCache.class)), mockPool).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.pool.connections").tag("pool", "MockPool").gauge().value())
+			.isEqualTo(4.0d);
+		assertThat(this.meterRegistry.get("geode.pool.connections.max").tag("pool", "MockPool").gauge().value())
+			.isEqualTo(50.0d);
+		assertThat(this.meterRegistry.get("geode.pool.connections.min").tag("pool", "MockPool").gauge().value())
+			.isEqualTo(1.0d);
+		assertThat(this.meterRegistry.find("geode.pool.subscription.pending-events").gauge()).isNull();
+
+		verify(mockPool, never()).getPendingEventCount();
+	}
+
+	@Test
+	public void bindsPendingEventsForDurableClients() {
+
+		Pool mockPool = mock(Pool.class);
+
+		when(mockPool.getName()).thenReturn("MockPool");
+		when(mockPool.getSubscriptionEnabled()).thenReturn(true);
+		when(mockPool.getPendingEventCount()).thenReturn(16);
+
+		newPoolsMeterBinder(mockDurableClient(mock(ClientCache.class)), mockPool).bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.pool.subscription.pending-events").tag("pool", "MockPool")
+			.gauge().value()).isEqualTo(16.0d);
+		assertThat(this.meterRegistry.find("geode.pool.connections").gauge()).isNull();
+	}
+
+	@Test
+	public void bindsNothingForPeerCache() {
+
+		GeodePoolsMeterBinder poolsMeterBinder = spy(new GeodePoolsMeterBinder(mock(Cache.class)));
+
+		poolsMeterBinder.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.getMeters()).isEmpty();
+
+		verify(poolsMeterBinder, never()).findAllPools();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeRegionOperationsMetricsAspect}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.aspectj.lang.ProceedingJoinPoint
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeRegionOperationsMetricsAspect
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @since 1.4.0
+ */
+public class GeodeRegionOperationsMetricsAspectUnitTests {
+
+	private final GeodeRegionOperationsMetricsAspect aspect = new GeodeRegionOperationsMetricsAspect();
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private ProceedingJoinPoint mockJoinPoint(String regionPath) {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		ProceedingJoinPoint mockJoinPoint = mock(ProceedingJoinPoint.class);
+
+		when(mockRegion.getFullPath()).thenReturn(regionPath);
+		when(mockJoinPoint.getTarget()).thenReturn(mockRegion);
+
+		return mockJoinPoint;
+	}
+
+	@Test
+	public void doesNotRecordBeforeBinding() throws Throwable {
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("/Example");
+
+		doReturn("value").when(mockJoinPoint).proceed();
+
+		assertThat(this.aspect.regionGetAdvice(mockJoinPoint)).isEqualTo("value");
+		assertThat(this.meterRegistry.getMeters()).isEmpty();
+
+		verify(mockJoinPoint, times(1)).proceed();
+	}
+
+	@Test
+	public void recordsOperationLatencyByRegionAndOperation() throws Throwable {
+
+		this.aspect.bindTo(this.meterRegistry);
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("/Example");
+
+		doReturn("value").when(mockJoinPoint).proceed();
+
+		assertThat(this.aspect.regionGetAdvice(mockJoinPoint)).isEqualTo("value");
+		assertThat(this.aspect.regionGetAdvice(mockJoinPoint)).isEqualTo("value");
+		assertThat(this.aspect.regionPutAdvice(mockJoinPoint)).isEqualTo("value");
+
+		Timer getTimer = this.meterRegistry.get("geode.region.operations")
+			.tag("region", "/Example")
+			.tag("operation", "get")
+			.timer();
+
+		Timer putTimer = this.meterRegistry.get("geode.region.operations")
+			.tag("region", "/Example")
+			.tag("operation", "put")
+			.timer();
+
+		assertThat(getTimer.count()).isEqualTo(2L);
+		assertThat(putTimer.count()).isEqualTo(1L);
+		assertThat(this.meterRegistry.get("geode.region.operations").tag("operation", "query").timer().count())
+			.isZero();
+	}
+
+	@Test
+	public void recordsFailedOperations() throws Throwable {
+
+		this.aspect.bindTo(this.meterRegistry);
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("/Example");
+
+		doThrow(new IllegalStateException("TEST")).when(mockJoinPoint).proceed();
+
+		assertThatThrownBy(() -> this.aspect.regionQueryAdvice(mockJoinPoint))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("TEST");
+
+		assertThat(this.meterRegistry.get("geode.region.operations").tag("operation", "query").timer().count())
+			.isOne();
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionDestroyedException;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GeodeRegionsMeterBinder}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.geode.boot.actuate.metrics.GeodeRegionsMeterBinder
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @since 1.4.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GeodeRegionsMeterBinderUnitTests {
+
+	@Mock
+	private GemFireCache mockGemFireCache;
+
+	private GeodeRegionsMeterBinder regionsMeterBinder;
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Before
+	public void setup() {
+		this.regionsMeterBinder = new GeodeRegionsMeterBinder(this.mockGemFireCache);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region<?, ?> mockRegion(String fullPath, boolean statisticsEnabled) {
+
+		Region<Object, Object> mockRegion = mock(Region.class, fullPath);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getFullPath()).thenReturn(fullPath);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getStatisticsEnabled()).thenReturn(statisticsEnabled);
+
+		return mockRegion;
+	}
+
+	@Test
+	public void bindsRegionSizeAndGetsReadLazily() {
+
+		Region<?, ?> mockRegion = mockRegion("/Example", true);
+
+		CacheStatistics mockCacheStatistics = mock(CacheStatistics.class);
+
+		when(mockRegion.size()).thenReturn(10, 20);
+		when(mockRegion.getStatistics()).thenReturn(mockCacheStatistics);
+		when(mockCacheStatistics.getHitCount()).thenReturn(8L);
+		when(mockCacheStatistics.getMissCount()).thenReturn(2L);
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsMeterBinder.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.region.size").tag("region", "/Example").gauge().value())
+			.isEqualTo(10.0d);
+		assertThat(this.meterRegistry.get("geode.region.size").tag("region", "/Example").gauge().value())
+			.isEqualTo(20.0d);
+		assertThat(this.meterRegistry.get("geode.region.gets").tags("region", "/Example", "result", "hit")
+			.functionCounter().count()).isEqualTo(8.0d);
+		assertThat(this.meterRegistry.get("geode.region.gets").tags("region", "/Example", "result", "miss")
+			.functionCounter().count()).isEqualTo(2.0d);
+
+		verify(mockRegion, times(2)).size();
+	}
+
+	@Test
+	public void doesNotBindGetsWhenStatisticsAreDisabled() {
+
+		Region<?, ?> mockRegion = mockRegion("/Example", false);
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsMeterBinder.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.find("geode.region.size").gauge()).isNotNull();
+		assertThat(this.meterRegistry.find("geode.region.gets").functionCounter()).isNull();
+	}
+
+	@Test
+	public void bindsSubregions() {
+
+		Region<?, ?> mockRegion = mockRegion("/Parent", false);
+		Region<?, ?> mockSubregion = mockRegion("/Parent/Child", false);
+
+		when(mockRegion.subregions(true)).thenReturn(asSet(mockSubregion));
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsMeterBinder.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.find("geode.region.size").tag("region", "/Parent").gauge()).isNotNull();
+		assertThat(this.meterRegistry.find("geode.region.size").tag("region", "/Parent/Child").gauge()).isNotNull();
+	}
+
+	@Test
+	public void regionSizeIsNaNWhenRegionIsDestroyed() {
+
+		Region<?, ?> mockRegion = mockRegion("/Example", false);
+
+		when(mockRegion.size()).thenThrow(new RegionDestroyedException("TEST", "/Example"));
+		when(this.mockGemFireCache.rootRegions()).thenReturn(asSet(mockRegion));
+
+		this.regionsMeterBinder.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.get("geode.region.size").gauge().value()).isNaN();
+	}
+
+	@Test
+	public void bindsRegionsCreatedAfterBindingOnContextRefresh() {
+
+		Region<?, ?> mockRegion = mockRegion("/Example", false);
+
+		when(this.mockGemFireCache.rootRegions()).thenReturn(Collections.emptySet(), asSet(mockRegion));
+
+		this.regionsMeterBinder.bindTo(this.meterRegistry);
+
+		assertThat(this.meterRegistry.find("geode.region.size").gauge()).isNull();
+
+		this.regionsMeterBinder.onApplicationEvent(mock(ContextRefreshedEvent.class));
+
+		assertThat(this.meterRegistry.find("geode.region.size").tag("region", "/Example").gauge()).isNotNull();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullGemFireCache() {
+
+		try {
+			new GeodeRegionsMeterBinder(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemFireCache must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+
+/**
+ * Unit Tests for {@link GemfireTemplateQueryProfilingAspect}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.aspectj.lang.ProceedingJoinPoint
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.geode.boot.actuate.query.GemfireTemplateQueryProfilingAspect
+ * @since 1.4.0
+ */
+public class GemfireTemplateQueryProfilingAspectUnitTests {
+
+	private final GeodeQueryProfiler profiler = new GeodeQueryProfiler();
+
+	private final GemfireTemplateQueryProfilingAspect aspect = new GemfireTemplateQueryProfilingAspect(this.profiler);
+
+	private ProceedingJoinPoint mockJoinPoint(Object... arguments) {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		ProceedingJoinPoint mockJoinPoint = mock(ProceedingJoinPoint.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Customers");
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		when(mockJoinPoint.getTarget()).thenReturn(mockTemplate);
+		when(mockJoinPoint.getArgs()).thenReturn(arguments);
+
+		return mockJoinPoint;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullProfilerThrowsIllegalArgumentException() {
+		new GemfireTemplateQueryProfilingAspect(null);
+	}
+
+	@Test
+	public void recordsFindQueryString() throws Throwable {
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("SELECT * FROM /Customers WHERE id = $1",
+			new Object[] { 1 });
+
+		doReturn("result").when(mockJoinPoint).proceed();
+
+		assertThat(this.aspect.gemfireTemplateFindAdvice(mockJoinPoint)).isEqualTo("result");
+		assertThat(this.profiler.getQueryStatistics())
+			.extracting(QueryStatistics::getQueryString)
+			.containsExactly("SELECT * FROM /Customers WHERE id = $1");
+	}
+
+	@Test
+	public void recordsQueryPredicateAsRegionQuery() throws Throwable {
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("name = 'Jon'");
+
+		assertThat(this.aspect.gemfireTemplateQueryAdvice(mockJoinPoint)).isNull();
+		assertThat(this.profiler.getQueryStatistics())
+			.extracting(QueryStatistics::getQueryString)
+			.containsExactly("select * from /Customers this where name = 'Jon'");
+	}
+
+	@Test
+	public void recordsFailedQuery() throws Throwable {
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("SELECT * FROM /Customers");
+
+		doThrow(new IllegalStateException("TEST")).when(mockJoinPoint).proceed();
+
+		assertThatThrownBy(() -> this.aspect.gemfireTemplateFindAdvice(mockJoinPoint))
+			.isInstanceOf(IllegalStateException.class);
+
+		assertThat(this.profiler.getQueryStatistics()).hasSize(1);
+
+		// Ensure the execution was completed and is not attributed to the next query.
+		this.profiler.begin("SELECT * FROM /Orders");
+		this.profiler.end();
+
+		assertThat(this.profiler.getQueryStatistics()).hasSize(2);
+	}
+}
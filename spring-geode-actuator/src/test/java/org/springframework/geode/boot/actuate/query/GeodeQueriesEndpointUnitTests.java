@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexStatistics;
+import org.apache.geode.cache.query.QueryService;
+
+/**
+ * Unit Tests for {@link GeodeQueriesEndpoint}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.apache.geode.cache.query.Index
+ * @see org.springframework.geode.boot.actuate.query.GeodeQueriesEndpoint
+ * @since 1.4.0
+ */
+public class GeodeQueriesEndpointUnitTests {
+
+	private Index mockIndex(String name, long totalUses) {
+
+		Index mockIndex = mock(Index.class, name);
+
+		IndexStatistics mockIndexStatistics = mock(IndexStatistics.class);
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		when(mockIndex.getName()).thenReturn(name);
+		when(mockIndex.getStatistics()).thenReturn(mockIndexStatistics);
+		doReturn(mockRegion).when(mockIndex).getRegion();
+		when(mockRegion.getFullPath()).thenReturn("/Customers");
+		when(mockIndexStatistics.getTotalUses()).thenReturn(totalUses);
+
+		return mockIndex;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullProfilerThrowsIllegalArgumentException() {
+		new GeodeQueriesEndpoint(mock(GemFireCache.class), null);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reportsSlowestAndUnindexedQueriesAndUnusedIndexes() {
+
+		GemFireCache mockCache = mock(GemFireCache.class);
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		when(mockCache.getQueryService()).thenReturn(mockQueryService);
+		when(mockQueryService.getIndexes())
+			.thenReturn(Arrays.asList(mockIndex("CustomerIdIdx", 10L), mockIndex("CustomerNameIdx", 0L)));
+
+		GeodeQueryProfiler profiler = new GeodeQueryProfiler();
+
+		profiler.record("SELECT * FROM /Customers WHERE id = $1", TimeUnit.MILLISECONDS.toNanos(2L),
+			Collections.singleton("CustomerIdIdx"));
+		profiler.record("SELECT * FROM /Customers WHERE age > $1", TimeUnit.MILLISECONDS.toNanos(200L),
+			Collections.emptySet());
+		profiler.record("SELECT * FROM /Orders", TimeUnit.MILLISECONDS.toNanos(20L), null);
+
+		GeodeQueriesEndpoint endpoint = new GeodeQueriesEndpoint(mockCache, profiler);
+
+		Map<String, Object> queries = endpoint.queries(2);
+
+		assertThat(queries).containsEntry("tracked-queries", 3);
+		assertThat(queries).containsEntry("untracked-executions", 0L);
+
+		List<Map<String, Object>> slowest = (List<Map<String, Object>>) queries.get("slowest");
+
+		assertThat(slowest).extracting(query -> query.get("query"))
+			.containsExactly("SELECT * FROM /Customers WHERE age > $1", "SELECT * FROM /Orders");
+
+		assertThat(slowest.get(0)).containsEntry("max-time-millis", 200L);
+		assertThat((Map<String, Long>) slowest.get(0).get("latency-histogram")).containsEntry("<500ms", 1L);
+
+		List<Map<String, Object>> unindexed = (List<Map<String, Object>>) queries.get("unindexed");
+
+		assertThat(unindexed).extracting(query -> query.get("query"))
+			.containsExactly("SELECT * FROM /Customers WHERE age > $1");
+
+		List<Map<String, Object>> unusedIndexes = (List<Map<String, Object>>) queries.get("unused-indexes");
+
+		assertThat(unusedIndexes).extracting(index -> index.get("name")).containsExactly("CustomerNameIdx");
+		assertThat(unusedIndexes.get(0)).containsEntry("region", "/Customers");
+
+		endpoint.reset();
+
+		assertThat(endpoint.queries(null)).containsEntry("tracked-queries", 0);
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.internal.QueryObserver;
+import org.apache.geode.cache.query.internal.QueryObserverAdapter;
+import org.apache.geode.cache.query.internal.QueryObserverHolder;
+
+/**
+ * Unit Tests for {@link GeodeQueryProfiler} and {@link QueryStatistics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.query.internal.QueryObserver
+ * @see org.springframework.geode.boot.actuate.query.GeodeQueryProfiler
+ * @see org.springframework.geode.boot.actuate.query.QueryStatistics
+ * @since 1.4.0
+ */
+public class GeodeQueryProfilerUnitTests {
+
+	private static final String QUERY = "SELECT * FROM /Customers c WHERE c.name = $1";
+
+	private final GeodeQueryProfiler profiler = new GeodeQueryProfiler();
+
+	@After
+	public void tearDown() {
+		QueryObserverHolder.reset();
+	}
+
+	private Index mockIndex(String name) {
+
+		Index mockIndex = mock(Index.class, name);
+
+		when(mockIndex.getName()).thenReturn(name);
+
+		return mockIndex;
+	}
+
+	private Query mockQuery(String queryString) {
+
+		Query mockQuery = mock(Query.class);
+
+		when(mockQuery.getQueryString()).thenReturn(queryString);
+
+		return mockQuery;
+	}
+
+	private QueryStatistics statistics(String queryString) {
+
+		return this.profiler.getQueryStatistics().stream()
+			.filter(statistics -> statistics.getQueryString().equals(queryString))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError(String.format("No QueryStatistics for [%s]", queryString)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithZeroCapacityThrowsIllegalArgumentException() {
+		new GeodeQueryProfiler(0);
+	}
+
+	@Test
+	public void installsAndUninstallsQueryObserver() {
+
+		this.profiler.afterPropertiesSet();
+
+		assertThat(QueryObserverHolder.getInstance()).isSameAs(this.profiler.getQueryObserver());
+
+		this.profiler.destroy();
+
+		assertThat(QueryObserverHolder.hasObserver()).isFalse();
+	}
+
+	@Test
+	public void doesNotReplaceExistingQueryObserver() {
+
+		QueryObserver existingQueryObserver = new QueryObserverAdapter();
+
+		QueryObserverHolder.setInstance(existingQueryObserver);
+
+		this.profiler.afterPropertiesSet();
+		this.profiler.destroy();
+
+		assertThat(QueryObserverHolder.getInstance()).isSameAs(existingQueryObserver);
+	}
+
+	@Test
+	public void observedQueryRecordsIndexesUsed() {
+
+		QueryObserver observer = this.profiler.getQueryObserver();
+
+		observer.startQuery(mockQuery(QUERY));
+		observer.beforeIndexLookup(mockIndex("CustomerNameIdx"), 0, "Jon");
+		observer.endQuery();
+
+		observer.startQuery(mockQuery(QUERY));
+		observer.endQuery();
+
+		QueryStatistics statistics = statistics(QUERY);
+
+		assertThat(statistics.getExecutions()).isEqualTo(2L);
+		assertThat(statistics.getObservedExecutions()).isEqualTo(2L);
+		assertThat(statistics.getUnindexedExecutions()).isEqualTo(1L);
+		assertThat(statistics.getIndexesUsed()).containsExactly("CustomerNameIdx");
+		assertThat(statistics.isUnindexed()).isTrue();
+		assertThat(statistics.getLastExecutionTime()).isNotNull();
+	}
+
+	@Test
+	public void nestedEvaluationOfSameQueryIsRecordedOnce() {
+
+		QueryObserver observer = this.profiler.getQueryObserver();
+
+		observer.startQuery(mockQuery(QUERY));
+		observer.startQuery(mockQuery(QUERY));
+		observer.beforeIndexLookup(mockIndex("CustomerNameIdx"), 0, null, 0, null, Collections.emptySet());
+		observer.endQuery();
+		observer.startQuery(mockQuery(QUERY));
+		observer.endQuery();
+		observer.endQuery();
+
+		QueryStatistics statistics = statistics(QUERY);
+
+		assertThat(statistics.getExecutions()).isEqualTo(1L);
+		assertThat(statistics.isUnindexed()).isFalse();
+		assertThat(statistics.getIndexesUsed()).containsExactly("CustomerNameIdx");
+	}
+
+	@Test
+	public void templateQueryIncludesObservedIndexes() {
+
+		QueryObserver observer = this.profiler.getQueryObserver();
+
+		this.profiler.begin("SELECT * FROM /Customers WHERE id = 1");
+		observer.startQuery(mockQuery("SELECT * FROM /Customers WHERE id = 1"));
+		observer.beforeIndexLookup(mockIndex("CustomerIdIdx"), 0, 1);
+		observer.endQuery();
+		this.profiler.end();
+
+		QueryStatistics statistics = statistics("SELECT * FROM /Customers WHERE id = 1");
+
+		assertThat(this.profiler.getQueryStatistics()).hasSize(1);
+		assertThat(statistics.getExecutions()).isEqualTo(1L);
+		assertThat(statistics.getObservedExecutions()).isEqualTo(1L);
+		assertThat(statistics.getIndexesUsed()).containsExactly("CustomerIdIdx");
+	}
+
+	@Test
+	public void unobservedTemplateQueryHasUnknownIndexUsage() {
+
+		this.profiler.begin(QUERY);
+		this.profiler.end();
+
+		QueryStatistics statistics = statistics(QUERY);
+
+		assertThat(statistics.getExecutions()).isEqualTo(1L);
+		assertThat(statistics.getObservedExecutions()).isZero();
+		assertThat(statistics.isUnindexed()).isFalse();
+	}
+
+	@Test
+	public void queriesBeyondCapacityAreUntracked() {
+
+		GeodeQueryProfiler profiler = new GeodeQueryProfiler(1);
+
+		profiler.record("SELECT * FROM /A", 1L, null);
+		profiler.record("SELECT * FROM /B", 1L, null);
+		profiler.record("SELECT * FROM /A", 1L, null);
+
+		assertThat(profiler.getQueryStatistics()).hasSize(1);
+		assertThat(profiler.getUntrackedExecutions()).isEqualTo(1L);
+
+		profiler.reset();
+
+		assertThat(profiler.getQueryStatistics()).isEmpty();
+		assertThat(profiler.getUntrackedExecutions()).isZero();
+	}
+
+	@Test
+	public void recordsLatencyHistogramAndTopQueries() {
+
+		this.profiler.record("SELECT * FROM /A", TimeUnit.MICROSECONDS.toNanos(500L), null);
+		this.profiler.record("SELECT * FROM /A", TimeUnit.MILLISECONDS.toNanos(20L), null);
+		this.profiler.record("SELECT * FROM /B", TimeUnit.SECONDS.toNanos(10L), Collections.emptyList());
+
+		QueryStatistics statistics = statistics("SELECT * FROM /A");
+
+		assertThat(statistics.getLatencyHistogram()).containsExactly(1L, 0L, 0L, 1L, 0L, 0L, 0L, 0L, 0L);
+		assertThat(statistics.getMaxTime(TimeUnit.MILLISECONDS)).isEqualTo(20L);
+		assertThat(statistics.getMeanTimeMillis()).isEqualTo(10.25d);
+		assertThat(statistics("SELECT * FROM /B").getLatencyHistogram()[8]).isEqualTo(1L);
+
+		List<QueryStatistics> slowest = this.profiler.top(it -> true,
+			(one, two) -> Double.compare(two.getMeanTimeMillis(), one.getMeanTimeMillis()), 1);
+
+		assertThat(slowest).extracting(QueryStatistics::getQueryString).containsExactly("SELECT * FROM /B");
+		assertThat(this.profiler.top(QueryStatistics::isUnindexed, (one, two) -> 0, 10))
+			.extracting(QueryStatistics::getQueryString).containsExactly("SELECT * FROM /B");
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.actuate.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.geode.context.startup.GeodeStartupSteps;
+
+/**
+ * Unit Tests for {@link GeodeStartupEndpoint}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup
+ * @see org.springframework.geode.boot.actuate.startup.GeodeStartupEndpoint
+ * @since 1.4.0
+ */
+public class GeodeStartupEndpointUnitTests {
+
+	private ConfigurableApplicationContext mockApplicationContext(ApplicationStartup applicationStartup) {
+
+		ConfigurableApplicationContext mockApplicationContext = mock(ConfigurableApplicationContext.class);
+
+		when(mockApplicationContext.getApplicationStartup()).thenReturn(applicationStartup);
+
+		return mockApplicationContext;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reportsRecordedGeodeStartupSteps() {
+
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10);
+
+		applicationStartup.start(GeodeStartupSteps.CACHE_CREATE_STEP_NAME).tag("beanName", "gemfireCache").end();
+		applicationStartup.start("spring.context.refresh").end();
+
+		Map<String, Object> startup = new GeodeStartupEndpoint(mockApplicationContext(applicationStartup)).startup();
+
+		assertThat(startup).containsEntry("recorded", true).containsKeys("total-time-millis", "steps");
+		assertThat((Map<String, Object>) startup.get("steps"))
+			.containsOnlyKeys(GeodeStartupSteps.CACHE_CREATE_STEP_NAME);
+	}
+
+	@Test
+	public void reportsNothingRecordedWithDefaultApplicationStartup() {
+
+		Map<String, Object> startup =
+			new GeodeStartupEndpoint(mockApplicationContext(ApplicationStartup.DEFAULT)).startup();
+
+		assertThat(startup).containsOnlyKeys("recorded").containsEntry("recorded", false);
+	}
+
+	@Test
+	public void constructWithNullApplicationContextThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new GeodeStartupEndpoint(null))
+			.withMessage("ApplicationContext must not be null");
+	}
+}
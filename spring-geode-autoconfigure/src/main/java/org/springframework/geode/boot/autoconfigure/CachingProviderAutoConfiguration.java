@@ -37,9 +37,13 @@ import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.data.gemfire.cache.GemfireCacheManager;
 import org.springframework.data.gemfire.cache.config.EnableGemfireCaching;
+import org.springframework.geode.boot.autoconfigure.support.BatchCachingConfiguration;
+import org.springframework.geode.boot.autoconfigure.support.SingleFlightCachingConfiguration;
+import org.springframework.geode.boot.autoconfigure.support.TwoLevelCachingConfiguration;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -58,6 +62,9 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.data.gemfire.cache.GemfireCacheManager
  * @see org.springframework.data.gemfire.cache.config.EnableGemfireCaching
  * @see org.springframework.geode.boot.autoconfigure.ClientCacheAutoConfiguration
+ * @see org.springframework.geode.boot.autoconfigure.support.BatchCachingConfiguration
+ * @see org.springframework.geode.boot.autoconfigure.support.SingleFlightCachingConfiguration
+ * @see org.springframework.geode.boot.autoconfigure.support.TwoLevelCachingConfiguration
  * @since 1.0.0
  */
 @Configuration
@@ -67,6 +74,8 @@ import org.springframework.util.StringUtils;
 @ConditionalOnClass({ GemfireCacheManager.class, GemFireCache.class })
 @ConditionalOnMissingBean(CacheManager.class)
 @EnableGemfireCaching
+@Import({ BatchCachingConfiguration.class, SingleFlightCachingConfiguration.class,
+	TwoLevelCachingConfiguration.class })
 @SuppressWarnings("all")
 public class CachingProviderAutoConfiguration {
 
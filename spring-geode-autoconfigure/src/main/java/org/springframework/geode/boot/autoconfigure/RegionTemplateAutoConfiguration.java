@@ -17,8 +17,9 @@ package org.springframework.geode.boot.autoconfigure;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -49,6 +50,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.type.MethodMetadata;
 import org.springframework.core.type.StandardMethodMetadata;
 import org.springframework.data.gemfire.GemfireOperations;
 import org.springframework.data.gemfire.GemfireTemplate;
@@ -59,6 +62,7 @@ import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.SpringUtils;
 import org.springframework.geode.config.annotation.support.TypelessAnnotationConfigSupport;
+import org.springframework.geode.context.startup.GeodeStartupSteps;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
@@ -114,66 +118,114 @@ public class RegionTemplateAutoConfiguration extends TypelessAnnotationConfigSup
 
 				BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
 
-				List<String> beanDefinitionNames =
-					Arrays.asList(ArrayUtils.nullSafeArray(registry.getBeanDefinitionNames(), String.class));
+				StartupStep registerRegionTemplatesStep = GeodeStartupSteps.resolveApplicationStartup(beanFactory)
+					.start(GeodeStartupSteps.REGION_TEMPLATES_REGISTER_STEP_NAME);
 
-				Set<String> userRegionTemplateNames = new HashSet<>();
+				try {
 
-				for (String beanName : beanDefinitionNames) {
+					String[] beanDefinitionNames =
+						ArrayUtils.nullSafeArray(registry.getBeanDefinitionNames(), String.class);
 
-					String regionTemplateBeanName = toRegionTemplateBeanName(beanName);
+					Set<String> beanDefinitionNameSet = new HashSet<>(Arrays.asList(beanDefinitionNames));
+					Set<String> userRegionTemplateNames = new HashSet<>();
 
-					if (!beanDefinitionNames.contains(regionTemplateBeanName)) {
+					Map<String, Boolean> gemfireOperationsBeanNames = new HashMap<>();
+					Map<String, Optional<Class<?>>> resolvedBeanTypes = new HashMap<>();
 
-						BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+					for (String beanName : beanDefinitionNames) {
 
-						Class<?> resolvedBeanType = resolveBeanClass(beanDefinition, registry).orElse(null);
+						String regionTemplateBeanName = toRegionTemplateBeanName(beanName);
 
-						if (isRegionBeanDefinition(resolvedBeanType)) {
-							register(newGemfireTemplateBeanDefinition(beanName), regionTemplateBeanName, registry);
-						}
-						else if (isGemfireTemplateBeanDefinition(resolvedBeanType)) {
-							userRegionTemplateNames.add(beanName);
-						}
-						else if (isBeanWithGemfireTemplateDependency(beanFactory, beanDefinition)) {
-							SpringUtils.addDependsOn(beanDefinition, GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+						if (!beanDefinitionNameSet.contains(regionTemplateBeanName)) {
+
+							BeanDefinition beanDefinition = registry.getBeanDefinition(beanName);
+
+							// Abstract BeanDefinitions are never instantiated, so their type need not be resolved.
+							Class<?> resolvedBeanType = beanDefinition.isAbstract() ? null
+								: resolveBeanType(beanDefinition, registry, resolvedBeanTypes);
+
+							if (isRegionBeanDefinition(resolvedBeanType)) {
+								register(newGemfireTemplateBeanDefinition(beanName), regionTemplateBeanName, registry);
+							}
+							else if (isGemfireTemplateBeanDefinition(resolvedBeanType)) {
+								userRegionTemplateNames.add(beanName);
+							}
+							else if (isBeanWithGemfireTemplateDependency(beanFactory, beanDefinition,
+									gemfireOperationsBeanNames)) {
+
+								SpringUtils.addDependsOn(beanDefinition, GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+							}
 						}
 					}
-				}
 
-				setAutoConfiguredRegionTemplateDependencies(registry, userRegionTemplateNames);
+					setAutoConfiguredRegionTemplateDependencies(registry, userRegionTemplateNames);
+				}
+				finally {
+					registerRegionTemplatesStep.tag("registered",
+						String.valueOf(this.autoConfiguredRegionTemplateBeanNames.size()));
+					registerRegionTemplatesStep.end();
+				}
 			}
 		};
 	}
 
 	private boolean isBeanWithGemfireTemplateDependency(@NonNull BeanFactory beanFactory,
-			@NonNull BeanDefinition beanDefinition) {
+			@NonNull BeanDefinition beanDefinition, @NonNull Map<String, Boolean> gemfireOperationsBeanNames) {
 
 		Predicate<Object> isGemfireTemplate = value -> value instanceof RuntimeBeanReference
-			? beanFactory.isTypeMatch(((RuntimeBeanReference) value).getBeanName(), GemfireOperations.class)
+			? gemfireOperationsBeanNames.computeIfAbsent(((RuntimeBeanReference) value).getBeanName(),
+				beanName -> beanFactory.isTypeMatch(beanName, GemfireOperations.class))
 			: value instanceof GemfireOperations;
 
-		boolean match = beanDefinition.getConstructorArgumentValues().getGenericArgumentValues().stream()
-			.map(ConstructorArgumentValues.ValueHolder::getValue)
-			.anyMatch(isGemfireTemplate);
+		return (beanDefinition.hasConstructorArgumentValues()
+				&& beanDefinition.getConstructorArgumentValues().getGenericArgumentValues().stream()
+					.map(ConstructorArgumentValues.ValueHolder::getValue)
+					.anyMatch(isGemfireTemplate))
+			|| (beanDefinition.hasPropertyValues()
+				&& beanDefinition.getPropertyValues().getPropertyValueList().stream()
+					.map(PropertyValue::getValue)
+					.anyMatch(isGemfireTemplate))
+			|| Optional.of(beanDefinition)
+				.filter(AnnotatedBeanDefinition.class::isInstance)
+				.map(AnnotatedBeanDefinition.class::cast)
+				.map(AnnotatedBeanDefinition::getFactoryMethodMetadata)
+				.filter(StandardMethodMetadata.class::isInstance)
+				.map(StandardMethodMetadata.class::cast)
+				.map(StandardMethodMetadata::getIntrospectedMethod)
+				.map(method -> Arrays.stream(ArrayUtils.nullSafeArray(method.getParameterTypes(), Class.class))
+					.filter(Objects::nonNull)
+					.anyMatch(GemfireOperations.class::isAssignableFrom)
+				).orElse(false);
+	}
+
+	// Resolve the bean type once for all BeanDefinitions declaring the same bean class and factory method.
+	private @Nullable Class<?> resolveBeanType(@NonNull BeanDefinition beanDefinition,
+			@NonNull BeanDefinitionRegistry registry, @NonNull Map<String, Optional<Class<?>>> resolvedBeanTypes) {
+
+		String beanTypeKey = toBeanTypeKey(beanDefinition);
+
+		Optional<Class<?>> resolvedBeanType = beanTypeKey != null
+			? resolvedBeanTypes.computeIfAbsent(beanTypeKey, key -> resolveBeanClass(beanDefinition, registry))
+			: resolveBeanClass(beanDefinition, registry);
 
-		match |= match || beanDefinition.getPropertyValues().getPropertyValueList().stream()
-			.map(PropertyValue::getValue)
-			.anyMatch(isGemfireTemplate);
+		return resolvedBeanType.orElse(null);
+	}
+
+	private @Nullable String toBeanTypeKey(@NonNull BeanDefinition beanDefinition) {
 
-		match |= match || Optional.of(beanDefinition)
+		String beanClassName = beanDefinition.getBeanClassName();
+
+		String factoryMethodReturnTypeName = Optional.of(beanDefinition)
 			.filter(AnnotatedBeanDefinition.class::isInstance)
 			.map(AnnotatedBeanDefinition.class::cast)
 			.map(AnnotatedBeanDefinition::getFactoryMethodMetadata)
-			.filter(StandardMethodMetadata.class::isInstance)
-			.map(StandardMethodMetadata.class::cast)
-			.map(StandardMethodMetadata::getIntrospectedMethod)
-			.map(method -> Arrays.stream(ArrayUtils.nullSafeArray(method.getParameterTypes(), Class.class))
-				.filter(Objects::nonNull)
-				.anyMatch(GemfireOperations.class::isAssignableFrom)
-			).orElse(false);
-
-		return match;
+			.map(MethodMetadata::getReturnTypeName)
+			.orElse(null);
+
+		return StringUtils.hasText(beanClassName) || StringUtils.hasText(factoryMethodReturnTypeName)
+			? String.join(":", String.valueOf(beanClassName), String.valueOf(beanDefinition.getFactoryBeanName()),
+				String.valueOf(beanDefinition.getFactoryMethodName()), String.valueOf(factoryMethodReturnTypeName))
+			: null;
 	}
 
 	private boolean isGemfireTemplateBeanDefinition(@Nullable Class<?> beanType) {
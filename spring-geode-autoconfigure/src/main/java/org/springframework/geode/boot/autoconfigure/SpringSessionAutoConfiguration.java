@@ -21,6 +21,7 @@ import java.util.Properties;
 import java.util.Set;
 
 import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientRegionShortcut;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -36,10 +37,15 @@ import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
 import org.springframework.core.env.PropertiesPropertySource;
 import org.springframework.core.env.PropertySource;
 import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.geode.boot.autoconfigure.support.CompactSessionSerializerConfiguration;
 import org.springframework.geode.boot.autoconfigure.support.EnableSubscriptionConfiguration;
+import org.springframework.geode.boot.autoconfigure.support.SessionDeltaConfiguration;
+import org.springframework.geode.boot.autoconfigure.support.SessionNearCacheConfiguration;
+import org.springframework.geode.boot.autoconfigure.support.SessionWriteCoalescingConfiguration;
 import org.springframework.session.Session;
 import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
 import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
@@ -69,7 +75,11 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.core.env.PropertiesPropertySource
  * @see org.springframework.core.env.PropertySource
  * @see org.springframework.core.type.AnnotatedTypeMetadata
+ * @see org.springframework.geode.boot.autoconfigure.support.CompactSessionSerializerConfiguration
  * @see org.springframework.geode.boot.autoconfigure.support.EnableSubscriptionConfiguration
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionDeltaConfiguration
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionNearCacheConfiguration
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionWriteCoalescingConfiguration
  * @see org.springframework.session.Session
  * @see org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession
  * @see org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration
@@ -84,15 +94,20 @@ import org.springframework.util.StringUtils;
 @ConditionalOnMissingBean(SessionRepositoryFilter.class)
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableGemFireHttpSession(poolName = "DEFAULT")
-@Import(EnableSubscriptionConfiguration.class)
+@Import({ CompactSessionSerializerConfiguration.class, EnableSubscriptionConfiguration.class,
+	SessionDeltaConfiguration.class, SessionNearCacheConfiguration.class, SessionWriteCoalescingConfiguration.class })
 @SuppressWarnings("unused")
 public class SpringSessionAutoConfiguration {
 
 	protected static final Set<String> SPRING_SESSION_STORE_TYPES = asSet("gemfire", "geode");
 
 	protected static final String SERVER_SERVLET_SESSION_TIMEOUT_PROPERTY = "server.servlet.session.timeout";
+	protected static final String SPRING_SESSION_DATA_GEMFIRE_CLIENT_REGION_SHORTCUT =
+		"spring.session.data.gemfire.cache.client.region.shortcut";
 	protected static final String SPRING_SESSION_DATA_GEMFIRE_SESSION_EXPIRATION_TIMEOUT =
 		"spring.session.data.gemfire.session.expiration.max-inactive-interval-seconds";
+	protected static final String SPRING_SESSION_DATA_GEMFIRE_SESSION_SERIALIZER_BEAN_NAME =
+		"spring.session.data.gemfire.session.serializer.bean-name";
 	protected static final String SPRING_SESSION_PROPERTY_SOURCE_NAME = "SpringSessionProperties";
 	protected static final String SPRING_SESSION_STORE_TYPE_PROPERTY = "spring.session.store-type";
 	protected static final String SPRING_SESSION_TIMEOUT_PROPERTY = "spring.session.timeout";
@@ -102,9 +117,9 @@ public class SpringSessionAutoConfiguration {
 		@Override
 		public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
 
-			if (isNotSet(environment, SPRING_SESSION_DATA_GEMFIRE_SESSION_EXPIRATION_TIMEOUT)) {
+			Properties springSessionProperties = new Properties();
 
-				Properties springSessionProperties = new Properties();
+			if (isNotSet(environment, SPRING_SESSION_DATA_GEMFIRE_SESSION_EXPIRATION_TIMEOUT)) {
 
 				if (isSet(environment, SPRING_SESSION_TIMEOUT_PROPERTY)) {
 					springSessionProperties.setProperty(SPRING_SESSION_DATA_GEMFIRE_SESSION_EXPIRATION_TIMEOUT,
@@ -114,11 +129,27 @@ public class SpringSessionAutoConfiguration {
 					springSessionProperties.setProperty(SPRING_SESSION_DATA_GEMFIRE_SESSION_EXPIRATION_TIMEOUT,
 						environment.getProperty(SERVER_SERVLET_SESSION_TIMEOUT_PROPERTY));
 				}
+			}
 
-				if (!springSessionProperties.isEmpty()) {
-					environment.getPropertySources()
-						.addFirst(newPropertySource(SPRING_SESSION_PROPERTY_SOURCE_NAME, springSessionProperties));
-				}
+			// A near cache keeps a local copy of each Session, kept current by interest registration.
+			if (isNearCacheEnabled(environment)
+					&& isNotSet(environment, SPRING_SESSION_DATA_GEMFIRE_CLIENT_REGION_SHORTCUT)) {
+
+				springSessionProperties.setProperty(SPRING_SESSION_DATA_GEMFIRE_CLIENT_REGION_SHORTCUT,
+					ClientRegionShortcut.CACHING_PROXY.name());
+			}
+
+			// Only Sessions serialized with Apache Geode DataSerialization send deltas of the changed attributes.
+			if (isDeltaEnabled(environment)
+					&& isNotSet(environment, SPRING_SESSION_DATA_GEMFIRE_SESSION_SERIALIZER_BEAN_NAME)) {
+
+				springSessionProperties.setProperty(SPRING_SESSION_DATA_GEMFIRE_SESSION_SERIALIZER_BEAN_NAME,
+					SessionDeltaConfiguration.SESSION_DATA_SERIALIZER_BEAN_NAME);
+			}
+
+			if (!springSessionProperties.isEmpty()) {
+				environment.getPropertySources()
+					.addFirst(newPropertySource(SPRING_SESSION_PROPERTY_SOURCE_NAME, springSessionProperties));
 			}
 		}
 
@@ -127,6 +158,14 @@ public class SpringSessionAutoConfiguration {
 		}
 	}
 
+	protected static boolean isDeltaEnabled(Environment environment) {
+		return environment.getProperty(SessionDeltaConfiguration.DELTA_ENABLED_PROPERTY, Boolean.class, false);
+	}
+
+	protected static boolean isNearCacheEnabled(Environment environment) {
+		return environment.getProperty(SessionNearCacheConfiguration.NEAR_CACHE_ENABLED_PROPERTY, Boolean.class, false);
+	}
+
 	protected static boolean isNotSet(ConfigurableEnvironment environment, String propertyName) {
 		return !isSet(environment, propertyName);
 	}
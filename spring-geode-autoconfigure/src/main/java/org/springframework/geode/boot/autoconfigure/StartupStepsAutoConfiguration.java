@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure;
+
+import org.apache.geode.cache.GemFireCache;
+
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.geode.context.startup.GeodeStartupReport;
+import org.springframework.geode.context.startup.GeodeStartupStepBeanPostProcessor;
+import org.springframework.geode.context.startup.GeodeStartupSteps;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Spring Boot {@link EnableAutoConfiguration auto-configuration} recording the creation of the Apache Geode cache,
+ * {@link org.apache.geode.cache.client.Pool Pools}, {@link org.apache.geode.cache.Region Regions},
+ * {@link org.apache.geode.cache.query.Index Indexes} and Continuous Queries as Spring Framework
+ * {@link org.springframework.core.metrics.StartupStep StartupSteps}.
+ *
+ * When the {@link org.springframework.boot.SpringApplication} is configured with a
+ * {@link BufferingApplicationStartup}, a timing breakdown of the Apache Geode startup steps is logged once
+ * the application is ready.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.GemFireCache
+ * @see org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * @see org.springframework.boot.context.event.ApplicationReadyEvent
+ * @see org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.context.startup.GeodeStartupReport
+ * @see org.springframework.geode.context.startup.GeodeStartupStepBeanPostProcessor
+ * @see org.springframework.geode.context.startup.GeodeStartupSteps
+ * @since 1.4.0
+ */
+@Configuration
+@AutoConfigureBefore(ClientCacheAutoConfiguration.class)
+@ConditionalOnClass({ CacheFactoryBean.class, GemFireCache.class })
+@ConditionalOnProperty(name = StartupStepsAutoConfiguration.STARTUP_STEPS_ENABLED_PROPERTY, havingValue = "true",
+	matchIfMissing = true)
+@SuppressWarnings("unused")
+public class StartupStepsAutoConfiguration {
+
+	protected static final String STARTUP_STEPS_ENABLED_PROPERTY = "spring.boot.data.gemfire.startup.steps.enabled";
+
+	private static final Logger logger = LoggerFactory.getLogger(StartupStepsAutoConfiguration.class);
+
+	@Bean
+	static GeodeStartupStepBeanPostProcessor geodeStartupStepBeanPostProcessor() {
+		return new GeodeStartupStepBeanPostProcessor();
+	}
+
+	@Bean
+	ApplicationListener<ApplicationReadyEvent> geodeStartupReportApplicationListener() {
+
+		return event -> {
+
+			if (logger.isInfoEnabled()) {
+
+				GeodeStartupReport report =
+					GeodeStartupReport.from(GeodeStartupSteps.resolveApplicationStartup(event.getApplicationContext()));
+
+				if (report != null && !report.isEmpty()) {
+					logger.info(report.toString());
+				}
+			}
+		};
+	}
+}
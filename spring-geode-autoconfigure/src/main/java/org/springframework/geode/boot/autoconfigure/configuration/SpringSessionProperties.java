@@ -80,9 +80,16 @@ public class SpringSessionProperties {
 		@NestedConfigurationProperty
 		private final ClientRegionProperties region = new ClientRegionProperties();
 
+		@NestedConfigurationProperty
+		private final NearCacheProperties nearCache = new NearCacheProperties();
+
 		@NestedConfigurationProperty
 		private final PoolProperties pool = new PoolProperties();
 
+		public NearCacheProperties getNearCache() {
+			return this.nearCache;
+		}
+
 		public PoolProperties getPool() {
 			return this.pool;
 		}
@@ -107,6 +114,43 @@ public class SpringSessionProperties {
 		}
 	}
 
+	public static class NearCacheProperties {
+
+		public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+		public static final String DEFAULT_AFFINITY_HEADER_NAME = "X-Session-Affinity";
+
+		private boolean enabled = false;
+
+		private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+		private String affinityHeaderName = DEFAULT_AFFINITY_HEADER_NAME;
+
+		public String getAffinityHeaderName() {
+			return this.affinityHeaderName;
+		}
+
+		public void setAffinityHeaderName(String affinityHeaderName) {
+			this.affinityHeaderName = affinityHeaderName;
+		}
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxEntries() {
+			return this.maxEntries;
+		}
+
+		public void setMaxEntries(int maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+	}
+
 	public static class PoolProperties {
 
 		private String name;
@@ -140,6 +184,9 @@ public class SpringSessionProperties {
 		@NestedConfigurationProperty
 		private final SessionAttributesProperties attributes = new SessionAttributesProperties();
 
+		@NestedConfigurationProperty
+		private final SessionDeltaProperties delta = new SessionDeltaProperties();
+
 		@NestedConfigurationProperty
 		private final SessionExpirationProperties expiration = new SessionExpirationProperties();
 
@@ -149,10 +196,17 @@ public class SpringSessionProperties {
 		@NestedConfigurationProperty
 		private final SessionSerializerProperties serializer = new SessionSerializerProperties();
 
+		@NestedConfigurationProperty
+		private final SessionWriteCoalescingProperties writeCoalescing = new SessionWriteCoalescingProperties();
+
 		public SessionAttributesProperties getAttributes() {
 			return this.attributes;
 		}
 
+		public SessionDeltaProperties getDelta() {
+			return this.delta;
+		}
+
 		public SessionExpirationProperties getExpiration() {
 			return this.expiration;
 		}
@@ -164,6 +218,10 @@ public class SpringSessionProperties {
 		public SessionSerializerProperties getSerializer() {
 			return this.serializer;
 		}
+
+		public SessionWriteCoalescingProperties getWriteCoalescing() {
+			return this.writeCoalescing;
+		}
 	}
 
 	public static class SessionAttributesProperties {
@@ -179,6 +237,29 @@ public class SpringSessionProperties {
 		}
 	}
 
+	public static class SessionDeltaProperties {
+
+		private boolean compareValues = true;
+
+		private boolean enabled = false;
+
+		public boolean isCompareValues() {
+			return this.compareValues;
+		}
+
+		public void setCompareValues(boolean compareValues) {
+			this.compareValues = compareValues;
+		}
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+	}
+
 	public static class SessionExpirationProperties {
 
 		private int maxInactiveIntervalSeconds;
@@ -207,6 +288,10 @@ public class SpringSessionProperties {
 
 	public static class SessionSerializerProperties {
 
+		public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+		private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+
 		private String beanName;
 
 		public String getBeanName() {
@@ -216,5 +301,38 @@ public class SpringSessionProperties {
 		public void setBeanName(String beanName) {
 			this.beanName = beanName;
 		}
+
+		public int getCompressionThreshold() {
+			return this.compressionThreshold;
+		}
+
+		public void setCompressionThreshold(int compressionThreshold) {
+			this.compressionThreshold = compressionThreshold;
+		}
+	}
+
+	public static class SessionWriteCoalescingProperties {
+
+		public static final int DEFAULT_LAST_ACCESSED_TIME_INTERVAL_SECONDS = 30;
+
+		private boolean enabled = false;
+
+		private int lastAccessedTimeIntervalSeconds = DEFAULT_LAST_ACCESSED_TIME_INTERVAL_SECONDS;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getLastAccessedTimeIntervalSeconds() {
+			return this.lastAccessedTimeIntervalSeconds;
+		}
+
+		public void setLastAccessedTimeIntervalSeconds(int lastAccessedTimeIntervalSeconds) {
+			this.lastAccessedTimeIntervalSeconds = lastAccessedTimeIntervalSeconds;
+		}
 	}
 }
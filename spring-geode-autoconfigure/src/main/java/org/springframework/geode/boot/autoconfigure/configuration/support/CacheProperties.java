@@ -15,6 +15,9 @@
  */
 package org.springframework.geode.boot.autoconfigure.configuration.support;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.geode.cache.Cache;
@@ -70,12 +73,18 @@ public class CacheProperties {
 	@NestedConfigurationProperty
 	private final CompressionProperties compression = new CompressionProperties();
 
+	@NestedConfigurationProperty
+	private final L1CacheProperties l1 = new L1CacheProperties();
+
 	@NestedConfigurationProperty
 	private final OffHeapProperties offHeap = new OffHeapProperties();
 
 	@NestedConfigurationProperty
 	private final PeerCacheProperties peer = new PeerCacheProperties();
 
+	@NestedConfigurationProperty
+	private final SingleFlightCacheProperties singleFlight = new SingleFlightCacheProperties();
+
 	private String logLevel = DEFAULT_LOG_LEVEL;
 	private String name;
 
@@ -135,6 +144,10 @@ public class CacheProperties {
 		this.evictionOffHeapPercentage = evictionOffHeapPercentage;
 	}
 
+	public L1CacheProperties getL1() {
+		return this.l1;
+	}
+
 	public String getLogLevel() {
 		return this.logLevel;
 	}
@@ -163,6 +176,10 @@ public class CacheProperties {
 		return this.server;
 	}
 
+	public SingleFlightCacheProperties getSingleFlight() {
+		return this.singleFlight;
+	}
+
 	public static class CompressionProperties {
 
 		private String compressorBeanName;
@@ -186,6 +203,82 @@ public class CacheProperties {
 		}
 	}
 
+	public static class L1CacheProperties {
+
+		public static final long DEFAULT_MAXIMUM_SIZE = 10000L;
+
+		public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+		private boolean enabled = false;
+
+		private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+		private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+		private final Map<String, L1CacheSpecProperties> caches = new HashMap<>();
+
+		private String[] cacheNames = {};
+
+		public String[] getCacheNames() {
+			return this.cacheNames;
+		}
+
+		public void setCacheNames(String[] cacheNames) {
+			this.cacheNames = cacheNames;
+		}
+
+		public Map<String, L1CacheSpecProperties> getCaches() {
+			return this.caches;
+		}
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public long getMaximumSize() {
+			return this.maximumSize;
+		}
+
+		public void setMaximumSize(long maximumSize) {
+			this.maximumSize = maximumSize;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+	}
+
+	public static class L1CacheSpecProperties {
+
+		private Long maximumSize;
+
+		private Duration timeToLive;
+
+		public Long getMaximumSize() {
+			return this.maximumSize;
+		}
+
+		public void setMaximumSize(Long maximumSize) {
+			this.maximumSize = maximumSize;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+	}
+
 	public static class OffHeapProperties {
 
 		private String memorySize;
@@ -208,4 +301,49 @@ public class CacheProperties {
 			this.regionNames = regionNames;
 		}
 	}
+
+	public static class SingleFlightCacheProperties {
+
+		public static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofSeconds(30);
+		public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(100);
+		public static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(30);
+
+		private boolean enabled = false;
+
+		private Duration leaseTimeout = DEFAULT_LEASE_TIMEOUT;
+		private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+		private Duration waitTimeout = DEFAULT_WAIT_TIMEOUT;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getLeaseTimeout() {
+			return this.leaseTimeout;
+		}
+
+		public void setLeaseTimeout(Duration leaseTimeout) {
+			this.leaseTimeout = leaseTimeout;
+		}
+
+		public Duration getPollInterval() {
+			return this.pollInterval;
+		}
+
+		public void setPollInterval(Duration pollInterval) {
+			this.pollInterval = pollInterval;
+		}
+
+		public Duration getWaitTimeout() {
+			return this.waitTimeout;
+		}
+
+		public void setWaitTimeout(Duration waitTimeout) {
+			this.waitTimeout = waitTimeout;
+		}
+	}
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.geode.cache.BatchCacheable;
+import org.springframework.geode.cache.BatchCachingInterceptor;
+
+/**
+ * A Spring {@link Configuration} class used to apply the {@link BatchCachingInterceptor} to Spring beans declaring
+ * {@link BatchCacheable} methods.
+ *
+ * The {@link Advisor} is an infrastructure bean, which is picked up by the auto-proxy creator registered with
+ * Spring's Cache Abstraction, like the {@link Advisor} applying Spring's own caching annotations.
+ *
+ * @author John Blum
+ * @see org.springframework.aop.Advisor
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.cache.BatchCacheable
+ * @see org.springframework.geode.cache.BatchCachingInterceptor
+ * @since 1.4.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class BatchCachingConfiguration {
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static Advisor batchCachingAdvisor(ObjectProvider<CacheManager> cacheManager) {
+
+		return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, BatchCacheable.class, true),
+			new BatchCachingInterceptor(cacheManager::getObject));
+	}
+}
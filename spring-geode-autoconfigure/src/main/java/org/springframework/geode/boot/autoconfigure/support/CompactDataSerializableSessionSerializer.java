@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.internal.InternalDataSerializer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSessionAttributes;
+import org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer;
+import org.springframework.util.Assert;
+
+/**
+ * Spring Session for Apache Geode {@link DataSerializableSessionSerializer} encoding the (HTTP) Session attributes
+ * with a {@link SessionAttributeCodec} rather than Apache Geode {@link org.apache.geode.DataSerializer}
+ * or Java Serialization of each attribute value.
+ *
+ * The Session metadata (e.g. ID, creation time and last accessed time) is serialized as by
+ * {@link DataSerializableSessionSerializer}. This serializer supports the same Session classes as
+ * {@link DataSerializableSessionSerializer} and therefore must be {@link #register() registered} with Apache Geode
+ * in its place, on both clients and servers. Session attribute blocks are versioned and decoding does not depend on
+ * the compression threshold, so servers and clients need not use the same configuration.
+ *
+ * Apache Geode constructs the registered {@link DataSerializer} with the public, no-arg constructor, so that instance
+ * uses the {@link SessionAttributeCodec} {@link #register(SessionAttributeCodec) registered} with this class.
+ *
+ * @author John Blum
+ * @see org.apache.geode.DataSerializer
+ * @see org.apache.geode.internal.InternalDataSerializer
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionAttributeCodec
+ * @see org.springframework.session.data.gemfire.serialization.data.provider.DataSerializableSessionSerializer
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class CompactDataSerializableSessionSerializer extends DataSerializableSessionSerializer {
+
+	public static final int DATA_SERIALIZER_ID = 0x5B0D6E01;
+
+	public static final String SESSION_COMPACT_DATA_SERIALIZER_BEAN_NAME = "SessionCompactDataSerializer";
+
+	private static volatile SessionAttributeCodec registeredSessionAttributeCodec = new SessionAttributeCodec();
+
+	/**
+	 * Registers the {@link CompactDataSerializableSessionSerializer} with Apache Geode, using the currently
+	 * registered {@link SessionAttributeCodec}.
+	 *
+	 * @see #register(SessionAttributeCodec)
+	 */
+	public static void register() {
+		register(registeredSessionAttributeCodec);
+	}
+
+	/**
+	 * Registers the {@link CompactDataSerializableSessionSerializer} with Apache Geode, in place of any other
+	 * {@link DataSerializer} (e.g. {@link DataSerializableSessionSerializer}) registered for the same Session classes,
+	 * which would otherwise prevent this serializer from being registered.
+	 *
+	 * @param sessionAttributeCodec {@link SessionAttributeCodec} used by the instance created by Apache Geode.
+	 * @throws IllegalArgumentException if the {@link SessionAttributeCodec} is {@literal null}.
+	 * @see org.apache.geode.DataSerializer#register(Class)
+	 */
+	public static synchronized void register(@NonNull SessionAttributeCodec sessionAttributeCodec) {
+
+		Assert.notNull(sessionAttributeCodec, "SessionAttributeCodec is required");
+
+		registeredSessionAttributeCodec = sessionAttributeCodec;
+
+		for (Class<?> sessionType : new CompactDataSerializableSessionSerializer().getSupportedClasses()) {
+
+			DataSerializer registeredDataSerializer = InternalDataSerializer.getSerializer(sessionType);
+
+			if (registeredDataSerializer != null && registeredDataSerializer.getId() != DATA_SERIALIZER_ID) {
+				InternalDataSerializer.unregister(registeredDataSerializer.getId());
+			}
+		}
+
+		DataSerializer.register(CompactDataSerializableSessionSerializer.class);
+	}
+
+	private final SessionAttributeCodec sessionAttributeCodec;
+
+	/**
+	 * Constructs a new instance of {@link CompactDataSerializableSessionSerializer} using the
+	 * {@link #register(SessionAttributeCodec) registered} {@link SessionAttributeCodec}.
+	 *
+	 * Apache Geode requires a public, no-arg constructor to instantiate a registered {@link DataSerializer}.
+	 */
+	public CompactDataSerializableSessionSerializer() {
+		this.sessionAttributeCodec = null;
+	}
+
+	/**
+	 * Constructs a new instance of {@link CompactDataSerializableSessionSerializer} initialized with
+	 * the given {@link SessionAttributeCodec}.
+	 *
+	 * @param sessionAttributeCodec {@link SessionAttributeCodec} used to encode and decode Session attributes.
+	 * @throws IllegalArgumentException if the {@link SessionAttributeCodec} is {@literal null}.
+	 */
+	public CompactDataSerializableSessionSerializer(@NonNull SessionAttributeCodec sessionAttributeCodec) {
+
+		Assert.notNull(sessionAttributeCodec, "SessionAttributeCodec is required");
+
+		this.sessionAttributeCodec = sessionAttributeCodec;
+	}
+
+	public @NonNull SessionAttributeCodec getSessionAttributeCodec() {
+
+		SessionAttributeCodec sessionAttributeCodec = this.sessionAttributeCodec;
+
+		return sessionAttributeCodec != null ? sessionAttributeCodec : registeredSessionAttributeCodec;
+	}
+
+	@Override
+	public int getId() {
+		return DATA_SERIALIZER_ID;
+	}
+
+	@Override
+	protected void serializeObject(Object obj, DataOutput out) throws IOException {
+
+		boolean sessionAttributes = obj instanceof GemFireSessionAttributes;
+
+		out.writeBoolean(sessionAttributes);
+
+		if (sessionAttributes) {
+			getSessionAttributeCodec().writeAttributes(toMap((GemFireSessionAttributes) obj), out);
+		}
+		else {
+			super.serializeObject(obj, out);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected <T> T deserializeObject(DataInput in) throws ClassNotFoundException, IOException {
+
+		return in.readBoolean()
+			? (T) toSessionAttributes(getSessionAttributeCodec().readAttributes(in))
+			: super.deserializeObject(in);
+	}
+
+	static Map<String, Object> toMap(@NonNull GemFireSessionAttributes sessionAttributes) {
+
+		synchronized (sessionAttributes.getLock()) {
+
+			Map<String, Object> attributes = new LinkedHashMap<>();
+
+			for (String attributeName : sessionAttributes.getAttributeNames()) {
+				attributes.put(attributeName, sessionAttributes.getAttribute(attributeName));
+			}
+
+			return attributes;
+		}
+	}
+
+	static GemFireSessionAttributes toSessionAttributes(@NonNull Map<String, Object> attributes) {
+
+		GemFireSessionAttributes sessionAttributes = GemFireSessionAttributes.create();
+
+		attributes.forEach(sessionAttributes::setAttribute);
+
+		return sessionAttributes;
+	}
+}
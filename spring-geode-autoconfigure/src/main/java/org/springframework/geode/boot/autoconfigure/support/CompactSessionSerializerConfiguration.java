@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.geode.boot.autoconfigure.configuration.SpringSessionProperties.SessionSerializerProperties;
+
+/**
+ * A Spring {@link Configuration} class used to declare the {@link CompactDataSerializableSessionSerializer} bean
+ * when it is selected as the (HTTP) Session serializer with
+ * {@literal spring.session.data.gemfire.session.serializer.bean-name=SessionCompactDataSerializer}.
+ *
+ * Once all singletons are initialized, the {@link CompactDataSerializableSessionSerializer} is registered with
+ * Apache Geode in place of Spring Session's {@literal DataSerializableSessionSerializer}, along with
+ * the {@link SessionAttributeCodec} of the bean, so that the configured compression threshold is used by
+ * the instance Apache Geode creates.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.SmartInitializingSingleton
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.autoconfigure.support.CompactDataSerializableSessionSerializer
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionAttributeCodec
+ * @since 1.4.0
+ */
+@Configuration
+@ConditionalOnProperty(name = CompactSessionSerializerConfiguration.SERIALIZER_BEAN_NAME_PROPERTY,
+	havingValue = CompactDataSerializableSessionSerializer.SESSION_COMPACT_DATA_SERIALIZER_BEAN_NAME)
+@SuppressWarnings("unused")
+public class CompactSessionSerializerConfiguration {
+
+	public static final String SERIALIZER_COMPRESSION_THRESHOLD_PROPERTY =
+		"spring.session.data.gemfire.session.serializer.compression-threshold";
+
+	protected static final String SERIALIZER_BEAN_NAME_PROPERTY =
+		"spring.session.data.gemfire.session.serializer.bean-name";
+
+	@Bean(CompactDataSerializableSessionSerializer.SESSION_COMPACT_DATA_SERIALIZER_BEAN_NAME)
+	@ConditionalOnMissingBean(
+		name = CompactDataSerializableSessionSerializer.SESSION_COMPACT_DATA_SERIALIZER_BEAN_NAME)
+	CompactDataSerializableSessionSerializer compactDataSerializableSessionSerializer(Environment environment) {
+
+		int compressionThreshold = environment.getProperty(SERIALIZER_COMPRESSION_THRESHOLD_PROPERTY, Integer.class,
+			SessionSerializerProperties.DEFAULT_COMPRESSION_THRESHOLD);
+
+		return new CompactDataSerializableSessionSerializer(new SessionAttributeCodec(compressionThreshold));
+	}
+
+	@Bean
+	SmartInitializingSingleton compactDataSerializableSessionSerializerRegistrar(
+			@Qualifier(CompactDataSerializableSessionSerializer.SESSION_COMPACT_DATA_SERIALIZER_BEAN_NAME)
+			CompactDataSerializableSessionSerializer sessionSerializer) {
+
+		return () -> CompactDataSerializableSessionSerializer.register(sessionSerializer.getSessionAttributeCodec());
+	}
+}
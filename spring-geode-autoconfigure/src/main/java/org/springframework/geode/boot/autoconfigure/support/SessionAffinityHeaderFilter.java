@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet {@link javax.servlet.Filter} adding a header identifying this application instance to each HTTP response
+ * so that a load balancer can route subsequent requests for the same (HTTP) Session to the same instance,
+ * where the Session is held in the near cache.
+ *
+ * @author John Blum
+ * @see javax.servlet.Filter
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionNearCacheConfiguration
+ * @see org.springframework.web.filter.OncePerRequestFilter
+ * @since 1.4.0
+ */
+public class SessionAffinityHeaderFilter extends OncePerRequestFilter {
+
+	private final String headerName;
+
+	private final Supplier<String> affinitySupplier;
+
+	private volatile String affinity;
+
+	/**
+	 * Constructs a new instance of {@link SessionAffinityHeaderFilter}.
+	 *
+	 * @param headerName {@link String} containing the name of the HTTP response header; the header is not added
+	 * if {@literal null} or empty.
+	 * @param affinitySupplier {@link Supplier} of the value identifying this application instance.
+	 */
+	public SessionAffinityHeaderFilter(@Nullable String headerName, @NonNull Supplier<String> affinitySupplier) {
+		this.headerName = headerName;
+		this.affinitySupplier = affinitySupplier;
+	}
+
+	public @Nullable String getHeaderName() {
+		return this.headerName;
+	}
+
+	protected @Nullable String resolveAffinity() {
+
+		String affinity = this.affinity;
+
+		if (affinity == null) {
+			affinity = this.affinitySupplier.get();
+			this.affinity = affinity;
+		}
+
+		return affinity;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		String headerName = getHeaderName();
+
+		if (StringUtils.hasText(headerName)) {
+
+			String affinity = resolveAffinity();
+
+			if (StringUtils.hasText(affinity)) {
+				response.setHeader(headerName, affinity);
+			}
+		}
+
+		filterChain.doFilter(request, response);
+	}
+}
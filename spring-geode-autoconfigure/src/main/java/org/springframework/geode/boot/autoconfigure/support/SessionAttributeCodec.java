@@ -0,0 +1,496 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.geode.DataSerializer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * The {@link SessionAttributeCodec} class encodes (HTTP) Session attributes in a compact, versioned binary format.
+ *
+ * Common attribute value types ({@link String}, {@link Long}, {@link Integer}, {@link Boolean}, {@link UUID}
+ * and small {@link HashMap HashMaps} or {@link LinkedHashMap LinkedHashMaps} of these types) are encoded with
+ * a one byte type tag followed by a compact representation, using variable-length integers. Compact {@link Map Maps}
+ * are decoded as a {@link LinkedHashMap}. All other values, including all other {@link Map} types, are encoded with
+ * Apache Geode {@link DataSerializer DataSerialization} and keep their type. The codec used for each attribute value
+ * type is resolved once and cached.
+ *
+ * The attributes of a Session are encoded as a block starting with a format version, so that blocks written
+ * by older versions of this codec can still be decoded. A block larger than the configured
+ * {@link #getCompressionThreshold() compression threshold} is compressed when compression reduces its size.
+ *
+ * @author John Blum
+ * @see java.util.zip.Deflater
+ * @see org.apache.geode.DataSerializer
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class SessionAttributeCodec {
+
+	public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+	public static final int MAX_COMPACT_MAP_SIZE = 16;
+
+	protected static final byte FORMAT_VERSION_1 = 1;
+	protected static final byte CURRENT_FORMAT_VERSION = FORMAT_VERSION_1;
+
+	protected static final byte COMPRESSED_FLAG = 0x01;
+
+	protected static final byte NULL_TAG = 0;
+	protected static final byte STRING_TAG = 1;
+	protected static final byte LONG_TAG = 2;
+	protected static final byte INTEGER_TAG = 3;
+	protected static final byte TRUE_TAG = 4;
+	protected static final byte FALSE_TAG = 5;
+	protected static final byte UUID_TAG = 6;
+	protected static final byte MAP_TAG = 7;
+	protected static final byte OBJECT_TAG = 8;
+
+	private final int compressionThreshold;
+
+	private final Map<Class<?>, ValueCodec> valueCodecCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link SessionAttributeCodec} compressing Session attributes larger than
+	 * the {@link #DEFAULT_COMPRESSION_THRESHOLD default compression threshold}.
+	 */
+	public SessionAttributeCodec() {
+		this(DEFAULT_COMPRESSION_THRESHOLD);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SessionAttributeCodec} compressing Session attributes larger than
+	 * the given number of bytes.
+	 *
+	 * @param compressionThreshold size in bytes above which the Session attributes are compressed;
+	 * a negative value disables compression.
+	 */
+	public SessionAttributeCodec(int compressionThreshold) {
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	public int getCompressionThreshold() {
+		return this.compressionThreshold;
+	}
+
+	public boolean isCompressionEnabled() {
+		return getCompressionThreshold() >= 0;
+	}
+
+	/**
+	 * Writes the given {@link Map} of Session attributes to the {@link DataOutput} as a versioned,
+	 * optionally compressed block.
+	 *
+	 * @param attributes {@link Map} of Session attributes to write.
+	 * @param out {@link DataOutput} to write to.
+	 * @throws IOException if the Session attributes cannot be written.
+	 */
+	public void writeAttributes(@NonNull Map<String, ?> attributes, @NonNull DataOutput out) throws IOException {
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream bufferOut = new DataOutputStream(buffer);
+
+		writeVarInt(attributes.size(), bufferOut);
+
+		for (Map.Entry<String, ?> attribute : attributes.entrySet()) {
+			writeString(attribute.getKey(), bufferOut);
+			writeValue(attribute.getValue(), bufferOut);
+		}
+
+		bufferOut.flush();
+
+		byte[] block = buffer.toByteArray();
+		byte[] compressedBlock = isCompressionEnabled() && block.length > getCompressionThreshold()
+			? compress(block)
+			: null;
+
+		boolean compressed = compressedBlock != null && compressedBlock.length < block.length;
+
+		out.writeByte(CURRENT_FORMAT_VERSION);
+		out.writeByte(compressed ? COMPRESSED_FLAG : 0);
+		writeVarInt(block.length, out);
+
+		if (compressed) {
+			writeVarInt(compressedBlock.length, out);
+			out.write(compressedBlock);
+		}
+		else {
+			out.write(block);
+		}
+	}
+
+	/**
+	 * Reads a block of Session attributes written by {@link #writeAttributes(Map, DataOutput)} from
+	 * the {@link DataInput}.
+	 *
+	 * @param in {@link DataInput} to read from.
+	 * @return a {@link Map} of the Session attributes.
+	 * @throws IOException if the Session attributes cannot be read or were written in an unsupported format.
+	 * @throws ClassNotFoundException if the class of a Session attribute value cannot be found.
+	 */
+	public @NonNull Map<String, Object> readAttributes(@NonNull DataInput in)
+			throws ClassNotFoundException, IOException {
+
+		byte version = in.readByte();
+
+		if (version < FORMAT_VERSION_1 || version > CURRENT_FORMAT_VERSION) {
+			throw new IOException(String.format("Unsupported Session attributes format version [%d]", version));
+		}
+
+		byte flags = in.readByte();
+		int length = readVarInt(in);
+
+		byte[] block;
+
+		if ((flags & COMPRESSED_FLAG) != 0) {
+
+			byte[] compressedBlock = new byte[readVarInt(in)];
+
+			in.readFully(compressedBlock);
+			block = decompress(compressedBlock, length);
+		}
+		else {
+			block = new byte[length];
+			in.readFully(block);
+		}
+
+		DataInputStream blockIn = new DataInputStream(new ByteArrayInputStream(block));
+
+		int size = readVarInt(blockIn);
+
+		Map<String, Object> attributes = new LinkedHashMap<>(size * 4 / 3 + 1);
+
+		for (int index = 0; index < size; index++) {
+			attributes.put(readString(blockIn), readValue(blockIn));
+		}
+
+		return attributes;
+	}
+
+	/**
+	 * Writes a single value, preceded by its type tag, to the {@link DataOutput}.
+	 *
+	 * @param value {@link Object} to write; may be {@literal null}.
+	 * @param out {@link DataOutput} to write to.
+	 * @throws IOException if the value cannot be written.
+	 */
+	public void writeValue(@Nullable Object value, @NonNull DataOutput out) throws IOException {
+
+		if (value == null) {
+			out.writeByte(NULL_TAG);
+		}
+		else {
+			resolveValueCodec(value.getClass()).write(value, out);
+		}
+	}
+
+	/**
+	 * Reads a single value written by {@link #writeValue(Object, DataOutput)} from the {@link DataInput}.
+	 *
+	 * @param in {@link DataInput} to read from.
+	 * @return the value read; may be {@literal null}.
+	 * @throws IOException if the value cannot be read.
+	 * @throws ClassNotFoundException if the class of the value cannot be found.
+	 */
+	public @Nullable Object readValue(@NonNull DataInput in) throws ClassNotFoundException, IOException {
+
+		byte tag = in.readByte();
+
+		switch (tag) {
+			case NULL_TAG:
+				return null;
+			case STRING_TAG:
+				return readString(in);
+			case LONG_TAG:
+				return readVarLong(in);
+			case INTEGER_TAG:
+				return (int) readVarLong(in);
+			case TRUE_TAG:
+				return Boolean.TRUE;
+			case FALSE_TAG:
+				return Boolean.FALSE;
+			case UUID_TAG:
+				return new UUID(in.readLong(), in.readLong());
+			case MAP_TAG:
+				return readMap(in);
+			case OBJECT_TAG:
+				return DataSerializer.readObject(in);
+			default:
+				throw new IOException(String.format("Unknown Session attribute value type [%d]", tag));
+		}
+	}
+
+	ValueCodec resolveValueCodec(@NonNull Class<?> type) {
+		return this.valueCodecCache.computeIfAbsent(type, this::newValueCodec);
+	}
+
+	private ValueCodec newValueCodec(Class<?> type) {
+
+		if (String.class.equals(type)) {
+			return (value, out) -> {
+				out.writeByte(STRING_TAG);
+				writeString((String) value, out);
+			};
+		}
+		else if (Long.class.equals(type)) {
+			return (value, out) -> {
+				out.writeByte(LONG_TAG);
+				writeVarLong((Long) value, out);
+			};
+		}
+		else if (Integer.class.equals(type)) {
+			return (value, out) -> {
+				out.writeByte(INTEGER_TAG);
+				writeVarLong((Integer) value, out);
+			};
+		}
+		else if (Boolean.class.equals(type)) {
+			return (value, out) -> out.writeByte(Boolean.TRUE.equals(value) ? TRUE_TAG : FALSE_TAG);
+		}
+		else if (UUID.class.equals(type)) {
+			return (value, out) -> {
+				out.writeByte(UUID_TAG);
+				out.writeLong(((UUID) value).getMostSignificantBits());
+				out.writeLong(((UUID) value).getLeastSignificantBits());
+			};
+		}
+		else if (HashMap.class.equals(type) || LinkedHashMap.class.equals(type)) {
+			// Only plain HashMaps & LinkedHashMaps can be decoded as a LinkedHashMap without changing their behavior;
+			// other Map types (e.g. TreeMap, ConcurrentHashMap or unmodifiable Maps) must keep their concrete type.
+			return (value, out) -> {
+				if (isCompactMap((Map<?, ?>) value)) {
+					out.writeByte(MAP_TAG);
+					writeMap((Map<?, ?>) value, out);
+				}
+				else {
+					writeObject(value, out);
+				}
+			};
+		}
+
+		return this::writeObject;
+	}
+
+	private boolean isCompactMap(Map<?, ?> map) {
+
+		if (map.size() > MAX_COMPACT_MAP_SIZE) {
+			return false;
+		}
+
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			if (!isCompactType(entry.getKey()) || !isCompactType(entry.getValue())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isCompactType(@Nullable Object value) {
+
+		return value == null
+			|| value instanceof String
+			|| value instanceof Long
+			|| value instanceof Integer
+			|| value instanceof Boolean
+			|| value instanceof UUID;
+	}
+
+	private void writeMap(Map<?, ?> map, DataOutput out) throws IOException {
+
+		writeVarInt(map.size(), out);
+
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			writeValue(entry.getKey(), out);
+			writeValue(entry.getValue(), out);
+		}
+	}
+
+	private Map<Object, Object> readMap(DataInput in) throws ClassNotFoundException, IOException {
+
+		int size = readVarInt(in);
+
+		Map<Object, Object> map = new LinkedHashMap<>(size * 4 / 3 + 1);
+
+		for (int index = 0; index < size; index++) {
+			map.put(readValue(in), readValue(in));
+		}
+
+		return map;
+	}
+
+	private void writeObject(Object value, DataOutput out) throws IOException {
+		out.writeByte(OBJECT_TAG);
+		DataSerializer.writeObject(value, out);
+	}
+
+	static void writeString(String value, DataOutput out) throws IOException {
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+		writeVarInt(bytes.length, out);
+		out.write(bytes);
+	}
+
+	static String readString(DataInput in) throws IOException {
+
+		byte[] bytes = new byte[readVarInt(in)];
+
+		in.readFully(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	static void writeVarInt(int value, DataOutput out) throws IOException {
+
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+
+		out.writeByte(value);
+	}
+
+	static int readVarInt(DataInput in) throws IOException {
+
+		int value = 0;
+
+		for (int shift = 0; shift < 32; shift += 7) {
+
+			byte b = in.readByte();
+
+			value |= (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new IOException("Malformed variable-length int");
+	}
+
+	// ZigZag encoding keeps small negative values small.
+	static void writeVarLong(long value, DataOutput out) throws IOException {
+
+		long zigZagValue = (value << 1) ^ (value >> 63);
+
+		while ((zigZagValue & ~0x7FL) != 0) {
+			out.writeByte((int) ((zigZagValue & 0x7F) | 0x80));
+			zigZagValue >>>= 7;
+		}
+
+		out.writeByte((int) zigZagValue);
+	}
+
+	static long readVarLong(DataInput in) throws IOException {
+
+		long zigZagValue = 0;
+
+		for (int shift = 0; shift < 64; shift += 7) {
+
+			byte b = in.readByte();
+
+			zigZagValue |= (long) (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return (zigZagValue >>> 1) ^ -(zigZagValue & 1);
+			}
+		}
+
+		throw new IOException("Malformed variable-length long");
+	}
+
+	static byte[] compress(byte[] bytes) {
+
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 16);
+			byte[] buffer = new byte[4096];
+
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+
+			return out.toByteArray();
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	static byte[] decompress(byte[] bytes, int length) throws IOException {
+
+		Inflater inflater = new Inflater();
+
+		try {
+			inflater.setInput(bytes);
+
+			byte[] block = new byte[length];
+			int offset = 0;
+
+			while (offset < length && !inflater.finished()) {
+
+				int count = inflater.inflate(block, offset, length - offset);
+
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+
+				offset += count;
+			}
+
+			if (offset != length) {
+				throw new IOException(String.format("Expected [%1$d] bytes of Session attributes; was [%2$d]",
+					length, offset));
+			}
+
+			return block;
+		}
+		catch (DataFormatException cause) {
+			throw new IOException("Failed to decompress Session attributes", cause);
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+	@FunctionalInterface
+	interface ValueCodec {
+		void write(Object value, DataOutput out) throws IOException;
+	}
+}
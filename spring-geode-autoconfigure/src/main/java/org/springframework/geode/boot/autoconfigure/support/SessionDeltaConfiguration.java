@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
+import org.springframework.session.data.gemfire.support.EqualsDirtyPredicate;
+import org.springframework.session.data.gemfire.support.IsDirtyPredicate;
+
+/**
+ * A Spring {@link Configuration} class used to configure (HTTP) Session attribute-level dirty tracking so that only
+ * the Session attributes that changed are sent to the server using Apache Geode {@link org.apache.geode.Delta}
+ * propagation.
+ *
+ * Spring Session for Apache Geode only sends a delta when the Session is serialized with Apache Geode
+ * DataSerialization, therefore the {@literal SessionDataSerializer} is configured by
+ * {@link org.springframework.geode.boot.autoconfigure.SpringSessionAutoConfiguration} when delta propagation
+ * is enabled. A Session with no changes is not sent to the server at all.
+ *
+ * An attribute is considered dirty when the new value is not {@link Object#equals(Object) equal} to the old value,
+ * or, when {@literal compare-values} is disabled, when the new value is a different object or an
+ * {@link org.apache.geode.Delta} that has changed.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Delta
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate
+ * @see org.springframework.session.data.gemfire.support.EqualsDirtyPredicate
+ * @see org.springframework.session.data.gemfire.support.IsDirtyPredicate
+ * @since 1.4.0
+ */
+@Configuration
+@ConditionalOnProperty(name = SessionDeltaConfiguration.DELTA_ENABLED_PROPERTY, havingValue = "true")
+@SuppressWarnings("unused")
+public class SessionDeltaConfiguration {
+
+	public static final String DELTA_COMPARE_VALUES_PROPERTY = "spring.session.data.gemfire.session.delta.compare-values";
+	public static final String DELTA_ENABLED_PROPERTY = "spring.session.data.gemfire.session.delta.enabled";
+	public static final String SESSION_DATA_SERIALIZER_BEAN_NAME = "SessionDataSerializer";
+
+	@Bean
+	@ConditionalOnMissingBean
+	IsDirtyPredicate sessionIsDirtyPredicate(Environment environment) {
+
+		return environment.getProperty(DELTA_COMPARE_VALUES_PROPERTY, Boolean.class, true)
+			? EqualsDirtyPredicate.INSTANCE
+			: DeltaAwareDirtyPredicate.INSTANCE;
+	}
+}
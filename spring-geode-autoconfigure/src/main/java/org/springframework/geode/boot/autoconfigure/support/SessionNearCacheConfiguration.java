@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.geode.boot.autoconfigure.configuration.SpringSessionProperties.NearCacheProperties;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.util.StringUtils;
+
+/**
+ * A Spring {@link Configuration} class used to configure the client (HTTP) Session {@link Region} as a near cache.
+ *
+ * In near cache mode, the client Session {@link Region} is a {@literal CACHING_PROXY} keeping a local copy of each
+ * Session used by the application. The local copies are bounded by entry count, using LRU eviction, and are kept
+ * current by registering interest in the Session {@link Region} without receiving values, so that changes made to
+ * a Session on other application instances invalidate the local copy. Subscription is enabled on the {@literal DEFAULT}
+ * {@link org.apache.geode.cache.client.Pool} by {@link EnableSubscriptionConfiguration}.
+ *
+ * Session reads only stay local when requests for the same Session are routed to the same application instance.
+ * Therefore, an affinity header identifying the application instance is added to each HTTP response, which a load
+ * balancer may use to route subsequent requests (i.e. "sticky sessions").
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.EvictionAttributes
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.data.gemfire.RegionAttributesFactoryBean
+ * @see org.springframework.geode.boot.autoconfigure.support.EnableSubscriptionConfiguration
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionAffinityHeaderFilter
+ * @since 1.4.0
+ */
+@Configuration
+@ConditionalOnProperty(name = SessionNearCacheConfiguration.NEAR_CACHE_ENABLED_PROPERTY, havingValue = "true")
+@SuppressWarnings("unused")
+public class SessionNearCacheConfiguration {
+
+	public static final String NEAR_CACHE_AFFINITY_HEADER_NAME_PROPERTY =
+		"spring.session.data.gemfire.cache.client.near-cache.affinity-header-name";
+
+	public static final String NEAR_CACHE_ENABLED_PROPERTY =
+		"spring.session.data.gemfire.cache.client.near-cache.enabled";
+
+	public static final String NEAR_CACHE_MAX_ENTRIES_PROPERTY =
+		"spring.session.data.gemfire.cache.client.near-cache.max-entries";
+
+	protected static final String CLIENT_REGION_SHORTCUT_PROPERTY =
+		"spring.session.data.gemfire.cache.client.region.shortcut";
+	protected static final String SESSION_REGION_ATTRIBUTES_BEAN_NAME = "sessionRegionAttributes";
+	protected static final String SESSION_REGION_NAME_PROPERTY = "spring.session.data.gemfire.session.region.name";
+
+	@Bean
+	static BeanPostProcessor sessionNearCacheBeanPostProcessor(Environment environment,
+			ObjectProvider<GemFireCache> gemfireCache) {
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+
+				if (bean instanceof RegionAttributesFactoryBean && SESSION_REGION_ATTRIBUTES_BEAN_NAME.equals(beanName)
+						&& gemfireCache.getIfAvailable() instanceof ClientCache && isCachingProxy(environment)) {
+
+					((RegionAttributesFactoryBean<?, ?>) bean).setEvictionAttributes(
+						newEvictionAttributes(resolveMaxEntries(environment)));
+				}
+
+				return bean;
+			}
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+				if (bean instanceof Region && isSessionRegion((Region<?, ?>) bean, environment)) {
+					registerInterest((Region<?, ?>) bean);
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	SessionAffinityHeaderFilter sessionAffinityHeaderFilter(Environment environment, GemFireCache gemfireCache) {
+
+		String headerName = environment.getProperty(NEAR_CACHE_AFFINITY_HEADER_NAME_PROPERTY,
+			NearCacheProperties.DEFAULT_AFFINITY_HEADER_NAME);
+
+		return new SessionAffinityHeaderFilter(headerName, () -> resolveAffinity(gemfireCache));
+	}
+
+	static EvictionAttributes newEvictionAttributes(int maxEntries) {
+		return EvictionAttributes.createLRUEntryAttributes(maxEntries, EvictionAction.LOCAL_DESTROY);
+	}
+
+	static int resolveMaxEntries(Environment environment) {
+		return Math.max(1, environment.getProperty(NEAR_CACHE_MAX_ENTRIES_PROPERTY, Integer.class,
+			NearCacheProperties.DEFAULT_MAX_ENTRIES));
+	}
+
+	// Other client Region data policies either do not store Sessions locally or are already bounded.
+	static boolean isCachingProxy(Environment environment) {
+
+		return ClientRegionShortcut.CACHING_PROXY.equals(environment.getProperty(CLIENT_REGION_SHORTCUT_PROPERTY,
+			ClientRegionShortcut.class, ClientRegionShortcut.CACHING_PROXY));
+	}
+
+	static String resolveSessionRegionName(Environment environment) {
+		return environment.getProperty(SESSION_REGION_NAME_PROPERTY,
+			GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME);
+	}
+
+	/**
+	 * Determines whether the given {@link Region} is the client Session {@link Region} storing Sessions locally.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @param environment {@link Environment} used to resolve the name of the Session {@link Region}.
+	 * @return a boolean value indicating whether the {@link Region} is the client, near cache Session {@link Region}.
+	 */
+	static boolean isSessionRegion(@NonNull Region<?, ?> region, @NonNull Environment environment) {
+
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+		return resolveSessionRegionName(environment).equals(region.getName())
+			&& regionAttributes != null
+			&& StringUtils.hasText(regionAttributes.getPoolName())
+			&& !DataPolicy.EMPTY.equals(regionAttributes.getDataPolicy());
+	}
+
+	/**
+	 * Registers interest in all keys of the Session {@link Region} without receiving values unless interest
+	 * has already been registered, for instance by Spring Session for Apache Geode.
+	 *
+	 * Without values, a change made to a Session by another application instance is delivered as an invalidation
+	 * of the local copy, which is then fetched from the servers on the next access, if any.
+	 *
+	 * @param region Session {@link Region}.
+	 */
+	static void registerInterest(@NonNull Region<?, ?> region) {
+
+		if (region.getInterestList().isEmpty() && region.getInterestListRegex().isEmpty()) {
+			region.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+		}
+	}
+
+	static @Nullable String resolveAffinity(@NonNull GemFireCache gemfireCache) {
+
+		return Optional.ofNullable(gemfireCache.getDistributedSystem())
+			.map(DistributedSystem::getDistributedMember)
+			.map(member -> StringUtils.hasText(member.getName()) ? member.getName() : member.getId())
+			.orElse(null);
+	}
+}
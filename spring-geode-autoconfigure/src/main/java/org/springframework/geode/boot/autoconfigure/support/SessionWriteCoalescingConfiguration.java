@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import java.time.Duration;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.geode.boot.autoconfigure.configuration.SpringSessionProperties.SessionWriteCoalescingProperties;
+import org.springframework.lang.NonNull;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository;
+
+/**
+ * A Spring {@link Configuration} class used to coalesce the writes of (HTTP) Sessions to the cluster.
+ *
+ * The Spring Session for Apache Geode {@link org.springframework.session.SessionRepository} is proxied with
+ * a {@link SessionWriteCoalescingInterceptor}, which writes the last accessed time of a Session at most once per
+ * configured interval and merges concurrent saves of the same Session in the JVM.
+ *
+ * @author John Blum
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionWriteCoalescingInterceptor
+ * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository
+ * @since 1.4.0
+ */
+@Configuration
+@ConditionalOnProperty(name = SessionWriteCoalescingConfiguration.WRITE_COALESCING_ENABLED_PROPERTY,
+	havingValue = "true")
+@SuppressWarnings("unused")
+public class SessionWriteCoalescingConfiguration {
+
+	public static final String WRITE_COALESCING_ENABLED_PROPERTY =
+		"spring.session.data.gemfire.session.write-coalescing.enabled";
+
+	public static final String WRITE_COALESCING_LAST_ACCESSED_TIME_INTERVAL_PROPERTY =
+		"spring.session.data.gemfire.session.write-coalescing.last-accessed-time-interval-seconds";
+
+	@Bean
+	static BeanPostProcessor sessionWriteCoalescingBeanPostProcessor(Environment environment) {
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+				return bean instanceof AbstractGemFireOperationsSessionRepository
+					? newSessionRepositoryProxy(bean, new SessionWriteCoalescingInterceptor(
+						resolveLastAccessedTimeInterval(environment)))
+					: bean;
+			}
+		};
+	}
+
+	// Proxy the target class so the SessionRepository can still be injected by its concrete type.
+	static Object newSessionRepositoryProxy(@NonNull Object sessionRepository,
+			@NonNull SessionWriteCoalescingInterceptor interceptor) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(sessionRepository);
+
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(interceptor);
+
+		return proxyFactory.getProxy(sessionRepository.getClass().getClassLoader());
+	}
+
+	static Duration resolveLastAccessedTimeInterval(@NonNull Environment environment) {
+
+		int lastAccessedTimeIntervalSeconds = environment.getProperty(WRITE_COALESCING_LAST_ACCESSED_TIME_INTERVAL_PROPERTY,
+			Integer.class, SessionWriteCoalescingProperties.DEFAULT_LAST_ACCESSED_TIME_INTERVAL_SECONDS);
+
+		return Duration.ofSeconds(Math.max(0, lastAccessedTimeIntervalSeconds));
+	}
+}
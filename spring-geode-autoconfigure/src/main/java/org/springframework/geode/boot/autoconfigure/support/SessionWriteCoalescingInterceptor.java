@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+import org.springframework.util.Assert;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} coalescing the writes of (HTTP) Sessions by a {@link SessionRepository}.
+ *
+ * Spring Session updates the last accessed time of a Session on every HTTP request, which makes the Session dirty and
+ * causes it to be written to the cluster, even when the request did not change the Session. A Session save that only
+ * changes the last accessed time (a "touch") is skipped when the last accessed time stored by this application instance
+ * is less than the configured {@link #getLastAccessedTimeInterval() interval} old. Therefore, the last accessed time
+ * of a Session is written at most once per interval, per Session, by each application instance.
+ *
+ * Saves of the same Session are serialized in the JVM, so that concurrent requests for the same Session
+ * (e.g. parallel requests from a single-page application) are merged into a single write, with the other saves
+ * being skipped as touches already covered by that write. Saves changing Session attributes or the max inactive
+ * interval are always written.
+ *
+ * The number of tracked Sessions is bounded. Only Sessions that are not being saved are evicted, so that eviction
+ * never breaks the merge of concurrent saves of the same Session.
+ *
+ * Only Spring Session for Apache Geode {@link GemFireSession GemFireSessions} are coalesced.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.session.Session
+ * @see org.springframework.session.SessionRepository
+ * @see org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class SessionWriteCoalescingInterceptor implements MethodInterceptor {
+
+	protected static final int DEFAULT_MAX_TRACKED_SESSIONS = 10000;
+
+	protected static final String DELETE_BY_ID_METHOD_NAME = "deleteById";
+	protected static final String SAVE_METHOD_NAME = "save";
+
+	private final AtomicLong coalescedSaveCount = new AtomicLong(0L);
+	private final AtomicLong saveCount = new AtomicLong(0L);
+
+	private final Duration lastAccessedTimeInterval;
+
+	private final int maxTrackedSessions;
+
+	private final Map<String, SavedSession> savedSessions = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link SessionWriteCoalescingInterceptor} initialized with the given
+	 * {@link Duration interval} between writes of the last accessed time of a Session.
+	 *
+	 * @param lastAccessedTimeInterval {@link Duration} between writes of the last accessed time of a Session.
+	 * @throws IllegalArgumentException if the {@link Duration interval} is {@literal null} or negative.
+	 * @see java.time.Duration
+	 */
+	public SessionWriteCoalescingInterceptor(@NonNull Duration lastAccessedTimeInterval) {
+		this(lastAccessedTimeInterval, DEFAULT_MAX_TRACKED_SESSIONS);
+	}
+
+	SessionWriteCoalescingInterceptor(@NonNull Duration lastAccessedTimeInterval, int maxTrackedSessions) {
+
+		Assert.notNull(lastAccessedTimeInterval, "Last accessed time interval is required");
+		Assert.isTrue(!lastAccessedTimeInterval.isNegative(),
+			() -> String.format("Last accessed time interval [%s] must not be negative", lastAccessedTimeInterval));
+
+		this.lastAccessedTimeInterval = lastAccessedTimeInterval;
+		this.maxTrackedSessions = Math.max(1, maxTrackedSessions);
+	}
+
+	public long getCoalescedSaveCount() {
+		return this.coalescedSaveCount.get();
+	}
+
+	public @NonNull Duration getLastAccessedTimeInterval() {
+		return this.lastAccessedTimeInterval;
+	}
+
+	public long getSaveCount() {
+		return this.saveCount.get();
+	}
+
+	int getTrackedSessionCount() {
+		return this.savedSessions.size();
+	}
+
+	@Override
+	public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+		String methodName = invocation.getMethod().getName();
+		Object[] arguments = invocation.getArguments();
+
+		if (arguments.length == 1) {
+
+			if (SAVE_METHOD_NAME.equals(methodName) && arguments[0] instanceof GemFireSession) {
+				return save(invocation, (GemFireSession<?>) arguments[0]);
+			}
+			else if (DELETE_BY_ID_METHOD_NAME.equals(methodName) && arguments[0] != null) {
+				this.savedSessions.remove(String.valueOf(arguments[0]));
+			}
+		}
+
+		return invocation.proceed();
+	}
+
+	private @Nullable Object save(@NonNull MethodInvocation invocation, @NonNull GemFireSession<?> session)
+			throws Throwable {
+
+		// The SavedSession is acquired atomically with its lookup so that it cannot be evicted while in use.
+		SavedSession savedSession = this.savedSessions.compute(session.getId(), (id, existingSavedSession) ->
+			(existingSavedSession != null ? existingSavedSession : new SavedSession()).acquire());
+
+		try {
+			synchronized (savedSession) {
+
+				if (savedSession.isTouchedOnly(session, getLastAccessedTimeInterval())) {
+					this.coalescedSaveCount.incrementAndGet();
+					return null;
+				}
+
+				Object result = invocation.proceed();
+
+				savedSession.saved(session);
+				this.saveCount.incrementAndGet();
+
+				return result;
+			}
+		}
+		finally {
+			savedSession.release();
+			evictSavedSessions();
+		}
+	}
+
+	// A Session not saved within the interval is always written on its next save and need not be tracked.
+	// If that is not enough, then all Sessions not being saved are evicted, and are written on their next save.
+	private void evictSavedSessions() {
+
+		if (this.savedSessions.size() > this.maxTrackedSessions) {
+
+			Instant cutoff = Instant.now().minus(getLastAccessedTimeInterval());
+
+			evictSavedSessions(savedSession -> savedSession.isSavedBefore(cutoff));
+
+			if (this.savedSessions.size() > this.maxTrackedSessions) {
+				evictSavedSessions(savedSession -> true);
+			}
+		}
+	}
+
+	// Each SavedSession is removed inside compute, atomically with respect to being acquired by a save.
+	private void evictSavedSessions(@NonNull Predicate<SavedSession> evictionPredicate) {
+
+		for (String id : this.savedSessions.keySet()) {
+			this.savedSessions.computeIfPresent(id, (it, savedSession) ->
+				!savedSession.isInUse() && evictionPredicate.test(savedSession) ? null : savedSession);
+		}
+	}
+
+	static class SavedSession {
+
+		private final AtomicInteger users = new AtomicInteger(0);
+
+		private volatile Duration maxInactiveInterval;
+
+		private volatile Instant lastAccessedTime;
+		private volatile Instant savedTime;
+
+		/**
+		 * Determines whether the only change to the given {@link GemFireSession} since it was last saved
+		 * is a last accessed time less than the given {@link Duration interval} after the saved last accessed time.
+		 *
+		 * @param session {@link GemFireSession} to evaluate.
+		 * @param lastAccessedTimeInterval {@link Duration} between writes of the last accessed time.
+		 * @return a boolean value indicating whether the save of the {@link GemFireSession} can be skipped.
+		 */
+		boolean isTouchedOnly(@NonNull GemFireSession<?> session, @NonNull Duration lastAccessedTimeInterval) {
+
+			Instant lastAccessedTime = this.lastAccessedTime;
+
+			return lastAccessedTime != null
+				&& !session.getAttributes().hasDelta()
+				&& Objects.equals(this.maxInactiveInterval, session.getMaxInactiveInterval())
+				&& session.getLastAccessedTime() != null
+				&& Duration.between(lastAccessedTime, session.getLastAccessedTime())
+					.compareTo(lastAccessedTimeInterval) < 0;
+		}
+
+		@NonNull SavedSession acquire() {
+			this.users.incrementAndGet();
+			return this;
+		}
+
+		boolean isInUse() {
+			return this.users.get() > 0;
+		}
+
+		void release() {
+			this.users.decrementAndGet();
+		}
+
+		boolean isSavedBefore(@NonNull Instant time) {
+
+			Instant savedTime = this.savedTime;
+
+			return savedTime == null || savedTime.isBefore(time);
+		}
+
+		void saved(@NonNull Session session) {
+			this.lastAccessedTime = session.getLastAccessedTime();
+			this.maxInactiveInterval = session.getMaxInactiveInterval();
+			this.savedTime = Instant.now();
+		}
+	}
+}
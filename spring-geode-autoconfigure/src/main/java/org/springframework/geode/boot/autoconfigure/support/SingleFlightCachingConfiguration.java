@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.cache.GemfireCacheManager;
+import org.springframework.geode.boot.autoconfigure.configuration.support.CacheProperties.SingleFlightCacheProperties;
+import org.springframework.geode.cache.SingleFlightCachingInterceptor;
+import org.springframework.lang.NonNull;
+
+/**
+ * A Spring {@link Configuration} class used to coordinate the loading of cache values across all application instances
+ * sharing the Apache Geode {@link org.apache.geode.cache.Region Regions} used as caches by
+ * the {@link GemfireCacheManager}, for {@literal @Cacheable(sync = true)} methods.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager
+ * @see org.springframework.geode.cache.SingleFlightCache
+ * @see org.springframework.geode.cache.SingleFlightCachingInterceptor
+ * @since 1.4.0
+ */
+@Configuration
+@ConditionalOnProperty(name = SingleFlightCachingConfiguration.SINGLE_FLIGHT_ENABLED_PROPERTY, havingValue = "true")
+@SuppressWarnings("unused")
+public class SingleFlightCachingConfiguration {
+
+	public static final String SINGLE_FLIGHT_PROPERTIES_PREFIX = "spring.data.gemfire.cache.single-flight";
+	public static final String SINGLE_FLIGHT_ENABLED_PROPERTY = SINGLE_FLIGHT_PROPERTIES_PREFIX + ".enabled";
+
+	@Bean
+	static BeanPostProcessor singleFlightCacheManagerBeanPostProcessor(Environment environment) {
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+				return bean instanceof GemfireCacheManager
+					? SingleFlightCachingInterceptor.newSingleFlightCacheManager((GemfireCacheManager) bean,
+						newSingleFlightCachingInterceptor(bindSingleFlightCacheProperties(environment)))
+					: bean;
+			}
+		};
+	}
+
+	static @NonNull SingleFlightCacheProperties bindSingleFlightCacheProperties(@NonNull Environment environment) {
+
+		return Binder.get(environment)
+			.bind(SINGLE_FLIGHT_PROPERTIES_PREFIX, SingleFlightCacheProperties.class)
+			.orElseGet(SingleFlightCacheProperties::new);
+	}
+
+	static @NonNull SingleFlightCachingInterceptor newSingleFlightCachingInterceptor(
+			@NonNull SingleFlightCacheProperties properties) {
+
+		return new SingleFlightCachingInterceptor(properties.getLeaseTimeout(), properties.getPollInterval(),
+			properties.getWaitTimeout());
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
+import org.springframework.data.gemfire.cache.GemfireCacheManager;
+import org.springframework.geode.boot.autoconfigure.configuration.support.CacheProperties.L1CacheProperties;
+import org.springframework.geode.boot.autoconfigure.configuration.support.CacheProperties.L1CacheSpecProperties;
+import org.springframework.geode.cache.TwoLevelCachingInterceptor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * A Spring {@link Configuration} class used to place a local, on-heap cache (L1) in front of each Apache Geode
+ * {@link org.apache.geode.cache.Region} used as a cache by the {@link GemfireCacheManager}.
+ *
+ * The local caches are configured with the {@literal spring.data.gemfire.cache.l1.*} properties, which may be
+ * overridden per cache with {@literal spring.data.gemfire.cache.l1.caches.<cacheName>.*}. Subscription is enabled on
+ * the {@literal DEFAULT} {@link org.apache.geode.cache.client.Pool} by {@link EnableSubscriptionConfiguration} so that
+ * changes made by other application instances evict entries from the local caches.
+ *
+ * @author John Blum
+ * @see com.github.benmanes.caffeine.cache.Caffeine
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.data.gemfire.cache.GemfireCacheManager
+ * @see org.springframework.geode.boot.autoconfigure.support.EnableSubscriptionConfiguration
+ * @see org.springframework.geode.cache.TwoLevelCache
+ * @see org.springframework.geode.cache.TwoLevelCachingInterceptor
+ * @since 1.4.0
+ */
+@Configuration
+@ConditionalOnClass(name = "com.github.benmanes.caffeine.cache.Caffeine")
+@ConditionalOnProperty(name = TwoLevelCachingConfiguration.L1_ENABLED_PROPERTY, havingValue = "true")
+@Import(EnableSubscriptionConfiguration.class)
+@SuppressWarnings("unused")
+public class TwoLevelCachingConfiguration {
+
+	public static final String L1_PROPERTIES_PREFIX = "spring.data.gemfire.cache.l1";
+	public static final String L1_ENABLED_PROPERTY = L1_PROPERTIES_PREFIX + ".enabled";
+
+	@Bean
+	static BeanPostProcessor twoLevelCacheManagerBeanPostProcessor(Environment environment) {
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+				return bean instanceof GemfireCacheManager
+					? TwoLevelCachingInterceptor.newTwoLevelCacheManager((GemfireCacheManager) bean,
+						new TwoLevelCachingInterceptor(newLocalCacheFactory(bindL1CacheProperties(environment))))
+					: bean;
+			}
+		};
+	}
+
+	static @NonNull L1CacheProperties bindL1CacheProperties(@NonNull Environment environment) {
+
+		return Binder.get(environment)
+			.bind(L1_PROPERTIES_PREFIX, L1CacheProperties.class)
+			.orElseGet(L1CacheProperties::new);
+	}
+
+	/**
+	 * Returns a {@link Function} creating the local cache for the cache with the given name, or {@literal null}
+	 * if the cache is not one of the configured {@link L1CacheProperties#getCacheNames() cache names}.
+	 *
+	 * @param properties {@link L1CacheProperties} used to configure the local caches.
+	 * @return a {@link Function} creating the local cache for a named cache.
+	 */
+	static @NonNull Function<String, Cache<Object, ValueWrapper>> newLocalCacheFactory(
+			@NonNull L1CacheProperties properties) {
+
+		Set<String> cacheNames = new HashSet<>(Arrays.asList(Optional.ofNullable(properties.getCacheNames())
+			.orElseGet(() -> new String[0])));
+
+		return cacheName -> cacheNames.isEmpty() || cacheNames.contains(cacheName)
+			? newLocalCache(properties, properties.getCaches().get(cacheName))
+			: null;
+	}
+
+	private static Cache<Object, ValueWrapper> newLocalCache(@NonNull L1CacheProperties properties,
+			@Nullable L1CacheSpecProperties cacheProperties) {
+
+		long maximumSize = Optional.ofNullable(cacheProperties)
+			.map(L1CacheSpecProperties::getMaximumSize)
+			.orElseGet(properties::getMaximumSize);
+
+		Duration timeToLive = Optional.ofNullable(cacheProperties)
+			.map(L1CacheSpecProperties::getTimeToLive)
+			.orElseGet(properties::getTimeToLive);
+
+		Caffeine<Object, Object> localCacheBuilder = Caffeine.newBuilder().maximumSize(Math.max(0L, maximumSize));
+
+		if (timeToLive != null && !timeToLive.isZero() && !timeToLive.isNegative()) {
+			localCacheBuilder.expireAfterWrite(timeToLive);
+		}
+
+		return localCacheBuilder.build();
+	}
+}
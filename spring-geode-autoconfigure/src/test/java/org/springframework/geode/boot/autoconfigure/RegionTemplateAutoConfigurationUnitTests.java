@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.xml.GemfireConstants;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Unit Tests for the {@link RegionTemplateAutoConfiguration} {@link GemfireTemplate} bean definition scan,
+ * including a startup benchmark for a large number of bean definitions.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.beans.factory.support.DefaultListableBeanFactory
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.geode.boot.autoconfigure.RegionTemplateAutoConfiguration
+ * @since 1.4.0
+ */
+public class RegionTemplateAutoConfigurationUnitTests {
+
+	private static final int BEAN_COUNT = 10000;
+	private static final int REGION_COUNT = 250;
+	private static final int TEMPLATE_USER_COUNT = 1000;
+
+	private static final Logger logger = LoggerFactory.getLogger(RegionTemplateAutoConfigurationUnitTests.class);
+
+	private final AtomicInteger beanClassResolutions = new AtomicInteger(0);
+	private final AtomicInteger typeMatches = new AtomicInteger(0);
+
+	private final CountingBeanFactory beanFactory = new CountingBeanFactory();
+
+	private final RegionTemplateAutoConfiguration configuration = new RegionTemplateAutoConfiguration() {
+
+		@Override
+		protected Optional<Class<?>> resolveBeanClass(BeanDefinition beanDefinition, BeanDefinitionRegistry registry) {
+			beanClassResolutions.incrementAndGet();
+			return super.resolveBeanClass(beanDefinition, registry);
+		}
+	};
+
+	private void register(String beanName, BeanDefinitionBuilder builder) {
+		this.beanFactory.registerBeanDefinition(beanName, builder.getBeanDefinition());
+	}
+
+	private void registerLargeApplication() {
+
+		register("ordersTemplate", BeanDefinitionBuilder.genericBeanDefinition(GemfireTemplate.class)
+			.addConstructorArgReference("Orders"));
+
+		register("Orders", BeanDefinitionBuilder.genericBeanDefinition(ClientRegionFactoryBean.class));
+
+		register("AbstractRegion", BeanDefinitionBuilder.genericBeanDefinition(ClientRegionFactoryBean.class)
+			.setAbstract(true));
+
+		for (int index = 0; index < REGION_COUNT; index++) {
+			register("Region" + index, BeanDefinitionBuilder.genericBeanDefinition(ClientRegionFactoryBean.class));
+		}
+
+		for (int index = 0; index < TEMPLATE_USER_COUNT; index++) {
+			register("templateUser" + index, BeanDefinitionBuilder.genericBeanDefinition(Object.class)
+				.addPropertyReference("template", "ordersTemplate"));
+		}
+
+		for (int index = REGION_COUNT + TEMPLATE_USER_COUNT; index < BEAN_COUNT; index++) {
+			register("bean" + index, BeanDefinitionBuilder.genericBeanDefinition(index % 2 == 0
+				? StringBuilder.class : Object.class));
+		}
+	}
+
+	private void scan() {
+		this.configuration.regionTemplateBeanFactoryPostProcessor().postProcessBeanFactory(this.beanFactory);
+	}
+
+	@Test
+	public void registersGemfireTemplatesForRegionBeanDefinitions() {
+
+		registerLargeApplication();
+		scan();
+
+		for (int index = 0; index < REGION_COUNT; index++) {
+
+			String regionTemplateBeanName = "region" + index + "Template";
+
+			assertThat(this.beanFactory.containsBeanDefinition(regionTemplateBeanName)).isTrue();
+			assertThat(this.beanFactory.getBeanDefinition(regionTemplateBeanName).getDependsOn())
+				.containsExactly("ordersTemplate");
+		}
+
+		assertThat(this.beanFactory.containsBeanDefinition("abstractRegionTemplate")).isFalse();
+		assertThat(this.beanFactory.getBeanDefinition("Orders").getDependsOn()).isNull();
+		assertThat(this.beanFactory.getBeanDefinition("templateUser0").getDependsOn())
+			.containsExactly(GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+		assertThat(this.beanFactory.getBeanDefinition("bean" + (BEAN_COUNT - 1)).getDependsOn()).isNull();
+	}
+
+	@Test
+	public void scanResolvesEachBeanTypeOnce() {
+
+		registerLargeApplication();
+
+		long startTime = System.nanoTime();
+
+		scan();
+
+		long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+		logger.info("Scanned [{}] bean definitions in [{}] ms", this.beanFactory.getBeanDefinitionCount(),
+			elapsedTime);
+
+		// GemfireTemplate, ClientRegionFactoryBean, Object and StringBuilder
+		assertThat(this.beanClassResolutions.get()).isEqualTo(4);
+		assertThat(this.typeMatches.get()).isEqualTo(1);
+	}
+
+	class CountingBeanFactory extends DefaultListableBeanFactory {
+
+		@Override
+		public boolean isTypeMatch(String name, Class<?> typeToMatch) {
+			typeMatches.incrementAndGet();
+			return super.isTypeMatch(name, typeToMatch);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+import javax.annotation.Resource;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.internal.InternalDataSerializer;
+import org.apache.geode.internal.util.BlobHelper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.gemfire.config.annotation.CacheServerApplication;
+import org.springframework.data.gemfire.tests.integration.ForkingClientServerIntegrationTestsSupport;
+import org.springframework.geode.boot.autoconfigure.support.CompactDataSerializableSessionSerializer;
+import org.springframework.session.Session;
+import org.springframework.session.data.gemfire.GemFireOperationsSessionRepository;
+import org.springframework.session.data.gemfire.config.annotation.web.http.EnableGemFireHttpSession;
+import org.springframework.session.data.gemfire.config.annotation.web.http.GemFireHttpSessionConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for the {@link CompactDataSerializableSessionSerializer} storing (HTTP) Sessions
+ * in a {@literal client} {@link Region} backed by a server.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.DataSerializer
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see org.springframework.data.gemfire.config.annotation.CacheServerApplication
+ * @see org.springframework.data.gemfire.tests.integration.ForkingClientServerIntegrationTestsSupport
+ * @see org.springframework.geode.boot.autoconfigure.support.CompactDataSerializableSessionSerializer
+ * @see org.springframework.session.data.gemfire.GemFireOperationsSessionRepository
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 1.4.0
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(
+	classes = CompactSessionSerializerIntegrationTests.SessionGemFireClientConfiguration.class,
+	properties = {
+		"spring.session.data.gemfire.cache.client.region.shortcut=PROXY",
+		"spring.session.data.gemfire.session.serializer.bean-name="
+			+ CompactDataSerializableSessionSerializer.SESSION_COMPACT_DATA_SERIALIZER_BEAN_NAME,
+		"spring.session.data.gemfire.session.serializer.compression-threshold=64"
+	},
+	webEnvironment = SpringBootTest.WebEnvironment.MOCK
+)
+@SuppressWarnings("unused")
+public class CompactSessionSerializerIntegrationTests extends ForkingClientServerIntegrationTestsSupport {
+
+	@BeforeClass
+	public static void setupGemFireServer() throws IOException {
+		startGemFireServer(SessionGemFireServerConfiguration.class);
+	}
+
+	@Autowired
+	private GemFireOperationsSessionRepository sessionRepository;
+
+	@Resource(name = GemFireHttpSessionConfiguration.DEFAULT_SESSION_REGION_NAME)
+	private Region<Object, Object> sessionsRegion;
+
+	@Test
+	public void sessionIsStoredWithCompactDataSerializer() throws IOException {
+
+		assertThat(this.sessionsRegion.getAttributes().getDataPolicy()).isEqualTo(DataPolicy.EMPTY);
+
+		UUID cartId = UUID.randomUUID();
+
+		Session session = this.sessionRepository.createSession();
+
+		session.setAttribute("username", "jonDoe");
+		session.setAttribute("cartId", cartId);
+		session.setAttribute("visits", 2L);
+
+		this.sessionRepository.save(session);
+
+		assertThat(this.sessionsRegion.keySetOnServer()).contains(session.getId());
+
+		Object storedSession = this.sessionsRegion.get(session.getId());
+
+		assertThat(storedSession).isInstanceOf(Session.class);
+		assertThat(storedSession).isNotSameAs(session);
+		assertThat(((Session) storedSession).<String>getAttribute("username")).isEqualTo("jonDoe");
+		assertThat(((Session) storedSession).<UUID>getAttribute("cartId")).isEqualTo(cartId);
+		assertThat(((Session) storedSession).<Long>getAttribute("visits")).isEqualTo(2L);
+
+		DataSerializer dataSerializer = InternalDataSerializer.getSerializer(storedSession.getClass());
+
+		assertThat(dataSerializer).isInstanceOf(CompactDataSerializableSessionSerializer.class);
+		assertThat(((CompactDataSerializableSessionSerializer) dataSerializer).getSessionAttributeCodec()
+			.getCompressionThreshold()).isEqualTo(64);
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(BlobHelper.serializeToBlob(session)))) {
+
+			// skip the DSCODE identifying a user DataSerializer with an int ID
+			assertThat(in.skipBytes(1)).isEqualTo(1);
+			assertThat(in.readInt()).isEqualTo(CompactDataSerializableSessionSerializer.DATA_SERIALIZER_ID);
+		}
+	}
+
+	@SpringBootApplication
+	static class SessionGemFireClientConfiguration { }
+
+	@CacheServerApplication(name = "CompactSessionSerializerIntegrationTests")
+	@EnableGemFireHttpSession
+	static class SessionGemFireServerConfiguration {
+
+		public static void main(String[] args) {
+
+			CompactDataSerializableSessionSerializer.register();
+
+			new SpringApplicationBuilder(SessionGemFireServerConfiguration.class)
+				.web(WebApplicationType.NONE)
+				.build()
+				.run(args);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import org.springframework.geode.boot.autoconfigure.SpringSessionAutoConfiguration;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link SpringSessionAutoConfiguration.SpringSessionPropertiesEnvironmentPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.autoconfigure.SpringSessionAutoConfiguration
+ * @see org.springframework.mock.env.MockEnvironment
+ * @since 1.4.0
+ */
+public class SpringSessionPropertiesEnvironmentPostProcessorUnitTests {
+
+	private static final String CLIENT_REGION_SHORTCUT_PROPERTY =
+		"spring.session.data.gemfire.cache.client.region.shortcut";
+
+	private static final String DELTA_ENABLED_PROPERTY = "spring.session.data.gemfire.session.delta.enabled";
+
+	private static final String EXPIRATION_TIMEOUT_PROPERTY =
+		"spring.session.data.gemfire.session.expiration.max-inactive-interval-seconds";
+
+	private static final String NEAR_CACHE_ENABLED_PROPERTY =
+		"spring.session.data.gemfire.cache.client.near-cache.enabled";
+
+	private static final String SERIALIZER_BEAN_NAME_PROPERTY = "spring.session.data.gemfire.session.serializer.bean-name";
+
+	private final SpringSessionAutoConfiguration.SpringSessionPropertiesEnvironmentPostProcessor environmentPostProcessor =
+		new SpringSessionAutoConfiguration.SpringSessionPropertiesEnvironmentPostProcessor();
+
+	@Test
+	public void setsExpirationTimeoutFromSpringSessionTimeout() {
+
+		MockEnvironment environment = new MockEnvironment().withProperty("spring.session.timeout", "600");
+
+		this.environmentPostProcessor.postProcessEnvironment(environment, null);
+
+		assertThat(environment.getProperty(EXPIRATION_TIMEOUT_PROPERTY)).isEqualTo("600");
+		assertThat(environment.containsProperty(CLIENT_REGION_SHORTCUT_PROPERTY)).isFalse();
+	}
+
+	@Test
+	public void nearCacheUsesCachingProxyClientRegion() {
+
+		MockEnvironment environment = new MockEnvironment().withProperty(NEAR_CACHE_ENABLED_PROPERTY, "true");
+
+		this.environmentPostProcessor.postProcessEnvironment(environment, null);
+
+		assertThat(environment.getProperty(CLIENT_REGION_SHORTCUT_PROPERTY)).isEqualTo("CACHING_PROXY");
+	}
+
+	@Test
+	public void nearCacheDoesNotOverrideExplicitClientRegionShortcut() {
+
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty(NEAR_CACHE_ENABLED_PROPERTY, "true")
+			.withProperty(CLIENT_REGION_SHORTCUT_PROPERTY, "LOCAL");
+
+		this.environmentPostProcessor.postProcessEnvironment(environment, null);
+
+		assertThat(environment.getProperty(CLIENT_REGION_SHORTCUT_PROPERTY)).isEqualTo("LOCAL");
+	}
+
+	@Test
+	public void deltaUsesSessionDataSerializer() {
+
+		MockEnvironment environment = new MockEnvironment().withProperty(DELTA_ENABLED_PROPERTY, "true");
+
+		this.environmentPostProcessor.postProcessEnvironment(environment, null);
+
+		assertThat(environment.getProperty(SERIALIZER_BEAN_NAME_PROPERTY)).isEqualTo("SessionDataSerializer");
+	}
+
+	@Test
+	public void deltaDoesNotOverrideExplicitSerializer() {
+
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty(DELTA_ENABLED_PROPERTY, "true")
+			.withProperty(SERIALIZER_BEAN_NAME_PROPERTY, "SessionPdxSerializer");
+
+		this.environmentPostProcessor.postProcessEnvironment(environment, null);
+
+		assertThat(environment.getProperty(SERIALIZER_BEAN_NAME_PROPERTY)).isEqualTo("SessionPdxSerializer");
+	}
+
+	@Test
+	public void deltaDisabledDoesNotSetSerializer() {
+
+		MockEnvironment environment = new MockEnvironment();
+
+		this.environmentPostProcessor.postProcessEnvironment(environment, null);
+
+		assertThat(environment.containsProperty(SERIALIZER_BEAN_NAME_PROPERTY)).isFalse();
+	}
+}
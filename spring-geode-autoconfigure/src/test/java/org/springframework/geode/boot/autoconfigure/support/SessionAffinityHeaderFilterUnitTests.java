@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit Tests for {@link SessionAffinityHeaderFilter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionAffinityHeaderFilter
+ * @since 1.4.0
+ */
+public class SessionAffinityHeaderFilterUnitTests {
+
+	@Test
+	public void addsAffinityHeaderToResponse() throws Exception {
+
+		AtomicInteger affinityResolutionCount = new AtomicInteger(0);
+
+		SessionAffinityHeaderFilter filter = new SessionAffinityHeaderFilter("X-Session-Affinity", () -> {
+			affinityResolutionCount.incrementAndGet();
+			return "AppServerOne";
+		});
+
+		for (int count = 0; count < 2; count++) {
+
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain());
+
+			assertThat(response.getHeader("X-Session-Affinity")).isEqualTo("AppServerOne");
+		}
+
+		assertThat(affinityResolutionCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void doesNotAddHeaderWhenHeaderNameIsNotSet() throws Exception {
+
+		SessionAffinityHeaderFilter filter = new SessionAffinityHeaderFilter("  ", () -> "AppServerOne");
+
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		MockFilterChain filterChain = new MockFilterChain();
+
+		filter.doFilter(new MockHttpServletRequest(), response, filterChain);
+
+		assertThat(response.getHeaderNames()).isEmpty();
+		assertThat(filterChain.getRequest()).isNotNull();
+	}
+}
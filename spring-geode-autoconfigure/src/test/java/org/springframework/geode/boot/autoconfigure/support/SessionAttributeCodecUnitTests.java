@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link SessionAttributeCodec}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionAttributeCodec
+ * @since 1.4.0
+ */
+public class SessionAttributeCodecUnitTests {
+
+	private byte[] write(SessionAttributeCodec codec, Map<String, ?> attributes) throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		codec.writeAttributes(attributes, out);
+		out.flush();
+
+		return bytes.toByteArray();
+	}
+
+	private Map<String, Object> read(SessionAttributeCodec codec, byte[] bytes) throws Exception {
+		return codec.readAttributes(new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	@Test
+	public void readsWrittenAttributes() throws Exception {
+
+		Map<Object, Object> nested = new LinkedHashMap<>();
+
+		nested.put("locale", "en_US");
+		nested.put(1, -1L);
+
+		Map<String, Object> attributes = new LinkedHashMap<>();
+
+		attributes.put("username", "jonDoe");
+		attributes.put("visits", 42L);
+		attributes.put("negative", Long.MIN_VALUE);
+		attributes.put("count", -7);
+		attributes.put("admin", true);
+		attributes.put("trusted", false);
+		attributes.put("cartId", UUID.randomUUID());
+		attributes.put("preferences", nested);
+		attributes.put("nothing", null);
+
+		SessionAttributeCodec codec = new SessionAttributeCodec();
+
+		assertThat(read(codec, write(codec, attributes))).containsExactlyEntriesOf(attributes);
+	}
+
+	@Test
+	public void readsWrittenObjectAttributes() throws Exception {
+
+		Map<String, Object> attributes = Collections.singletonMap("loginTime", new Date(0L));
+
+		SessionAttributeCodec codec = new SessionAttributeCodec();
+
+		assertThat(read(codec, write(codec, attributes))).containsExactlyEntriesOf(attributes);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void readsWrittenTreeMapAsTreeMap() throws Exception {
+
+		Map<String, Object> sorted = new TreeMap<>();
+
+		sorted.put("a", 1L);
+		sorted.put("c", 3L);
+		sorted.put("b", 2L);
+
+		SessionAttributeCodec codec = new SessionAttributeCodec();
+
+		Object value = read(codec, write(codec, Collections.singletonMap("sorted", sorted))).get("sorted");
+
+		assertThat(value).isInstanceOf(TreeMap.class);
+		assertThat((Map<String, Object>) value).containsExactlyEntriesOf(sorted);
+	}
+
+	@Test
+	public void readsWrittenHashMapAsHashMap() throws Exception {
+
+		Map<String, Object> map = new HashMap<>();
+
+		map.put("locale", "en_US");
+
+		SessionAttributeCodec codec = new SessionAttributeCodec();
+
+		Object value = read(codec, write(codec, Collections.singletonMap("map", map))).get("map");
+
+		assertThat(value).isInstanceOf(HashMap.class).isEqualTo(map);
+	}
+
+	@Test
+	public void writesCommonTypesCompactly() throws Exception {
+
+		Map<String, Object> attributes = new LinkedHashMap<>();
+
+		attributes.put("id", UUID.randomUUID());
+		attributes.put("n", 1L);
+
+		// version, flags, length, size, 2 names with length prefix, UUID and long with type tags
+		assertThat(write(new SessionAttributeCodec(), attributes)).hasSize(3 + 1 + 3 + 2 + 17 + 2);
+	}
+
+	@Test
+	public void compressesAttributesAboveThreshold() throws Exception {
+
+		StringBuilder value = new StringBuilder();
+
+		for (int count = 0; count < 500; count++) {
+			value.append("spring");
+		}
+
+		Map<String, Object> attributes = Collections.singletonMap("large", value.toString());
+
+		SessionAttributeCodec codec = new SessionAttributeCodec(1024);
+
+		byte[] bytes = write(codec, attributes);
+
+		assertThat(bytes[1]).isEqualTo(SessionAttributeCodec.COMPRESSED_FLAG);
+		assertThat(bytes.length).isLessThan(value.length());
+		assertThat(read(codec, bytes)).containsExactlyEntriesOf(attributes);
+	}
+
+	@Test
+	public void doesNotCompressAttributesWhenDisabled() throws Exception {
+
+		StringBuilder value = new StringBuilder();
+
+		for (int count = 0; count < 500; count++) {
+			value.append("spring");
+		}
+
+		Map<String, Object> attributes = Collections.singletonMap("large", value.toString());
+
+		byte[] bytes = write(new SessionAttributeCodec(-1), attributes);
+
+		assertThat(bytes[1]).isZero();
+		assertThat(read(new SessionAttributeCodec(1024), bytes)).containsExactlyEntriesOf(attributes);
+	}
+
+	@Test
+	public void readUnsupportedFormatVersionThrowsIOException() throws Exception {
+
+		SessionAttributeCodec codec = new SessionAttributeCodec();
+
+		byte[] bytes = write(codec, Collections.singletonMap("name", "value"));
+
+		bytes[0] = (byte) (SessionAttributeCodec.CURRENT_FORMAT_VERSION + 1);
+
+		assertThatThrownBy(() -> read(codec, bytes))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("Unsupported Session attributes format version");
+	}
+
+	@Test
+	public void valueCodecsAreCachedByType() {
+
+		SessionAttributeCodec codec = new SessionAttributeCodec();
+
+		assertThat(codec.resolveValueCodec(String.class)).isSameAs(codec.resolveValueCodec(String.class));
+		assertThat(codec.resolveValueCodec(String.class)).isNotSameAs(codec.resolveValueCodec(Long.class));
+	}
+}
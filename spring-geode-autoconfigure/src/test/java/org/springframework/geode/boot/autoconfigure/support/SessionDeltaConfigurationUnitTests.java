@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.session.data.gemfire.support.DeltaAwareDirtyPredicate;
+import org.springframework.session.data.gemfire.support.EqualsDirtyPredicate;
+
+/**
+ * Unit Tests for {@link SessionDeltaConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionDeltaConfiguration
+ * @see org.springframework.session.data.gemfire.support.IsDirtyPredicate
+ * @since 1.4.0
+ */
+public class SessionDeltaConfigurationUnitTests {
+
+	private final SessionDeltaConfiguration configuration = new SessionDeltaConfiguration();
+
+	@Test
+	public void isDirtyPredicateComparesValuesByDefault() {
+
+		assertThat(this.configuration.sessionIsDirtyPredicate(new MockEnvironment()))
+			.isSameAs(EqualsDirtyPredicate.INSTANCE);
+	}
+
+	@Test
+	public void isDirtyPredicateIsDeltaAwareWhenNotComparingValues() {
+
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty(SessionDeltaConfiguration.DELTA_COMPARE_VALUES_PROPERTY, "false");
+
+		assertThat(this.configuration.sessionIsDirtyPredicate(environment))
+			.isSameAs(DeltaAwareDirtyPredicate.INSTANCE);
+	}
+}
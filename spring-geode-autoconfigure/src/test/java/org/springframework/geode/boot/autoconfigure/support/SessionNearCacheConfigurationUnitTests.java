@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.distributed.DistributedSystem;
+
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link SessionNearCacheConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.RegionAttributesFactoryBean
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionNearCacheConfiguration
+ * @since 1.4.0
+ */
+public class SessionNearCacheConfigurationUnitTests {
+
+	@SuppressWarnings("unchecked")
+	private ObjectProvider<GemFireCache> mockObjectProvider(GemFireCache cache) {
+
+		ObjectProvider<GemFireCache> mockObjectProvider = mock(ObjectProvider.class);
+
+		when(mockObjectProvider.getIfAvailable()).thenReturn(cache);
+
+		return mockObjectProvider;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(String name, String poolName, DataPolicy dataPolicy) {
+
+		Region<Object, Object> mockRegion = mock(Region.class, name);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockRegion.getName()).thenReturn(name);
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getInterestList()).thenReturn(Collections.emptyList());
+		when(mockRegion.getInterestListRegex()).thenReturn(Collections.emptyList());
+		when(mockRegionAttributes.getPoolName()).thenReturn(poolName);
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(dataPolicy);
+
+		return mockRegion;
+	}
+
+	@Test
+	public void configuresBoundedLocalEvictionForClientSessionRegionAttributes() {
+
+		BeanPostProcessor beanPostProcessor = SessionNearCacheConfiguration.sessionNearCacheBeanPostProcessor(
+			new MockEnvironment().withProperty(SessionNearCacheConfiguration.NEAR_CACHE_MAX_ENTRIES_PROPERTY, "500"),
+			mockObjectProvider(mock(ClientCache.class)));
+
+		RegionAttributesFactoryBean<?, ?> mockRegionAttributesFactoryBean = mock(RegionAttributesFactoryBean.class);
+
+		assertThat(beanPostProcessor.postProcessBeforeInitialization(mockRegionAttributesFactoryBean,
+			"sessionRegionAttributes")).isSameAs(mockRegionAttributesFactoryBean);
+
+		ArgumentCaptor<EvictionAttributes> evictionAttributes = ArgumentCaptor.forClass(EvictionAttributes.class);
+
+		verify(mockRegionAttributesFactoryBean).setEvictionAttributes(evictionAttributes.capture());
+
+		assertThat(evictionAttributes.getValue().getAlgorithm()).isEqualTo(EvictionAlgorithm.LRU_ENTRY);
+		assertThat(evictionAttributes.getValue().getAction()).isEqualTo(EvictionAction.LOCAL_DESTROY);
+		assertThat(evictionAttributes.getValue().getMaximum()).isEqualTo(500);
+	}
+
+	@Test
+	public void doesNotConfigureEvictionForPeerCacheOrNonCachingProxyRegion() {
+
+		RegionAttributesFactoryBean<?, ?> mockRegionAttributesFactoryBean = mock(RegionAttributesFactoryBean.class);
+
+		SessionNearCacheConfiguration.sessionNearCacheBeanPostProcessor(new MockEnvironment(),
+			mockObjectProvider(mock(Cache.class)))
+				.postProcessBeforeInitialization(mockRegionAttributesFactoryBean, "sessionRegionAttributes");
+
+		SessionNearCacheConfiguration.sessionNearCacheBeanPostProcessor(new MockEnvironment()
+				.withProperty("spring.session.data.gemfire.cache.client.region.shortcut", "LOCAL"),
+			mockObjectProvider(mock(ClientCache.class)))
+				.postProcessBeforeInitialization(mockRegionAttributesFactoryBean, "sessionRegionAttributes");
+
+		SessionNearCacheConfiguration.sessionNearCacheBeanPostProcessor(new MockEnvironment(),
+			mockObjectProvider(mock(ClientCache.class)))
+				.postProcessBeforeInitialization(mockRegionAttributesFactoryBean, "customerRegionAttributes");
+
+		verify(mockRegionAttributesFactoryBean, never()).setEvictionAttributes(any());
+	}
+
+	@Test
+	public void registersInterestInClientSessionRegionWithoutValues() {
+
+		Region<Object, Object> mockRegion = mockRegion("ClusteredSpringSessions", "DEFAULT", DataPolicy.NORMAL);
+
+		BeanPostProcessor beanPostProcessor = SessionNearCacheConfiguration.sessionNearCacheBeanPostProcessor(
+			new MockEnvironment(), mockObjectProvider(mock(ClientCache.class)));
+
+		assertThat(beanPostProcessor.postProcessAfterInitialization(mockRegion, "ClusteredSpringSessions"))
+			.isSameAs(mockRegion);
+
+		verify(mockRegion).registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+	}
+
+	@Test
+	public void doesNotRegisterInterestTwice() {
+
+		Region<Object, Object> mockRegion = mockRegion("Sessions", "DEFAULT", DataPolicy.NORMAL);
+
+		doReturn(Collections.singletonList("ALL_KEYS")).when(mockRegion).getInterestList();
+
+		SessionNearCacheConfiguration.registerInterest(mockRegion);
+
+		verify(mockRegion, never()).registerInterestForAllKeys(any(InterestResultPolicy.class), anyBoolean(),
+			anyBoolean());
+	}
+
+	@Test
+	public void isSessionRegionRequiresClientRegionStoringDataLocally() {
+
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty("spring.session.data.gemfire.session.region.name", "Sessions");
+
+		assertThat(SessionNearCacheConfiguration.isSessionRegion(
+			mockRegion("Sessions", "DEFAULT", DataPolicy.NORMAL), environment)).isTrue();
+
+		assertThat(SessionNearCacheConfiguration.isSessionRegion(
+			mockRegion("Sessions", "DEFAULT", DataPolicy.EMPTY), environment)).isFalse();
+
+		assertThat(SessionNearCacheConfiguration.isSessionRegion(
+			mockRegion("Sessions", null, DataPolicy.PARTITION), environment)).isFalse();
+
+		assertThat(SessionNearCacheConfiguration.isSessionRegion(
+			mockRegion("Customers", "DEFAULT", DataPolicy.NORMAL), environment)).isFalse();
+	}
+
+	@Test
+	public void resolvesAffinityFromMemberNameOrId() {
+
+		GemFireCache mockCache = mock(GemFireCache.class);
+
+		DistributedSystem mockDistributedSystem = mock(DistributedSystem.class);
+
+		DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+		when(mockCache.getDistributedSystem()).thenReturn(mockDistributedSystem);
+		when(mockDistributedSystem.getDistributedMember()).thenReturn(mockDistributedMember);
+		when(mockDistributedMember.getName()).thenReturn("AppServerOne");
+		when(mockDistributedMember.getId()).thenReturn("10.0.0.1(AppServerOne:1234)<v1>:41001");
+
+		assertThat(SessionNearCacheConfiguration.resolveAffinity(mockCache)).isEqualTo("AppServerOne");
+
+		when(mockDistributedMember.getName()).thenReturn("");
+
+		assertThat(SessionNearCacheConfiguration.resolveAffinity(mockCache))
+			.isEqualTo("10.0.0.1(AppServerOne:1234)<v1>:41001");
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.gemfire.AbstractGemFireOperationsSessionRepository.GemFireSession;
+
+/**
+ * Unit Tests for {@link SessionWriteCoalescingInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.boot.autoconfigure.support.SessionWriteCoalescingInterceptor
+ * @see org.springframework.session.SessionRepository
+ * @since 1.4.0
+ */
+public class SessionWriteCoalescingInterceptorUnitTests {
+
+	private static final Instant NOW = Instant.parse("2020-10-01T12:00:00Z");
+
+	private SessionRepository<Session> mockSessionRepository;
+
+	private SessionRepository<Session> sessionRepository;
+
+	private SessionWriteCoalescingInterceptor interceptor;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockSessionRepository = mock(SessionRepository.class);
+		this.interceptor = new SessionWriteCoalescingInterceptor(Duration.ofSeconds(30), 2);
+
+		ProxyFactory proxyFactory = new ProxyFactory(this.mockSessionRepository);
+
+		proxyFactory.addInterface(SessionRepository.class);
+		proxyFactory.addAdvice(this.interceptor);
+
+		this.sessionRepository = (SessionRepository<Session>) proxyFactory.getProxy();
+	}
+
+	private GemFireSession<?> newSession(Instant lastAccessedTime) {
+
+		GemFireSession<?> session = GemFireSession.create(Duration.ofMinutes(30));
+
+		session.setLastAccessedTime(lastAccessedTime);
+
+		return session;
+	}
+
+	private void save(GemFireSession<?> session) {
+		this.sessionRepository.save(session);
+		session.commit();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNegativeIntervalThrowsIllegalArgumentException() {
+		new SessionWriteCoalescingInterceptor(Duration.ofSeconds(-1));
+	}
+
+	@Test
+	public void firstSaveIsWritten() {
+
+		GemFireSession<?> session = newSession(NOW);
+
+		save(session);
+
+		verify(this.mockSessionRepository, times(1)).save(session);
+		assertThat(this.interceptor.getSaveCount()).isEqualTo(1L);
+		assertThat(this.interceptor.getCoalescedSaveCount()).isZero();
+	}
+
+	@Test
+	public void touchWithinIntervalIsCoalesced() {
+
+		GemFireSession<?> session = newSession(NOW);
+
+		save(session);
+
+		session.setLastAccessedTime(NOW.plusSeconds(10));
+		save(session);
+
+		session.setLastAccessedTime(NOW.plusSeconds(29));
+		save(session);
+
+		verify(this.mockSessionRepository, times(1)).save(session);
+		assertThat(this.interceptor.getCoalescedSaveCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void touchAfterIntervalIsWritten() {
+
+		GemFireSession<?> session = newSession(NOW);
+
+		save(session);
+
+		session.setLastAccessedTime(NOW.plusSeconds(30));
+		save(session);
+
+		session.setLastAccessedTime(NOW.plusSeconds(45));
+		save(session);
+
+		verify(this.mockSessionRepository, times(2)).save(session);
+		assertThat(this.interceptor.getSaveCount()).isEqualTo(2L);
+		assertThat(this.interceptor.getCoalescedSaveCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void attributeChangeWithinIntervalIsWritten() {
+
+		GemFireSession<?> session = newSession(NOW);
+
+		save(session);
+
+		session.setLastAccessedTime(NOW.plusSeconds(1));
+		session.setAttribute("cart", "book");
+		save(session);
+
+		verify(this.mockSessionRepository, times(2)).save(session);
+		assertThat(this.interceptor.getCoalescedSaveCount()).isZero();
+	}
+
+	@Test
+	public void maxInactiveIntervalChangeWithinIntervalIsWritten() {
+
+		GemFireSession<?> session = newSession(NOW);
+
+		save(session);
+
+		session.setMaxInactiveInterval(Duration.ofMinutes(60));
+		save(session);
+
+		verify(this.mockSessionRepository, times(2)).save(session);
+	}
+
+	@Test
+	public void olderConcurrentTouchIsCoalesced() {
+
+		GemFireSession<?> session = newSession(NOW.plusSeconds(5));
+		GemFireSession<?> concurrentRequestSession = GemFireSession.copy(session);
+
+		save(session);
+
+		concurrentRequestSession.setLastAccessedTime(NOW.plusSeconds(4));
+		save(concurrentRequestSession);
+
+		verify(this.mockSessionRepository, times(1)).save(session);
+		verify(this.mockSessionRepository, times(0)).save(concurrentRequestSession);
+	}
+
+	@Test
+	public void deleteByIdStopsTrackingSession() {
+
+		GemFireSession<?> session = newSession(NOW);
+
+		save(session);
+
+		assertThat(this.interceptor.getTrackedSessionCount()).isEqualTo(1);
+
+		this.sessionRepository.deleteById(session.getId());
+
+		verify(this.mockSessionRepository, times(1)).deleteById(session.getId());
+		assertThat(this.interceptor.getTrackedSessionCount()).isZero();
+	}
+
+	@Test
+	public void trackedSessionsAreBounded() {
+
+		save(newSession(NOW));
+		save(newSession(NOW));
+		save(newSession(NOW));
+
+		assertThat(this.interceptor.getTrackedSessionCount()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	public void sessionBeingSavedIsNotEvicted() {
+
+		GemFireSession<?> session = newSession(NOW);
+
+		doAnswer(invocation -> {
+			save(newSession(NOW));
+			save(newSession(NOW));
+			save(newSession(NOW));
+			return null;
+		}).when(this.mockSessionRepository).save(session);
+
+		save(session);
+
+		session.setLastAccessedTime(NOW.plusSeconds(10));
+		save(session);
+
+		verify(this.mockSessionRepository, times(1)).save(session);
+		assertThat(this.interceptor.getCoalescedSaveCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void nonGemFireSessionsAreAlwaysWritten() {
+
+		Session mockSession = mock(Session.class);
+
+		this.sessionRepository.save(mockSession);
+		this.sessionRepository.save(mockSession);
+
+		verify(this.mockSessionRepository, times(2)).save(mockSession);
+		assertThat(this.interceptor.getTrackedSessionCount()).isZero();
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import org.springframework.geode.boot.autoconfigure.configuration.support.CacheProperties.SingleFlightCacheProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link SingleFlightCachingConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.autoconfigure.support.SingleFlightCachingConfiguration
+ * @see org.springframework.mock.env.MockEnvironment
+ * @since 1.4.0
+ */
+public class SingleFlightCachingConfigurationUnitTests {
+
+	@Test
+	public void bindsSingleFlightCacheProperties() {
+
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty("spring.data.gemfire.cache.single-flight.enabled", "true")
+			.withProperty("spring.data.gemfire.cache.single-flight.lease-timeout", "5s")
+			.withProperty("spring.data.gemfire.cache.single-flight.poll-interval", "20ms")
+			.withProperty("spring.data.gemfire.cache.single-flight.wait-timeout", "1m");
+
+		SingleFlightCacheProperties properties =
+			SingleFlightCachingConfiguration.bindSingleFlightCacheProperties(environment);
+
+		assertThat(properties.isEnabled()).isTrue();
+		assertThat(properties.getLeaseTimeout()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(properties.getPollInterval()).isEqualTo(Duration.ofMillis(20));
+		assertThat(properties.getWaitTimeout()).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	public void bindsDefaultSingleFlightCacheProperties() {
+
+		SingleFlightCacheProperties properties =
+			SingleFlightCachingConfiguration.bindSingleFlightCacheProperties(new MockEnvironment());
+
+		assertThat(properties.isEnabled()).isFalse();
+		assertThat(properties.getLeaseTimeout()).isEqualTo(SingleFlightCacheProperties.DEFAULT_LEASE_TIMEOUT);
+		assertThat(properties.getPollInterval()).isEqualTo(SingleFlightCacheProperties.DEFAULT_POLL_INTERVAL);
+		assertThat(properties.getWaitTimeout()).isEqualTo(SingleFlightCacheProperties.DEFAULT_WAIT_TIMEOUT);
+	}
+}
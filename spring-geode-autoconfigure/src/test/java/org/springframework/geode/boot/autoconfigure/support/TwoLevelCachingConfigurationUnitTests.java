@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.boot.autoconfigure.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.geode.boot.autoconfigure.configuration.support.CacheProperties.L1CacheProperties;
+import org.springframework.geode.boot.autoconfigure.configuration.support.CacheProperties.L1CacheSpecProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit Tests for {@link TwoLevelCachingConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.boot.autoconfigure.support.TwoLevelCachingConfiguration
+ * @see org.springframework.mock.env.MockEnvironment
+ * @since 1.4.0
+ */
+public class TwoLevelCachingConfigurationUnitTests {
+
+	@Test
+	public void bindsL1CacheProperties() {
+
+		MockEnvironment environment = new MockEnvironment()
+			.withProperty("spring.data.gemfire.cache.l1.enabled", "true")
+			.withProperty("spring.data.gemfire.cache.l1.maximum-size", "500")
+			.withProperty("spring.data.gemfire.cache.l1.time-to-live", "30s")
+			.withProperty("spring.data.gemfire.cache.l1.cache-names", "Prices,Products")
+			.withProperty("spring.data.gemfire.cache.l1.caches.Prices.maximum-size", "50");
+
+		L1CacheProperties properties = TwoLevelCachingConfiguration.bindL1CacheProperties(environment);
+
+		assertThat(properties.isEnabled()).isTrue();
+		assertThat(properties.getMaximumSize()).isEqualTo(500L);
+		assertThat(properties.getTimeToLive()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(properties.getCacheNames()).containsExactly("Prices", "Products");
+		assertThat(properties.getCaches().get("Prices").getMaximumSize()).isEqualTo(50L);
+		assertThat(properties.getCaches().get("Prices").getTimeToLive()).isNull();
+	}
+
+	@Test
+	public void bindsDefaultL1CacheProperties() {
+
+		L1CacheProperties properties = TwoLevelCachingConfiguration.bindL1CacheProperties(new MockEnvironment());
+
+		assertThat(properties.isEnabled()).isFalse();
+		assertThat(properties.getMaximumSize()).isEqualTo(L1CacheProperties.DEFAULT_MAXIMUM_SIZE);
+		assertThat(properties.getTimeToLive()).isEqualTo(L1CacheProperties.DEFAULT_TIME_TO_LIVE);
+	}
+
+	@Test
+	public void localCacheFactoryCreatesLocalCachesForConfiguredCacheNamesOnly() {
+
+		L1CacheProperties properties = new L1CacheProperties();
+
+		properties.setCacheNames(new String[] { "Prices" });
+
+		Function<String, Cache<Object, ValueWrapper>> localCacheFactory =
+			TwoLevelCachingConfiguration.newLocalCacheFactory(properties);
+
+		assertThat(localCacheFactory.apply("Prices")).isNotNull();
+		assertThat(localCacheFactory.apply("Products")).isNull();
+	}
+
+	@Test
+	public void localCacheFactoryAppliesPerCacheMaximumSize() {
+
+		L1CacheProperties properties = new L1CacheProperties();
+
+		L1CacheSpecProperties pricesProperties = new L1CacheSpecProperties();
+
+		pricesProperties.setMaximumSize(1L);
+		properties.getCaches().put("Prices", pricesProperties);
+
+		Cache<Object, ValueWrapper> prices = TwoLevelCachingConfiguration.newLocalCacheFactory(properties)
+			.apply("Prices");
+
+		assertThat(prices).isNotNull();
+		assertThat(prices.policy().eviction().map(eviction -> eviction.getMaximum())).contains(1L);
+		assertThat(prices.policy().expireAfterWrite().map(expiration -> expiration.getExpiresAfter()))
+			.contains(L1CacheProperties.DEFAULT_TIME_TO_LIVE);
+	}
+}
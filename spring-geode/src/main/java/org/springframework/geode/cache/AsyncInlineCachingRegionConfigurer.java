@@ -72,6 +72,8 @@ public class AsyncInlineCachingRegionConfigurer<T, ID> implements RegionConfigur
 
 	protected static final Predicate<String> DEFAULT_REGION_BEAN_NAME_PREDICATE = beanName -> false;
 
+	protected static final String ASYNC_EVENT_QUEUE_ID_SUFFIX = "-AEQ";
+
 	/**
 	 * Factory method used to construct a new instance of {@link AsyncInlineCachingRegionConfigurer} initialized with
 	 * the given Spring Data {@link CrudRepository} and {@link Predicate} identifying the target {@link Region}
@@ -233,7 +235,32 @@ public class AsyncInlineCachingRegionConfigurer<T, ID> implements RegionConfigur
 
 		Assert.hasText(regionBeanName, () -> String.format("Region bean name [%s] must be specified", regionBeanName));
 
-		return regionBeanName.concat(String.format("-AEQ:%s", UUID.randomUUID().toString()));
+		return regionBeanName.concat(String.format("%s:%s", ASYNC_EVENT_QUEUE_ID_SUFFIX, UUID.randomUUID().toString()));
+	}
+
+	/**
+	 * Resolves a stable name for the {@link AsyncEventQueue} with the given {@link String ID} by removing
+	 * the random {@link UUID} from {@link AsyncEventQueue} {@link String IDs} {@link #generateId(String) generated}
+	 * by this Configurer.
+	 *
+	 * For example, {@literal Books-AEQ:7c4c6b1e-...} resolves to {@literal Books-AEQ}. {@link AsyncEventQueue}
+	 * {@link String IDs} not generated by this Configurer are returned as is.
+	 *
+	 * The stable name is suitable for identifying the {@link AsyncEventQueue} across restarts, for example,
+	 * when tagging metrics.
+	 *
+	 * @param asyncEventQueueId {@link String} containing the {@literal ID} of the {@link AsyncEventQueue}.
+	 * @return a stable name for the {@link AsyncEventQueue}.
+	 * @see #generateId(String)
+	 */
+	public static @Nullable String resolveStableAsyncEventQueueName(@Nullable String asyncEventQueueId) {
+
+		String suffix = ASYNC_EVENT_QUEUE_ID_SUFFIX.concat(":");
+
+		int index = asyncEventQueueId != null ? asyncEventQueueId.lastIndexOf(suffix) : -1;
+
+		return index > 0 ? asyncEventQueueId.substring(0, index + ASYNC_EVENT_QUEUE_ID_SUFFIX.length())
+			: asyncEventQueueId;
 	}
 
 	/**
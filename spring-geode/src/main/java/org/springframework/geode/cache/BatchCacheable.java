@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * The {@link BatchCacheable} annotation marks a method taking a {@link java.util.Collection} of keys as cacheable
+ * per key, rather than caching the result for the {@link java.util.Collection} as a whole.
+ *
+ * All keys are looked up in the cache with a single bulk operation, e.g. {@link org.apache.geode.cache.Region#getAll},
+ * the method is invoked with the keys that were not found and the results are put in the cache with a single bulk
+ * operation, e.g. {@link org.apache.geode.cache.Region#putAll}. When the cache is a {@link TwoLevelCache}, keys are
+ * looked up in the local cache first, and when the cache is a {@link SingleFlightCache}, keys that are being loaded
+ * by another caller are waited for rather than loaded again.
+ *
+ * The elements of the first {@link java.util.Collection} parameter of the method are used as the cache keys, as is.
+ * The method must return either a {@link java.util.Map} of keys to values, or a {@link java.util.List} of values
+ * in the same order as the keys passed to the method.
+ *
+ * @author John Blum
+ * @see java.lang.annotation.Documented
+ * @see java.lang.annotation.Retention
+ * @see java.lang.annotation.Target
+ * @see org.springframework.cache.annotation.Cacheable
+ * @see org.springframework.geode.cache.BatchCachingInterceptor
+ * @since 1.4.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BatchCacheable {
+
+	/**
+	 * Alias for {@link #cacheName()}.
+	 *
+	 * @return the name of the cache.
+	 */
+	@AliasFor("cacheName")
+	String value() default "";
+
+	/**
+	 * Name of the cache in which the results of the annotated method are stored.
+	 *
+	 * @return the name of the cache.
+	 */
+	@AliasFor("value")
+	String cacheName() default "";
+
+}
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} implementing {@link BatchCacheable} methods.
+ *
+ * All keys passed to the method are looked up in the cache with a single {@link Region#getAll(Collection)}, the method
+ * is invoked with only the keys that were not found and the values returned by the method are put in the cache with
+ * a single {@link Region#putAll(Map)}. When the {@link Cache} is not backed by an Apache Geode {@link Region},
+ * the keys are looked up and the values put one at a time.
+ *
+ * When the {@link Cache} is, or decorates, a {@link TwoLevelCache}, keys are looked up in the local cache (L1) before
+ * the {@link Region}, values read from the {@link Region} populate the local cache and the values put in the
+ * {@link Region} are evicted from the local cache. When the {@link Cache} is a {@link SingleFlightCache}, keys leased
+ * by another caller loading the value are waited for, rather than loaded again.
+ *
+ * Methods that do not declare a supported {@link Collection} parameter or return type are invoked unchanged.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.cache.Cache
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.geode.cache.BatchCacheable
+ * @see org.springframework.geode.cache.SingleFlightCache
+ * @see org.springframework.geode.cache.TwoLevelCache
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class BatchCachingInterceptor implements MethodInterceptor {
+
+	private final Map<Method, BatchCacheableMethod> batchCacheableMethods = new ConcurrentHashMap<>();
+
+	private final Supplier<CacheManager> cacheManagerSupplier;
+
+	/**
+	 * Constructs a new instance of {@link BatchCachingInterceptor} initialized with the given {@link Supplier}
+	 * of the {@link CacheManager} used to resolve the {@link Cache caches} named by {@link BatchCacheable} methods.
+	 *
+	 * @param cacheManagerSupplier {@link Supplier} of the {@link CacheManager}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null}.
+	 */
+	public BatchCachingInterceptor(@NonNull Supplier<CacheManager> cacheManagerSupplier) {
+
+		Assert.notNull(cacheManagerSupplier, "Supplier of CacheManager is required");
+
+		this.cacheManagerSupplier = cacheManagerSupplier;
+	}
+
+	/**
+	 * Returns the {@link CacheManager} used to resolve the {@link Cache caches}.
+	 *
+	 * @return the {@link CacheManager} used to resolve the {@link Cache caches}.
+	 * @throws IllegalStateException if the {@link CacheManager} is not available.
+	 */
+	protected @NonNull CacheManager getCacheManager() {
+
+		CacheManager cacheManager = this.cacheManagerSupplier.get();
+
+		Assert.state(cacheManager != null, "CacheManager was not properly configured");
+
+		return cacheManager;
+	}
+
+	@Override
+	public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+		BatchCacheableMethod batchCacheableMethod = resolveBatchCacheableMethod(invocation);
+
+		Object keysArgument = batchCacheableMethod.isBatchCacheable()
+			? invocation.getArguments()[batchCacheableMethod.getKeysParameterIndex()]
+			: null;
+
+		if (!(keysArgument instanceof Collection)) {
+			return invocation.proceed();
+		}
+
+		Cache cache = resolveCache(batchCacheableMethod);
+
+		Collection<?> keys = (Collection<?>) keysArgument;
+
+		Set<Object> distinctKeys = keys.stream()
+			.filter(Objects::nonNull)
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+
+		Map<Object, Object> values = getAll(cache, distinctKeys);
+
+		List<Object> missingKeys = distinctKeys.stream()
+			.filter(key -> !values.containsKey(key))
+			.collect(Collectors.toList());
+
+		if (!missingKeys.isEmpty()) {
+
+			Map<Object, Object> loadedValues = load(invocation, batchCacheableMethod, missingKeys);
+
+			putAll(cache, loadedValues);
+			values.putAll(loadedValues);
+		}
+
+		return batchCacheableMethod.toResult(keys, values);
+	}
+
+	private BatchCacheableMethod resolveBatchCacheableMethod(@NonNull MethodInvocation invocation) {
+
+		Object target = invocation.getThis();
+
+		Method method = target != null
+			? AopUtils.getMostSpecificMethod(invocation.getMethod(), AopUtils.getTargetClass(target))
+			: invocation.getMethod();
+
+		return this.batchCacheableMethods.computeIfAbsent(method, BatchCacheableMethod::from);
+	}
+
+	private @NonNull Cache resolveCache(@NonNull BatchCacheableMethod batchCacheableMethod) {
+
+		String cacheName = batchCacheableMethod.getCacheName();
+
+		Cache cache = getCacheManager().getCache(cacheName);
+
+		Assert.state(cache != null, () -> String.format("Cache [%1$s] used by @BatchCacheable method [%2$s] not found",
+			cacheName, batchCacheableMethod.getMethod()));
+
+		return cache;
+	}
+
+	private @Nullable TwoLevelCache resolveTwoLevelCache(@NonNull Cache cache) {
+
+		Cache resolvedCache = cache instanceof SingleFlightCache ? ((SingleFlightCache) cache).getCache() : cache;
+
+		return resolvedCache instanceof TwoLevelCache ? (TwoLevelCache) resolvedCache : null;
+	}
+
+	private @NonNull Map<Object, Object> getAll(@NonNull Cache cache, @NonNull Collection<Object> keys) {
+
+		Map<Object, Object> values = new HashMap<>();
+
+		if (cache.getNativeCache() instanceof Region) {
+			getAllFromRegion(cache, keys, values);
+		}
+		else {
+			for (Object key : keys) {
+
+				Cache.ValueWrapper valueWrapper = cache.get(key);
+				Object value = valueWrapper != null ? valueWrapper.get() : null;
+
+				if (value != null && !SingleFlightCache.isLease(value)) {
+					values.put(key, value);
+				}
+			}
+		}
+
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void getAllFromRegion(@NonNull Cache cache, @NonNull Collection<Object> keys,
+			@NonNull Map<Object, Object> values) {
+
+		TwoLevelCache twoLevelCache = resolveTwoLevelCache(cache);
+
+		Collection<Object> regionKeys = keys;
+
+		// Read the invalidation generations before the Region so that racing evictions keep the values out of L1.
+		Map<Object, Long> invalidationGenerations = new HashMap<>();
+
+		if (twoLevelCache != null) {
+
+			regionKeys = new ArrayList<>();
+
+			for (Object key : keys) {
+
+				Cache.ValueWrapper valueWrapper = twoLevelCache.getLocalCache().getIfPresent(key);
+
+				if (valueWrapper != null && valueWrapper.get() != null) {
+					values.put(key, valueWrapper.get());
+				}
+				else {
+					invalidationGenerations.put(key, twoLevelCache.getInvalidationGeneration(key));
+					regionKeys.add(key);
+				}
+			}
+		}
+
+		Map<Object, Object> regionValues = !regionKeys.isEmpty()
+			? ((Region<Object, Object>) cache.getNativeCache()).getAll(regionKeys)
+			: null;
+
+		List<Object> leasedKeys = new ArrayList<>();
+
+		if (regionValues != null) {
+			regionValues.forEach((key, value) -> {
+				if (SingleFlightCache.isLease(value)) {
+					leasedKeys.add(key);
+				}
+				else if (value != null) {
+
+					values.put(key, value);
+
+					Long invalidationGeneration = invalidationGenerations.get(key);
+
+					if (invalidationGeneration != null) {
+						twoLevelCache.putLocal(key, new SimpleValueWrapper(value), invalidationGeneration);
+					}
+				}
+			});
+		}
+
+		if (cache instanceof SingleFlightCache && !leasedKeys.isEmpty()) {
+			values.putAll(((SingleFlightCache) cache).awaitLeasedValues(leasedKeys));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void putAll(@NonNull Cache cache, @NonNull Map<Object, Object> values) {
+
+		if (!values.isEmpty()) {
+			if (cache.getNativeCache() instanceof Region) {
+
+				((Region<Object, Object>) cache.getNativeCache()).putAll(values);
+
+				TwoLevelCache twoLevelCache = resolveTwoLevelCache(cache);
+
+				if (twoLevelCache != null) {
+					values.keySet().forEach(twoLevelCache::evictLocal);
+				}
+			}
+			else {
+				values.forEach(cache::put);
+			}
+		}
+	}
+
+	private @NonNull Map<Object, Object> load(@NonNull MethodInvocation invocation,
+			@NonNull BatchCacheableMethod batchCacheableMethod, @NonNull List<Object> missingKeys) throws Throwable {
+
+		int keysParameterIndex = batchCacheableMethod.getKeysParameterIndex();
+
+		Object result;
+
+		if (invocation instanceof ProxyMethodInvocation) {
+
+			Object[] arguments = invocation.getArguments().clone();
+
+			arguments[keysParameterIndex] = batchCacheableMethod.toKeysArgument(missingKeys);
+
+			result = ((ProxyMethodInvocation) invocation).invocableClone(arguments).proceed();
+		}
+		else {
+
+			Object[] arguments = invocation.getArguments();
+			Object keysArgument = arguments[keysParameterIndex];
+
+			arguments[keysParameterIndex] = batchCacheableMethod.toKeysArgument(missingKeys);
+
+			try {
+				result = invocation.proceed();
+			}
+			finally {
+				arguments[keysParameterIndex] = keysArgument;
+			}
+		}
+
+		return batchCacheableMethod.toValues(missingKeys, result);
+	}
+
+	/**
+	 * Metadata describing a {@link BatchCacheable} method, resolved once per {@link Method}.
+	 */
+	static class BatchCacheableMethod {
+
+		private static final int NO_KEYS_PARAMETER_INDEX = -1;
+
+		static BatchCacheableMethod from(@NonNull Method method) {
+
+			BatchCacheable batchCacheable = AnnotatedElementUtils.findMergedAnnotation(method, BatchCacheable.class);
+
+			if (batchCacheable != null) {
+
+				Assert.state(StringUtils.hasText(batchCacheable.cacheName()),
+					() -> String.format("Cache name is required for @BatchCacheable method [%s]", method));
+
+				Class<?>[] parameterTypes = method.getParameterTypes();
+				Class<?> returnType = method.getReturnType();
+
+				for (int index = 0; index < parameterTypes.length; index++) {
+
+					Class<?> parameterType = parameterTypes[index];
+
+					if (Collection.class.isAssignableFrom(parameterType)) {
+						return isSupportedKeysParameterType(parameterType) && isSupportedReturnType(returnType)
+							? new BatchCacheableMethod(method, batchCacheable.cacheName(), index)
+							: new BatchCacheableMethod(method, null, NO_KEYS_PARAMETER_INDEX);
+					}
+				}
+			}
+
+			return new BatchCacheableMethod(method, null, NO_KEYS_PARAMETER_INDEX);
+		}
+
+		private static boolean isSupportedKeysParameterType(@NonNull Class<?> parameterType) {
+			return parameterType.isAssignableFrom(ArrayList.class) || parameterType.isAssignableFrom(LinkedHashSet.class);
+		}
+
+		private static boolean isSupportedReturnType(@NonNull Class<?> returnType) {
+			return isMapType(returnType) || isListType(returnType);
+		}
+
+		private static boolean isListType(@NonNull Class<?> type) {
+			return Collection.class.isAssignableFrom(type) && type.isAssignableFrom(ArrayList.class);
+		}
+
+		private static boolean isMapType(@NonNull Class<?> type) {
+			return Map.class.isAssignableFrom(type) && type.isAssignableFrom(LinkedHashMap.class);
+		}
+
+		private final int keysParameterIndex;
+
+		private final Method method;
+
+		private final String cacheName;
+
+		private BatchCacheableMethod(@NonNull Method method, @Nullable String cacheName, int keysParameterIndex) {
+			this.method = method;
+			this.cacheName = cacheName;
+			this.keysParameterIndex = keysParameterIndex;
+		}
+
+		boolean isBatchCacheable() {
+			return this.keysParameterIndex > NO_KEYS_PARAMETER_INDEX;
+		}
+
+		String getCacheName() {
+			return this.cacheName;
+		}
+
+		int getKeysParameterIndex() {
+			return this.keysParameterIndex;
+		}
+
+		Method getMethod() {
+			return this.method;
+		}
+
+		@NonNull Collection<Object> toKeysArgument(@NonNull List<Object> keys) {
+
+			return getMethod().getParameterTypes()[getKeysParameterIndex()].isAssignableFrom(ArrayList.class)
+				? new ArrayList<>(keys)
+				: new LinkedHashSet<>(keys);
+		}
+
+		@NonNull Map<Object, Object> toValues(@NonNull List<Object> keys, @Nullable Object result) {
+
+			Map<Object, Object> values = new HashMap<>();
+
+			if (result instanceof Map) {
+				((Map<?, ?>) result).forEach((key, value) -> {
+					if (key != null && value != null) {
+						values.put(key, value);
+					}
+				});
+			}
+			else if (result instanceof Collection) {
+
+				Collection<?> resultValues = (Collection<?>) result;
+
+				Assert.state(resultValues.size() == keys.size(),
+					() -> String.format("@BatchCacheable method [%1$s] returned [%2$d] values for [%3$d] keys",
+						getMethod(), resultValues.size(), keys.size()));
+
+				Iterator<Object> keyIterator = keys.iterator();
+
+				for (Object value : resultValues) {
+
+					Object key = keyIterator.next();
+
+					if (value != null) {
+						values.put(key, value);
+					}
+				}
+			}
+
+			return values;
+		}
+
+		@NonNull Object toResult(@NonNull Collection<?> keys, @NonNull Map<Object, Object> values) {
+
+			if (isMapType(getMethod().getReturnType())) {
+
+				Map<Object, Object> result = new LinkedHashMap<>();
+
+				for (Object key : keys) {
+					if (key != null && values.containsKey(key)) {
+						result.put(key, values.get(key));
+					}
+				}
+
+				return result;
+			}
+
+			return keys.stream()
+				.map(key -> key != null ? values.get(key) : null)
+				.collect(Collectors.toCollection(ArrayList::new));
+		}
+	}
+}
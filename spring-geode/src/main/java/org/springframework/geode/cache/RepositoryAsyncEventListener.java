@@ -21,11 +21,13 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.asyncqueue.AsyncEvent;
 import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.apache.geode.internal.cache.wan.GatewaySenderEventImpl;
 
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.repository.CrudRepository;
@@ -53,6 +55,8 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 
 	private final CrudRepository<T, ID> repository;
 
+	private final EventProcessingStatistics statistics = new EventProcessingStatistics();
+
 	private final List<AsyncEventOperationRepositoryFunction<T, ID>> repositoryFunctions = new CopyOnWriteArrayList<>();
 
 	/**
@@ -117,6 +121,17 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 		return this.repository;
 	}
 
+	/**
+	 * Gets the {@link EventProcessingStatistics} recorded by this listener while processing batches of
+	 * {@link AsyncEvent AsyncEvents}.
+	 *
+	 * @return the {@link EventProcessingStatistics} recorded by this listener; never {@literal null}.
+	 * @see EventProcessingStatistics
+	 */
+	public @NonNull EventProcessingStatistics getStatistics() {
+		return this.statistics;
+	}
+
 	/**
 	 * Gets a {@link List} of {@link AsyncEventOperationRepositoryFunction} objects used to process
 	 * {@link AsyncEvent AsyncEvents} passed to this listener by inspecting the {@link Operation}
@@ -152,7 +167,11 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 
 		AtomicBoolean result = new AtomicBoolean(true);
 
-		CollectionUtils.nullSafeList(events).stream()
+		List<AsyncEvent> batch = CollectionUtils.nullSafeList(events);
+
+		getStatistics().recordBatchDelivered(resolveOldestEventCreationTime(batch));
+
+		batch.stream()
 			.filter(Objects::nonNull)
 			.forEach(event -> {
 
@@ -162,15 +181,54 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 						.findFirst();
 
 				boolean processed = Boolean.TRUE.equals(repositoryFunction
-					.map(function -> function.apply(event))
+					.map(function -> applyTimed(function, event))
 					.orElse(false));
 
+				getStatistics().recordEventProcessed(processed);
+
 				result.compareAndSet(true, processed);
 			});
 
+		getStatistics().recordBatchProcessed(result.get());
+
 		return result.get();
 	}
 
+	// Includes the time spent in the AsyncEventErrorHandler, which may retry the data access operation.
+	@SuppressWarnings("unchecked")
+	private Boolean applyTimed(AsyncEventOperationRepositoryFunction<T, ID> function, AsyncEvent event) {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return function.apply(event);
+		}
+		finally {
+			getStatistics().recordRepositoryOperation(System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Resolves the creation time, in milliseconds since the epoch, of the oldest {@link AsyncEvent} in the batch.
+	 *
+	 * The creation time is only available for {@link AsyncEvent AsyncEvents} enqueued by Apache Geode
+	 * ({@link GatewaySenderEventImpl}).
+	 *
+	 * @param events {@link List} of {@link AsyncEvent AsyncEvents} in the batch.
+	 * @return the creation time of the oldest {@link AsyncEvent} in the batch, or {@literal -1} if unknown.
+	 * @see org.apache.geode.internal.cache.wan.GatewaySenderEventImpl#getCreationTime()
+	 */
+	protected long resolveOldestEventCreationTime(@NonNull List<AsyncEvent> events) {
+
+		return events.stream()
+			.filter(GatewaySenderEventImpl.class::isInstance)
+			.map(GatewaySenderEventImpl.class::cast)
+			.mapToLong(GatewaySenderEventImpl::getCreationTime)
+			.filter(creationTime -> creationTime > 0)
+			.min()
+			.orElse(EventProcessingStatistics.UNKNOWN_CREATION_TIME);
+	}
+
 	/**
 	 * Registers a {@link AsyncEventOperationRepositoryFunction} capable of processing {@link AsyncEvent AsyncEvents}
 	 * by {@link Operation} and invoking the appropriate Spring Data {@link CrudRepository} data access operation.
@@ -274,6 +332,127 @@ public class RepositoryAsyncEventListener<T, ID> implements AsyncEventListener {
 		}
 	}
 
+	/**
+	 * {@link EventProcessingStatistics} records the number of batches and {@link AsyncEvent AsyncEvents} processed
+	 * by the {@link RepositoryAsyncEventListener}, the number that failed, the time spent in Spring Data
+	 * {@link CrudRepository} data access operations and the creation time of the oldest {@link AsyncEvent}
+	 * in the last batch delivered to the listener.
+	 *
+	 * The statistics are cumulative and are read by monitoring tools, such as Micrometer, to determine
+	 * how far asynchronous (write-behind) processing is lagging behind the cache.
+	 *
+	 * @see java.util.concurrent.atomic.LongAdder
+	 */
+	public static class EventProcessingStatistics {
+
+		public static final long UNKNOWN_CREATION_TIME = -1L;
+
+		private final LongAdder batchesFailed = new LongAdder();
+		private final LongAdder batchesProcessed = new LongAdder();
+		private final LongAdder eventsFailed = new LongAdder();
+		private final LongAdder eventsProcessed = new LongAdder();
+		private final LongAdder repositoryOperations = new LongAdder();
+		private final LongAdder repositoryOperationTime = new LongAdder();
+
+		private volatile long oldestEventCreationTime = UNKNOWN_CREATION_TIME;
+
+		/**
+		 * Returns the number of batches in which at least one {@link AsyncEvent} failed to be processed.
+		 *
+		 * @return the number of failed batches.
+		 */
+		public long getBatchesFailed() {
+			return this.batchesFailed.sum();
+		}
+
+		/**
+		 * Returns the number of batches processed by the listener, successfully or not.
+		 *
+		 * @return the number of processed batches.
+		 */
+		public long getBatchesProcessed() {
+			return this.batchesProcessed.sum();
+		}
+
+		/**
+		 * Returns the number of {@link AsyncEvent AsyncEvents} that failed to be processed.
+		 *
+		 * @return the number of failed {@link AsyncEvent AsyncEvents}.
+		 */
+		public long getEventsFailed() {
+			return this.eventsFailed.sum();
+		}
+
+		/**
+		 * Returns the number of {@link AsyncEvent AsyncEvents} processed by the listener, successfully or not.
+		 *
+		 * @return the number of processed {@link AsyncEvent AsyncEvents}.
+		 */
+		public long getEventsProcessed() {
+			return this.eventsProcessed.sum();
+		}
+
+		/**
+		 * Returns the creation time, in milliseconds since the epoch, of the oldest {@link AsyncEvent}
+		 * in the last batch delivered to the listener.
+		 *
+		 * @return the creation time of the oldest {@link AsyncEvent} in the last batch,
+		 * or {@link #UNKNOWN_CREATION_TIME} if unknown.
+		 */
+		public long getOldestEventCreationTime() {
+			return this.oldestEventCreationTime;
+		}
+
+		/**
+		 * Returns the number of Spring Data {@link CrudRepository} data access operations invoked.
+		 *
+		 * @return the number of {@link CrudRepository} data access operations invoked.
+		 */
+		public long getRepositoryOperations() {
+			return this.repositoryOperations.sum();
+		}
+
+		/**
+		 * Returns the total time, in nanoseconds, spent in Spring Data {@link CrudRepository}
+		 * data access operations, including the time spent handling errors.
+		 *
+		 * @return the total time spent in {@link CrudRepository} data access operations in nanoseconds.
+		 */
+		public long getRepositoryOperationTime() {
+			return this.repositoryOperationTime.sum();
+		}
+
+		void recordBatchDelivered(long oldestEventCreationTime) {
+
+			if (oldestEventCreationTime != UNKNOWN_CREATION_TIME) {
+				this.oldestEventCreationTime = oldestEventCreationTime;
+			}
+		}
+
+		void recordBatchProcessed(boolean successful) {
+
+			this.batchesProcessed.increment();
+
+			if (!successful) {
+				this.batchesFailed.increment();
+			}
+		}
+
+		void recordEventProcessed(boolean successful) {
+
+			this.eventsProcessed.increment();
+
+			if (!successful) {
+				this.eventsFailed.increment();
+			}
+		}
+
+		void recordRepositoryOperation(long durationInNanoseconds) {
+			this.repositoryOperations.increment();
+			this.repositoryOperationTime.add(durationInNanoseconds);
+		}
+	}
+
 	/**
 	 * The {@link AsyncEventErrorHandler} interface is a {@link Function} and {@link FunctionalInterface} used to
 	 * handle errors while processing {@link AsyncEvent AsyncEvents}.
@@ -0,0 +1,482 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Spring {@link Cache} implementation adding distributed, single-flight loading to {@link #get(Object, Callable)},
+ * which is used by Spring's Cache Abstraction for {@literal @Cacheable(sync = true)} methods.
+ *
+ * On a cache miss, the caller takes a lease on the key by putting a lease sentinel in the Apache Geode {@link Region}
+ * with {@link Region#putIfAbsent(Object, Object)}. Only the caller holding the lease loads the value, across all
+ * application instances sharing the {@link Region}. Other callers wait until the lease is replaced by the value,
+ * woken by a {@link CacheListener} on the {@link Region} or after a bounded poll interval.
+ *
+ * A lease expires after the lease timeout, in case the application instance holding the lease fails, after which
+ * another caller may take over the lease. A caller that waits longer than the wait timeout loads the value itself,
+ * without caching it. A loaded value is only cached while the caller still holds the lease, so that an expired lease
+ * never overwrites a newer value or lease. The lease sentinel is a {@link String}, so that servers need no application
+ * classes to compare lease values, and therefore the {@link Region} must not constrain values to a type other than
+ * {@link String}. Lease expiration is based on wall clock time, so the lease timeout must be greater than the clock
+ * skew between application instances.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.Callable
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.cache.Cache
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class SingleFlightCache implements Cache {
+
+	protected static final String LEASE_PREFIX = "@spring-geode-cache-load-lease:";
+
+	private static final Logger logger = LoggerFactory.getLogger(SingleFlightCache.class);
+
+	/**
+	 * Determines whether the given value is a lease sentinel put in the {@link Region} by a {@link SingleFlightCache}
+	 * while the value is being loaded.
+	 *
+	 * @param value {@link Object} to evaluate.
+	 * @return a boolean value indicating whether the given value is a lease sentinel.
+	 */
+	public static boolean isLease(@Nullable Object value) {
+		return value instanceof String && ((String) value).startsWith(LEASE_PREFIX);
+	}
+
+	/**
+	 * Determines whether lease sentinels can be stored in the given {@link Region}, which is the case when
+	 * the {@link Region} has no {@link org.apache.geode.cache.RegionAttributes#getValueConstraint() value constraint}
+	 * or the value constraint admits {@link String Strings}.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return a boolean value indicating whether lease sentinels can be stored in the given {@link Region}.
+	 */
+	public static boolean isLeaseCapable(@Nullable Region<?, ?> region) {
+
+		Class<?> valueConstraint = region != null && region.getAttributes() != null
+			? region.getAttributes().getValueConstraint()
+			: null;
+
+		return region != null && (valueConstraint == null || valueConstraint.isAssignableFrom(String.class));
+	}
+
+	static boolean isExpired(@NonNull Object lease, long now) {
+
+		String leaseValue = String.valueOf(lease);
+
+		int expirationEndIndex = leaseValue.indexOf(':', LEASE_PREFIX.length());
+
+		try {
+			return expirationEndIndex < 0
+				|| Long.parseLong(leaseValue.substring(LEASE_PREFIX.length(), expirationEndIndex)) <= now;
+		}
+		catch (NumberFormatException ignore) {
+			return true;
+		}
+	}
+
+	private final Cache cache;
+
+	private final CacheListener<Object, Object> leaseReleasedCacheListener = new LeaseReleasedCacheListener(this);
+
+	private final Duration leaseTimeout;
+	private final Duration pollInterval;
+	private final Duration waitTimeout;
+
+	private final Map<Object, CountDownLatch> waiters = new ConcurrentHashMap<>();
+
+	private final Region<Object, Object> region;
+
+	/**
+	 * Constructs a new instance of {@link SingleFlightCache} initialized with the given Spring {@link Cache} backed by
+	 * an Apache Geode {@link Region} and the lease timeout, poll interval and wait timeout.
+	 *
+	 * @param cache Spring {@link Cache} backed by an Apache Geode {@link Region}.
+	 * @param leaseTimeout {@link Duration} after which a lease expires.
+	 * @param pollInterval maximum {@link Duration} to wait before checking whether a lease was released.
+	 * @param waitTimeout maximum {@link Duration} to wait for a lease held by another caller.
+	 * @throws IllegalArgumentException if the {@link Cache} is {@literal null} or not backed by a {@link Region}
+	 * able to store lease sentinels, or any {@link Duration} is {@literal null}, zero or negative.
+	 * @see #isLeaseCapable(Region)
+	 */
+	@SuppressWarnings("unchecked")
+	public SingleFlightCache(@NonNull Cache cache, @NonNull Duration leaseTimeout, @NonNull Duration pollInterval,
+			@NonNull Duration waitTimeout) {
+
+		Assert.notNull(cache, "Cache is required");
+		Assert.isInstanceOf(Region.class, cache.getNativeCache(), "Cache must be backed by a Region");
+		Assert.isTrue(isLeaseCapable((Region<?, ?>) cache.getNativeCache()),
+			() -> String.format("Region [%s] must not constrain values to a type other than String", cache.getName()));
+		assertPositive(leaseTimeout, "Lease timeout");
+		assertPositive(pollInterval, "Poll interval");
+		assertPositive(waitTimeout, "Wait timeout");
+
+		this.cache = cache;
+		this.region = (Region<Object, Object>) cache.getNativeCache();
+		this.leaseTimeout = leaseTimeout;
+		this.pollInterval = pollInterval;
+		this.waitTimeout = waitTimeout;
+
+		this.region.getAttributesMutator().addCacheListener(this.leaseReleasedCacheListener);
+	}
+
+	private static void assertPositive(Duration duration, String name) {
+		Assert.isTrue(duration != null && !duration.isZero() && !duration.isNegative(),
+			() -> String.format("%1$s [%2$s] must be greater than 0", name, duration));
+	}
+
+	/**
+	 * Returns the decorated Spring {@link Cache}.
+	 *
+	 * @return the decorated Spring {@link Cache}.
+	 */
+	public @NonNull Cache getCache() {
+		return this.cache;
+	}
+
+	protected @NonNull Region<Object, Object> getRegion() {
+		return this.region;
+	}
+
+	public @NonNull Duration getLeaseTimeout() {
+		return this.leaseTimeout;
+	}
+
+	public @NonNull Duration getPollInterval() {
+		return this.pollInterval;
+	}
+
+	public @NonNull Duration getWaitTimeout() {
+		return this.waitTimeout;
+	}
+
+	protected long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	@Override
+	public @NonNull String getName() {
+		return getCache().getName();
+	}
+
+	@Override
+	public @NonNull Object getNativeCache() {
+		return getCache().getNativeCache();
+	}
+
+	@Override
+	public @Nullable ValueWrapper get(@NonNull Object key) {
+
+		ValueWrapper valueWrapper = getCache().get(key);
+
+		if (valueWrapper != null && isLease(valueWrapper.get())) {
+			evictLocal(key);
+			return null;
+		}
+
+		return valueWrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public @Nullable <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+
+		ValueWrapper valueWrapper = get(key);
+
+		Object value = valueWrapper != null ? valueWrapper.get() : null;
+
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(String.format("Cached value [%1$s] is not of required type [%2$s]",
+				value, type.getName()));
+		}
+
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public @Nullable <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+
+		// Serve cache hits from the decorated Cache (e.g. a local TwoLevelCache) and only fall back to
+		// the lease protocol on the Region on a miss, or when the cached value is a lease.
+		ValueWrapper cachedValue = get(key);
+
+		if (cachedValue != null && cachedValue.get() != null) {
+			return (T) cachedValue.get();
+		}
+
+		long waitDeadline = currentTimeMillis() + getWaitTimeout().toMillis();
+
+		while (true) {
+
+			Object value = getRegion().get(key);
+
+			if (value == null) {
+
+				String lease = newLease();
+
+				value = getRegion().putIfAbsent(key, lease);
+
+				if (value == null) {
+					return loadWithLease(key, lease, valueLoader);
+				}
+			}
+
+			if (!isLease(value)) {
+				return (T) value;
+			}
+
+			long now = currentTimeMillis();
+
+			if (isExpired(value, now)) {
+
+				String lease = newLease();
+
+				if (getRegion().replace(key, value, lease)) {
+					return loadWithLease(key, lease, valueLoader);
+				}
+			}
+			else if (now >= waitDeadline) {
+
+				logger.debug("Timed out waiting for the lease on key [{}] in cache [{}]; loading value without lease",
+					key, getName());
+
+				return load(key, valueLoader);
+			}
+			else {
+				awaitLeaseRelease(key, Math.min(getPollInterval().toMillis(), waitDeadline - now), valueLoader);
+			}
+		}
+	}
+
+	/**
+	 * Waits for the leases on the given keys to be replaced by the loaded values, at most the wait timeout in total.
+	 *
+	 * Keys whose lease is removed or expires, or is not replaced before the wait timeout, are not contained in
+	 * the returned {@link Map}, and so the caller may load the values of those keys itself.
+	 *
+	 * @param keys {@link Collection} of keys that were found leased in the {@link Region}.
+	 * @return a {@link Map} of the keys to the values that replaced the leases.
+	 */
+	public @NonNull Map<Object, Object> awaitLeasedValues(@NonNull Collection<?> keys) {
+
+		Map<Object, Object> values = new HashMap<>();
+
+		long waitDeadline = currentTimeMillis() + getWaitTimeout().toMillis();
+
+		for (Object key : keys) {
+
+			Object value = getRegion().get(key);
+
+			while (isLease(value)) {
+
+				long now = currentTimeMillis();
+
+				if (isExpired(value, now) || now >= waitDeadline) {
+					value = null;
+				}
+				else {
+					awaitLeaseRelease(key, Math.min(getPollInterval().toMillis(), waitDeadline - now), null);
+					value = getRegion().get(key);
+				}
+			}
+
+			if (value != null) {
+				values.put(key, value);
+			}
+		}
+
+		return values;
+	}
+
+	private String newLease() {
+		return LEASE_PREFIX + (currentTimeMillis() + getLeaseTimeout().toMillis()) + ":" + UUID.randomUUID();
+	}
+
+	private <T> T load(Object key, Callable<T> valueLoader) {
+
+		try {
+			return valueLoader.call();
+		}
+		catch (Exception cause) {
+			throw new ValueRetrievalException(key, valueLoader, cause);
+		}
+	}
+
+	private <T> T loadWithLease(Object key, String lease, Callable<T> valueLoader) {
+
+		T value;
+
+		try {
+			value = load(key, valueLoader);
+		}
+		catch (RuntimeException cause) {
+			getRegion().remove(key, lease);
+			throw cause;
+		}
+
+		if (value == null) {
+			getRegion().remove(key, lease);
+		}
+		// Only cache the value while still holding the lease; if the lease expired and was taken over, or replaced
+		// by a put, then the Region may already contain a newer value or lease, which must not be overwritten.
+		else if (getRegion().replace(key, lease, value)) {
+			evictLocal(key);
+		}
+		else {
+			logger.debug("Lost the lease on key [{}] in cache [{}]; discarding loaded value", key, getName());
+		}
+
+		return value;
+	}
+
+	private void evictLocal(Object key) {
+
+		if (getCache() instanceof TwoLevelCache) {
+			((TwoLevelCache) getCache()).evictLocal(key);
+		}
+	}
+
+	private void awaitLeaseRelease(Object key, long timeoutMillis, @Nullable Callable<?> valueLoader) {
+
+		CountDownLatch latch = this.waiters.computeIfAbsent(key, it -> new CountDownLatch(1));
+
+		try {
+			latch.await(Math.max(1L, timeoutMillis), TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new ValueRetrievalException(key, valueLoader, cause);
+		}
+	}
+
+	void signalLeaseReleased(@Nullable Object key) {
+
+		CountDownLatch latch = key != null ? this.waiters.remove(key) : null;
+
+		if (latch != null) {
+			latch.countDown();
+		}
+	}
+
+	@Override
+	public void put(@NonNull Object key, @Nullable Object value) {
+		getCache().put(key, value);
+	}
+
+	@Override
+	public @Nullable ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+
+		while (true) {
+
+			ValueWrapper existingValue = getCache().putIfAbsent(key, value);
+
+			Object existing = existingValue != null ? existingValue.get() : null;
+
+			if (!isLease(existing)) {
+				return existingValue;
+			}
+
+			// A value being loaded is absent; replace the lease with the value, waking any callers waiting on the lease.
+			// A null value cannot be stored in the Region, so the lease is removed and the null value put as on a miss.
+			// If the lease was released in the meantime, then try again.
+			boolean leaseReleased = value != null
+				? getRegion().replace(key, existing, value)
+				: getRegion().remove(key, existing);
+
+			if (leaseReleased) {
+
+				evictLocal(key);
+
+				if (value != null) {
+					return null;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void evict(@NonNull Object key) {
+		getCache().evict(key);
+	}
+
+	@Override
+	public void clear() {
+		getCache().clear();
+	}
+
+	/**
+	 * Removes the {@link CacheListener} registered by this {@link SingleFlightCache} from the {@link Region}.
+	 */
+	public void close() {
+
+		if (!this.region.isDestroyed()) {
+			this.region.getAttributesMutator().removeCacheListener(this.leaseReleasedCacheListener);
+		}
+	}
+
+	/**
+	 * Apache Geode {@link CacheListener} waking callers waiting on a lease when the lease is replaced by the value,
+	 * or removed, in the {@link Region}.
+	 */
+	static class LeaseReleasedCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		private final SingleFlightCache cache;
+
+		LeaseReleasedCacheListener(@NonNull SingleFlightCache cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			this.cache.signalLeaseReleased(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			this.cache.signalLeaseReleased(event.getKey());
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			this.cache.signalLeaseReleased(event.getKey());
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.apache.geode.cache.Region;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} decorating the {@link Cache caches} backed by an Apache Geode {@link Region}
+ * returned by {@link CacheManager#getCache(String)} with a {@link SingleFlightCache}.
+ *
+ * The {@link SingleFlightCache} always decorates the outermost {@link Cache}, e.g. a {@link TwoLevelCache},
+ * so that lease sentinels are never returned to callers. {@link Cache Caches} backed by a {@link Region}
+ * constraining values to a type other than {@link String} cannot store lease sentinels and are not decorated.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.geode.cache.SingleFlightCache
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class SingleFlightCachingInterceptor implements MethodInterceptor {
+
+	protected static final String GET_CACHE_METHOD_NAME = "getCache";
+
+	private static final Logger logger = LoggerFactory.getLogger(SingleFlightCachingInterceptor.class);
+
+	private final Duration leaseTimeout;
+	private final Duration pollInterval;
+	private final Duration waitTimeout;
+
+	private final Map<String, SingleFlightCache> singleFlightCaches = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link SingleFlightCachingInterceptor} initialized with the lease timeout,
+	 * poll interval and wait timeout of the {@link SingleFlightCache caches}.
+	 *
+	 * @param leaseTimeout {@link Duration} after which a lease expires.
+	 * @param pollInterval maximum {@link Duration} to wait before checking whether a lease was released.
+	 * @param waitTimeout maximum {@link Duration} to wait for a lease held by another caller.
+	 * @see org.springframework.geode.cache.SingleFlightCache
+	 */
+	public SingleFlightCachingInterceptor(@NonNull Duration leaseTimeout, @NonNull Duration pollInterval,
+			@NonNull Duration waitTimeout) {
+
+		this.leaseTimeout = leaseTimeout;
+		this.pollInterval = pollInterval;
+		this.waitTimeout = waitTimeout;
+	}
+
+	/**
+	 * Proxies the given {@link CacheManager} with the given {@link SingleFlightCachingInterceptor}.
+	 *
+	 * If the {@link CacheManager} is already a proxy, the {@link SingleFlightCachingInterceptor} is added as the first
+	 * advice, so that it decorates the {@link Cache caches} returned by any other advice.
+	 *
+	 * @param <T> {@link Class type} of the {@link CacheManager}.
+	 * @param cacheManager {@link CacheManager} to proxy.
+	 * @param interceptor {@link SingleFlightCachingInterceptor} decorating the {@link Cache caches}.
+	 * @return a proxy of the given {@link CacheManager} returning {@link SingleFlightCache SingleFlightCaches}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static @NonNull <T extends CacheManager> T newSingleFlightCacheManager(@NonNull T cacheManager,
+			@NonNull SingleFlightCachingInterceptor interceptor) {
+
+		if (cacheManager instanceof Advised && !((Advised) cacheManager).isFrozen()) {
+			((Advised) cacheManager).addAdvice(0, interceptor);
+			return cacheManager;
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory(cacheManager);
+
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(interceptor);
+
+		return (T) proxyFactory.getProxy(cacheManager.getClass().getClassLoader());
+	}
+
+	@Override
+	public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+		Object result = invocation.proceed();
+
+		return GET_CACHE_METHOD_NAME.equals(invocation.getMethod().getName()) && result instanceof Cache
+			? decorate((Cache) result)
+			: result;
+	}
+
+	@NonNull Cache decorate(@NonNull Cache cache) {
+
+		if (cache instanceof SingleFlightCache || !(cache.getNativeCache() instanceof Region)) {
+			return cache;
+		}
+
+		if (!SingleFlightCache.isLeaseCapable((Region<?, ?>) cache.getNativeCache())) {
+
+			logger.debug("Region [{}] cannot store lease sentinels; cache [{}] is not single-flight",
+				((Region<?, ?>) cache.getNativeCache()).getFullPath(), cache.getName());
+
+			return cache;
+		}
+
+		SingleFlightCache singleFlightCache = this.singleFlightCaches.get(cache.getName());
+
+		if (singleFlightCache != null && singleFlightCache.getCache() == cache) {
+			return singleFlightCache;
+		}
+
+		// The SingleFlightCache registers a CacheListener on the Region, so it is created at most once per Cache
+		// and the SingleFlightCache of a replaced Cache is closed.
+		synchronized (this.singleFlightCaches) {
+
+			singleFlightCache = this.singleFlightCaches.get(cache.getName());
+
+			if (singleFlightCache == null || singleFlightCache.getCache() != cache) {
+
+				if (singleFlightCache != null) {
+					singleFlightCache.close();
+				}
+
+				singleFlightCache = new SingleFlightCache(cache, this.leaseTimeout, this.pollInterval, this.waitTimeout);
+
+				this.singleFlightCaches.put(cache.getName(), singleFlightCache);
+			}
+
+			return singleFlightCache;
+		}
+	}
+}
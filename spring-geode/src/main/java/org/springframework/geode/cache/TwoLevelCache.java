@@ -0,0 +1,379 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.client.SubscriptionNotEnabledException;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring {@link Cache} implementation placing a bounded, on-heap, local cache (L1) in front of
+ * a Spring {@link Cache} backed by an Apache Geode {@link Region} (L2).
+ *
+ * Reads are served from L1 when possible and otherwise from L2, populating L1. Writes go to L2 and evict the entry
+ * from L1, so that the next read populates L1 with the value in L2.
+ * L1 is a <a href="https://github.com/ben-manes/caffeine">Caffeine</a> cache, which evicts entries using a
+ * Window TinyLFU policy and may also expire entries after a time-to-live.
+ *
+ * L1 is kept coherent with the {@link Region} by a {@link CacheListener} evicting an entry from L1 whenever the entry
+ * is created, updated, invalidated or destroyed in the {@link Region}. For a client {@link Region}, interest in
+ * all keys is registered, without values, so that changes made by other application instances are delivered
+ * to the listener. This requires subscription to be enabled on the client {@link org.apache.geode.cache.client.Pool}.
+ *
+ * A value read from L2 is only put in L1 if no eviction of the entry happened while the value was being read,
+ * otherwise an eviction racing with the read could leave a stale value in L1 until it expires. Evictions are tracked
+ * with invalidation generations, striped by key.
+ *
+ * A {@link TwoLevelCache} that is no longer used must be {@link #close() closed} to remove the {@link CacheListener}
+ * and interest from the {@link Region}.
+ *
+ * @author John Blum
+ * @see com.github.benmanes.caffeine.cache.Cache
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.cache.Cache
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class TwoLevelCache implements Cache {
+
+	private static final String ALL_KEYS = "ALL_KEYS";
+
+	private static final int INVALIDATION_GENERATION_STRIPES = 64;
+
+	private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+
+	private final AtomicLongArray invalidationGenerations = new AtomicLongArray(INVALIDATION_GENERATION_STRIPES);
+
+	private volatile boolean interestRegistered;
+
+	private final Cache cache;
+
+	private final CacheListener<Object, Object> invalidatingCacheListener = new InvalidatingCacheListener(this);
+
+	private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> localCache;
+
+	/**
+	 * Constructs a new instance of {@link TwoLevelCache} initialized with the given Spring {@link Cache} (L2) and
+	 * Caffeine {@link com.github.benmanes.caffeine.cache.Cache local cache} (L1).
+	 *
+	 * If the Spring {@link Cache} is backed by an Apache Geode {@link Region}, a {@link CacheListener} is registered
+	 * on the {@link Region} to keep the local cache coherent.
+	 *
+	 * @param cache Spring {@link Cache} backed by an Apache Geode {@link Region}.
+	 * @param localCache Caffeine {@link com.github.benmanes.caffeine.cache.Cache} used as the local cache.
+	 * @throws IllegalArgumentException if either {@link Cache} is {@literal null}.
+	 */
+	public TwoLevelCache(@NonNull Cache cache,
+			@NonNull com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> localCache) {
+
+		Assert.notNull(cache, "Cache is required");
+		Assert.notNull(localCache, "Local cache is required");
+
+		this.cache = cache;
+		this.localCache = localCache;
+
+		if (cache.getNativeCache() instanceof Region) {
+			registerInvalidatingCacheListener((Region<?, ?>) cache.getNativeCache());
+		}
+	}
+
+	/**
+	 * Returns the Spring {@link Cache} backed by an Apache Geode {@link Region} (L2).
+	 *
+	 * @return the Spring {@link Cache} backed by an Apache Geode {@link Region}.
+	 */
+	public @NonNull Cache getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * Returns the local, on-heap cache (L1).
+	 *
+	 * @return the local, on-heap cache.
+	 */
+	public @NonNull com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> getLocalCache() {
+		return this.localCache;
+	}
+
+	@Override
+	public @NonNull String getName() {
+		return getCache().getName();
+	}
+
+	@Override
+	public @NonNull Object getNativeCache() {
+		return getCache().getNativeCache();
+	}
+
+	@Override
+	public @Nullable ValueWrapper get(@NonNull Object key) {
+
+		ValueWrapper valueWrapper = getLocalCache().getIfPresent(key);
+
+		if (valueWrapper == null) {
+
+			long invalidationGeneration = getInvalidationGeneration(key);
+
+			valueWrapper = getCache().get(key);
+
+			if (valueWrapper != null) {
+				putLocal(key, valueWrapper, invalidationGeneration);
+			}
+		}
+
+		return valueWrapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public @Nullable <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+
+		ValueWrapper valueWrapper = get(key);
+
+		Object value = valueWrapper != null ? valueWrapper.get() : null;
+
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(String.format("Cached value [%1$s] is not of required type [%2$s]",
+				value, type.getName()));
+		}
+
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public @Nullable <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+
+		ValueWrapper valueWrapper = get(key);
+
+		if (valueWrapper != null) {
+			return (T) valueWrapper.get();
+		}
+
+		long invalidationGeneration = getInvalidationGeneration(key);
+
+		T value = getCache().get(key, valueLoader);
+
+		putLocal(key, new SimpleValueWrapper(value), invalidationGeneration);
+
+		return value;
+	}
+
+	// Putting the value in L1 would race with an eviction caused by a concurrent update of the entry in L2,
+	// so the entry is evicted from L1 instead.
+	@Override
+	public void put(@NonNull Object key, @Nullable Object value) {
+		getCache().put(key, value);
+		evictLocal(key);
+	}
+
+	@Override
+	public @Nullable ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+
+		ValueWrapper existingValue = getCache().putIfAbsent(key, value);
+
+		getLocalCache().invalidate(key);
+
+		return existingValue;
+	}
+
+	@Override
+	public void evict(@NonNull Object key) {
+		getCache().evict(key);
+		evictLocal(key);
+	}
+
+	@Override
+	public void clear() {
+		getCache().clear();
+		clearLocal();
+	}
+
+	/**
+	 * Removes the {@link CacheListener} and the interest in all keys registered by this {@link TwoLevelCache}
+	 * from the {@link Region} and clears the local cache (L1).
+	 */
+	@SuppressWarnings("unchecked")
+	public void close() {
+
+		if (getNativeCache() instanceof Region) {
+
+			Region<Object, Object> region = (Region<Object, Object>) getNativeCache();
+
+			if (!region.isDestroyed()) {
+
+				region.getAttributesMutator().removeCacheListener(this.invalidatingCacheListener);
+
+				if (this.interestRegistered) {
+					region.unregisterInterest(ALL_KEYS);
+					this.interestRegistered = false;
+				}
+			}
+		}
+
+		clearLocal();
+	}
+
+	/**
+	 * Evicts the entry with the given key from the local cache (L1) only.
+	 *
+	 * @param key key of the entry to evict.
+	 */
+	public void evictLocal(@Nullable Object key) {
+
+		if (key != null) {
+			this.invalidationGenerations.incrementAndGet(resolveInvalidationGenerationStripe(key));
+			getLocalCache().invalidate(key);
+		}
+	}
+
+	/**
+	 * Clears the local cache (L1) only.
+	 */
+	public void clearLocal() {
+
+		for (int stripe = 0; stripe < INVALIDATION_GENERATION_STRIPES; stripe++) {
+			this.invalidationGenerations.incrementAndGet(stripe);
+		}
+
+		getLocalCache().invalidateAll();
+	}
+
+	private int resolveInvalidationGenerationStripe(@NonNull Object key) {
+
+		int hashCode = key.hashCode();
+
+		return (hashCode ^ (hashCode >>> 16)) & (INVALIDATION_GENERATION_STRIPES - 1);
+	}
+
+	long getInvalidationGeneration(@NonNull Object key) {
+		return this.invalidationGenerations.get(resolveInvalidationGenerationStripe(key));
+	}
+
+	/**
+	 * Puts the value read from L2 in the local cache (L1), unless the entry was evicted since the given
+	 * invalidation generation was read, or L1 already contains a value for the key.
+	 *
+	 * The check is made inside {@link java.util.concurrent.ConcurrentMap#compute} so that it is atomic with respect to
+	 * the eviction of the entry from L1.
+	 *
+	 * @param key key of the entry.
+	 * @param valueWrapper value read from L2.
+	 * @param invalidationGeneration invalidation generation read before the value was read from L2.
+	 */
+	void putLocal(@NonNull Object key, @NonNull ValueWrapper valueWrapper, long invalidationGeneration) {
+
+		getLocalCache().asMap().compute(key, (it, currentValueWrapper) ->
+			currentValueWrapper != null || getInvalidationGeneration(key) != invalidationGeneration
+				? currentValueWrapper
+				: valueWrapper);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void registerInvalidatingCacheListener(@NonNull Region<?, ?> region) {
+
+		((Region<Object, Object>) region).getAttributesMutator().addCacheListener(this.invalidatingCacheListener);
+
+		if (isClientRegion(region)) {
+			registerInterest(region);
+		}
+	}
+
+	private boolean isClientRegion(@NonNull Region<?, ?> region) {
+		return region.getAttributes() != null && StringUtils.hasText(region.getAttributes().getPoolName());
+	}
+
+	private void registerInterest(@NonNull Region<?, ?> region) {
+
+		try {
+			if (region.getInterestList().isEmpty() && region.getInterestListRegex().isEmpty()) {
+				region.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+				this.interestRegistered = true;
+			}
+		}
+		catch (SubscriptionNotEnabledException cause) {
+			logger.warn("Subscription is not enabled for client Region [{}];"
+				+ " changes made by other application instances will not evict entries from the local cache",
+				region.getFullPath());
+		}
+	}
+
+	/**
+	 * Apache Geode {@link CacheListener} evicting entries from the local cache (L1) of a {@link TwoLevelCache}
+	 * when the entries change in the {@link Region}.
+	 */
+	static class InvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		private final TwoLevelCache cache;
+
+		InvalidatingCacheListener(@NonNull TwoLevelCache cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+			this.cache.evictLocal(event.getKey());
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			this.cache.evictLocal(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			this.cache.evictLocal(event.getKey());
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			this.cache.evictLocal(event.getKey());
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			this.cache.clearLocal();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			this.cache.clearLocal();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			this.cache.clearLocal();
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * AOP Alliance {@link MethodInterceptor} decorating the {@link Cache caches} returned by
+ * {@link CacheManager#getCache(String)} with a {@link TwoLevelCache}.
+ *
+ * The {@link CacheManager} is {@link #newTwoLevelCacheManager(CacheManager, TwoLevelCachingInterceptor) proxied}
+ * by class, so that the proxy can still be used as the concrete {@link CacheManager} type,
+ * e.g. {@link org.springframework.data.gemfire.cache.GemfireCacheManager}.
+ *
+ * @author John Blum
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.geode.cache.TwoLevelCache
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class TwoLevelCachingInterceptor implements MethodInterceptor {
+
+	protected static final String GET_CACHE_METHOD_NAME = "getCache";
+
+	private final Function<String, com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper>> localCacheFactory;
+
+	private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link TwoLevelCachingInterceptor} initialized with the given {@link Function}
+	 * creating the local cache (L1) for a named {@link Cache}.
+	 *
+	 * The {@link Function} returns {@literal null} for a {@link Cache} that should not have a local cache.
+	 *
+	 * @param localCacheFactory {@link Function} creating the local cache for the {@link Cache} with the given name.
+	 * @throws IllegalArgumentException if the {@link Function} is {@literal null}.
+	 */
+	public TwoLevelCachingInterceptor(
+			@NonNull Function<String, com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper>> localCacheFactory) {
+
+		Assert.notNull(localCacheFactory, "Local cache factory is required");
+
+		this.localCacheFactory = localCacheFactory;
+	}
+
+	/**
+	 * Proxies the given {@link CacheManager} with the given {@link TwoLevelCachingInterceptor}.
+	 *
+	 * If the {@link CacheManager} is already a proxy, the {@link TwoLevelCachingInterceptor} is added as the last
+	 * advice, so that it decorates the {@link Cache caches} returned by the {@link CacheManager} directly.
+	 *
+	 * @param <T> {@link Class type} of the {@link CacheManager}.
+	 * @param cacheManager {@link CacheManager} to proxy.
+	 * @param interceptor {@link TwoLevelCachingInterceptor} decorating the {@link Cache caches}.
+	 * @return a proxy of the given {@link CacheManager} returning {@link TwoLevelCache TwoLevelCaches}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static @NonNull <T extends CacheManager> T newTwoLevelCacheManager(@NonNull T cacheManager,
+			@NonNull TwoLevelCachingInterceptor interceptor) {
+
+		if (cacheManager instanceof Advised && !((Advised) cacheManager).isFrozen()) {
+			((Advised) cacheManager).addAdvice(interceptor);
+			return cacheManager;
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory(cacheManager);
+
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(interceptor);
+
+		return (T) proxyFactory.getProxy(cacheManager.getClass().getClassLoader());
+	}
+
+	@Override
+	public @Nullable Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+		Object result = invocation.proceed();
+
+		return GET_CACHE_METHOD_NAME.equals(invocation.getMethod().getName()) && result instanceof Cache
+			? decorate((Cache) result)
+			: result;
+	}
+
+	/**
+	 * Decorates the given {@link Cache} with a {@link TwoLevelCache}.
+	 *
+	 * The {@link TwoLevelCache} is reused until the {@link CacheManager} returns a different {@link Cache}
+	 * with the same name, in which case the previous {@link TwoLevelCache} is {@link TwoLevelCache#close() closed}
+	 * before the {@link Cache} is decorated again.
+	 *
+	 * @param cache {@link Cache} to decorate.
+	 * @return a {@link TwoLevelCache} or the given {@link Cache} if the {@link Cache} has no local cache.
+	 */
+	@NonNull Cache decorate(@NonNull Cache cache) {
+
+		TwoLevelCache twoLevelCache = this.twoLevelCaches.get(cache.getName());
+
+		if (twoLevelCache != null && twoLevelCache.getCache() == cache) {
+			return twoLevelCache;
+		}
+
+		synchronized (this.twoLevelCaches) {
+
+			twoLevelCache = this.twoLevelCaches.get(cache.getName());
+
+			if (twoLevelCache == null || twoLevelCache.getCache() != cache) {
+
+				if (twoLevelCache != null) {
+					this.twoLevelCaches.remove(cache.getName());
+					twoLevelCache.close();
+				}
+
+				com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper> localCache =
+					this.localCacheFactory.apply(cache.getName());
+
+				if (localCache == null) {
+					return cache;
+				}
+
+				twoLevelCache = new TwoLevelCache(cache, localCache);
+
+				this.twoLevelCaches.put(cache.getName(), twoLevelCache);
+			}
+
+			return twoLevelCache;
+		}
+	}
+}
@@ -15,15 +15,20 @@
  */
 package org.springframework.geode.config.annotation;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
@@ -42,11 +47,13 @@ import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.MutablePropertySources;
 import org.springframework.core.env.PropertySource;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.support.ConnectionEndpoint;
 import org.springframework.data.gemfire.support.ConnectionEndpointList;
 import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.geode.context.startup.GeodeStartupSteps;
 import org.springframework.geode.core.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -60,8 +67,9 @@ import org.slf4j.LoggerFactory;
  *
  * @author John Blum
  * @see java.lang.annotation.Annotation
- * @see java.net.Socket
  * @see java.net.SocketAddress
+ * @see java.nio.channels.Selector
+ * @see java.nio.channels.SocketChannel
  * @see org.apache.geode.cache.client.ClientRegionShortcut
  * @see org.apache.geode.cache.server.CacheServer
  * @see org.springframework.context.ApplicationListener
@@ -161,7 +169,20 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 				new ConnectionEndpointList(getDefaultConnectionEndpoints())
 					.add(getConfiguredConnectionEndpoints(environment));
 
-			int connectionCount = countConnections(connectionEndpoints);
+			StartupStep clusterDetectStep =
+				GeodeStartupSteps.resolveApplicationStartup(conditionContext.getBeanFactory())
+					.start(GeodeStartupSteps.CLUSTER_DETECT_STEP_NAME)
+					.tag("endpoints", String.valueOf(connectionEndpoints.size()));
+
+			int connectionCount;
+
+			try {
+				connectionCount = countConnections(connectionEndpoints);
+				clusterDetectStep.tag("available", String.valueOf(connectionCount > 0));
+			}
+			finally {
+				clusterDetectStep.end();
+			}
 
 			configureTopology(environment, connectionEndpoints, connectionCount);
 
@@ -244,54 +265,134 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 			return array;
 		}
 
+		/**
+		 * Connects to all {@link ConnectionEndpoint ConnectionEndpoints} concurrently, using non-blocking
+		 * {@link SocketChannel SocketChannels} multiplexed by a single {@link Selector}, and stops at the first
+		 * successful connection.
+		 *
+		 * The check completes within a single timeout window regardless of the number of endpoints.
+		 *
+		 * @param connectionEndpoints {@link ConnectionEndpointList} to connect to.
+		 * @return the number of successful connections, which is {@literal 0} or {@literal 1}.
+		 */
 		int countConnections(ConnectionEndpointList connectionEndpoints) {
 
 			int count = 0;
 
-			for (ConnectionEndpoint connectionEndpoint : connectionEndpoints) {
+			Selector selector = null;
+
+			try {
+
+				selector = Selector.open();
+
+				int pendingConnectionCount = 0;
+
+				for (ConnectionEndpoint connectionEndpoint : connectionEndpoints) {
+
+					SocketChannel socketChannel = null;
+
+					try {
 
-				Socket socket = null;
+						socketChannel = connect(connectionEndpoint);
 
-				try {
-					socket = connect(connectionEndpoint);
-					count++;
+						if (socketChannel.isConnected()) {
+							close(socketChannel);
+							count++;
+							break;
+						}
+
+						socketChannel.register(selector, SelectionKey.OP_CONNECT, connectionEndpoint);
+						pendingConnectionCount++;
+					}
+					catch (IOException | IllegalArgumentException cause) {
+						close(socketChannel);
+						logConnectionFailure(connectionEndpoint, cause);
+					}
 				}
-				catch (IOException cause) {
 
-					if (getLogger().isInfoEnabled()) {
-						getLogger().info("Failed to connect to {}", connectionEndpoint);
+				long timeout = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIMEOUT_IN_MILLISECONDS);
+
+				while (count < 1 && pendingConnectionCount > 0) {
+
+					long remainingTimeout = TimeUnit.NANOSECONDS.toMillis(timeout - System.nanoTime());
+
+					if (remainingTimeout < 1) {
+						break;
 					}
 
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("Connection failure caused by:", cause);
+					selector.select(remainingTimeout);
+
+					Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+
+					while (count < 1 && selectedKeys.hasNext()) {
+
+						SelectionKey selectedKey = selectedKeys.next();
+						SocketChannel socketChannel = (SocketChannel) selectedKey.channel();
+
+						selectedKeys.remove();
+						selectedKey.cancel();
+						pendingConnectionCount--;
+
+						try {
+							if (socketChannel.finishConnect()) {
+								count++;
+							}
+						}
+						catch (IOException cause) {
+							logConnectionFailure((ConnectionEndpoint) selectedKey.attachment(), cause);
+						}
+						finally {
+							close(socketChannel);
+						}
 					}
 				}
-				finally {
-					close(socket);
+
+				if (count < 1) {
+					for (SelectionKey pendingKey : selector.keys()) {
+						if (pendingKey.isValid()) {
+							logConnectionFailure((ConnectionEndpoint) pendingKey.attachment(), null);
+						}
+					}
+				}
+			}
+			catch (IOException cause) {
+				getLogger().debug("Failed to connect to the cluster", cause);
+			}
+			finally {
+				if (selector != null) {
+					selector.keys().forEach(key -> close(key.channel()));
+					close(selector);
 				}
 			}
 
 			return count;
 		}
 
-		Socket connect(ConnectionEndpoint connectionEndpoint) throws IOException {
+		SocketChannel connect(ConnectionEndpoint connectionEndpoint) throws IOException {
 
 			SocketAddress socketAddress =
 				new InetSocketAddress(connectionEndpoint.getHost(), connectionEndpoint.getPort());
 
-			Socket socket = new Socket();
+			SocketChannel socketChannel = SocketChannel.open();
 
-			socket.connect(socketAddress, DEFAULT_TIMEOUT_IN_MILLISECONDS);
+			try {
+				socketChannel.configureBlocking(false);
+				socketChannel.connect(socketAddress);
 
-			return socket;
+				return socketChannel;
+			}
+			catch (IOException | RuntimeException cause) {
+				close(socketChannel);
+				throw cause;
+			}
 		}
 
-		boolean close(Socket socket) {
+		boolean close(Closeable closeable) {
 
 			return ObjectUtils.<Boolean>doOperationSafely(() -> {
 
-				if (socket != null) {
-					socket.close();
+				if (closeable != null) {
+					closeable.close();
 					return true;
 				}
 
@@ -300,6 +401,17 @@ public class ClusterAwareConfiguration extends AbstractAnnotationConfigSupport {
 			}, cause -> false);
 		}
 
+		private void logConnectionFailure(ConnectionEndpoint connectionEndpoint, Throwable cause) {
+
+			if (getLogger().isInfoEnabled()) {
+				getLogger().info("Failed to connect to {}", connectionEndpoint);
+			}
+
+			if (cause != null && getLogger().isDebugEnabled()) {
+				getLogger().debug("Connection failure caused by:", cause);
+			}
+		}
+
 		void configureTopology(Environment environment, ConnectionEndpointList connectionEndpoints,
 				int connectionCount) {
 
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.context.startup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Timing breakdown of the Apache Geode {@link StartupStep StartupSteps} recorded in a Spring Boot
+ * {@link StartupTimeline}.
+ *
+ * The {@link GeodeStartupReport} groups the {@link TimelineEvent TimelineEvents} by {@link StartupStep} name,
+ * in the order the steps first started, and totals the time spent in each step.
+ *
+ * @author John Blum
+ * @see org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup
+ * @see org.springframework.boot.context.metrics.buffering.StartupTimeline
+ * @see org.springframework.core.metrics.StartupStep
+ * @see org.springframework.geode.context.startup.GeodeStartupSteps
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class GeodeStartupReport {
+
+	/**
+	 * Factory method used to construct a new {@link GeodeStartupReport} from the {@link StartupTimeline}
+	 * buffered by the given {@link ApplicationStartup}.
+	 *
+	 * The {@link StartupTimeline} is not drained.
+	 *
+	 * @param applicationStartup {@link ApplicationStartup} recording the {@link StartupStep StartupSteps}.
+	 * @return a new {@link GeodeStartupReport} or {@literal null} if the {@link ApplicationStartup}
+	 * is not a {@link BufferingApplicationStartup}.
+	 * @see #from(StartupTimeline)
+	 */
+	public static @Nullable GeodeStartupReport from(@Nullable ApplicationStartup applicationStartup) {
+
+		return applicationStartup instanceof BufferingApplicationStartup
+			? from(((BufferingApplicationStartup) applicationStartup).getBufferedTimeline())
+			: null;
+	}
+
+	/**
+	 * Factory method used to construct a new {@link GeodeStartupReport} from the given {@link StartupTimeline}.
+	 *
+	 * @param startupTimeline {@link StartupTimeline} containing the recorded {@link TimelineEvent TimelineEvents}.
+	 * @return a new {@link GeodeStartupReport}.
+	 */
+	public static @NonNull GeodeStartupReport from(@Nullable StartupTimeline startupTimeline) {
+
+		GeodeStartupReport report = new GeodeStartupReport();
+
+		List<TimelineEvent> events = startupTimeline != null ? startupTimeline.getEvents() : null;
+
+		if (events != null) {
+			for (TimelineEvent event : events) {
+				if (event != null && GeodeStartupSteps.isGeodeStartupStep(event.getStartupStep().getName())) {
+					report.add(event);
+				}
+			}
+		}
+
+		return report;
+	}
+
+	private final Map<String, StepSummary> stepSummaries = new LinkedHashMap<>();
+
+	void add(@NonNull TimelineEvent event) {
+
+		StartupStep startupStep = event.getStartupStep();
+
+		Map<String, String> tags = new LinkedHashMap<>();
+
+		for (StartupStep.Tag tag : startupStep.getTags()) {
+			tags.put(tag.getKey(), tag.getValue());
+		}
+
+		this.stepSummaries.computeIfAbsent(startupStep.getName(), StepSummary::new)
+			.add(tags, event.getDuration());
+	}
+
+	/**
+	 * Returns the {@link StepSummary StepSummaries} of each recorded Apache Geode {@link StartupStep}
+	 * in the order the steps first started.
+	 *
+	 * @return a {@link List} of {@link StepSummary StepSummaries}.
+	 */
+	public @NonNull List<StepSummary> getStepSummaries() {
+		return Collections.unmodifiableList(new ArrayList<>(this.stepSummaries.values()));
+	}
+
+	/**
+	 * Returns the total time spent in all recorded Apache Geode {@link StartupStep StartupSteps}.
+	 *
+	 * A step started while another step is in progress, such as the {@literal spring.geode.cache.create} step
+	 * triggered by the first {@literal spring.geode.region.create} step, is counted in both steps.
+	 *
+	 * @return the total {@link Duration}.
+	 */
+	public @NonNull Duration getTotalDuration() {
+
+		return this.stepSummaries.values().stream()
+			.map(StepSummary::getTotalDuration)
+			.reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * Determines whether any Apache Geode {@link StartupStep StartupSteps} were recorded.
+	 *
+	 * @return a boolean value indicating whether any Apache Geode {@link StartupStep StartupSteps} were recorded.
+	 */
+	public boolean isEmpty() {
+		return this.stepSummaries.isEmpty();
+	}
+
+	/**
+	 * Converts this report into a {@link Map} suitable for rendering as JSON.
+	 *
+	 * @return a {@link Map} containing the timing breakdown.
+	 */
+	public @NonNull Map<String, Object> toMap() {
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		Map<String, Object> steps = new LinkedHashMap<>();
+
+		for (StepSummary stepSummary : this.stepSummaries.values()) {
+
+			Map<String, Object> step = new LinkedHashMap<>();
+			List<Map<String, Object>> events = new ArrayList<>();
+
+			step.put("count", stepSummary.getCount());
+			step.put("total-time-millis", stepSummary.getTotalDuration().toMillis());
+			step.put("max-time-millis", stepSummary.getMaxDuration().toMillis());
+
+			for (StepEvent stepEvent : stepSummary.getEvents()) {
+
+				Map<String, Object> event = new LinkedHashMap<>(stepEvent.getTags());
+
+				event.put("duration-millis", stepEvent.getDuration().toMillis());
+				events.add(event);
+			}
+
+			step.put("events", events);
+			steps.put(stepSummary.getName(), step);
+		}
+
+		map.put("total-time-millis", getTotalDuration().toMillis());
+		map.put("steps", steps);
+
+		return map;
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuilder buffer = new StringBuilder("Apache Geode startup timing breakdown:");
+
+		for (StepSummary stepSummary : this.stepSummaries.values()) {
+			buffer.append(String.format("%n  %-40s %5d step(s) %8d ms total %8d ms max", stepSummary.getName(),
+				stepSummary.getCount(), stepSummary.getTotalDuration().toMillis(),
+				stepSummary.getMaxDuration().toMillis()));
+		}
+
+		return buffer.toString();
+	}
+
+	public static class StepSummary {
+
+		private Duration maxDuration = Duration.ZERO;
+		private Duration totalDuration = Duration.ZERO;
+
+		private final List<StepEvent> events = new ArrayList<>();
+
+		private final String name;
+
+		StepSummary(@NonNull String name) {
+			this.name = name;
+		}
+
+		void add(@NonNull Map<String, String> tags, @NonNull Duration duration) {
+
+			this.events.add(new StepEvent(tags, duration));
+			this.totalDuration = this.totalDuration.plus(duration);
+			this.maxDuration = duration.compareTo(this.maxDuration) > 0 ? duration : this.maxDuration;
+		}
+
+		public int getCount() {
+			return this.events.size();
+		}
+
+		public @NonNull List<StepEvent> getEvents() {
+			return Collections.unmodifiableList(this.events);
+		}
+
+		public @NonNull Duration getMaxDuration() {
+			return this.maxDuration;
+		}
+
+		public @NonNull String getName() {
+			return this.name;
+		}
+
+		public @NonNull Duration getTotalDuration() {
+			return this.totalDuration;
+		}
+	}
+
+	public static class StepEvent {
+
+		private final Duration duration;
+
+		private final Map<String, String> tags;
+
+		StepEvent(@NonNull Map<String, String> tags, @NonNull Duration duration) {
+			this.tags = Collections.unmodifiableMap(tags);
+			this.duration = duration;
+		}
+
+		public @NonNull Duration getDuration() {
+			return this.duration;
+		}
+
+		public @NonNull Map<String, String> getTags() {
+			return this.tags;
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.context.startup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.data.gemfire.IndexFactoryBean;
+import org.springframework.data.gemfire.ResolvableRegionFactoryBean;
+import org.springframework.data.gemfire.client.PoolFactoryBean;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Spring {@link InstantiationAwareBeanPostProcessor} recording a {@link StartupStep} for the creation of
+ * each Apache Geode cache, {@link org.apache.geode.cache.client.Pool}, {@link org.apache.geode.cache.Region},
+ * {@link org.apache.geode.cache.query.Index} and {@link ContinuousQueryListenerContainer} bean.
+ *
+ * The {@link StartupStep} starts before the bean is instantiated and ends after the bean has been initialized,
+ * which is when Spring Data for Apache Geode creates the Apache Geode object. Each {@link StartupStep} is tagged
+ * with the {@literal beanName} and {@literal beanType}.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor
+ * @see org.springframework.context.ApplicationStartupAware
+ * @see org.springframework.core.metrics.ApplicationStartup
+ * @see org.springframework.core.metrics.StartupStep
+ * @see org.springframework.geode.context.startup.GeodeStartupSteps
+ * @since 1.4.0
+ */
+public class GeodeStartupStepBeanPostProcessor implements ApplicationStartupAware,
+		InstantiationAwareBeanPostProcessor {
+
+	protected static final Map<Class<?>, String> STEP_NAMES_BY_BEAN_TYPE;
+
+	static {
+
+		Map<Class<?>, String> stepNamesByBeanType = new LinkedHashMap<>();
+
+		stepNamesByBeanType.put(CacheFactoryBean.class, GeodeStartupSteps.CACHE_CREATE_STEP_NAME);
+		stepNamesByBeanType.put(PoolFactoryBean.class, GeodeStartupSteps.POOL_CREATE_STEP_NAME);
+		stepNamesByBeanType.put(ResolvableRegionFactoryBean.class, GeodeStartupSteps.REGION_CREATE_STEP_NAME);
+		stepNamesByBeanType.put(IndexFactoryBean.class, GeodeStartupSteps.INDEX_CREATE_STEP_NAME);
+		stepNamesByBeanType.put(ContinuousQueryListenerContainer.class,
+			GeodeStartupSteps.CONTINUOUS_QUERIES_CREATE_STEP_NAME);
+
+		STEP_NAMES_BY_BEAN_TYPE = Collections.unmodifiableMap(stepNamesByBeanType);
+	}
+
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+	private final Map<String, StartupStep> startupSteps = new ConcurrentHashMap<>();
+
+	@Override
+	public void setApplicationStartup(@Nullable ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup != null ? applicationStartup : ApplicationStartup.DEFAULT;
+	}
+
+	protected @NonNull ApplicationStartup getApplicationStartup() {
+		return this.applicationStartup;
+	}
+
+	@Override
+	public Object postProcessBeforeInstantiation(@NonNull Class<?> beanClass, @NonNull String beanName)
+			throws BeansException {
+
+		String stepName = resolveStepName(beanClass);
+
+		if (stepName != null) {
+			this.startupSteps.put(beanName, getApplicationStartup().start(stepName)
+				.tag("beanName", beanName)
+				.tag("beanType", beanClass.getName()));
+		}
+
+		return null;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName)
+			throws BeansException {
+
+		StartupStep startupStep = this.startupSteps.remove(beanName);
+
+		if (startupStep != null) {
+			startupStep.end();
+		}
+
+		return bean;
+	}
+
+	@Nullable String resolveStepName(@Nullable Class<?> beanClass) {
+
+		if (beanClass != null) {
+			for (Map.Entry<Class<?>, String> entry : STEP_NAMES_BY_BEAN_TYPE.entrySet()) {
+				if (entry.getKey().isAssignableFrom(beanClass)) {
+					return entry.getValue();
+				}
+			}
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.context.startup;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Names of the {@link StartupStep StartupSteps} recorded by Spring Boot for Apache Geode while the Spring
+ * {@link ApplicationContext} starts, along with utility methods to resolve the {@link ApplicationStartup}.
+ *
+ * The {@link StartupStep StartupSteps} are only recorded when the application is configured with an
+ * {@link ApplicationStartup} implementation that records steps, such as Spring Boot's
+ * {@link org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup}. Otherwise,
+ * the {@link ApplicationStartup#DEFAULT default} {@link ApplicationStartup} does nothing.
+ *
+ * @author John Blum
+ * @see org.springframework.core.metrics.ApplicationStartup
+ * @see org.springframework.core.metrics.StartupStep
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public abstract class GeodeStartupSteps {
+
+	public static final String STARTUP_STEP_NAME_PREFIX = "spring.geode.";
+
+	public static final String CACHE_CREATE_STEP_NAME = STARTUP_STEP_NAME_PREFIX + "cache.create";
+	public static final String CLUSTER_DETECT_STEP_NAME = STARTUP_STEP_NAME_PREFIX + "cluster.detect";
+	public static final String CONTINUOUS_QUERIES_CREATE_STEP_NAME = STARTUP_STEP_NAME_PREFIX + "cq.create";
+	public static final String DATA_IMPORT_STEP_NAME = STARTUP_STEP_NAME_PREFIX + "data.import";
+	public static final String INDEX_CREATE_STEP_NAME = STARTUP_STEP_NAME_PREFIX + "index.create";
+	public static final String POOL_CREATE_STEP_NAME = STARTUP_STEP_NAME_PREFIX + "pool.create";
+	public static final String REGION_CREATE_STEP_NAME = STARTUP_STEP_NAME_PREFIX + "region.create";
+	public static final String REGION_TEMPLATES_REGISTER_STEP_NAME =
+		STARTUP_STEP_NAME_PREFIX + "region-templates.register";
+
+	/**
+	 * Determines whether the given {@link StartupStep} name is the name of a step recorded by
+	 * Spring Boot for Apache Geode.
+	 *
+	 * @param stepName {@link String} containing the name of the {@link StartupStep}.
+	 * @return a boolean value indicating whether the given {@link StartupStep} name is a Geode step name.
+	 */
+	public static boolean isGeodeStartupStep(@Nullable String stepName) {
+		return stepName != null && stepName.startsWith(STARTUP_STEP_NAME_PREFIX);
+	}
+
+	/**
+	 * Resolves the {@link ApplicationStartup} from the given {@link ApplicationContext}.
+	 *
+	 * @param applicationContext {@link ApplicationContext} from which to resolve the {@link ApplicationStartup}.
+	 * @return the resolved {@link ApplicationStartup} or the {@link ApplicationStartup#DEFAULT default}
+	 * {@link ApplicationStartup} if the {@link ApplicationContext} is not configurable.
+	 */
+	public static @NonNull ApplicationStartup resolveApplicationStartup(
+			@Nullable ApplicationContext applicationContext) {
+
+		return applicationContext instanceof ConfigurableApplicationContext
+			? nullSafeApplicationStartup(
+				((ConfigurableApplicationContext) applicationContext).getApplicationStartup())
+			: ApplicationStartup.DEFAULT;
+	}
+
+	/**
+	 * Resolves the {@link ApplicationStartup} from the given {@link BeanFactory}.
+	 *
+	 * @param beanFactory {@link BeanFactory} from which to resolve the {@link ApplicationStartup}.
+	 * @return the resolved {@link ApplicationStartup} or the {@link ApplicationStartup#DEFAULT default}
+	 * {@link ApplicationStartup} if the {@link BeanFactory} is not configurable.
+	 */
+	public static @NonNull ApplicationStartup resolveApplicationStartup(@Nullable BeanFactory beanFactory) {
+
+		return beanFactory instanceof ConfigurableBeanFactory
+			? nullSafeApplicationStartup(((ConfigurableBeanFactory) beanFactory).getApplicationStartup())
+			: ApplicationStartup.DEFAULT;
+	}
+
+	private static ApplicationStartup nullSafeApplicationStartup(@Nullable ApplicationStartup applicationStartup) {
+		return applicationStartup != null ? applicationStartup : ApplicationStartup.DEFAULT;
+	}
+
+}
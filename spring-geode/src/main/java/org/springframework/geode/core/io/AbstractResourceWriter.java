@@ -41,13 +41,28 @@ public abstract class AbstractResourceWriter implements ResourceWriter {
 	 */
 	@Override
 	public void write(@NonNull Resource resource, byte[] data) {
+		writeTo(resource, out -> doWrite(out, data));
+	}
+
+	/**
+	 * Streams the data written by the given {@link OutputStreamCallback} to the target {@link Resource}
+	 * without collecting the data in memory.
+	 *
+	 * @see #doWriteStream(OutputStream, OutputStreamCallback)
+	 */
+	@Override
+	public void write(@NonNull Resource resource, @NonNull OutputStreamCallback callback) {
+		writeTo(resource, out -> doWriteStream(out, callback));
+	}
+
+	private void writeTo(@NonNull Resource resource, @NonNull OutputStreamCallback writer) {
 
 		ResourceUtils.asWritableResource(resource)
 			.filter(this::isAbleToHandle)
 			.map(this::preProcess)
 			.map(it -> {
 				try (OutputStream out = it.getOutputStream()) {
-					doWrite(out, data);
+					writer.writeTo(out);
 					return true;
 				}
 				catch (IOException cause) {
@@ -90,6 +105,20 @@ public abstract class AbstractResourceWriter implements ResourceWriter {
 	 */
 	protected abstract void doWrite(OutputStream resourceOutputStream, byte[] data) throws IOException;
 
+	/**
+	 * Writes the data written by the given {@link OutputStreamCallback} to the target {@link Resource} by using
+	 * the {@link OutputStream} returned by {@link WritableResource#getOutputStream()}.
+	 *
+	 * @param resourceOutputStream {@link OutputStream} returned from {@link WritableResource#getOutputStream()}
+	 * used to write the data to the locations identified by the target {@link Resource}.
+	 * @param callback {@link OutputStreamCallback} writing the data.
+	 * @throws IOException if an I/O error occurs while writing to the target {@link Resource}.
+	 * @see java.io.OutputStream
+	 */
+	protected void doWriteStream(OutputStream resourceOutputStream, OutputStreamCallback callback) throws IOException {
+		callback.writeTo(resourceOutputStream);
+	}
+
 	/**
 	 * Pre-processes the target {@link WritableResource} before writing to the {@link WritableResource}.
 	 *
@@ -15,10 +15,14 @@
  */
 package org.springframework.geode.core.io;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.WritableResource;
+import org.springframework.geode.core.io.support.ResourceUtils;
 import org.springframework.lang.NonNull;
 
 /**
@@ -68,6 +72,35 @@ public interface ResourceWriter {
 		write(resource, data.array());
 	}
 
+	/**
+	 * Writes the data written by the given {@link OutputStreamCallback} to the target {@link Resource} as defined by
+	 * the algorithm/strategy of this writer.
+	 *
+	 * The default implementation collects the data in memory and calls {@link #write(Resource, byte[])}. Writers able
+	 * to stream the data to the {@link Resource} should override this method.
+	 *
+	 * @param resource {@link Resource} to write data to.
+	 * @param callback {@link OutputStreamCallback} writing the data to the {@link OutputStream}.
+	 * @throws ResourceWriteException if the {@link OutputStreamCallback} fails to write the data.
+	 * @see org.springframework.core.io.Resource
+	 * @see OutputStreamCallback
+	 * @see #write(Resource, byte[])
+	 */
+	default void write(@NonNull Resource resource, @NonNull OutputStreamCallback callback) {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		try {
+			callback.writeTo(out);
+		}
+		catch (IOException cause) {
+			throw new ResourceWriteException(String.format("Failed to write to Resource [%s]",
+				ResourceUtils.nullSafeGetDescription(resource)), cause);
+		}
+
+		write(resource, out.toByteArray());
+	}
+
 	/**
 	 * Composes this {@link ResourceWriter} with the given {@link ResourceWriter}
 	 * using the {@literal Composite Software Design Pattern}.
@@ -91,4 +124,24 @@ public interface ResourceWriter {
 				}
 			};
 	}
+
+	/**
+	 * Callback interface used to write data to the {@link OutputStream} of a {@link Resource}.
+	 *
+	 * @see java.io.OutputStream
+	 */
+	@FunctionalInterface
+	interface OutputStreamCallback {
+
+		/**
+		 * Writes data to the given {@link OutputStream}.
+		 *
+		 * The {@link OutputStream} must not be closed by the callback.
+		 *
+		 * @param out {@link OutputStream} to write data to.
+		 * @throws IOException if an I/O error occurs while writing to the {@link OutputStream}.
+		 * @see java.io.OutputStream
+		 */
+		void writeTo(@NonNull OutputStream out) throws IOException;
+	}
 }
@@ -88,6 +88,24 @@ public class FileResourceWriter extends AbstractResourceWriter {
 		}
 	}
 
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected void doWriteStream(OutputStream resourceOutputStream, OutputStreamCallback callback) {
+
+		try (OutputStream out = decorate(resourceOutputStream)) {
+			callback.writeTo(out);
+			out.flush();
+		}
+		catch (IOException cause) {
+
+			String message = String.format("Failed to write data to Resource using [%s]", getClass().getName());
+
+			throw new ResourceWriteException(message, cause);
+		}
+	}
+
 	/**
 	 * @inheritDoc
 	 */
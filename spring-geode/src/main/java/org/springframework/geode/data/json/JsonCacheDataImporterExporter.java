@@ -15,15 +15,41 @@
  */
 package org.springframework.geode.data.json;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.geode.core.io.ResourceReadException;
+import org.springframework.geode.core.io.ResourceWriteException;
+import org.springframework.geode.core.io.support.ResourceUtils;
 import org.springframework.geode.data.CacheDataExporter;
 import org.springframework.geode.data.CacheDataImporter;
 import org.springframework.geode.data.json.converter.AbstractObjectArrayToJsonConverter;
@@ -37,13 +63,24 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * The {@link JsonCacheDataImporterExporter} class is a {@link CacheDataImporter} and {@link CacheDataExporter}
  * implementation that can export/import JSON data to/from a {@link Resource} given a target {@link Region}.
  *
+ * When {@literal parallel export} is enabled, data from a {@literal peer} {@link DataPolicy#PARTITION PARTITION}
+ * {@link Region} is exported by executing a {@link Function} on every data member hosting the {@link Region}, where
+ * each member writes only the data from its primary buckets to a separate {@literal shard} {@link Resource}.
+ * The member initiating the export then writes a {@literal manifest} listing all the shards to the {@link Resource}
+ * resolved for the {@link Region}. On import, the {@literal manifest} is detected and all the shards are read back
+ * into the {@link Region} in parallel.
+ *
  * @author John Blum
  * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.FunctionService
+ * @see org.apache.geode.cache.partition.PartitionRegionHelper
  * @see org.apache.geode.pdx.PdxInstance
  * @see org.springframework.core.io.Resource
  * @see org.springframework.geode.data.CacheDataExporter
@@ -61,11 +98,24 @@ import org.springframework.util.Assert;
 @SuppressWarnings("rawtypes")
 public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImporterExporter {
 
+	protected static final boolean DEFAULT_CACHE_DATA_EXPORT_PARALLEL_ENABLED = false;
+
 	protected static final PdxInstance[] EMPTY_PDX_INSTANCE_ARRAY = {};
 
+	protected static final String CACHE_DATA_EXPORT_PARALLEL_ENABLED_PROPERTY_NAME =
+		"spring.boot.data.gemfire.cache.data.export.parallel.enabled";
+
+	protected static final String MANIFEST_COUNT_FIELD_NAME = "count";
+	protected static final String MANIFEST_LOCATION_FIELD_NAME = "location";
+	protected static final String MANIFEST_MEMBER_FIELD_NAME = "member";
+	protected static final String MANIFEST_REGION_FIELD_NAME = "region";
+	protected static final String MANIFEST_SHARDS_FIELD_NAME = "shards";
+
 	@Autowired(required = false)
 	private JsonToPdxArrayConverter jsonToPdxArrayConverter;
 
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
 	private final RegionValuesToJsonConverter regionValuesToJsonConverter = new RegionValuesToJsonConverter();
 
 	/**
@@ -82,9 +132,11 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 	}
 
 	/**
-	 * Initializes the JSON to PDX (array) converter.
+	 * Initializes the JSON to PDX (array) converter and registers the {@link ParallelExportFunction}
+	 * when {@literal parallel export} is enabled.
 	 *
 	 * @see #newJsonToPdxArrayConverter()
+	 * @see #registerParallelExportFunction()
 	 */
 	@Override
 	public void afterPropertiesSet() {
@@ -94,6 +146,30 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 		this.jsonToPdxArrayConverter = this.jsonToPdxArrayConverter != null
 			? this.jsonToPdxArrayConverter
 			: newJsonToPdxArrayConverter();
+
+		registerParallelExportFunction();
+	}
+
+	/**
+	 * Registers the {@link ParallelExportFunction} with the {@link FunctionService} on this member
+	 * if {@literal parallel export} is enabled.
+	 *
+	 * Every data member hosting a {@literal PARTITION} {@link Region} must register the {@link Function}
+	 * in order to participate in the {@literal parallel export}.
+	 *
+	 * @see org.apache.geode.cache.execute.FunctionService#registerFunction(Function)
+	 * @see #isParallelExportEnabled(Environment)
+	 */
+	void registerParallelExportFunction() {
+
+		boolean register = getEnvironment()
+			.filter(this::isParallelExportEnabled)
+			.filter(environment -> !FunctionService.isRegistered(ParallelExportFunction.ID))
+			.isPresent();
+
+		if (register) {
+			FunctionService.registerFunction(new ParallelExportFunction(this));
+		}
 	}
 
 	private @NonNull JsonToPdxArrayConverter newJsonToPdxArrayConverter() {
@@ -110,6 +186,41 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 		return this.jsonToPdxArrayConverter;
 	}
 
+	/**
+	 * Null-safe method to determine whether {@literal parallel export} has been explicitly enabled.
+	 *
+	 * @param environment {@link Environment} used to assess the configuration of {@literal parallel export}.
+	 * @return a boolean value indicating whether {@literal parallel export} is enabled; {@literal false} by default.
+	 * @see org.springframework.core.env.Environment
+	 */
+	protected boolean isParallelExportEnabled(@Nullable Environment environment) {
+
+		return environment != null
+			&& Boolean.TRUE.equals(environment.getProperty(CACHE_DATA_EXPORT_PARALLEL_ENABLED_PROPERTY_NAME,
+				Boolean.class, DEFAULT_CACHE_DATA_EXPORT_PARALLEL_ENABLED));
+	}
+
+	/**
+	 * Determines whether the data in the given {@link Region} should be exported in parallel by all data members
+	 * hosting the {@link Region}.
+	 *
+	 * Only {@literal peer} {@link DataPolicy#withPartitioning() PARTITION} {@link Region Regions} are exported
+	 * in parallel, and only if {@literal parallel export} is enabled.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return a boolean value indicating whether to export the data in the given {@link Region} in parallel.
+	 * @see #isParallelExportEnabled(Environment)
+	 */
+	protected boolean isParallelExport(@NonNull Region<?, ?> region) {
+
+		return getEnvironment().filter(this::isParallelExportEnabled).isPresent()
+			&& CacheUtils.isPeerRegion(region)
+			&& Optional.ofNullable(region.getAttributes())
+				.map(RegionAttributes::getDataPolicy)
+				.filter(DataPolicy::withPartitioning)
+				.isPresent();
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -118,6 +229,10 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 
 		Assert.notNull(region, "Region must not be null");
 
+		if (isParallelExport(region)) {
+			return doParallelExportFrom(region);
+		}
+
 		getExportResourceResolver()
 			.resolve(region)
 			.ifPresent(resource -> {
@@ -132,6 +247,178 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 		return region;
 	}
 
+	/**
+	 * Exports the data in the given {@literal PARTITION} {@link Region} by executing the {@link ParallelExportFunction}
+	 * on all data members hosting the {@link Region} and then writing a {@literal manifest} of the exported shards
+	 * to the {@link Resource} resolved for the {@link Region}.
+	 *
+	 * @param region {@literal PARTITION} {@link Region} to export data from; must not be {@literal null}.
+	 * @return the given {@link Region}.
+	 * @see org.apache.geode.cache.execute.FunctionService#onRegion(Region)
+	 * @see #writeManifest(Region, Resource, List)
+	 */
+	protected @NonNull Region doParallelExportFrom(@NonNull Region region) {
+
+		getExportResourceResolver()
+			.resolve(region)
+			.ifPresent(resource -> {
+
+				Object results = FunctionService.onRegion(region)
+					.execute(ParallelExportFunction.ID)
+					.getResult();
+
+				List<ExportShard> shards = new ArrayList<>();
+
+				CollectionUtils.nullSafeIterable(results instanceof Iterable ? (Iterable<?>) results : null)
+					.forEach(result -> {
+						if (result instanceof ExportShard) {
+							shards.add((ExportShard) result);
+						}
+					});
+
+				getLogger().debug("Exported [{}] shard(s) from Region [{}]", shards.size(), region.getFullPath());
+
+				writeManifest(region, resource, shards);
+			});
+
+		return region;
+	}
+
+	/**
+	 * Exports the {@link Object values} in the given {@link Region local data set} to a {@literal shard}
+	 * {@link Resource} relative to the {@link Resource} resolved for the given {@link Region}.
+	 *
+	 * This method is called by the {@link ParallelExportFunction} on each data member.
+	 *
+	 * @param region {@link Region} targeted for export; must not be {@literal null}.
+	 * @param localData {@link Region} containing the data local to this member; must not be {@literal null}.
+	 * @param memberName {@link String} containing the name of this member.
+	 * @return an {@link ExportShard} describing the exported data, or {@literal null} if a {@link Resource}
+	 * could not be resolved for the given {@link Region}.
+	 */
+	protected @Nullable ExportShard exportShard(@NonNull Region<?, ?> region, @NonNull Region<?, ?> localData,
+			@Nullable String memberName) {
+
+		return getExportResourceResolver()
+			.resolve(region)
+			.map(resource -> {
+
+				String shardResourceName = getShardResourceName(region, resource, memberName);
+
+				Resource shardResource = createRelative(resource, shardResourceName);
+
+				getLogger().debug("Saving JSON shard [{}] from Region [{}]", shardResourceName, region.getFullPath());
+
+				int valueCount = writeJson(shardResource, CollectionUtils.nullSafeCollection(localData.values()));
+
+				getLogger().debug("Saved JSON shard [{}] with [{}] value(s) from Region [{}]",
+					shardResourceName, valueCount, region.getFullPath());
+
+				return new ExportShard(memberName, shardResourceName, valueCount);
+			})
+			.orElse(null);
+	}
+
+	/**
+	 * Streams the given {@link Object values} as a {@link String JSON} array to the given {@link Resource},
+	 * one value at a time, using the {@link #getResourceWriter() ResourceWriter}.
+	 *
+	 * @param resource {@link Resource} to write the {@link String JSON} to; must not be {@literal null}.
+	 * @param values {@link Iterable} of {@link Object values} to convert to {@link String JSON}.
+	 * @return the number of {@link Object values} written to the {@link Resource}.
+	 * @see org.springframework.geode.core.io.ResourceWriter.OutputStreamCallback
+	 */
+	protected int writeJson(@NonNull Resource resource, @NonNull Iterable<?> values) {
+
+		AtomicInteger valueCount = new AtomicInteger(0);
+
+		getResourceWriter().write(resource, out -> {
+
+			Writer json = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+
+			valueCount.set(this.regionValuesToJsonConverter.convert(values, json));
+
+			json.flush();
+		});
+
+		return valueCount.get();
+	}
+
+	/**
+	 * Writes a {@literal manifest} listing all the {@link ExportShard shards} exported from the given {@link Region}
+	 * to the given {@link Resource}.
+	 *
+	 * @param region {@link Region} from which the shards were exported.
+	 * @param resource {@link Resource} to write the {@literal manifest} to.
+	 * @param shards {@link List} of {@link ExportShard shards} exported from the {@link Region}.
+	 * @see #isManifest(byte[])
+	 */
+	protected void writeManifest(@NonNull Region<?, ?> region, @NonNull Resource resource,
+			@NonNull List<ExportShard> shards) {
+
+		ObjectNode manifest = this.objectMapper.createObjectNode();
+
+		manifest.put(MANIFEST_REGION_FIELD_NAME, region.getFullPath());
+
+		ArrayNode shardsNode = manifest.putArray(MANIFEST_SHARDS_FIELD_NAME);
+
+		for (ExportShard shard : CollectionUtils.nullSafeList(shards)) {
+			shardsNode.addObject()
+				.put(MANIFEST_MEMBER_FIELD_NAME, shard.getMemberName())
+				.put(MANIFEST_LOCATION_FIELD_NAME, shard.getLocation())
+				.put(MANIFEST_COUNT_FIELD_NAME, shard.getCount());
+		}
+
+		try {
+			getResourceWriter().write(resource, this.objectMapper.writeValueAsBytes(manifest));
+		}
+		catch (JsonProcessingException cause) {
+			throw new ResourceWriteException(String.format("Failed to write manifest for Region [%s]",
+				region.getFullPath()), cause);
+		}
+	}
+
+	/**
+	 * Determines the {@link String name} of the {@literal shard} {@link Resource} exported by the given member.
+	 *
+	 * The shard name is derived from the {@link Resource#getFilename() filename} of the {@link Resource}
+	 * resolved for the {@link Region} along with the {@link String member name}; for example:
+	 * {@literal data-example-server1.json}.
+	 *
+	 * @param region {@link Region} targeted for export.
+	 * @param resource {@link Resource} resolved for the {@link Region}.
+	 * @param memberName {@link String} containing the name of the member exporting the shard.
+	 * @return the {@link String name} of the {@literal shard} {@link Resource}.
+	 */
+	protected @NonNull String getShardResourceName(@NonNull Region<?, ?> region, @NonNull Resource resource,
+			@Nullable String memberName) {
+
+		String filename = Optional.ofNullable(resource.getFilename())
+			.filter(StringUtils::hasText)
+			.orElseGet(() -> String.format(RESOURCE_NAME_PATTERN, region.getName().toLowerCase()));
+
+		String extension = StringUtils.getFilenameExtension(filename);
+
+		String basename = StringUtils.stripFilenameExtension(filename);
+
+		String member = String.valueOf(memberName).replaceAll("[^A-Za-z0-9_.\\-]", "_");
+
+		return StringUtils.hasText(extension)
+			? String.format("%1$s-%2$s.%3$s", basename, member, extension)
+			: String.format("%1$s-%2$s", basename, member);
+	}
+
+	private Resource createRelative(Resource resource, String relativePath) {
+
+		try {
+			return resource.createRelative(relativePath);
+		}
+		catch (IOException cause) {
+			throw new ResourceWriteException(String.format("Failed to create Resource [%1$s] relative to [%2$s]",
+				relativePath, resource.getDescription()), cause);
+		}
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -142,13 +429,97 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 
 		getImportResourceResolver()
 			.resolve(region)
-			.map(this.getResourceReader()::read)
-			.map(this::toPdx)
-			.ifPresent(pdxInstances -> regionPutPdx(region, pdxInstances));
+			.ifPresent(resource -> {
+
+				byte[] json = getResourceReader().read(resource);
+
+				if (isManifest(json)) {
+					importShards(region, resource, json);
+				}
+				else {
+					regionPutPdx(region, toPdx(json));
+				}
+			});
 
 		return region;
 	}
 
+	/**
+	 * Determines whether the given {@link Byte#TYPE bytes} contain a {@literal manifest} written by
+	 * a {@literal parallel export} rather than {@link String JSON} data.
+	 *
+	 * Exported data is always a {@link String JSON} array whereas a {@literal manifest} is a {@link String JSON}
+	 * object containing a {@literal shards} array.
+	 *
+	 * @param json array of {@link Byte#TYPE bytes} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Byte#TYPE bytes} contain a {@literal manifest}.
+	 */
+	protected boolean isManifest(@Nullable byte[] json) {
+
+		if (ResourceUtils.isNotEmpty(json)) {
+			for (byte character : json) {
+				if (!Character.isWhitespace(character)) {
+					return character == '{' && readManifest(json).path(MANIFEST_SHARDS_FIELD_NAME).isArray();
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private JsonNode readManifest(byte[] json) {
+
+		try {
+			return this.objectMapper.readTree(json);
+		}
+		catch (IOException cause) {
+			throw new ResourceReadException("Failed to read manifest", cause);
+		}
+	}
+
+	/**
+	 * Imports all the shards listed in the given {@literal manifest} into the given {@link Region} in parallel.
+	 *
+	 * The location of each shard is relative to the {@link Resource} containing the {@literal manifest}.
+	 *
+	 * @param region {@link Region} to import data into.
+	 * @param resource {@link Resource} containing the {@literal manifest}.
+	 * @param manifest array of {@link Byte#TYPE bytes} containing the {@literal manifest}.
+	 * @see #regionPutPdx(Region, PdxInstance[])
+	 */
+	protected void importShards(@NonNull Region region, @NonNull Resource resource, @NonNull byte[] manifest) {
+
+		List<String> shardLocations = new ArrayList<>();
+
+		readManifest(manifest).path(MANIFEST_SHARDS_FIELD_NAME).forEach(shard -> {
+
+			String location = shard.path(MANIFEST_LOCATION_FIELD_NAME).asText();
+
+			if (StringUtils.hasText(location)) {
+				shardLocations.add(location);
+			}
+		});
+
+		getLogger().debug("Importing [{}] shard(s) into Region [{}]", shardLocations.size(), region.getFullPath());
+
+		shardLocations.parallelStream()
+			.map(location -> createRelativeForImport(resource, location))
+			.map(getResourceReader()::read)
+			.map(this::toPdx)
+			.forEach(pdxInstances -> regionPutPdx(region, pdxInstances));
+	}
+
+	private Resource createRelativeForImport(Resource resource, String relativePath) {
+
+		try {
+			return resource.createRelative(relativePath);
+		}
+		catch (IOException cause) {
+			throw new ResourceReadException(String.format("Failed to resolve shard [%1$s] relative to [%2$s]",
+				relativePath, resource.getDescription()), cause);
+		}
+	}
+
 	/**
 	 * Puts all PDX data from the {@link PdxInstance} array into the target {@link Region} mapped to
 	 * the PDX {@link PdxInstance#isIdentityField(String) identifier} as the {@literal key}.
@@ -256,4 +627,103 @@ public class JsonCacheDataImporterExporter extends ResourceCapableCacheDataImpor
 			return super.convert(CollectionUtils.nullSafeCollection(CacheUtils.collectValues(region)));
 		}
 	}
+
+	/**
+	 * Geode {@link Function} executed on each data member hosting a {@literal PARTITION} {@link Region}
+	 * to export the data from the member's primary buckets to a {@literal shard} {@link Resource}.
+	 *
+	 * @see org.apache.geode.cache.execute.Function
+	 * @see org.apache.geode.cache.partition.PartitionRegionHelper#getLocalDataForContext(RegionFunctionContext)
+	 */
+	public static class ParallelExportFunction implements Function<Object> {
+
+		public static final String ID = "JsonCacheDataImporterExporter.ParallelExportFunction";
+
+		private final JsonCacheDataImporterExporter importerExporter;
+
+		/**
+		 * Constructs a new instance of {@link ParallelExportFunction} initialized with the given
+		 * {@link JsonCacheDataImporterExporter} used to export the local data.
+		 *
+		 * @param importerExporter {@link JsonCacheDataImporterExporter} used to export the local data;
+		 * must not be {@literal null}.
+		 * @throws IllegalArgumentException if {@link JsonCacheDataImporterExporter} is {@literal null}.
+		 */
+		public ParallelExportFunction(@NonNull JsonCacheDataImporterExporter importerExporter) {
+
+			Assert.notNull(importerExporter, "JsonCacheDataImporterExporter must not be null");
+
+			this.importerExporter = importerExporter;
+		}
+
+		@Override
+		public String getId() {
+			return ID;
+		}
+
+		@Override
+		public boolean isHA() {
+			return false;
+		}
+
+		@Override
+		public boolean optimizeForWrite() {
+			return true;
+		}
+
+		@Override
+		public void execute(FunctionContext<Object> context) {
+
+			Assert.isInstanceOf(RegionFunctionContext.class, context,
+				() -> String.format("Function [%s] must be executed on a Region", ID));
+
+			RegionFunctionContext regionFunctionContext = (RegionFunctionContext) context;
+
+			Region<?, ?> region = regionFunctionContext.getDataSet();
+			Region<?, ?> localData = PartitionRegionHelper.getLocalDataForContext(regionFunctionContext);
+
+			context.getResultSender()
+				.lastResult(this.importerExporter.exportShard(region, localData, context.getMemberName()));
+		}
+	}
+
+	/**
+	 * Describes a {@literal shard} of data exported from a single member during a {@literal parallel export}.
+	 *
+	 * @see java.io.Serializable
+	 */
+	public static class ExportShard implements Serializable {
+
+		private static final long serialVersionUID = 8236429870251876051L;
+
+		private final int count;
+
+		private final String location;
+		private final String memberName;
+
+		public ExportShard(@Nullable String memberName, @NonNull String location, int count) {
+
+			this.memberName = memberName;
+			this.location = location;
+			this.count = count;
+		}
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public @NonNull String getLocation() {
+			return this.location;
+		}
+
+		public @Nullable String getMemberName() {
+			return this.memberName;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s[member = %2$s, location = %3$s, count = %4$d]",
+				getClass().getSimpleName(), getMemberName(), getLocation(), getCount());
+		}
+	}
 }
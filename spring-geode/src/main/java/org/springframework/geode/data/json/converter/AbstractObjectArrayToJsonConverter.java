@@ -15,6 +15,7 @@
  */
 package org.springframework.geode.data.json.converter;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.springframework.data.gemfire.util.CollectionUtils;
@@ -91,6 +92,43 @@ public abstract class AbstractObjectArrayToJsonConverter implements ObjectArrayT
 		return json.toString();
 	}
 
+	/**
+	 * Converts the given {@link Iterable} of {@link Object Objects} into a {@link String JSON} array appended to
+	 * the given {@link Appendable} one {@link Object} at a time, without holding the entire {@link String JSON} array
+	 * in memory.
+	 *
+	 * @param iterable {@link Iterable} containing the {@link Object Objects} to convert into {@link String JSON};
+	 * must not be {@literal null}.
+	 * @param json {@link Appendable} to which the {@link String JSON} array is appended; must not be {@literal null}.
+	 * @return the number of {@link Object Objects} converted.
+	 * @throws IllegalArgumentException if {@link Iterable} or {@link Appendable} is {@literal null}.
+	 * @throws IOException if the {@link String JSON} cannot be appended to the {@link Appendable}.
+	 * @see #getObjectToJsonConverter()
+	 * @see java.lang.Appendable
+	 * @see java.lang.Iterable
+	 */
+	public int convert(@NonNull Iterable<?> iterable, @NonNull Appendable json) throws IOException {
+
+		Assert.notNull(iterable, "Iterable must not be null");
+		Assert.notNull(json, "Appendable must not be null");
+
+		json.append(BEGIN_ARRAY);
+
+		ObjectToJsonConverter converter = getObjectToJsonConverter();
+
+		int count = 0;
+
+		for (Object value : CollectionUtils.nullSafeIterable(iterable)) {
+			json.append(count > 0 ? JSON_OBJECT_SEPARATOR : EMPTY_STRING);
+			json.append(converter.convert(value));
+			count++;
+		}
+
+		json.append(END_ARRAY);
+
+		return count;
+	}
+
 	/**
 	 * Converts the {@link Map#values() values} from the given {@link Map} into {@link String JSON}.
 	 *
@@ -33,7 +33,10 @@ import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.gemfire.support.SmartLifecycleSupport;
+import org.springframework.geode.context.startup.GeodeStartupSteps;
 import org.springframework.geode.core.io.ResourceReader;
 import org.springframework.geode.core.io.ResourceResolver;
 import org.springframework.geode.core.io.ResourceWriter;
@@ -91,6 +94,8 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 
 	private final CacheDataImporterExporter importerExporter;
 
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 	private Environment environment;
 
 	private final Set<Region> regionsForImport = Collections.synchronizedSet(new HashSet<>());
@@ -139,6 +144,8 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 
 		if (applicationContext != null) {
 
+			this.applicationStartup = GeodeStartupSteps.resolveApplicationStartup(applicationContext);
+
 			CacheDataImporterExporter importerExporter = getCacheDataImporterExporter();
 
 			if (importerExporter instanceof ApplicationContextAware) {
@@ -336,7 +343,7 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 	public Region importInto(@NonNull Region region) {
 
 		if (resolveImportLifecycle().isEager()) {
-			return getCacheDataImporterExporter().importInto(region);
+			return doImportInto(region);
 		}
 		else {
 			getRegionsForImport().add(region);
@@ -391,7 +398,29 @@ public class LifecycleAwareCacheDataImporterExporter implements CacheDataImporte
 		// Technically, the resolveImportLifecycle().isLazy() check is not strictly required since if the cache data
 		// import is "eager", then the regionsForImport Set will be empty anyway.
 		if (resolveImportLifecycle().isLazy()) {
-			getRegionsForImport().forEach(getCacheDataImporterExporter()::importInto);
+			getRegionsForImport().forEach(this::doImportInto);
+		}
+	}
+
+	/**
+	 * Imports data into the given {@link Region} using the wrapped {@link CacheDataImporterExporter}, recording
+	 * the import as a {@link StartupStep}.
+	 *
+	 * @param region {@link Region} to import data into.
+	 * @return the given {@link Region}.
+	 * @see org.springframework.core.metrics.StartupStep
+	 * @see #getCacheDataImporterExporter()
+	 */
+	protected Region doImportInto(@NonNull Region region) {
+
+		StartupStep importStep = this.applicationStartup.start(GeodeStartupSteps.DATA_IMPORT_STEP_NAME)
+			.tag("region", String.valueOf(region.getFullPath()));
+
+		try {
+			return getCacheDataImporterExporter().importInto(region);
+		}
+		finally {
+			importStep.end();
 		}
 	}
 
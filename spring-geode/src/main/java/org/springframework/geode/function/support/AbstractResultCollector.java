@@ -16,8 +16,13 @@
 
 package org.springframework.geode.function.support;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.execute.ResultCollector;
@@ -26,7 +31,12 @@ import org.apache.geode.cache.execute.ResultCollector;
  * The {@link AbstractResultCollector} class is an abstract base implementation of the {@link ResultCollector} interface
  * encapsulating common functionality for collecting results from a Function execution.
  *
+ * Threads waiting on a result in {@link #getResult(long, TimeUnit)} are signaled as soon as a result is set
+ * or the results have ended, rather than polling for the result.
+ *
  * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.CompletionStage
  * @see org.apache.geode.cache.execute.ResultCollector
  * @since 1.0.0
  */
@@ -37,12 +47,16 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 
 	protected static final TimeUnit DEFAULT_TIME_UNIT = TimeUnit.MILLISECONDS;
 
-	private AtomicBoolean resultsEnded = new AtomicBoolean(false);
+	private final AtomicBoolean resultsEnded = new AtomicBoolean(false);
+
+	private volatile CompletableFuture<S> resultAvailable = new CompletableFuture<>();
+
+	private final CompletableFuture<S> resultsComplete = new CompletableFuture<>();
 
-	private S result = null;
+	private volatile S result = null;
 
 	@Override
-	public synchronized S getResult() throws FunctionException {
+	public S getResult() throws FunctionException {
 		return this.result;
 	}
 
@@ -51,21 +65,42 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 
 		unit = resolveTimeUnit(unit);
 
-		long durationInMilliseconds = unit.toMillis(duration);
-		long timeout = System.currentTimeMillis() + unit.toMillis(duration);
-		long waitInMilliseconds = Math.max(50, Math.min(durationInMilliseconds / 5, durationInMilliseconds));
+		S result = getResult();
 
-		synchronized (this) {
-			while (getResult() == null && System.currentTimeMillis() < timeout) {
-				unit.timedWait(this, waitInMilliseconds);
+		if (result == null && hasResultsNotEnded()) {
+			try {
+				this.resultAvailable.get(duration, unit);
 			}
+			catch (ExecutionException cause) {
+				throw new FunctionException(cause.getCause());
+			}
+			catch (TimeoutException ignore) { }
+
+			result = getResult();
 		}
 
-		return getResult();
+		return result;
 	}
 
-	protected synchronized void setResult(S result) {
+	/**
+	 * Returns a {@link CompletionStage} that completes with the {@link #getResult() result} once the results
+	 * have {@link #endResults() ended}.
+	 *
+	 * @return a {@link CompletionStage} that completes with the {@link #getResult() result} once the results
+	 * have {@link #endResults() ended}.
+	 * @see java.util.concurrent.CompletionStage
+	 */
+	public CompletionStage<S> getResultAsync() {
+		return this.resultsComplete.thenApply(Function.identity());
+	}
+
+	protected void setResult(S result) {
+
 		this.result = result;
+
+		if (result != null) {
+			this.resultAvailable.complete(result);
+		}
 	}
 
 	protected TimeUnit resolveTimeUnit(TimeUnit unit) {
@@ -74,12 +109,24 @@ public abstract class AbstractResultCollector<T, S> implements ResultCollector<T
 
 	@Override
 	public void clearResults() {
+
 		setResult(null);
+
+		if (this.resultAvailable.isDone() && hasResultsNotEnded()) {
+			this.resultAvailable = new CompletableFuture<>();
+		}
 	}
 
 	@Override
 	public void endResults() {
-		this.resultsEnded.set(true);
+
+		if (this.resultsEnded.compareAndSet(false, true)) {
+
+			S result = getResult();
+
+			this.resultAvailable.complete(result);
+			this.resultsComplete.complete(result);
+		}
 	}
 
 	protected boolean hasResultsEnded() {
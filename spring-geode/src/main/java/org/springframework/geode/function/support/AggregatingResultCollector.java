@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collector;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+/**
+ * The {@link AggregatingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * that incrementally reduces the results sent by each member using a {@link Collector}.
+ *
+ * Each result is accumulated as it arrives rather than collecting all results into a {@link java.util.List}
+ * and reducing the results after all members have answered. Results sent as an {@link Iterable} or {@link Iterator}
+ * (for example, a chunk of results sent by a batching Function) are accumulated element by element.
+ *
+ * A {@link ResultCollector} collects the results of a single Function execution and therefore instances
+ * must not be shared across concurrent Function executions.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the results sent by the members.
+ * @param <A> {@link Class type} of the mutable accumulation.
+ * @param <R> {@link Class type} of the aggregated result.
+ * @see java.util.stream.Collector
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.geode.function.support.AbstractResultCollector
+ * @see org.springframework.geode.function.support.AggregatingResultCollectors
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class AggregatingResultCollector<T, A, R> extends AbstractResultCollector<T, R> {
+
+	private A accumulation;
+
+	private final Collector<T, A, R> collector;
+
+	private volatile Throwable failure;
+
+	/**
+	 * Factory method used to construct a new instance of {@link AggregatingResultCollector} initialized with
+	 * the given {@link Collector}.
+	 *
+	 * @param <T> {@link Class type} of the results sent by the members.
+	 * @param <A> {@link Class type} of the mutable accumulation.
+	 * @param <R> {@link Class type} of the aggregated result.
+	 * @param collector {@link Collector} used to reduce the results; must not be {@literal null}.
+	 * @return a new {@link AggregatingResultCollector}.
+	 * @throws IllegalArgumentException if {@link Collector} is {@literal null}.
+	 * @see java.util.stream.Collector
+	 */
+	public static <T, A, R> AggregatingResultCollector<T, A, R> of(Collector<T, A, R> collector) {
+		return new AggregatingResultCollector<>(collector);
+	}
+
+	/**
+	 * Constructs a new instance of {@link AggregatingResultCollector} initialized with the given {@link Collector}.
+	 *
+	 * @param collector {@link Collector} used to reduce the results; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Collector} is {@literal null}.
+	 * @see java.util.stream.Collector
+	 */
+	public AggregatingResultCollector(Collector<T, A, R> collector) {
+
+		if (collector == null) {
+			throw new IllegalArgumentException("Collector must not be null");
+		}
+
+		this.collector = collector;
+		this.accumulation = collector.supplier().get();
+	}
+
+	/**
+	 * Returns the {@link Collector} used to reduce the results.
+	 *
+	 * @return the {@link Collector} used to reduce the results.
+	 * @see java.util.stream.Collector
+	 */
+	protected Collector<T, A, R> getCollector() {
+		return this.collector;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+
+		Object result = resultOfSingleExecution;
+
+		if (result instanceof Throwable) {
+			this.failure = (Throwable) result;
+		}
+		else if (result instanceof Iterable) {
+			accumulate(((Iterable<T>) result).iterator());
+		}
+		else if (result instanceof Iterator) {
+			accumulate((Iterator<T>) result);
+		}
+		else if (result != null) {
+			synchronized (this) {
+				getCollector().accumulator().accept(this.accumulation, resultOfSingleExecution);
+			}
+		}
+	}
+
+	private synchronized void accumulate(Iterator<T> results) {
+
+		while (results.hasNext()) {
+
+			T result = results.next();
+
+			if (result != null) {
+				getCollector().accumulator().accept(this.accumulation, result);
+			}
+		}
+	}
+
+	/**
+	 * Returns the aggregated result.
+	 *
+	 * Before the results have {@link #endResults() ended}, this method returns the aggregation
+	 * of the results received so far.
+	 *
+	 * @return the aggregated result.
+	 * @throws FunctionException if a member failed to execute the Function.
+	 */
+	@Override
+	public R getResult() throws FunctionException {
+
+		if (this.failure != null) {
+			throw new FunctionException(this.failure);
+		}
+
+		return hasResultsEnded() ? super.getResult() : finish();
+	}
+
+	/**
+	 * Waits until the results have {@link #endResults() ended} or the given {@link Long duration} expires
+	 * and then returns the aggregated result.
+	 *
+	 * @param duration {@link Long} value for the amount of time to wait for the results to end.
+	 * @param unit {@link TimeUnit} of the {@link Long duration}.
+	 * @return the aggregated result.
+	 * @throws FunctionException if a member failed to execute the Function.
+	 * @throws InterruptedException if the current {@link Thread} is interrupted while waiting.
+	 */
+	@Override
+	public R getResult(long duration, TimeUnit unit) throws FunctionException, InterruptedException {
+
+		try {
+			getResultAsync().toCompletableFuture().get(duration, resolveTimeUnit(unit));
+		}
+		catch (ExecutionException cause) {
+			throw new FunctionException(cause.getCause());
+		}
+		catch (TimeoutException ignore) { }
+
+		return getResult();
+	}
+
+	@Override
+	public synchronized void clearResults() {
+		this.accumulation = getCollector().supplier().get();
+		this.failure = null;
+		super.clearResults();
+	}
+
+	@Override
+	public void endResults() {
+		setResult(finish());
+		super.endResults();
+	}
+
+	private synchronized R finish() {
+		return getCollector().finisher().apply(this.accumulation);
+	}
+}
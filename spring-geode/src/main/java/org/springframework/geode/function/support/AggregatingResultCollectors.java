@@ -0,0 +1,227 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collector;
+
+import org.apache.geode.cache.execute.ResultCollector;
+
+/**
+ * Abstract utility class containing factory methods for commonly used {@link AggregatingResultCollector}
+ * implementations, such as summing, merging, top-K and histograms, which reduce the results of a Function execution
+ * incrementally, in constant (or bounded) memory.
+ *
+ * @author John Blum
+ * @see java.util.stream.Collector
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see org.springframework.geode.function.support.AggregatingResultCollector
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public abstract class AggregatingResultCollectors {
+
+	/**
+	 * Returns a {@link ResultCollector} summing all {@link Number numerical} results as a {@link Long}.
+	 *
+	 * @param <T> {@link Class type} of the {@link Number numerical} results.
+	 * @return a {@link ResultCollector} summing all {@link Number numerical} results as a {@link Long}.
+	 */
+	public static <T extends Number> AggregatingResultCollector<T, long[], Long> summingLong() {
+
+		return AggregatingResultCollector.of(Collector.of(
+			() -> new long[1],
+			(sum, number) -> sum[0] += number.longValue(),
+			(sumOne, sumTwo) -> {
+				sumOne[0] += sumTwo[0];
+				return sumOne;
+			},
+			sum -> sum[0]));
+	}
+
+	/**
+	 * Returns a {@link ResultCollector} summing all {@link Number numerical} results as a {@link Double}.
+	 *
+	 * @param <T> {@link Class type} of the {@link Number numerical} results.
+	 * @return a {@link ResultCollector} summing all {@link Number numerical} results as a {@link Double}.
+	 */
+	public static <T extends Number> AggregatingResultCollector<T, double[], Double> summingDouble() {
+
+		return AggregatingResultCollector.of(Collector.of(
+			() -> new double[1],
+			(sum, number) -> sum[0] += number.doubleValue(),
+			(sumOne, sumTwo) -> {
+				sumOne[0] += sumTwo[0];
+				return sumOne;
+			},
+			sum -> sum[0]));
+	}
+
+	/**
+	 * Returns a {@link ResultCollector} merging all {@link Map} results into a single {@link Map}.
+	 *
+	 * Values mapped to the same key by different members are combined with the given {@link BinaryOperator}.
+	 *
+	 * @param <K> {@link Class type} of the {@link Map} keys.
+	 * @param <V> {@link Class type} of the {@link Map} values.
+	 * @param mergeFunction {@link BinaryOperator} used to combine values mapped to the same key;
+	 * must not be {@literal null}.
+	 * @return a {@link ResultCollector} merging all {@link Map} results into a single {@link Map}.
+	 * @throws IllegalArgumentException if the {@link BinaryOperator} is {@literal null}.
+	 * @see java.util.function.BinaryOperator
+	 * @see java.util.Map#merge(Object, Object, java.util.function.BiFunction)
+	 */
+	public static <K, V> AggregatingResultCollector<Map<K, V>, Map<K, V>, Map<K, V>> mergingMaps(
+			BinaryOperator<V> mergeFunction) {
+
+		assertNotNull(mergeFunction, "Merge function must not be null");
+
+		return AggregatingResultCollector.of(Collector.of(
+			HashMap::new,
+			(mergedMap, map) -> map.forEach((key, value) -> mergedMap.merge(key, value, mergeFunction)),
+			(mapOne, mapTwo) -> {
+				mapTwo.forEach((key, value) -> mapOne.merge(key, value, mergeFunction));
+				return mapOne;
+			},
+			Collector.Characteristics.IDENTITY_FINISH));
+	}
+
+	/**
+	 * Returns a {@link ResultCollector} retaining only the top {@literal K} results as determined by
+	 * the given {@link Comparator}.
+	 *
+	 * Only {@literal K} results are retained at any given time. The resulting {@link List} is sorted
+	 * in descending order, largest first.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param k {@link Integer number} of results to retain; must be greater than {@literal 0}.
+	 * @param comparator {@link Comparator} used to order the results; must not be {@literal null}.
+	 * @return a {@link ResultCollector} retaining only the top {@literal K} results.
+	 * @throws IllegalArgumentException if {@literal K} is less than {@literal 1}
+	 * or the {@link Comparator} is {@literal null}.
+	 * @see java.util.Comparator
+	 */
+	public static <T> AggregatingResultCollector<T, PriorityQueue<T>, List<T>> topK(int k,
+			Comparator<? super T> comparator) {
+
+		if (k < 1) {
+			throw new IllegalArgumentException(String.format("K [%d] must be greater than 0", k));
+		}
+
+		assertNotNull(comparator, "Comparator must not be null");
+
+		return AggregatingResultCollector.of(Collector.of(
+			() -> new PriorityQueue<>(k + 1, comparator),
+			(heap, result) -> offer(heap, result, k, comparator),
+			(heapOne, heapTwo) -> {
+				heapTwo.forEach(result -> offer(heapOne, result, k, comparator));
+				return heapOne;
+			},
+			heap -> {
+				List<T> results = new ArrayList<>(heap);
+				results.sort(comparator.reversed());
+				return results;
+			}));
+	}
+
+	/**
+	 * Returns a {@link ResultCollector} retaining only the top {@literal K} {@link Comparable} results.
+	 *
+	 * @param <T> {@link Comparable} {@link Class type} of the results.
+	 * @param k {@link Integer number} of results to retain; must be greater than {@literal 0}.
+	 * @return a {@link ResultCollector} retaining only the top {@literal K} results.
+	 * @see #topK(int, Comparator)
+	 */
+	public static <T extends Comparable<? super T>> AggregatingResultCollector<T, PriorityQueue<T>, List<T>> topK(
+			int k) {
+
+		return topK(k, Comparator.naturalOrder());
+	}
+
+	private static <T> void offer(PriorityQueue<T> heap, T result, int k, Comparator<? super T> comparator) {
+
+		if (heap.size() < k) {
+			heap.offer(result);
+		}
+		else if (comparator.compare(result, heap.peek()) > 0) {
+			heap.poll();
+			heap.offer(result);
+		}
+	}
+
+	/**
+	 * Returns a {@link ResultCollector} counting the {@link Number numerical} results falling into each bucket
+	 * defined by the given, ascending bucket boundaries.
+	 *
+	 * Given {@literal N} boundaries, the resulting array contains {@literal N + 1} counts, where the count
+	 * at index {@literal i} is the number of results less than {@literal boundaries[i]} and greater than or equal
+	 * to {@literal boundaries[i - 1]}. The last count is the number of results greater than or equal to
+	 * the last boundary.
+	 *
+	 * @param <T> {@link Class type} of the {@link Number numerical} results.
+	 * @param boundaries ascending array of bucket boundaries; must not be {@literal null} or empty.
+	 * @return a {@link ResultCollector} counting the {@link Number numerical} results falling into each bucket.
+	 * @throws IllegalArgumentException if the bucket boundaries are {@literal null}, empty or not in ascending order.
+	 */
+	public static <T extends Number> AggregatingResultCollector<T, long[], long[]> histogram(double... boundaries) {
+
+		if (boundaries == null || boundaries.length == 0) {
+			throw new IllegalArgumentException("Bucket boundaries must be specified");
+		}
+
+		double[] resolvedBoundaries = boundaries.clone();
+
+		for (int index = 1; index < resolvedBoundaries.length; index++) {
+			if (resolvedBoundaries[index] <= resolvedBoundaries[index - 1]) {
+				throw new IllegalArgumentException(String.format("Bucket boundaries %s must be in ascending order",
+					Arrays.toString(resolvedBoundaries)));
+			}
+		}
+
+		return AggregatingResultCollector.of(Collector.of(
+			() -> new long[resolvedBoundaries.length + 1],
+			(counts, number) -> counts[bucketIndex(resolvedBoundaries, number.doubleValue())]++,
+			(countsOne, countsTwo) -> {
+				for (int index = 0; index < countsOne.length; index++) {
+					countsOne[index] += countsTwo[index];
+				}
+				return countsOne;
+			},
+			long[]::clone));
+	}
+
+	private static int bucketIndex(double[] boundaries, double value) {
+
+		int index = Arrays.binarySearch(boundaries, value);
+
+		// A value equal to a boundary belongs to the bucket starting at that boundary.
+		return index >= 0 ? index + 1 : -(index + 1);
+	}
+
+	private static void assertNotNull(Object target, String message) {
+
+		if (target == null) {
+			throw new IllegalArgumentException(message);
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.util.function.Function;
+
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.ResultCollector;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Abstract utility class used to execute Apache Geode {@link org.apache.geode.cache.execute.Function Functions}
+ * reactively, returning a {@link Flux} or {@link Mono} of the results.
+ *
+ * Results are emitted to the subscriber as the members send them using a {@link ReactiveResultCollector}.
+ * Apache Geode's {@link Execution} API blocks the calling {@link Thread} until all results have been received
+ * for some executions (for example, from a {@literal client}). Therefore, the Function is executed on
+ * the given {@link Scheduler} when the {@link Flux} is subscribed to, while subscribers are never blocked.
+ * Cancelling the subscription stops result collection.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Execution
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @see reactor.core.scheduler.Scheduler
+ * @see org.springframework.geode.function.support.ReactiveResultCollector
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public abstract class ReactiveFunctionExecutions {
+
+	/**
+	 * Executes the {@link org.apache.geode.cache.execute.Function} identified by the given {@link String ID}
+	 * and returns a {@link Flux} of the results.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param execution {@link Execution} used to execute the Function; must not be {@literal null}.
+	 * @param functionId {@link String} containing the ID of the Function to execute; must not be {@literal null}.
+	 * @return a {@link Flux} of the results.
+	 * @see #execute(Execution, String, Scheduler)
+	 */
+	public static <T> Flux<T> execute(Execution<?, ?, ?> execution, String functionId) {
+		return execute(execution, functionId, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Executes the {@link org.apache.geode.cache.execute.Function} identified by the given {@link String ID}
+	 * on the given {@link Scheduler} and returns a {@link Flux} of the results.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param execution {@link Execution} used to execute the Function; must not be {@literal null}.
+	 * @param functionId {@link String} containing the ID of the Function to execute; must not be {@literal null}.
+	 * @param scheduler {@link Scheduler} on which the Function is executed; must not be {@literal null}.
+	 * @return a {@link Flux} of the results.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 */
+	public static <T> Flux<T> execute(Execution<?, ?, ?> execution, String functionId, Scheduler scheduler) {
+
+		assertNotNull(functionId, "Function ID must not be null");
+
+		return execute(execution, it -> it.execute(functionId), scheduler);
+	}
+
+	/**
+	 * Executes the given {@link org.apache.geode.cache.execute.Function} and returns a {@link Flux} of the results.
+	 *
+	 * @param <T> {@link Class type} of the results.
+	 * @param execution {@link Execution} used to execute the Function; must not be {@literal null}.
+	 * @param function {@link org.apache.geode.cache.execute.Function} to execute; must not be {@literal null}.
+	 * @return a {@link Flux} of the results.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 */
+	public static <T> Flux<T> execute(Execution<?, ?, ?> execution,
+			org.apache.geode.cache.execute.Function<?> function) {
+
+		assertNotNull(function, "Function must not be null");
+
+		return execute(execution, it -> it.execute(function), Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Executes the {@link org.apache.geode.cache.execute.Function} identified by the given {@link String ID}
+	 * and returns a {@link Mono} of the first result.
+	 *
+	 * Result collection stops after the first result is received.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param execution {@link Execution} used to execute the Function; must not be {@literal null}.
+	 * @param functionId {@link String} containing the ID of the Function to execute; must not be {@literal null}.
+	 * @return a {@link Mono} of the first result.
+	 * @see #execute(Execution, String)
+	 */
+	public static <T> Mono<T> executeForSingleResult(Execution<?, ?, ?> execution, String functionId) {
+		return ReactiveFunctionExecutions.<T>execute(execution, functionId).next();
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static <T> Flux<T> execute(Execution<?, ?, ?> execution,
+			Function<Execution, ResultCollector> executor, Scheduler scheduler) {
+
+		assertNotNull(execution, "Execution must not be null");
+		assertNotNull(scheduler, "Scheduler must not be null");
+
+		return Flux.defer(() -> {
+
+			ReactiveResultCollector<T> resultCollector = new ReactiveResultCollector<>();
+
+			Execution executionWithCollector = ((Execution) execution).withCollector(resultCollector);
+
+			// Apache Geode signals the end of the results; the dispatch only propagates errors.
+			Mono.fromRunnable(() -> executor.apply(executionWithCollector))
+				.subscribeOn(scheduler)
+				.subscribe(null, resultCollector::error);
+
+			return resultCollector.getResult();
+		});
+	}
+
+	private static void assertNotNull(Object target, String message) {
+
+		if (target == null) {
+			throw new IllegalArgumentException(message);
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * The {@link ReactiveResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * that emits {@link Object results} to a single {@link Flux} subscriber as the members executing the Function
+ * send them.
+ *
+ * Results are only emitted on demand. Results that have not been requested by the subscriber are buffered up to
+ * the configured {@link #getCapacity() capacity}, after which threads adding results block until the subscriber
+ * requests more, thereby applying backpressure to the senders. Cancelling the subscription stops result collection;
+ * any buffered and subsequently sent results are discarded.
+ *
+ * Since Reactive Streams does not permit {@literal null} elements, {@literal null} results are skipped.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @see reactor.core.publisher.Flux
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class ReactiveResultCollector<T> implements ResultCollector<T, Flux<T>> {
+
+	public static final int DEFAULT_CAPACITY = StreamingResultCollector.DEFAULT_CAPACITY;
+
+	private static final long PERMIT_WAIT_TIMEOUT_MILLISECONDS = 100L;
+
+	private final AtomicBoolean cancelled = new AtomicBoolean(false);
+	private final AtomicBoolean resultsEnded = new AtomicBoolean(false);
+	private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+	private final AtomicInteger workInProgress = new AtomicInteger(0);
+
+	private final AtomicReference<Throwable> error = new AtomicReference<>(null);
+
+	private final Flux<T> results;
+
+	private final int capacity;
+
+	private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+	private final Semaphore permits;
+
+	private volatile FluxSink<T> sink;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveResultCollector} initialized with the {@link #DEFAULT_CAPACITY}.
+	 */
+	public ReactiveResultCollector() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveResultCollector} initialized with the given {@link Integer capacity}
+	 * used to bound the number of results buffered before senders are blocked.
+	 *
+	 * @param capacity {@link Integer maximum number} of results buffered; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link Integer capacity} is less than {@literal 1}.
+	 */
+	public ReactiveResultCollector(int capacity) {
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException(String.format("Capacity [%d] must be greater than 0", capacity));
+		}
+
+		this.capacity = capacity;
+		this.permits = new Semaphore(capacity);
+		this.results = Flux.create(this::subscribe);
+	}
+
+	private void subscribe(FluxSink<T> sink) {
+
+		if (this.subscribed.compareAndSet(false, true)) {
+
+			sink.onRequest(requested -> drain());
+			sink.onCancel(this::cancel);
+
+			this.sink = sink;
+
+			drain();
+		}
+		else {
+			sink.error(new IllegalStateException("Results can only be subscribed to once"));
+		}
+	}
+
+	/**
+	 * Returns the {@link Integer maximum number} of results buffered before senders are blocked.
+	 *
+	 * @return the {@link Integer maximum number} of results buffered before senders are blocked.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Determines whether result collection has been {@link #cancel() cancelled}.
+	 *
+	 * @return a boolean value indicating whether result collection has been {@link #cancel() cancelled}.
+	 */
+	public boolean isCancelled() {
+		return this.cancelled.get();
+	}
+
+	/**
+	 * Adds the given {@link Object result}, blocking while the buffer is full.
+	 *
+	 * @param memberID {@link DistributedMember} that sent the result.
+	 * @param resultOfSingleExecution {@link Object result} to add.
+	 * @throws FunctionException if the {@link Thread} is interrupted while waiting for room in the buffer.
+	 */
+	@Override
+	public void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+
+		if (resultOfSingleExecution != null) {
+			try {
+				while (!isCancelled()) {
+					if (this.permits.tryAcquire(PERMIT_WAIT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+						if (isCancelled()) {
+							this.permits.release();
+						}
+						else {
+							this.queue.add(resultOfSingleExecution);
+							drain();
+						}
+
+						return;
+					}
+				}
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new FunctionException("Interrupted while adding result", cause);
+			}
+		}
+	}
+
+	/**
+	 * Cancels result collection, discarding any buffered results and releasing any blocked senders.
+	 */
+	public void cancel() {
+
+		if (this.cancelled.compareAndSet(false, true)) {
+			clearResults();
+			this.permits.release(getCapacity());
+		}
+	}
+
+	/**
+	 * Clears any buffered results that have not yet been emitted.
+	 */
+	@Override
+	public void clearResults() {
+
+		while (this.queue.poll() != null) {
+			this.permits.release();
+		}
+	}
+
+	/**
+	 * Signals the end of the results, completing the {@link Flux} once all buffered results have been emitted.
+	 */
+	@Override
+	public void endResults() {
+		this.resultsEnded.set(true);
+		drain();
+	}
+
+	/**
+	 * Signals an error to the subscriber once all buffered results have been emitted.
+	 *
+	 * @param cause {@link Throwable} to signal.
+	 */
+	public void error(Throwable cause) {
+		this.error.compareAndSet(null, cause);
+		endResults();
+	}
+
+	/**
+	 * Returns the {@link Flux} of results.
+	 *
+	 * @return the {@link Flux} of results.
+	 * @see reactor.core.publisher.Flux
+	 */
+	@Override
+	public Flux<T> getResult() throws FunctionException {
+		return this.results;
+	}
+
+	/**
+	 * Returns the {@link Flux} of results, which errors with a {@link FunctionException}
+	 * if the results do not end within the given {@link Long duration}.
+	 *
+	 * @param duration {@link Long} value for the amount of time to wait for all results.
+	 * @param unit {@link TimeUnit} of the {@link Long duration}.
+	 * @return the {@link Flux} of results.
+	 */
+	@Override
+	public Flux<T> getResult(long duration, TimeUnit unit) throws FunctionException {
+
+		TimeUnit resolvedUnit = unit != null ? unit : AbstractResultCollector.DEFAULT_TIME_UNIT;
+
+		return getResult().take(Duration.ofNanos(resolvedUnit.toNanos(duration)))
+			.concatWith(Flux.defer(() -> this.resultsEnded.get() && this.queue.isEmpty()
+				? Flux.empty()
+				: Flux.error(new FunctionException("Timed out waiting for results"))));
+	}
+
+	// Emits buffered results while there is outstanding demand; serialized by the work-in-progress counter.
+	private void drain() {
+
+		if (this.workInProgress.getAndIncrement() == 0) {
+
+			int missed = 1;
+
+			do {
+				FluxSink<T> sink = this.sink;
+
+				if (sink != null && !isCancelled()) {
+
+					while (sink.requestedFromDownstream() > 0 && !isCancelled()) {
+
+						T result = this.queue.poll();
+
+						if (result == null) {
+							break;
+						}
+
+						this.permits.release();
+						sink.next(result);
+					}
+
+					if (this.resultsEnded.get() && this.queue.isEmpty() && !isCancelled()) {
+
+						Throwable cause = this.error.get();
+
+						if (cause != null) {
+							sink.error(cause);
+						}
+						else {
+							sink.complete();
+						}
+					}
+				}
+
+				missed = this.workInProgress.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+	}
+}
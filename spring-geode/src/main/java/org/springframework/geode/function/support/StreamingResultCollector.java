@@ -0,0 +1,359 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+/**
+ * The {@link StreamingResultCollector} class is an implementation of the {@link ResultCollector} interface
+ * that streams {@link Object results} to a consumer while the members executing the Function are still
+ * sending results.
+ *
+ * Results are buffered in a bounded queue. When the queue is full, threads adding results block until
+ * the consumer catches up, thereby applying backpressure to the senders. The end of the results is signaled
+ * by {@link #endResults()}, which immediately completes the {@link Stream} or {@link Iterator} used to consume
+ * the results.
+ *
+ * Results can only be consumed once. Since senders block when the queue is full, the results must be consumed
+ * on a different {@link Thread} than the one executing the Function.
+ *
+ * @author John Blum
+ * @see java.lang.Iterable
+ * @see java.util.concurrent.BlockingQueue
+ * @see java.util.stream.Stream
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @since 1.4.0
+ */
+@SuppressWarnings("unused")
+public class StreamingResultCollector<T> implements Iterable<T>, ResultCollector<T, Stream<T>> {
+
+	public static final int DEFAULT_CAPACITY = 256;
+
+	private static final long NO_TIMEOUT = -1L;
+	private static final long PERMIT_WAIT_TIMEOUT_MILLISECONDS = 100L;
+
+	private static final Object END_OF_RESULTS = new Object();
+	private static final Object NULL_RESULT = new Object();
+
+	private final AtomicBoolean cancelled = new AtomicBoolean(false);
+	private final AtomicBoolean consumed = new AtomicBoolean(false);
+	private final AtomicBoolean resultsEnded = new AtomicBoolean(false);
+
+	private final BlockingQueue<Object> queue;
+
+	private final int capacity;
+
+	// Bounds the number of buffered results; the end-of-results signal never requires a permit.
+	private final Semaphore permits;
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} initialized with the {@link #DEFAULT_CAPACITY}.
+	 */
+	public StreamingResultCollector() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} initialized with the given {@link Integer capacity}
+	 * used to bound the number of results buffered before senders are blocked.
+	 *
+	 * @param capacity {@link Integer maximum number} of results buffered; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@link Integer capacity} is less than {@literal 1}.
+	 */
+	public StreamingResultCollector(int capacity) {
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException(String.format("Capacity [%d] must be greater than 0", capacity));
+		}
+
+		this.capacity = capacity;
+		this.permits = new Semaphore(capacity);
+		this.queue = new LinkedBlockingQueue<>();
+	}
+
+	/**
+	 * Returns the {@link Integer maximum number} of results buffered before senders are blocked.
+	 *
+	 * @return the {@link Integer maximum number} of results buffered before senders are blocked.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Determines whether result collection has been {@link #cancel() cancelled}.
+	 *
+	 * @return a boolean value indicating whether result collection has been {@link #cancel() cancelled}.
+	 */
+	public boolean isCancelled() {
+		return this.cancelled.get();
+	}
+
+	/**
+	 * Adds the given {@link Object result} to the queue, blocking while the queue is full.
+	 *
+	 * Results added after result collection has been {@link #cancel() cancelled} are discarded.
+	 *
+	 * @param memberID {@link DistributedMember} that sent the result.
+	 * @param resultOfSingleExecution {@link Object result} to add.
+	 * @throws FunctionException if the {@link Thread} is interrupted while waiting for room in the queue.
+	 */
+	@Override
+	public void addResult(DistributedMember memberID, T resultOfSingleExecution) {
+
+		try {
+			while (!isCancelled()) {
+				if (this.permits.tryAcquire(PERMIT_WAIT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+					if (isCancelled()) {
+						this.permits.release();
+					}
+					else {
+						this.queue.add(wrap(resultOfSingleExecution));
+					}
+
+					return;
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while adding result", cause);
+		}
+	}
+
+	/**
+	 * Cancels result collection.
+	 *
+	 * Any buffered results are discarded, blocked senders are released, and consumers observe the end of the results.
+	 */
+	public void cancel() {
+
+		if (this.cancelled.compareAndSet(false, true)) {
+			clearResults();
+			this.permits.release(getCapacity());
+			this.queue.add(END_OF_RESULTS);
+		}
+	}
+
+	/**
+	 * Clears any buffered results that have not yet been consumed.
+	 */
+	@Override
+	public void clearResults() {
+
+		for (Iterator<Object> iterator = this.queue.iterator(); iterator.hasNext(); ) {
+			if (iterator.next() != END_OF_RESULTS) {
+				iterator.remove();
+				this.permits.release();
+			}
+		}
+	}
+
+	/**
+	 * Signals the end of the results, waking any consumers waiting on the next result.
+	 */
+	@Override
+	public void endResults() {
+
+		if (this.resultsEnded.compareAndSet(false, true)) {
+			this.queue.add(END_OF_RESULTS);
+		}
+	}
+
+	/**
+	 * Determines whether the end of the results has been {@link #endResults() signaled}.
+	 *
+	 * @return a boolean value indicating whether the end of the results has been {@link #endResults() signaled}.
+	 */
+	protected boolean hasResultsEnded() {
+		return this.resultsEnded.get();
+	}
+
+	/**
+	 * Determines whether the end of the results has not yet been {@link #endResults() signaled}.
+	 *
+	 * @return a boolean value indicating whether the end of the results has not yet been
+	 * {@link #endResults() signaled}.
+	 */
+	protected boolean hasResultsNotEnded() {
+		return !hasResultsEnded();
+	}
+
+	/**
+	 * Returns a {@link Stream} of the results as they arrive.
+	 *
+	 * @return a {@link Stream} of the results as they arrive.
+	 * @see #stream()
+	 */
+	@Override
+	public Stream<T> getResult() throws FunctionException {
+		return stream();
+	}
+
+	/**
+	 * Returns a {@link Stream} of the results as they arrive, where all results must arrive
+	 * within the given {@link Long duration}.
+	 *
+	 * @param duration {@link Long} value for the amount of time to wait for all results.
+	 * @param unit {@link TimeUnit} of the {@link Long duration}.
+	 * @return a {@link Stream} of the results as they arrive.
+	 * @throws FunctionException while consuming the {@link Stream} if all results do not arrive in time.
+	 */
+	@Override
+	public Stream<T> getResult(long duration, TimeUnit unit) throws FunctionException {
+		return stream(System.nanoTime() + resolveTimeUnit(unit).toNanos(duration));
+	}
+
+	/**
+	 * Returns an {@link Iterator} over the results as they arrive. {@link Iterator#hasNext()} blocks
+	 * until the next result arrives or the end of the results is {@link #endResults() signaled}.
+	 *
+	 * @return an {@link Iterator} over the results as they arrive.
+	 * @throws IllegalStateException if the results have already been consumed.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return iterator(NO_TIMEOUT);
+	}
+
+	/**
+	 * Returns a {@link Stream} of the results as they arrive.
+	 *
+	 * Closing the {@link Stream} {@link #cancel() cancels} result collection.
+	 *
+	 * @return a {@link Stream} of the results as they arrive.
+	 * @see #iterator()
+	 */
+	public Stream<T> stream() {
+		return stream(NO_TIMEOUT);
+	}
+
+	private Stream<T> stream(long deadline) {
+
+		return StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(iterator(deadline), Spliterator.ORDERED),
+			Spliterator.ORDERED, false).onClose(this::cancel);
+	}
+
+	private Iterator<T> iterator(long deadline) {
+
+		if (!this.consumed.compareAndSet(false, true)) {
+			throw new IllegalStateException("Results have already been consumed");
+		}
+
+		return new ResultIterator(deadline);
+	}
+
+	@SuppressWarnings("unchecked")
+	private T unwrap(Object element) {
+		return element != NULL_RESULT ? (T) element : null;
+	}
+
+	private Object wrap(T result) {
+		return result != null ? result : NULL_RESULT;
+	}
+
+	private TimeUnit resolveTimeUnit(TimeUnit unit) {
+		return unit != null ? unit : AbstractResultCollector.DEFAULT_TIME_UNIT;
+	}
+
+	private Object take(long deadline) {
+
+		try {
+			Object element;
+
+			if (deadline == NO_TIMEOUT) {
+				element = this.queue.take();
+			}
+			else {
+
+				element = this.queue.poll(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+
+				if (element == null) {
+					throw new FunctionException("Timed out waiting for results");
+				}
+			}
+
+			if (element != END_OF_RESULTS) {
+				this.permits.release();
+			}
+
+			return element;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting for results", cause);
+		}
+	}
+
+	private class ResultIterator implements Iterator<T> {
+
+		private boolean done = false;
+
+		private final long deadline;
+
+		private Object next;
+
+		private ResultIterator(long deadline) {
+			this.deadline = deadline;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (this.next == null && !this.done) {
+
+				Object element = take(this.deadline);
+
+				if (element == END_OF_RESULTS || isCancelled()) {
+					this.done = true;
+				}
+				else {
+					this.next = element;
+				}
+			}
+
+			return this.next != null;
+		}
+
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more results");
+			}
+
+			Object element = this.next;
+
+			this.next = null;
+
+			return unwrap(element);
+		}
+	}
+}
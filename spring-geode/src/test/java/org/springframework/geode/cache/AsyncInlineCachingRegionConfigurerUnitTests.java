@@ -283,6 +283,28 @@ public class AsyncInlineCachingRegionConfigurerUnitTests {
 		verifyNoInteractions(mockRepository);
 	}
 
+	@Test
+	public void resolveStableAsyncEventQueueNameRemovesGeneratedUuid() {
+
+		CrudRepository<?, ?> mockRepository = mock(CrudRepository.class);
+
+		AsyncInlineCachingRegionConfigurer<?, ?> regionConfigurer =
+			new AsyncInlineCachingRegionConfigurer<>(mockRepository, Predicate.isEqual("Books"));
+
+		String asyncEventQueueId = regionConfigurer.generateId("Books");
+
+		assertThat(AsyncInlineCachingRegionConfigurer.resolveStableAsyncEventQueueName(asyncEventQueueId))
+			.isEqualTo("Books-AEQ");
+	}
+
+	@Test
+	public void resolveStableAsyncEventQueueNameReturnsUserDefinedIdAsIs() {
+
+		assertThat(AsyncInlineCachingRegionConfigurer.resolveStableAsyncEventQueueName("MyQueue")).isEqualTo("MyQueue");
+		assertThat(AsyncInlineCachingRegionConfigurer.resolveStableAsyncEventQueueName("-AEQ:1")).isEqualTo("-AEQ:1");
+		assertThat(AsyncInlineCachingRegionConfigurer.resolveStableAsyncEventQueueName(null)).isNull();
+	}
+
 	private void testGenerateIdWithInvalidRegionBeanName(String regionBeanName) {
 
 		CrudRepository<?, ?> mockRepository = mock(CrudRepository.class);
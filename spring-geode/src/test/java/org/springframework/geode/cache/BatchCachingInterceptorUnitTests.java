@@ -0,0 +1,333 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Unit Tests for {@link BatchCachingInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.aop.framework.ProxyFactory
+ * @see org.springframework.geode.cache.BatchCacheable
+ * @see org.springframework.geode.cache.BatchCachingInterceptor
+ * @see org.springframework.geode.cache.SingleFlightCache
+ * @see org.springframework.geode.cache.TwoLevelCache
+ * @since 1.4.0
+ */
+public class BatchCachingInterceptorUnitTests {
+
+	private PriceService priceService;
+
+	private Region<Object, Object> mockRegion;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.priceService = new PriceService();
+		this.mockRegion = mock(Region.class);
+
+		when(this.mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+		when(this.mockRegion.getAttributes()).thenReturn(mock(RegionAttributes.class));
+	}
+
+	private PriceServiceApi newPriceServiceProxy(CacheManager cacheManager) {
+
+		ProxyFactory proxyFactory = new ProxyFactory(this.priceService);
+
+		proxyFactory.addAdvisor(new DefaultPointcutAdvisor(
+			new AnnotationMatchingPointcut(null, BatchCacheable.class, true),
+			new BatchCachingInterceptor(() -> cacheManager)));
+
+		return (PriceServiceApi) proxyFactory.getProxy();
+	}
+
+	private Cache newRegionCache() {
+
+		Cache mockCache = mock(Cache.class);
+
+		when(mockCache.getName()).thenReturn("Prices");
+		when(mockCache.getNativeCache()).thenReturn(this.mockRegion);
+
+		return mockCache;
+	}
+
+	private CacheManager newRegionCacheManager() {
+		return newCacheManager(newRegionCache());
+	}
+
+	private CacheManager newCacheManager(Cache cache) {
+
+		CacheManager mockCacheManager = mock(CacheManager.class);
+
+		when(mockCacheManager.getCache("Prices")).thenReturn(cache);
+
+		return mockCacheManager;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void looksUpAllKeysOnceAndLoadsOnlyMissingKeys() {
+
+		Map<Object, Object> cachedPrices = new HashMap<>();
+
+		cachedPrices.put("sku-1", 10L);
+		cachedPrices.put("sku-2", null);
+		cachedPrices.put("sku-3", 30L);
+
+		when(this.mockRegion.getAll(any(Collection.class))).thenReturn(cachedPrices);
+
+		Map<String, Long> prices = newPriceServiceProxy(newRegionCacheManager())
+			.findPrices(Arrays.asList("sku-1", "sku-2", "sku-3", "sku-4"));
+
+		assertThat(prices).containsExactly(entry("sku-1", 10L), entry("sku-2", 2L), entry("sku-3", 30L),
+			entry("sku-4", 4L));
+
+		assertThat(this.priceService.invocations).containsExactly(Arrays.asList("sku-2", "sku-4"));
+
+		Map<Object, Object> loadedPrices = new HashMap<>();
+
+		loadedPrices.put("sku-2", 2L);
+		loadedPrices.put("sku-4", 4L);
+
+		verify(this.mockRegion, times(1))
+			.getAll(new LinkedHashSet<>(Arrays.asList("sku-1", "sku-2", "sku-3", "sku-4")));
+		verify(this.mockRegion, times(1)).putAll(loadedPrices);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void allKeysCachedDoesNotInvokeMethod() {
+
+		Map<Object, Object> cachedPrices = new HashMap<>();
+
+		cachedPrices.put("sku-1", 10L);
+		cachedPrices.put("sku-2", 20L);
+
+		when(this.mockRegion.getAll(any(Collection.class))).thenReturn(cachedPrices);
+
+		List<Long> prices = newPriceServiceProxy(newRegionCacheManager())
+			.findPriceList(Arrays.asList("sku-2", "sku-1", "sku-2"));
+
+		assertThat(prices).containsExactly(20L, 10L, 20L);
+		assertThat(this.priceService.invocations).isEmpty();
+
+		verify(this.mockRegion, never()).putAll(anyMap());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void looksUpKeysInLocalCacheOfTwoLevelCacheBeforeRegion() {
+
+		TwoLevelCache twoLevelCache = new TwoLevelCache(newRegionCache(), Caffeine.newBuilder().maximumSize(10).build());
+
+		twoLevelCache.getLocalCache().put("sku-1", new SimpleValueWrapper(10L));
+
+		Map<Object, Object> cachedPrices = new HashMap<>();
+
+		cachedPrices.put("sku-2", 20L);
+		cachedPrices.put("sku-3", null);
+
+		when(this.mockRegion.getAll(any(Collection.class))).thenReturn(cachedPrices);
+
+		Map<String, Long> prices = newPriceServiceProxy(newCacheManager(twoLevelCache))
+			.findPrices(Arrays.asList("sku-1", "sku-2", "sku-3"));
+
+		assertThat(prices).containsExactly(entry("sku-1", 10L), entry("sku-2", 20L), entry("sku-3", 3L));
+		assertThat(this.priceService.invocations).containsExactly(Arrays.asList("sku-3"));
+		assertThat(twoLevelCache.getLocalCache().getIfPresent("sku-2").get()).isEqualTo(20L);
+		assertThat(twoLevelCache.getLocalCache().getIfPresent("sku-3")).isNull();
+
+		verify(this.mockRegion, times(1)).getAll(Arrays.asList("sku-2", "sku-3"));
+		verify(this.mockRegion, times(1)).putAll(Collections.singletonMap("sku-3", 3L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void waitsForKeysLeasedBySingleFlightCacheInsteadOfLoadingThem() {
+
+		SingleFlightCache singleFlightCache = new SingleFlightCache(newRegionCache(), Duration.ofSeconds(30),
+			Duration.ofMillis(10), Duration.ofSeconds(30));
+
+		Map<Object, Object> cachedPrices = new HashMap<>();
+
+		cachedPrices.put("sku-1", SingleFlightCache.LEASE_PREFIX + Long.MAX_VALUE + ":lease");
+		cachedPrices.put("sku-2", null);
+
+		when(this.mockRegion.getAll(any(Collection.class))).thenReturn(cachedPrices);
+		when(this.mockRegion.get("sku-1")).thenReturn(10L);
+
+		Map<String, Long> prices = newPriceServiceProxy(newCacheManager(singleFlightCache))
+			.findPrices(Arrays.asList("sku-1", "sku-2"));
+
+		assertThat(prices).containsExactly(entry("sku-1", 10L), entry("sku-2", 2L));
+		assertThat(this.priceService.invocations).containsExactly(Arrays.asList("sku-2"));
+
+		verify(this.mockRegion, times(1)).get("sku-1");
+		verify(this.mockRegion, times(1)).putAll(Collections.singletonMap("sku-2", 2L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadsKeysWhoseLeaseExpired() {
+
+		SingleFlightCache singleFlightCache = new SingleFlightCache(newRegionCache(), Duration.ofSeconds(30),
+			Duration.ofMillis(10), Duration.ofSeconds(30));
+
+		String expiredLease = SingleFlightCache.LEASE_PREFIX + 0L + ":lease";
+
+		when(this.mockRegion.getAll(any(Collection.class)))
+			.thenReturn(Collections.singletonMap("sku-1", expiredLease));
+		when(this.mockRegion.get("sku-1")).thenReturn(expiredLease);
+
+		assertThat(newPriceServiceProxy(newCacheManager(singleFlightCache)).findPriceList(Arrays.asList("sku-1")))
+			.containsExactly(1L);
+		assertThat(this.priceService.invocations).containsExactly(Arrays.asList("sku-1"));
+	}
+
+	@Test
+	public void listResultIsAlignedWithKeysAndCachedPerKey() {
+
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("Prices");
+
+		PriceServiceApi priceServiceProxy = newPriceServiceProxy(cacheManager);
+
+		assertThat(priceServiceProxy.findPriceList(Arrays.asList("sku-1", "sku-2"))).containsExactly(1L, 2L);
+		assertThat(priceServiceProxy.findPriceList(Arrays.asList("sku-2", "sku-3"))).containsExactly(2L, 3L);
+		assertThat(this.priceService.invocations)
+			.containsExactly(Arrays.asList("sku-1", "sku-2"), Arrays.asList("sku-3"));
+		assertThat(cacheManager.getCache("Prices").get("sku-3").get()).isEqualTo(3L);
+	}
+
+	@Test
+	public void listResultWithWrongSizeThrowsIllegalStateException() {
+
+		PriceServiceApi priceServiceProxy = newPriceServiceProxy(new ConcurrentMapCacheManager("Prices"));
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> priceServiceProxy.findPriceListBroken(Arrays.asList("sku-1", "sku-2")))
+			.withMessageContaining("returned [1] values for [2] keys");
+	}
+
+	@Test
+	public void unsupportedKeysParameterTypeInvokesMethodUnchanged() {
+
+		PriceServiceApi priceServiceProxy = newPriceServiceProxy(new ConcurrentMapCacheManager("Prices"));
+
+		assertThat(priceServiceProxy.findPriceSorted(new TreeSet<>(Arrays.asList("sku-1"))))
+			.containsExactly(1L);
+		assertThat(priceServiceProxy.findPriceSorted(new TreeSet<>(Arrays.asList("sku-1"))))
+			.containsExactly(1L);
+		assertThat(this.priceService.invocations).hasSize(2);
+	}
+
+	interface PriceServiceApi {
+
+		@BatchCacheable("Prices")
+		Map<String, Long> findPrices(List<String> skus);
+
+		@BatchCacheable("Prices")
+		List<Long> findPriceList(Collection<String> skus);
+
+		@BatchCacheable("Prices")
+		List<Long> findPriceListBroken(List<String> skus);
+
+		@BatchCacheable("Prices")
+		List<Long> findPriceSorted(TreeSet<String> skus);
+
+	}
+
+	static class PriceService implements PriceServiceApi {
+
+		private final List<Collection<String>> invocations = new ArrayList<>();
+
+		private static Long priceOf(String sku) {
+			return Long.valueOf(sku.substring(sku.indexOf('-') + 1));
+		}
+
+		@Override
+		public Map<String, Long> findPrices(List<String> skus) {
+
+			this.invocations.add(new ArrayList<>(skus));
+
+			return skus.stream().collect(Collectors.toMap(sku -> sku, PriceService::priceOf, (a, b) -> a,
+				LinkedHashMap::new));
+		}
+
+		@Override
+		public List<Long> findPriceList(Collection<String> skus) {
+
+			this.invocations.add(new ArrayList<>(skus));
+
+			return skus.stream().map(PriceService::priceOf).collect(Collectors.toList());
+		}
+
+		@Override
+		public List<Long> findPriceListBroken(List<String> skus) {
+			return Arrays.asList(priceOf(skus.get(0)));
+		}
+
+		@Override
+		public List<Long> findPriceSorted(TreeSet<String> skus) {
+
+			this.invocations.add(new ArrayList<>(skus));
+
+			return skus.stream().map(PriceService::priceOf).collect(Collectors.toList());
+		}
+	}
+}
@@ -42,6 +42,7 @@ import org.mockito.InOrder;
 
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.internal.cache.wan.GatewaySenderEventImpl;
 
 import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.repository.CrudRepository;
@@ -50,6 +51,7 @@ import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventEr
 import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventErrorHandler;
 import org.springframework.geode.cache.RepositoryAsyncEventListener.AsyncEventOperationRepositoryFunction;
 import org.springframework.geode.cache.RepositoryAsyncEventListener.CreateUpdateAsyncEventRepositoryFunction;
+import org.springframework.geode.cache.RepositoryAsyncEventListener.EventProcessingStatistics;
 import org.springframework.geode.cache.RepositoryAsyncEventListener.RemoveAsyncEventRepositoryFunction;
 import org.springframework.lang.NonNull;
 
@@ -385,6 +387,57 @@ public class RepositoryAsyncEventListenerUnitTests {
 		verifyNoInteractions(mockRepository);
 	}
 
+	@Test
+	public void processEventsRecordsStatistics() {
+
+		GatewaySenderEventImpl mockEventOne = mock(GatewaySenderEventImpl.class, "AsyncEventOne");
+		GatewaySenderEventImpl mockEventTwo = mock(GatewaySenderEventImpl.class, "AsyncEventTwo");
+
+		AsyncEventOperationRepositoryFunction mockRepositoryFunction =
+			mock(AsyncEventOperationRepositoryFunction.class);
+
+		doReturn(2000L).when(mockEventOne).getCreationTime();
+		doReturn(1000L).when(mockEventTwo).getCreationTime();
+		doReturn(true).when(mockRepositoryFunction).canProcess(any());
+		doReturn(true).when(mockRepositoryFunction).apply(eq(mockEventOne));
+		doReturn(false).when(mockRepositoryFunction).apply(eq(mockEventTwo));
+
+		RepositoryAsyncEventListener listener = spy(new RepositoryAsyncEventListener(mock(CrudRepository.class)));
+
+		doReturn(Collections.singletonList(mockRepositoryFunction)).when(listener).getRepositoryFunctions();
+
+		assertThat(listener.getStatistics().getOldestEventCreationTime())
+			.isEqualTo(EventProcessingStatistics.UNKNOWN_CREATION_TIME);
+
+		assertThat(listener.processEvents(Arrays.asList(mockEventOne, mockEventTwo))).isFalse();
+		assertThat(listener.processEvents(Collections.singletonList(mockEventOne))).isTrue();
+
+		EventProcessingStatistics statistics = listener.getStatistics();
+
+		assertThat(statistics.getBatchesProcessed()).isEqualTo(2L);
+		assertThat(statistics.getBatchesFailed()).isEqualTo(1L);
+		assertThat(statistics.getEventsProcessed()).isEqualTo(3L);
+		assertThat(statistics.getEventsFailed()).isEqualTo(1L);
+		assertThat(statistics.getRepositoryOperations()).isEqualTo(3L);
+		assertThat(statistics.getRepositoryOperationTime()).isNotNegative();
+		assertThat(statistics.getOldestEventCreationTime()).isEqualTo(2000L);
+	}
+
+	@Test
+	public void processEventsRetainsOldestEventCreationTimeWhenUnknown() {
+
+		GatewaySenderEventImpl mockEvent = mock(GatewaySenderEventImpl.class);
+
+		doReturn(1000L).when(mockEvent).getCreationTime();
+
+		RepositoryAsyncEventListener listener = new RepositoryAsyncEventListener(mock(CrudRepository.class));
+
+		listener.processEvents(Collections.singletonList(mockEvent));
+		listener.processEvents(Collections.singletonList(mock(AsyncEvent.class)));
+
+		assertThat(listener.getStatistics().getOldestEventCreationTime()).isEqualTo(1000L);
+	}
+
 	@Test
 	public void constructAsyncEventError() {
 
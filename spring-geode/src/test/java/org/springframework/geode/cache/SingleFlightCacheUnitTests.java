@@ -0,0 +1,320 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Unit Tests for {@link SingleFlightCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.cache.Cache
+ * @see org.springframework.geode.cache.SingleFlightCache
+ * @since 1.4.0
+ */
+public class SingleFlightCacheUnitTests {
+
+	private static final Duration LEASE_TIMEOUT = Duration.ofSeconds(30);
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+	private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(10);
+
+	private final ConcurrentMap<Object, Object> regionData = new ConcurrentHashMap<>();
+
+	private ExecutorService executorService;
+
+	private Cache mockCache;
+
+	private Region<Object, Object> mockRegion;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.executorService = Executors.newFixedThreadPool(4);
+		this.mockCache = mock(Cache.class);
+		this.mockRegion = mock(Region.class);
+
+		when(this.mockCache.getName()).thenReturn("Prices");
+		when(this.mockCache.getNativeCache()).thenReturn(this.mockRegion);
+		when(this.mockCache.get(any())).thenAnswer(invocation -> {
+			Object value = this.regionData.get(invocation.getArgument(0));
+			return value != null ? new SimpleValueWrapper(value) : null;
+		});
+
+		when(this.mockCache.putIfAbsent(any(), any())).thenAnswer(invocation -> {
+			Object value = this.regionData.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1));
+			return value != null ? new SimpleValueWrapper(value) : null;
+		});
+
+		doAnswer(invocation -> this.regionData.put(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(this.mockCache).put(any(), any());
+
+		when(this.mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+		when(this.mockRegion.get(any())).thenAnswer(invocation -> this.regionData.get(invocation.getArgument(0)));
+		when(this.mockRegion.putIfAbsent(any(), any())).thenAnswer(invocation ->
+			this.regionData.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)));
+		when(this.mockRegion.replace(any(), any(), any())).thenAnswer(invocation ->
+			this.regionData.replace(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+		when(this.mockRegion.remove(any(), any())).thenAnswer(invocation ->
+			this.regionData.remove(invocation.getArgument(0), invocation.getArgument(1)));
+	}
+
+	@After
+	public void tearDown() {
+		this.executorService.shutdownNow();
+	}
+
+	private SingleFlightCache newSingleFlightCache(Duration waitTimeout) {
+		return new SingleFlightCache(this.mockCache, LEASE_TIMEOUT, POLL_INTERVAL, waitTimeout);
+	}
+
+	@Test
+	public void cachedValueIsReturnedWithoutLoading() {
+
+		this.regionData.put("sku-1", 10L);
+
+		assertThat(newSingleFlightCache(WAIT_TIMEOUT).get("sku-1", (Callable<Long>) () -> 99L)).isEqualTo(10L);
+	}
+
+	@Test
+	public void locallyCachedValueIsReturnedWithoutReadingRegion() {
+
+		when(this.mockCache.get(eq("sku-1"))).thenReturn(new SimpleValueWrapper(10L));
+
+		assertThat(newSingleFlightCache(WAIT_TIMEOUT).get("sku-1", (Callable<Long>) () -> 99L)).isEqualTo(10L);
+
+		verify(this.mockRegion, never()).get(any());
+		verify(this.mockRegion, never()).putIfAbsent(any(), any());
+	}
+
+	@Test
+	public void cacheMissTakesLeaseLoadsAndCachesValue() {
+
+		SingleFlightCache cache = newSingleFlightCache(WAIT_TIMEOUT);
+
+		Long value = cache.get("sku-1", () -> {
+			assertThat(SingleFlightCache.isLease(this.regionData.get("sku-1"))).isTrue();
+			return 10L;
+		});
+
+		assertThat(value).isEqualTo(10L);
+		assertThat(this.regionData).containsEntry("sku-1", 10L);
+	}
+
+	@Test
+	public void valueIsLoadedOnceAcrossConcurrentCallersOnDifferentCacheInstances() throws Exception {
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Callable<Long> valueLoader = () -> {
+			loadCount.incrementAndGet();
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return 10L;
+		};
+
+		SingleFlightCache cacheOne = newSingleFlightCache(WAIT_TIMEOUT);
+		SingleFlightCache cacheTwo = newSingleFlightCache(WAIT_TIMEOUT);
+
+		Future<Long> first = this.executorService.submit(() -> cacheOne.get("sku-1", valueLoader));
+
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Future<Long> second = this.executorService.submit(() -> cacheTwo.get("sku-1", valueLoader));
+		Future<Long> third = this.executorService.submit(() -> cacheOne.get("sku-1", valueLoader));
+
+		assertThat(cacheTwo.get("sku-1")).isNull();
+
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(10L);
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(10L);
+		assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo(10L);
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void expiredLeaseIsTakenOver() {
+
+		this.regionData.put("sku-1", SingleFlightCache.LEASE_PREFIX + (System.currentTimeMillis() - 1000L) + ":test");
+
+		assertThat(newSingleFlightCache(WAIT_TIMEOUT).get("sku-1", (Callable<Long>) () -> 10L)).isEqualTo(10L);
+		assertThat(this.regionData).containsEntry("sku-1", 10L);
+	}
+
+	@Test
+	public void lostLeaseDoesNotOverwriteNewerValue() {
+
+		SingleFlightCache cache = newSingleFlightCache(WAIT_TIMEOUT);
+
+		Long value = cache.get("sku-1", () -> {
+			// the lease expired and another caller cached a newer value
+			this.regionData.put("sku-1", 20L);
+			return 10L;
+		});
+
+		assertThat(value).isEqualTo(10L);
+		assertThat(this.regionData).containsEntry("sku-1", 20L);
+
+		verify(this.mockCache, never()).put(any(), any());
+	}
+
+	@Test
+	public void loadFailureReleasesLease() {
+
+		SingleFlightCache cache = newSingleFlightCache(WAIT_TIMEOUT);
+
+		assertThatExceptionOfType(Cache.ValueRetrievalException.class)
+			.isThrownBy(() -> cache.get("sku-1", () -> { throw new IllegalStateException("TEST"); }))
+			.withCauseInstanceOf(IllegalStateException.class);
+
+		assertThat(this.regionData).doesNotContainKey("sku-1");
+	}
+
+	@Test
+	public void nullValueReleasesLease() {
+
+		assertThat(newSingleFlightCache(WAIT_TIMEOUT).get("sku-1", (Callable<Long>) () -> null)).isNull();
+		assertThat(this.regionData).doesNotContainKey("sku-1");
+	}
+
+	@Test
+	public void waitTimeoutLoadsValueWithoutCachingIt() {
+
+		String lease = SingleFlightCache.LEASE_PREFIX + (System.currentTimeMillis() + 60000L) + ":test";
+
+		this.regionData.put("sku-1", lease);
+
+		assertThat(newSingleFlightCache(Duration.ofMillis(50)).get("sku-1", (Callable<Long>) () -> 10L))
+			.isEqualTo(10L);
+		assertThat(this.regionData).containsEntry("sku-1", lease);
+	}
+
+	@Test
+	public void getHidesLease() {
+
+		this.regionData.put("sku-1", SingleFlightCache.LEASE_PREFIX + (System.currentTimeMillis() + 60000L) + ":test");
+
+		SingleFlightCache cache = newSingleFlightCache(WAIT_TIMEOUT);
+
+		assertThat(cache.get("sku-1")).isNull();
+		assertThat(cache.get("sku-1", Long.class)).isNull();
+	}
+
+	@Test
+	public void putIfAbsentReplacesLease() {
+
+		this.regionData.put("sku-1", SingleFlightCache.LEASE_PREFIX + (System.currentTimeMillis() + 60000L) + ":test");
+
+		assertThat(newSingleFlightCache(WAIT_TIMEOUT).putIfAbsent("sku-1", 10L)).isNull();
+		assertThat(this.regionData).containsEntry("sku-1", 10L);
+	}
+
+	@Test
+	public void putIfAbsentWithNullValueReleasesLease() {
+
+		this.regionData.put("sku-1", SingleFlightCache.LEASE_PREFIX + (System.currentTimeMillis() + 60000L) + ":test");
+
+		doAnswer(invocation -> {
+			Object value = this.regionData.get(invocation.getArgument(0));
+			return value != null ? new SimpleValueWrapper(value) : null;
+		}).when(this.mockCache).putIfAbsent(eq("sku-1"), isNull());
+
+		assertThat(newSingleFlightCache(WAIT_TIMEOUT).putIfAbsent("sku-1", null)).isNull();
+		assertThat(this.regionData).doesNotContainKey("sku-1");
+	}
+
+	@Test
+	public void putIfAbsentReturnsExistingValue() {
+
+		this.regionData.put("sku-1", 10L);
+
+		Cache.ValueWrapper existingValue = newSingleFlightCache(WAIT_TIMEOUT).putIfAbsent("sku-1", 20L);
+
+		assertThat(existingValue).isNotNull();
+		assertThat(existingValue.get()).isEqualTo(10L);
+		assertThat(this.regionData).containsEntry("sku-1", 10L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void isLeaseCapableEvaluatesRegionValueConstraint() {
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+
+		assertThat(SingleFlightCache.isLeaseCapable(this.mockRegion)).isTrue();
+
+		doReturn(Object.class).when(mockRegionAttributes).getValueConstraint();
+
+		assertThat(SingleFlightCache.isLeaseCapable(this.mockRegion)).isTrue();
+
+		doReturn(Long.class).when(mockRegionAttributes).getValueConstraint();
+
+		assertThat(SingleFlightCache.isLeaseCapable(this.mockRegion)).isFalse();
+		assertThat(SingleFlightCache.isLeaseCapable(null)).isFalse();
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> newSingleFlightCache(WAIT_TIMEOUT))
+			.withMessageContaining("Prices");
+	}
+
+	@Test
+	public void isLeaseRecognizesLeaseSentinelsOnly() {
+
+		assertThat(SingleFlightCache.isLease(SingleFlightCache.LEASE_PREFIX + "1:test")).isTrue();
+		assertThat(SingleFlightCache.isLease("sku-1")).isFalse();
+		assertThat(SingleFlightCache.isLease(10L)).isFalse();
+		assertThat(SingleFlightCache.isLease(null)).isFalse();
+	}
+}
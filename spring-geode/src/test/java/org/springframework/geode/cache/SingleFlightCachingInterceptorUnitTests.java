@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Unit Tests for {@link SingleFlightCachingInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.geode.cache.SingleFlightCachingInterceptor
+ * @since 1.4.0
+ */
+public class SingleFlightCachingInterceptorUnitTests {
+
+	private static SingleFlightCachingInterceptor newSingleFlightCachingInterceptor() {
+		return new SingleFlightCachingInterceptor(Duration.ofSeconds(30), Duration.ofMillis(100),
+			Duration.ofSeconds(30));
+	}
+
+	private static TwoLevelCachingInterceptor newTwoLevelCachingInterceptor() {
+		return new TwoLevelCachingInterceptor(cacheName -> Caffeine.newBuilder().maximumSize(10).build());
+	}
+
+	@Test
+	public void decoratesRegionBackedCaches() {
+
+		RegionCacheManager cacheManager = SingleFlightCachingInterceptor
+			.newSingleFlightCacheManager(new RegionCacheManager(), newSingleFlightCachingInterceptor());
+
+		Cache prices = cacheManager.getCache("Prices");
+
+		assertThat(prices).isInstanceOf(SingleFlightCache.class);
+		assertThat(cacheManager.getCache("Prices")).isSameAs(prices);
+	}
+
+	@Test
+	public void doesNotDecorateCachesNotBackedByRegion() {
+
+		ConcurrentMapCacheManager cacheManager = SingleFlightCachingInterceptor
+			.newSingleFlightCacheManager(new ConcurrentMapCacheManager("Prices"), newSingleFlightCachingInterceptor());
+
+		assertThat(cacheManager.getCache("Prices")).isNotInstanceOf(SingleFlightCache.class);
+	}
+
+	@Test
+	public void singleFlightCacheDecoratesTwoLevelCacheWhenAppliedFirst() {
+
+		RegionCacheManager cacheManager = SingleFlightCachingInterceptor
+			.newSingleFlightCacheManager(new RegionCacheManager(), newSingleFlightCachingInterceptor());
+
+		cacheManager = TwoLevelCachingInterceptor.newTwoLevelCacheManager(cacheManager,
+			newTwoLevelCachingInterceptor());
+
+		Cache prices = cacheManager.getCache("Prices");
+
+		assertThat(prices).isInstanceOf(SingleFlightCache.class);
+		assertThat(((SingleFlightCache) prices).getCache()).isInstanceOf(TwoLevelCache.class);
+	}
+
+	@Test
+	public void singleFlightCacheDecoratesTwoLevelCacheWhenAppliedLast() {
+
+		RegionCacheManager cacheManager = TwoLevelCachingInterceptor
+			.newTwoLevelCacheManager(new RegionCacheManager(), newTwoLevelCachingInterceptor());
+
+		cacheManager = SingleFlightCachingInterceptor.newSingleFlightCacheManager(cacheManager,
+			newSingleFlightCachingInterceptor());
+
+		Cache prices = cacheManager.getCache("Prices");
+
+		assertThat(prices).isInstanceOf(SingleFlightCache.class);
+		assertThat(((SingleFlightCache) prices).getCache()).isInstanceOf(TwoLevelCache.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void decorateClosesSingleFlightCacheOfReplacedCache() {
+
+		SingleFlightCachingInterceptor interceptor = newSingleFlightCachingInterceptor();
+
+		Cache oldCache = new RegionCacheManager().getCache("Prices");
+		Cache newCache = new RegionCacheManager().getCache("Prices");
+
+		AttributesMutator<Object, Object> oldAttributesMutator =
+			((Region<Object, Object>) oldCache.getNativeCache()).getAttributesMutator();
+
+		AttributesMutator<Object, Object> newAttributesMutator =
+			((Region<Object, Object>) newCache.getNativeCache()).getAttributesMutator();
+
+		Cache oldSingleFlightCache = interceptor.decorate(oldCache);
+
+		assertThat(interceptor.decorate(oldCache)).isSameAs(oldSingleFlightCache);
+
+		verify(oldAttributesMutator, times(1)).addCacheListener(any(CacheListener.class));
+
+		Cache newSingleFlightCache = interceptor.decorate(newCache);
+
+		assertThat(newSingleFlightCache).isNotSameAs(oldSingleFlightCache);
+		assertThat(((SingleFlightCache) newSingleFlightCache).getCache()).isSameAs(newCache);
+
+		verify(oldAttributesMutator, times(1)).removeCacheListener(any(CacheListener.class));
+		verify(newAttributesMutator, times(1)).addCacheListener(any(CacheListener.class));
+		verify(newAttributesMutator, never()).removeCacheListener(any(CacheListener.class));
+	}
+
+	static class RegionCacheManager implements CacheManager {
+
+		private final Cache cache;
+
+		@SuppressWarnings("unchecked")
+		RegionCacheManager() {
+
+			Region<Object, Object> mockRegion = mock(Region.class);
+
+			when(mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+			when(mockRegion.getAttributes()).thenReturn(mock(RegionAttributes.class));
+
+			this.cache = mock(Cache.class);
+
+			when(this.cache.getName()).thenReturn("Prices");
+			when(this.cache.getNativeCache()).thenReturn(mockRegion);
+		}
+
+		@Override
+		public Cache getCache(String name) {
+			return "Prices".equals(name) ? this.cache : null;
+		}
+
+		@Override
+		public Collection<String> getCacheNames() {
+			return Collections.singleton("Prices");
+		}
+	}
+}
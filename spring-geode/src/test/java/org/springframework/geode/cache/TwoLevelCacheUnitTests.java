@@ -0,0 +1,267 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+
+import org.mockito.ArgumentCaptor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Unit Tests for {@link TwoLevelCache}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.cache.Cache
+ * @see org.springframework.geode.cache.TwoLevelCache
+ * @since 1.4.0
+ */
+public class TwoLevelCacheUnitTests {
+
+	private AttributesMutator<Object, Object> mockAttributesMutator;
+
+	private Cache mockCache;
+
+	private Region<Object, Object> mockRegion;
+
+	private RegionAttributes<Object, Object> mockRegionAttributes;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.mockAttributesMutator = mock(AttributesMutator.class);
+		this.mockCache = mock(Cache.class);
+		this.mockRegion = mock(Region.class);
+		this.mockRegionAttributes = mock(RegionAttributes.class);
+
+		when(this.mockCache.getName()).thenReturn("Prices");
+		when(this.mockCache.getNativeCache()).thenReturn(this.mockRegion);
+		when(this.mockRegion.getAttributesMutator()).thenReturn(this.mockAttributesMutator);
+		when(this.mockRegion.getAttributes()).thenReturn(this.mockRegionAttributes);
+	}
+
+	private TwoLevelCache newTwoLevelCache() {
+		return new TwoLevelCache(this.mockCache, Caffeine.newBuilder().maximumSize(100).build());
+	}
+
+	@SuppressWarnings("unchecked")
+	private CacheListener<Object, Object> captureCacheListener() {
+
+		ArgumentCaptor<CacheListener<Object, Object>> cacheListener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(this.mockAttributesMutator, times(1)).addCacheListener(cacheListener.capture());
+
+		return cacheListener.getValue();
+	}
+
+	@Test
+	public void getReadsThroughToRegionOnceThenServesFromLocalCache() {
+
+		when(this.mockCache.get("sku-1")).thenReturn(new SimpleValueWrapper(10L));
+
+		TwoLevelCache cache = newTwoLevelCache();
+
+		assertThat(cache.get("sku-1").get()).isEqualTo(10L);
+		assertThat(cache.get("sku-1", Long.class)).isEqualTo(10L);
+
+		verify(this.mockCache, times(1)).get("sku-1");
+	}
+
+	@Test
+	public void getMissIsNotCachedLocally() {
+
+		TwoLevelCache cache = newTwoLevelCache();
+
+		assertThat(cache.get("sku-1")).isNull();
+		assertThat(cache.get("sku-1")).isNull();
+
+		verify(this.mockCache, times(2)).get("sku-1");
+	}
+
+	@Test
+	public void putWritesRegionAndEvictsLocalCache() {
+
+		TwoLevelCache cache = newTwoLevelCache();
+
+		cache.getLocalCache().put("sku-1", new SimpleValueWrapper(10L));
+		cache.put("sku-1", 20L);
+
+		assertThat(cache.getLocalCache().getIfPresent("sku-1")).isNull();
+
+		verify(this.mockCache, times(1)).put("sku-1", 20L);
+	}
+
+	@Test
+	public void evictionDuringReadDoesNotPopulateLocalCache() {
+
+		TwoLevelCache cache = newTwoLevelCache();
+
+		when(this.mockCache.get("sku-1")).thenAnswer(invocation -> {
+			cache.evictLocal("sku-1");
+			return new SimpleValueWrapper(10L);
+		});
+
+		assertThat(cache.get("sku-1").get()).isEqualTo(10L);
+		assertThat(cache.getLocalCache().getIfPresent("sku-1")).isNull();
+
+		doReturn(new SimpleValueWrapper(20L)).when(this.mockCache).get("sku-1");
+
+		assertThat(cache.get("sku-1").get()).isEqualTo(20L);
+		assertThat(cache.get("sku-1").get()).isEqualTo(20L);
+
+		verify(this.mockCache, times(2)).get("sku-1");
+	}
+
+	@Test
+	public void evictionDuringLoadDoesNotPopulateLocalCache() {
+
+		TwoLevelCache cache = newTwoLevelCache();
+
+		when(this.mockCache.get(any(), any(Callable.class))).thenAnswer(invocation -> {
+			cache.evictLocal("sku-1");
+			return 10L;
+		});
+
+		assertThat(cache.get("sku-1", () -> 10L)).isEqualTo(10L);
+		assertThat(cache.getLocalCache().getIfPresent("sku-1")).isNull();
+	}
+
+	@Test
+	public void evictAndClearApplyToBothLevels() {
+
+		TwoLevelCache cache = newTwoLevelCache();
+
+		cache.put("sku-1", 20L);
+		cache.evict("sku-1");
+
+		assertThat(cache.getLocalCache().getIfPresent("sku-1")).isNull();
+
+		cache.put("sku-2", 30L);
+		cache.clear();
+
+		assertThat(cache.getLocalCache().estimatedSize()).isZero();
+
+		verify(this.mockCache, times(1)).evict("sku-1");
+		verify(this.mockCache, times(1)).clear();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void regionEntryEventsEvictLocalCacheEntries() {
+
+		TwoLevelCache cache = newTwoLevelCache();
+
+		cache.getLocalCache().put("sku-1", new SimpleValueWrapper(20L));
+		cache.getLocalCache().put("sku-2", new SimpleValueWrapper(30L));
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn("sku-1");
+
+		CacheListener<Object, Object> cacheListener = captureCacheListener();
+
+		cacheListener.afterUpdate(mockEntryEvent);
+
+		assertThat(cache.getLocalCache().getIfPresent("sku-1")).isNull();
+		assertThat(cache.getLocalCache().getIfPresent("sku-2")).isNotNull();
+
+		cacheListener.afterRegionClear(mock(RegionEvent.class));
+
+		assertThat(cache.getLocalCache().getIfPresent("sku-2")).isNull();
+	}
+
+	@Test
+	public void registersInterestInClientRegion() {
+
+		when(this.mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		doReturn(Collections.emptyList()).when(this.mockRegion).getInterestList();
+		doReturn(Collections.emptyList()).when(this.mockRegion).getInterestListRegex();
+
+		newTwoLevelCache();
+
+		verify(this.mockRegion, times(1))
+			.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+	}
+
+	@Test
+	public void doesNotRegisterInterestInPeerRegion() {
+
+		newTwoLevelCache();
+
+		verify(this.mockRegion, never()).registerInterestForAllKeys(any(InterestResultPolicy.class), anyBoolean(),
+			anyBoolean());
+	}
+
+	@Test
+	public void closeRemovesCacheListenerAndInterestFromRegion() {
+
+		when(this.mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		doReturn(Collections.emptyList()).when(this.mockRegion).getInterestList();
+		doReturn(Collections.emptyList()).when(this.mockRegion).getInterestListRegex();
+
+		TwoLevelCache cache = newTwoLevelCache();
+
+		CacheListener<Object, Object> cacheListener = captureCacheListener();
+
+		cache.getLocalCache().put("sku-1", new SimpleValueWrapper(10L));
+		cache.close();
+
+		assertThat(cache.getLocalCache().getIfPresent("sku-1")).isNull();
+
+		verify(this.mockAttributesMutator, times(1)).removeCacheListener(cacheListener);
+		verify(this.mockRegion, times(1)).unregisterInterest("ALL_KEYS");
+	}
+
+	@Test
+	public void closeDoesNotUnregisterInterestRegisteredByOthers() {
+
+		when(this.mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		doReturn(Collections.singletonList("sku-1")).when(this.mockRegion).getInterestList();
+
+		newTwoLevelCache().close();
+
+		verify(this.mockAttributesMutator, times(1)).removeCacheListener(any(CacheListener.class));
+		verify(this.mockRegion, never()).unregisterInterest(any());
+	}
+}
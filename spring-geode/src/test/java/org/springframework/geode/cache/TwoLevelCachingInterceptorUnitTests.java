@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Unit Tests for {@link TwoLevelCachingInterceptor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.cache.CacheManager
+ * @see org.springframework.geode.cache.TwoLevelCachingInterceptor
+ * @since 1.4.0
+ */
+public class TwoLevelCachingInterceptorUnitTests {
+
+	@Test
+	public void cacheManagerProxyReturnsTwoLevelCaches() {
+
+		ConcurrentMapCacheManager cacheManager = TwoLevelCachingInterceptor.newTwoLevelCacheManager(
+			new ConcurrentMapCacheManager("Prices", "Products"),
+			new TwoLevelCachingInterceptor(cacheName -> "Prices".equals(cacheName)
+				? Caffeine.newBuilder().maximumSize(10).build()
+				: null));
+
+		Cache prices = cacheManager.getCache("Prices");
+
+		assertThat(prices).isInstanceOf(TwoLevelCache.class);
+		assertThat(prices.getName()).isEqualTo("Prices");
+		assertThat(cacheManager.getCache("Prices")).isSameAs(prices);
+		assertThat(cacheManager.getCache("Products")).isNotInstanceOf(TwoLevelCache.class);
+		assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("Prices", "Products");
+	}
+
+	@Test
+	public void decorateCreatesLocalCacheOnlyOncePerCache() {
+
+		AtomicInteger localCacheCount = new AtomicInteger();
+
+		TwoLevelCachingInterceptor interceptor = new TwoLevelCachingInterceptor(cacheName -> {
+			localCacheCount.incrementAndGet();
+			return Caffeine.newBuilder().maximumSize(10).build();
+		});
+
+		Cache prices = new ConcurrentMapCache("Prices");
+
+		Cache twoLevelCache = interceptor.decorate(prices);
+
+		assertThat(interceptor.decorate(prices)).isSameAs(twoLevelCache);
+		assertThat(interceptor.decorate(prices)).isSameAs(twoLevelCache);
+		assertThat(localCacheCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void decorateClosesTwoLevelCacheOfReplacedCache() {
+
+		TwoLevelCachingInterceptor interceptor =
+			new TwoLevelCachingInterceptor(cacheName -> Caffeine.newBuilder().maximumSize(10).build());
+
+		TwoLevelCache oldTwoLevelCache = (TwoLevelCache) interceptor.decorate(new ConcurrentMapCache("Prices"));
+
+		oldTwoLevelCache.getLocalCache().put("sku-1", new SimpleValueWrapper(10L));
+
+		Cache prices = new ConcurrentMapCache("Prices");
+
+		TwoLevelCache newTwoLevelCache = (TwoLevelCache) interceptor.decorate(prices);
+
+		assertThat(newTwoLevelCache).isNotSameAs(oldTwoLevelCache);
+		assertThat(newTwoLevelCache.getCache()).isSameAs(prices);
+		assertThat(oldTwoLevelCache.getLocalCache().getIfPresent("sku-1")).isNull();
+		assertThat(interceptor.decorate(prices)).isSameAs(newTwoLevelCache);
+	}
+}
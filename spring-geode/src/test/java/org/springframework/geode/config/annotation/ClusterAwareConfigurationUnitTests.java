@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -30,8 +31,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
-import java.net.Socket;
-import java.util.Arrays;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.util.List;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -56,7 +57,7 @@ import org.springframework.data.gemfire.tests.integration.IntegrationTestsSuppor
  * Unit Tests for {@link EnableClusterAware} and {@link ClusterAwareConfiguration}.
  *
  * @author John Blum
- * @see java.net.Socket
+ * @see java.net.ServerSocket
  * @see java.util.Properties
  * @see org.junit.Test
  * @see org.mockito.Mockito
@@ -161,34 +162,70 @@ public class ClusterAwareConfigurationUnitTests extends IntegrationTestsSupport
 		verify(mockEnvironment, times(4)).getProperty(anyString());
 	}
 
+	private static int unusedPort() throws IOException {
+
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			return serverSocket.getLocalPort();
+		}
+	}
+
 	@Test
-	public void countConnectionsIsCorrect() throws Exception {
+	public void countConnectionsStopsAtFirstSuccessfulConnection() throws Exception {
+
+		try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+
+			String host = InetAddress.getLoopbackAddress().getHostAddress();
+
+			ConnectionEndpointList list = new ConnectionEndpointList(
+				new ConnectionEndpoint(host, unusedPort()),
+				new ConnectionEndpoint(host, serverSocket.getLocalPort()),
+				new ConnectionEndpoint(host, unusedPort())
+			);
+
+			Logger mockLogger = mock(Logger.class);
+
+			doReturn(mockLogger).when(this.condition).getLogger();
+
+			assertThat(this.condition.countConnections(list)).isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void countConnectionsWhenNoEndpointIsAvailableReturnsZero() throws Exception {
+
+		String host = InetAddress.getLoopbackAddress().getHostAddress();
 
 		ConnectionEndpointList list = new ConnectionEndpointList(
-			new ConnectionEndpoint("boombox", 1234),
-			new ConnectionEndpoint("cardboardbox", 5678),
-			new ConnectionEndpoint("mailbox", 9012),
-			new ConnectionEndpoint("skullbox", 10334)
+			new ConnectionEndpoint(host, unusedPort()),
+			new ConnectionEndpoint(host, unusedPort())
 		);
 
 		Logger mockLogger = mock(Logger.class);
 
+		doReturn(true).when(mockLogger).isInfoEnabled();
 		doReturn(mockLogger).when(this.condition).getLogger();
 
-		doAnswer(invocation -> {
+		assertThat(this.condition.countConnections(list)).isZero();
 
-			ConnectionEndpoint connectionEndpoint = invocation.getArgument(0);
+		verify(mockLogger, times(2)).info(eq("Failed to connect to {}"), isA(ConnectionEndpoint.class));
+	}
 
-			if (Arrays.asList("boombox", "skullbox").contains(connectionEndpoint.getHost())) {
-				return mock(Socket.class);
-			}
-			else {
-				throw new IOException("TEST");
-			}
+	@Test
+	public void countConnectionsHandlesConnectFailures() throws Exception {
+
+		ConnectionEndpointList list = new ConnectionEndpointList(
+			new ConnectionEndpoint("boombox", 1234),
+			new ConnectionEndpoint("skullbox", 10334)
+		);
+
+		Logger mockLogger = mock(Logger.class);
+
+		doReturn(mockLogger).when(this.condition).getLogger();
+		doThrow(new IOException("TEST")).when(this.condition).connect(any(ConnectionEndpoint.class));
 
-		}).when(this.condition).connect(any(ConnectionEndpoint.class));
+		assertThat(this.condition.countConnections(list)).isZero();
 
-		assertThat(this.condition.countConnections(list)).isEqualTo(2);
+		verify(this.condition, times(2)).connect(any(ConnectionEndpoint.class));
 	}
 
 	@Test
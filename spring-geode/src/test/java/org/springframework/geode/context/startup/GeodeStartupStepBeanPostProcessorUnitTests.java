@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.context.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.client.PoolFactoryBean;
+
+/**
+ * Unit Tests for {@link GeodeStartupStepBeanPostProcessor} and {@link GeodeStartupReport}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup
+ * @see org.springframework.geode.context.startup.GeodeStartupReport
+ * @see org.springframework.geode.context.startup.GeodeStartupStepBeanPostProcessor
+ * @since 1.4.0
+ */
+public class GeodeStartupStepBeanPostProcessorUnitTests {
+
+	private BufferingApplicationStartup applicationStartup;
+
+	private GeodeStartupStepBeanPostProcessor beanPostProcessor;
+
+	@Before
+	public void setup() {
+
+		this.applicationStartup = new BufferingApplicationStartup(100);
+		this.beanPostProcessor = new GeodeStartupStepBeanPostProcessor();
+		this.beanPostProcessor.setApplicationStartup(this.applicationStartup);
+	}
+
+	private void create(Class<?> beanType, String beanName) {
+
+		assertThat(this.beanPostProcessor.postProcessBeforeInstantiation(beanType, beanName)).isNull();
+		assertThat(this.beanPostProcessor.postProcessAfterInitialization(beanName, beanName)).isEqualTo(beanName);
+	}
+
+	@Test
+	public void resolvesStepNamesForGeodeBeanTypes() {
+
+		assertThat(this.beanPostProcessor.resolveStepName(ClientCacheFactoryBean.class))
+			.isEqualTo(GeodeStartupSteps.CACHE_CREATE_STEP_NAME);
+		assertThat(this.beanPostProcessor.resolveStepName(PoolFactoryBean.class))
+			.isEqualTo(GeodeStartupSteps.POOL_CREATE_STEP_NAME);
+		assertThat(this.beanPostProcessor.resolveStepName(ClientRegionFactoryBean.class))
+			.isEqualTo(GeodeStartupSteps.REGION_CREATE_STEP_NAME);
+		assertThat(this.beanPostProcessor.resolveStepName(Object.class)).isNull();
+		assertThat(this.beanPostProcessor.resolveStepName(null)).isNull();
+	}
+
+	@Test
+	public void recordsStepsForGeodeBeansOnly() {
+
+		create(ClientCacheFactoryBean.class, "gemfireCache");
+		create(PoolFactoryBean.class, "DEFAULT");
+		create(ClientRegionFactoryBean.class, "Customers");
+		create(ClientRegionFactoryBean.class, "Orders");
+		create(Object.class, "other");
+
+		GeodeStartupReport report = GeodeStartupReport.from(this.applicationStartup);
+
+		assertThat(report).isNotNull();
+		assertThat(report.isEmpty()).isFalse();
+		assertThat(report.getStepSummaries())
+			.extracting(GeodeStartupReport.StepSummary::getName)
+			.containsExactly(GeodeStartupSteps.CACHE_CREATE_STEP_NAME, GeodeStartupSteps.POOL_CREATE_STEP_NAME,
+				GeodeStartupSteps.REGION_CREATE_STEP_NAME);
+
+		GeodeStartupReport.StepSummary regionStepSummary = report.getStepSummaries().get(2);
+
+		assertThat(regionStepSummary.getCount()).isEqualTo(2);
+		assertThat(regionStepSummary.getEvents().get(0).getTags())
+			.containsEntry("beanName", "Customers")
+			.containsEntry("beanType", ClientRegionFactoryBean.class.getName());
+		assertThat(regionStepSummary.getEvents().get(1).getTags()).containsEntry("beanName", "Orders");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void reportIgnoresNonGeodeStepsAndConvertsToMap() {
+
+		this.applicationStartup.start("spring.beans.instantiate").end();
+		this.applicationStartup.start(GeodeStartupSteps.DATA_IMPORT_STEP_NAME).tag("region", "/Customers").end();
+
+		Map<String, Object> map = GeodeStartupReport.from(this.applicationStartup).toMap();
+
+		assertThat(map).containsKeys("total-time-millis", "steps");
+
+		Map<String, Object> steps = (Map<String, Object>) map.get("steps");
+
+		assertThat(steps).containsOnlyKeys(GeodeStartupSteps.DATA_IMPORT_STEP_NAME);
+		assertThat((Map<String, Object>) steps.get(GeodeStartupSteps.DATA_IMPORT_STEP_NAME))
+			.containsEntry("count", 1)
+			.containsKeys("total-time-millis", "max-time-millis", "events");
+	}
+
+	@Test
+	public void reportIsNullForNonBufferingApplicationStartup() {
+		assertThat(GeodeStartupReport.from(ApplicationStartup.DEFAULT)).isNull();
+	}
+
+	@Test
+	public void unmatchedAfterInitializationIsIgnored() {
+
+		Object bean = new Object();
+
+		assertThat(this.beanPostProcessor.postProcessAfterInitialization(bean, "gemfireCache")).isSameAs(bean);
+		assertThat(GeodeStartupReport.from(this.applicationStartup).isEmpty()).isTrue();
+	}
+}
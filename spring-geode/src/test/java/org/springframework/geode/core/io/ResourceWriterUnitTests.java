@@ -60,6 +60,22 @@ public class ResourceWriterUnitTests {
 		verify(writer, times(1)).write(eq(mockResource), eq(data));
 	}
 
+	@Test
+	public void writeWithOutputStreamCallbackCallsWriteWithByteArray() {
+
+		byte[] data = { (byte) 0xCA, (byte) 0xFE };
+
+		Resource mockResource = mock(Resource.class);
+
+		ResourceWriter writer = mock(ResourceWriter.class);
+
+		doCallRealMethod().when(writer).write(any(), any(ResourceWriter.OutputStreamCallback.class));
+
+		writer.write(mockResource, out -> out.write(data));
+
+		verify(writer, times(1)).write(eq(mockResource), eq(data));
+	}
+
 	@Test
 	public void thenWriteToNullReturnsThis() {
 
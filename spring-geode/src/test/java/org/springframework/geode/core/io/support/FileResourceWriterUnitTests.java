@@ -80,6 +80,32 @@ public class FileResourceWriterUnitTests {
 		verifyNoMoreInteractions(mockResource);
 	}
 
+	@Test
+	public void writeStreamsDataToResourceOutputStream() throws IOException {
+
+		byte[] data = { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE };
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+
+		FileResourceWriter writer = spy(new FileResourceWriter());
+
+		WritableResource mockResource = mock(WritableResource.class);
+
+		doReturn(true).when(mockResource).isFile();
+		doReturn(true).when(mockResource).isWritable();
+		doReturn(out).when(mockResource).getOutputStream();
+
+		writer.write(mockResource, resourceOutputStream -> {
+			resourceOutputStream.write(data, 0, 2);
+			resourceOutputStream.write(data, 2, 2);
+		});
+
+		assertThat(out.toByteArray()).isEqualTo(data);
+
+		verify(writer, times(1)).decorate(eq(out));
+		verify(writer, never()).doWrite(any(), any(byte[].class));
+	}
+
 	@Test(expected = ResourceWriteException.class)
 	public void doWriteHandlesIOExceptionThrowsDataAccessResourceFailureException() throws IOException {
 
@@ -21,12 +21,15 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -37,10 +40,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.apache.geode.cache.Region;
 import org.apache.geode.pdx.PdxInstance;
 
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.geode.core.io.ResourceReader;
 import org.springframework.geode.core.io.ResourceWriter;
+import org.springframework.geode.data.json.JsonCacheDataImporterExporter.ExportShard;
+import org.springframework.geode.data.json.JsonCacheDataImporterExporter.ParallelExportFunction;
 import org.springframework.geode.data.json.converter.JsonToPdxArrayConverter;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ExportResourceResolver;
 import org.springframework.geode.data.support.ResourceCapableCacheDataImporterExporter.ImportResourceResolver;
@@ -339,6 +345,203 @@ public class JsonCacheDataImporterExporterUnitTests {
 		verifyNoMoreInteractions(mockConverter);
 	}
 
+	@Test
+	public void isParallelExportEnabledIsFalseByDefault() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn(false).when(mockEnvironment)
+			.getProperty(eq(JsonCacheDataImporterExporter.CACHE_DATA_EXPORT_PARALLEL_ENABLED_PROPERTY_NAME),
+				eq(Boolean.class), eq(false));
+
+		assertThat(this.importerExporter.isParallelExportEnabled(null)).isFalse();
+		assertThat(this.importerExporter.isParallelExportEnabled(mockEnvironment)).isFalse();
+	}
+
+	@Test
+	public void isParallelExportEnabledWhenConfigured() {
+
+		Environment mockEnvironment = mock(Environment.class);
+
+		doReturn(true).when(mockEnvironment)
+			.getProperty(eq(JsonCacheDataImporterExporter.CACHE_DATA_EXPORT_PARALLEL_ENABLED_PROPERTY_NAME),
+				eq(Boolean.class), eq(false));
+
+		assertThat(this.importerExporter.isParallelExportEnabled(mockEnvironment)).isTrue();
+	}
+
+	@Test
+	public void getShardResourceNameIncludesMemberName() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		doReturn("data-example.json").when(mockResource).getFilename();
+
+		assertThat(this.importerExporter.getShardResourceName(mockRegion, mockResource, "ServerOne"))
+			.isEqualTo("data-example-ServerOne.json");
+
+		assertThat(this.importerExporter.getShardResourceName(mockRegion, mockResource, "Server:One/Two"))
+			.isEqualTo("data-example-Server_One_Two.json");
+
+		verifyNoInteractions(mockRegion);
+	}
+
+	@Test
+	public void getShardResourceNameWithNoFilenameUsesRegionName() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		doReturn("Example").when(mockRegion).getName();
+
+		assertThat(this.importerExporter.getShardResourceName(mockRegion, mockResource, "ServerOne"))
+			.isEqualTo("data-example-ServerOne.json");
+	}
+
+	@Test
+	public void isManifestDetectsManifest() {
+
+		assertThat(this.importerExporter.isManifest(" { \"region\": \"/Example\", \"shards\": [] }".getBytes()))
+			.isTrue();
+	}
+
+	@Test
+	public void isManifestIsFalseForData() {
+
+		assertThat(this.importerExporter.isManifest(null)).isFalse();
+		assertThat(this.importerExporter.isManifest(new byte[0])).isFalse();
+		assertThat(this.importerExporter.isManifest("  ".getBytes())).isFalse();
+		assertThat(this.importerExporter.isManifest("[{ \"name\": \"Jon Doe\" }]".getBytes())).isFalse();
+		assertThat(this.importerExporter.isManifest("{ \"name\": \"Jon Doe\" }".getBytes())).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void exportShardStreamsValuesToShardResource() throws Exception {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+		Region<?, ?> mockLocalData = mock(Region.class);
+
+		Resource mockResource = mock(Resource.class);
+		Resource mockShardResource = mock(Resource.class);
+
+		ExportResourceResolver mockExportResourceResolver = mock(ExportResourceResolver.class);
+
+		AtomicReference<byte[]> shard = new AtomicReference<>();
+
+		ResourceWriter resourceWriter = (resource, data) -> {
+			assertThat(resource).isSameAs(mockShardResource);
+			shard.set(data);
+		};
+
+		doReturn("/Example").when(mockRegion).getFullPath();
+		doReturn(Collections.emptyList()).when(mockLocalData).values();
+		doReturn("data-example.json").when(mockResource).getFilename();
+		doReturn(mockShardResource).when(mockResource).createRelative(eq("data-example-ServerOne.json"));
+		doReturn(Optional.of(mockResource)).when(mockExportResourceResolver).resolve(eq(mockRegion));
+		doReturn(mockExportResourceResolver).when(this.importerExporter).getExportResourceResolver();
+		doReturn(resourceWriter).when(this.importerExporter).getResourceWriter();
+
+		ExportShard exportShard = this.importerExporter.exportShard(mockRegion, mockLocalData, "ServerOne");
+
+		assertThat(exportShard).isNotNull();
+		assertThat(exportShard.getMemberName()).isEqualTo("ServerOne");
+		assertThat(exportShard.getLocation()).isEqualTo("data-example-ServerOne.json");
+		assertThat(exportShard.getCount()).isZero();
+		assertThat(shard.get()).isEqualTo("[]".getBytes());
+	}
+
+	@Test
+	public void writeManifestWritesShardsToResource() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		Resource mockResource = mock(Resource.class);
+
+		ResourceWriter mockResourceWriter = mock(ResourceWriter.class);
+
+		doReturn("/Example").when(mockRegion).getFullPath();
+		doReturn(mockResourceWriter).when(this.importerExporter).getResourceWriter();
+
+		this.importerExporter.writeManifest(mockRegion, mockResource,
+			Collections.singletonList(new ExportShard("ServerOne", "data-example-ServerOne.json", 2)));
+
+		byte[] manifest = ("{\"region\":\"/Example\",\"shards\":[{\"member\":\"ServerOne\","
+			+ "\"location\":\"data-example-ServerOne.json\",\"count\":2}]}").getBytes();
+
+		verify(mockResourceWriter, times(1)).write(eq(mockResource), eq(manifest));
+		verifyNoMoreInteractions(mockResourceWriter);
+		verifyNoInteractions(mockResource);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doImportIntoWithManifestImportsShards() throws Exception {
+
+		Resource mockResource = mock(Resource.class);
+		Resource mockShardResource = mock(Resource.class);
+
+		ResourceReader mockResourceReader = mock(ResourceReader.class);
+
+		Region<Integer, PdxInstance> mockRegion = mock(Region.class);
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		ImportResourceResolver mockImportResourceResolver = mock(ImportResourceResolver.class);
+
+		byte[] manifest = ("{ \"region\": \"/Example\", \"shards\": [{ \"member\": \"ServerOne\","
+			+ " \"location\": \"data-example-ServerOne.json\", \"count\": 1 }] }").getBytes();
+
+		byte[] json = "[{ \"name\": \"Jon Doe\"}]".getBytes();
+
+		doReturn(mockImportResourceResolver).when(this.importerExporter).getImportResourceResolver();
+		doReturn(mockResourceReader).when(this.importerExporter).getResourceReader();
+		doReturn(Optional.of(mockResource)).when(mockImportResourceResolver).resolve(eq(mockRegion));
+		doReturn(mockShardResource).when(mockResource).createRelative(eq("data-example-ServerOne.json"));
+		doReturn(manifest).when(mockResourceReader).read(eq(mockResource));
+		doReturn(json).when(mockResourceReader).read(eq(mockShardResource));
+		doReturn(ArrayUtils.asArray(mockPdxInstance)).when(this.importerExporter).toPdx(eq(json));
+		doReturn(1).when(this.importerExporter).resolveKey(eq(mockPdxInstance));
+
+		assertThat(this.importerExporter.doImportInto(mockRegion)).isEqualTo(mockRegion);
+
+		verify(mockResource, times(1)).createRelative(eq("data-example-ServerOne.json"));
+		verify(mockResourceReader, times(1)).read(eq(mockResource));
+		verify(mockResourceReader, times(1)).read(eq(mockShardResource));
+		verify(this.importerExporter, times(1)).toPdx(eq(json));
+		verify(this.importerExporter, never()).toPdx(eq(manifest));
+		verify(mockRegion, times(1)).put(eq(1), eq(mockPdxInstance));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructParallelExportFunctionWithNullImporterExporter() {
+
+		try {
+			new ParallelExportFunction(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("JsonCacheDataImporterExporter must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void parallelExportFunctionIsConfiguredCorrectly() {
+
+		ParallelExportFunction function = new ParallelExportFunction(this.importerExporter);
+
+		assertThat(function.getId()).isEqualTo(ParallelExportFunction.ID);
+		assertThat(function.hasResult()).isTrue();
+		assertThat(function.isHA()).isFalse();
+		assertThat(function.optimizeForWrite()).isTrue();
+	}
+
 	static class TestJsonCacheDataImporterExporter extends JsonCacheDataImporterExporter {
 
 		@Override
@@ -18,6 +18,7 @@ package org.springframework.geode.function.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import edu.umd.cs.mtc.MultithreadedTestCase;
@@ -92,6 +93,54 @@ public class AbstractResultCollectorUnitTests {
 		TestFramework.runOnce(new ReturnsResultWithinTimeoutMultithreadedTestCase());
 	}
 
+	@Test
+	public void getResultWithTimeoutReturnsNullWhenNoResultArrives() throws InterruptedException {
+		assertThat(this.resultCollector.getResult(10, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	@Test
+	public void getResultWithTimeoutReturnsImmediatelyWhenResultsHaveEnded() throws InterruptedException {
+
+		this.resultCollector.endResults();
+
+		long startTimestamp = System.nanoTime();
+
+		assertThat(this.resultCollector.getResult(5, TimeUnit.SECONDS)).isNull();
+		assertThat(System.nanoTime() - startTimestamp).isLessThan(TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test
+	public void getResultAsyncCompletesWhenResultsEnd() {
+
+		CompletableFuture<Object> result = this.resultCollector.getResultAsync().toCompletableFuture();
+
+		this.resultCollector.setResult("test");
+
+		assertThat(result).isNotDone();
+
+		this.resultCollector.endResults();
+
+		assertThat(result).isCompletedWithValue("test");
+	}
+
+	@Test
+	public void getResultAsyncCannotBeCompletedByCaller() {
+
+		this.resultCollector.getResultAsync().toCompletableFuture().complete("mock");
+		this.resultCollector.endResults();
+
+		assertThat(this.resultCollector.getResultAsync().toCompletableFuture()).isCompletedWithValue(null);
+	}
+
+	@Test
+	public void getResultWaitsAgainAfterClearResults() throws InterruptedException {
+
+		this.resultCollector.setResult("test");
+		this.resultCollector.clearResults();
+
+		assertThat(this.resultCollector.getResult(10, TimeUnit.MILLISECONDS)).isNull();
+	}
+
 	@Test
 	public void resultsHaveEnded() {
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link AggregatingResultCollector} and {@link AggregatingResultCollectors}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.geode.function.support.AggregatingResultCollector
+ * @see org.springframework.geode.function.support.AggregatingResultCollectors
+ * @since 1.4.0
+ */
+public class AggregatingResultCollectorsUnitTests {
+
+	private final DistributedMember mockDistributedMember = mock(DistributedMember.class);
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructAggregatingResultCollectorWithNullCollector() {
+
+		try {
+			new AggregatingResultCollector<>(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Collector must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void aggregatesResultsIncrementallyAndFlattensChunks() {
+
+		AggregatingResultCollector<Integer, ?, List<Integer>> resultCollector =
+			AggregatingResultCollector.of(Collectors.toList());
+
+		resultCollector.addResult(this.mockDistributedMember, 1);
+
+		assertThat(resultCollector.getResult()).containsExactly(1);
+
+		addChunk(resultCollector, Arrays.asList(2, null, 3));
+		resultCollector.addResult(this.mockDistributedMember, null);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void getResultWithTimeoutWaitsForEndOfResults() throws InterruptedException {
+
+		AggregatingResultCollector<Long, long[], Long> resultCollector = AggregatingResultCollectors.summingLong();
+
+		resultCollector.addResult(this.mockDistributedMember, 1L);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult(5, TimeUnit.SECONDS)).isEqualTo(1L);
+		assertThat(resultCollector.getResultAsync().toCompletableFuture()).isCompletedWithValue(1L);
+	}
+
+	@Test
+	public void getResultThrowsFunctionExceptionWhenMemberFails() {
+
+		AggregatingResultCollector<Object, ?, List<Object>> resultCollector =
+			AggregatingResultCollector.of(Collectors.toList());
+
+		RuntimeException cause = new RuntimeException("TEST");
+
+		resultCollector.addResult(this.mockDistributedMember, cause);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(resultCollector::getResult)
+			.withCause(cause);
+	}
+
+	@Test
+	public void clearResultsResetsAggregation() {
+
+		AggregatingResultCollector<Integer, long[], Long> resultCollector = AggregatingResultCollectors.summingLong();
+
+		resultCollector.addResult(this.mockDistributedMember, 5);
+		resultCollector.clearResults();
+		resultCollector.addResult(this.mockDistributedMember, 2);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(2L);
+	}
+
+	@Test
+	public void summingLongSumsResults() {
+
+		AggregatingResultCollector<Number, long[], Long> resultCollector = AggregatingResultCollectors.summingLong();
+
+		resultCollector.addResult(this.mockDistributedMember, 1);
+		addChunk(resultCollector, Arrays.asList(2L, 3.9d));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(6L);
+	}
+
+	@Test
+	public void summingDoubleSumsResults() {
+
+		AggregatingResultCollector<Number, double[], Double> resultCollector =
+			AggregatingResultCollectors.summingDouble();
+
+		resultCollector.addResult(this.mockDistributedMember, 1);
+		resultCollector.addResult(this.mockDistributedMember, 2.5d);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).isEqualTo(3.5d);
+	}
+
+	@Test
+	public void mergingMapsMergesResults() {
+
+		AggregatingResultCollector<Map<String, Integer>, Map<String, Integer>, Map<String, Integer>> resultCollector =
+			AggregatingResultCollectors.mergingMaps(Integer::sum);
+
+		Map<String, Integer> mapOne = new HashMap<>();
+
+		mapOne.put("a", 1);
+		mapOne.put("b", 2);
+
+		resultCollector.addResult(this.mockDistributedMember, mapOne);
+		resultCollector.addResult(this.mockDistributedMember, Collections.singletonMap("b", 3));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsOnly(entry("a", 1), entry("b", 5));
+	}
+
+	@Test
+	public void topKRetainsLargestResults() {
+
+		AggregatingResultCollector<Integer, PriorityQueue<Integer>, List<Integer>> resultCollector =
+			AggregatingResultCollectors.topK(3);
+
+		addChunk(resultCollector, Arrays.asList(5, 1, 9, 3));
+		addChunk(resultCollector, Arrays.asList(7, 2, 8));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly(9, 8, 7);
+	}
+
+	@Test
+	public void topKWithInvalidK() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> AggregatingResultCollectors.topK(0))
+			.withMessage("K [0] must be greater than 0");
+	}
+
+	@Test
+	public void histogramCountsResultsPerBucket() {
+
+		AggregatingResultCollector<Number, long[], long[]> resultCollector =
+			AggregatingResultCollectors.histogram(10, 100);
+
+		addChunk(resultCollector, Arrays.asList(1, 9.99d, 10, 50, 99, 100, 1000));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getResult()).containsExactly(2L, 3L, 2L);
+	}
+
+	@Test
+	public void histogramWithUnorderedBoundaries() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> AggregatingResultCollectors.histogram(100, 10))
+			.withMessage("Bucket boundaries [100.0, 10.0] must be in ascending order");
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void addChunk(AggregatingResultCollector<T, ?, ?> resultCollector, List<? extends T> chunk) {
+		resultCollector.addResult(this.mockDistributedMember, (T) chunk);
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.junit.Test;
+
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit Tests for {@link ReactiveResultCollector} and {@link ReactiveFunctionExecutions}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see reactor.test.StepVerifier
+ * @see org.springframework.geode.function.support.ReactiveFunctionExecutions
+ * @see org.springframework.geode.function.support.ReactiveResultCollector
+ * @since 1.4.0
+ */
+public class ReactiveResultCollectorUnitTests {
+
+	@Test
+	public void emitsResultsAndCompletesOnEndResults() {
+
+		ReactiveResultCollector<Object> resultCollector = new ReactiveResultCollector<>();
+
+		resultCollector.addResult(null, "one");
+		resultCollector.addResult(null, null);
+
+		StepVerifier.create(resultCollector.getResult())
+			.expectNext("one")
+			.then(() -> resultCollector.addResult(null, "two"))
+			.expectNext("two")
+			.then(resultCollector::endResults)
+			.verifyComplete();
+	}
+
+	@Test
+	public void emitsResultsOnlyOnDemand() {
+
+		ReactiveResultCollector<Object> resultCollector = new ReactiveResultCollector<>(2);
+
+		resultCollector.addResult(null, 1);
+		resultCollector.addResult(null, 2);
+		resultCollector.endResults();
+
+		StepVerifier.create(resultCollector.getResult(), 1)
+			.expectNext(1)
+			.expectNoEvent(Duration.ofMillis(50))
+			.thenRequest(1)
+			.expectNext(2)
+			.verifyComplete();
+	}
+
+	@Test
+	public void cancellationStopsResultCollection() {
+
+		ReactiveResultCollector<Object> resultCollector = new ReactiveResultCollector<>(1);
+
+		resultCollector.addResult(null, 1);
+
+		StepVerifier.create(resultCollector.getResult())
+			.expectNext(1)
+			.thenCancel()
+			.verify();
+
+		assertThat(resultCollector.isCancelled()).isTrue();
+
+		// Must not block even though the capacity has been reached.
+		resultCollector.addResult(null, 2);
+		resultCollector.addResult(null, 3);
+	}
+
+	@Test
+	public void errorIsSignaledAfterBufferedResults() {
+
+		ReactiveResultCollector<Object> resultCollector = new ReactiveResultCollector<>();
+
+		resultCollector.addResult(null, 1);
+		resultCollector.error(new FunctionException("TEST"));
+
+		StepVerifier.create(resultCollector.getResult())
+			.expectNext(1)
+			.verifyErrorMessage("TEST");
+	}
+
+	@Test
+	public void resultsCanOnlyBeSubscribedToOnce() {
+
+		ReactiveResultCollector<Object> resultCollector = new ReactiveResultCollector<>();
+
+		resultCollector.getResult().subscribe();
+
+		StepVerifier.create(resultCollector.getResult())
+			.verifyErrorMessage("Results can only be subscribed to once");
+	}
+
+	@Test
+	public void getResultWithTimeoutErrorsWhenResultsDoNotEnd() {
+
+		ReactiveResultCollector<Object> resultCollector = new ReactiveResultCollector<>();
+
+		resultCollector.addResult(null, 1);
+
+		StepVerifier.create(resultCollector.getResult(50, TimeUnit.MILLISECONDS))
+			.expectNext(1)
+			.verifyErrorMessage("Timed out waiting for results");
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void executeEmitsResultsFromFunctionExecution() {
+
+		Execution mockExecution = mock(Execution.class);
+
+		ResultCollector[] resultCollector = new ResultCollector[1];
+
+		doAnswer(invocation -> {
+			resultCollector[0] = invocation.getArgument(0);
+			return mockExecution;
+		}).when(mockExecution).withCollector(any(ResultCollector.class));
+
+		doAnswer(invocation -> {
+			resultCollector[0].addResult(null, "one");
+			resultCollector[0].addResult(null, "two");
+			resultCollector[0].endResults();
+			return resultCollector[0];
+		}).when(mockExecution).execute(eq("TestFunction"));
+
+		StepVerifier.create(ReactiveFunctionExecutions.execute(mockExecution, "TestFunction", Schedulers.immediate()))
+			.expectNext("one", "two")
+			.verifyComplete();
+
+		verify(mockExecution).execute(eq("TestFunction"));
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void executeSignalsExecutionFailure() {
+
+		Execution mockExecution = mock(Execution.class);
+
+		doReturn(mockExecution).when(mockExecution).withCollector(any(ResultCollector.class));
+		doAnswer(invocation -> { throw new FunctionException("TEST"); })
+			.when(mockExecution).execute(eq("TestFunction"));
+
+		StepVerifier.create(ReactiveFunctionExecutions.execute(mockExecution, "TestFunction", Schedulers.immediate()))
+			.verifyErrorMessage("TEST");
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package org.springframework.geode.function.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import edu.umd.cs.mtc.MultithreadedTestCase;
+import edu.umd.cs.mtc.TestFramework;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link StreamingResultCollector}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see edu.umd.cs.mtc.MultithreadedTestCase
+ * @see org.springframework.geode.function.support.StreamingResultCollector
+ * @since 1.4.0
+ */
+public class StreamingResultCollectorUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidCapacity() {
+
+		try {
+			new StreamingResultCollector<>(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Capacity [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void streamsResultsAddedBeforeEndOfResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		assertThat(resultCollector.getCapacity()).isEqualTo(StreamingResultCollector.DEFAULT_CAPACITY);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.addResult(null, null);
+		resultCollector.addResult(null, "two");
+		resultCollector.endResults();
+
+		List<Object> results = resultCollector.getResult().collect(Collectors.toList());
+
+		assertThat(results).containsExactly("one", null, "two");
+	}
+
+	@Test
+	public void iteratorEndsOnEndOfResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.endResults();
+		resultCollector.addResult(null, "ignored");
+
+		assertThat(resultCollector.iterator().hasNext()).isFalse();
+	}
+
+	@Test
+	public void resultsCanOnlyBeConsumedOnce() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.endResults();
+
+		assertThat(resultCollector.iterator()).isNotNull();
+
+		assertThatExceptionOfType(IllegalStateException.class)
+			.isThrownBy(resultCollector::iterator)
+			.withMessage("Results have already been consumed");
+	}
+
+	@Test
+	public void clearResultsDiscardsBufferedResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(2);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.addResult(null, "two");
+		resultCollector.clearResults();
+		resultCollector.addResult(null, "three");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.stream().collect(Collectors.toList())).containsExactly("three");
+	}
+
+	@Test
+	public void cancelDiscardsResultsAndEndsConsumption() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(null, "one");
+		resultCollector.cancel();
+		resultCollector.addResult(null, "two");
+
+		assertThat(resultCollector.isCancelled()).isTrue();
+		assertThat(resultCollector.stream().collect(Collectors.toList())).isEmpty();
+	}
+
+	@Test
+	public void getResultWithTimeoutThrowsFunctionExceptionWhenResultsDoNotArrive() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(null, "one");
+
+		Iterator<Object> results = resultCollector.getResult(50, TimeUnit.MILLISECONDS).iterator();
+
+		assertThat(results.next()).isEqualTo("one");
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(results::hasNext)
+			.withMessage("Timed out waiting for results");
+	}
+
+	@Test
+	public void streamsResultsWhileSendersAreBlocked() throws Throwable {
+		TestFramework.runOnce(new BackpressureMultithreadedTestCase());
+	}
+
+	@SuppressWarnings("unused")
+	static class BackpressureMultithreadedTestCase extends MultithreadedTestCase {
+
+		private StreamingResultCollector<Object> resultCollector;
+
+		@Override
+		public void initialize() {
+			super.initialize();
+			this.resultCollector = new StreamingResultCollector<>(1);
+		}
+
+		public void thread1() {
+
+			Thread.currentThread().setName("Sender");
+
+			this.resultCollector.addResult(null, 1);
+			this.resultCollector.addResult(null, 2);
+
+			assertTick(1);
+
+			this.resultCollector.addResult(null, 3);
+			this.resultCollector.endResults();
+		}
+
+		public void thread2() {
+
+			Thread.currentThread().setName("Consumer");
+
+			waitForTick(1);
+
+			assertThat(this.resultCollector.stream().collect(Collectors.toList())).containsExactly(1, 2, 3);
+		}
+	}
+}